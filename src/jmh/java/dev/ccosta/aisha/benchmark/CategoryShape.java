@@ -0,0 +1,6 @@
+package dev.ccosta.aisha.benchmark;
+
+public enum CategoryShape {
+    FLAT,
+    DEEP
+}
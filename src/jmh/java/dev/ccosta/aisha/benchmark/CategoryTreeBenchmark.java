@@ -0,0 +1,60 @@
+package dev.ccosta.aisha.benchmark;
+
+import dev.ccosta.aisha.application.category.CategoryOption;
+import dev.ccosta.aisha.application.category.CategorySubtreeRollup;
+import dev.ccosta.aisha.application.category.CategoryTree;
+import dev.ccosta.aisha.application.ledger.MoneySeries;
+import dev.ccosta.aisha.domain.category.Category;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryTreeBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int categories;
+
+    @Param({"FLAT", "DEEP"})
+    public CategoryShape categoryShape;
+
+    private List<Category> orderedCategories;
+    private CategoryTree tree;
+    private MoneySeries directBySlot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        orderedCategories = SyntheticLedger.generateCategories(categories, categoryShape);
+        tree = CategoryTree.of(1L, orderedCategories);
+        directBySlot = new MoneySeries(tree.size());
+        for (int slot = 0; slot < tree.size(); slot++) {
+            directBySlot.add(slot, 100L * (slot + 1));
+        }
+    }
+
+    @Benchmark
+    public List<CategoryOption> buildOptions() {
+        return CategoryTree.of(1L, orderedCategories).options();
+    }
+
+    @Benchmark
+    public MoneySeries rollUpSubtrees() {
+        return CategorySubtreeRollup.rollUp(tree, directBySlot);
+    }
+}
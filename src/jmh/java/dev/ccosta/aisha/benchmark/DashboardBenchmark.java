@@ -0,0 +1,87 @@
+package dev.ccosta.aisha.benchmark;
+
+import dev.ccosta.aisha.application.dashboard.DashboardBalanceEvolution;
+import dev.ccosta.aisha.application.dashboard.DashboardCategoryTotalsEvolution;
+import dev.ccosta.aisha.application.dashboard.DashboardExpenseCategoryBreakdown;
+import dev.ccosta.aisha.application.dashboard.DashboardOverview;
+import dev.ccosta.aisha.application.dashboard.DashboardSummary;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DashboardBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class DashboardState {
+
+        @Param({"10000", "1000000", "10000000"})
+        public int entries;
+
+        @Param({"FLAT", "DEEP"})
+        public CategoryShape categoryShape;
+
+        @Param({"MONTH", "YEAR"})
+        public String window;
+
+        @Param({"ROLLUPS", "BALANCE_INDEX", "COLUMNAR"})
+        public LedgerSource source;
+
+        LedgerFixture fixture;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            fixture = new LedgerFixture(entries, categoryShape, window, source, 1);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            fixture.close();
+        }
+    }
+
+    @Benchmark
+    public DashboardOverview buildOverview(DashboardState state) {
+        return state.fixture.dashboardService.buildOverview(state.fixture.startDate, state.fixture.endDate, null);
+    }
+
+    @Benchmark
+    public DashboardOverview buildOverviewForParentCategory(DashboardState state) {
+        return state.fixture.dashboardService.buildOverview(state.fixture.startDate, state.fixture.endDate, state.fixture.parentCategoryId);
+    }
+
+    @Benchmark
+    public DashboardSummary buildSummary(DashboardState state) {
+        return state.fixture.dashboardService.buildSummary(state.fixture.startDate, state.fixture.endDate);
+    }
+
+    @Benchmark
+    public DashboardBalanceEvolution buildBalanceEvolution(DashboardState state) {
+        return state.fixture.dashboardService.buildBalanceEvolution(state.fixture.startDate, state.fixture.endDate);
+    }
+
+    @Benchmark
+    public DashboardExpenseCategoryBreakdown buildExpenseCategoryBreakdown(DashboardState state) {
+        return state.fixture.dashboardService.buildExpenseCategoryBreakdown(state.fixture.startDate, state.fixture.endDate, null);
+    }
+
+    @Benchmark
+    public DashboardCategoryTotalsEvolution buildCategoryTotalsEvolution(DashboardState state) {
+        return state.fixture.dashboardService.buildCategoryTotalsEvolution(state.fixture.startDate, state.fixture.endDate, null);
+    }
+}
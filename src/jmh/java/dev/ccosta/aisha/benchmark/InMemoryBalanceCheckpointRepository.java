@@ -0,0 +1,84 @@
+package dev.ccosta.aisha.benchmark;
+
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpoint;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointInvalidation;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointRepository;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointScope;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+final class InMemoryBalanceCheckpointRepository implements BalanceCheckpointRepository {
+
+    private final NavigableMap<LocalDate, List<BalanceCheckpoint>> checkpointsByDate = new TreeMap<>();
+
+    @Override
+    public Optional<LocalDate> findLatestCheckpointDate() {
+        return checkpointsByDate.isEmpty() ? Optional.empty() : Optional.of(checkpointsByDate.lastKey());
+    }
+
+    @Override
+    public Optional<LocalDate> findLatestCheckpointDateOnOrBefore(LocalDate date) {
+        return Optional.ofNullable(checkpointsByDate.floorKey(date));
+    }
+
+    @Override
+    public List<BalanceCheckpoint> listByCheckpointDate(LocalDate checkpointDate) {
+        return checkpointsByDate.getOrDefault(checkpointDate, List.of());
+    }
+
+    @Override
+    public List<BalanceCheckpoint> listByCheckpointDateAndScope(LocalDate checkpointDate, BalanceCheckpointScope scope) {
+        List<BalanceCheckpoint> checkpoints = new ArrayList<>();
+        for (BalanceCheckpoint checkpoint : listByCheckpointDate(checkpointDate)) {
+            if (checkpoint.getScope() == scope) {
+                checkpoints.add(checkpoint);
+            }
+        }
+        return checkpoints;
+    }
+
+    @Override
+    public void saveAll(Collection<BalanceCheckpoint> checkpoints) {
+        for (BalanceCheckpoint checkpoint : checkpoints) {
+            checkpointsByDate.computeIfAbsent(checkpoint.getCheckpointDate(), ignored -> new ArrayList<>()).add(checkpoint);
+        }
+    }
+
+    @Override
+    public void deleteByCheckpointDateAfter(LocalDate date) {
+        checkpointsByDate.tailMap(date, false).clear();
+    }
+
+    @Override
+    public void deleteAll() {
+        checkpointsByDate.clear();
+    }
+
+    @Override
+    public void lockRefresh() {
+    }
+
+    @Override
+    public void addInvalidation(LocalDate settlementDate) {
+        throw new UnsupportedOperationException("Benchmark ledger keeps its checkpoints fixed");
+    }
+
+    @Override
+    public List<BalanceCheckpointInvalidation> listInvalidations() {
+        return List.of();
+    }
+
+    @Override
+    public Optional<LocalDate> findEarliestInvalidation() {
+        return Optional.empty();
+    }
+
+    @Override
+    public void deleteInvalidations(Collection<BalanceCheckpointInvalidation> invalidations) {
+    }
+}
@@ -0,0 +1,52 @@
+package dev.ccosta.aisha.benchmark;
+
+import dev.ccosta.aisha.domain.category.Category;
+import dev.ccosta.aisha.domain.category.CategoryRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+final class InMemoryCategoryRepository implements CategoryRepository {
+
+    private final List<Category> categories;
+
+    InMemoryCategoryRepository(List<Category> orderedCategories) {
+        this.categories = orderedCategories;
+    }
+
+    @Override
+    public List<Category> findAllOrdered() {
+        return categories;
+    }
+
+    @Override
+    public Optional<Category> findById(Long id) {
+        return categories.stream().filter(category -> Objects.equals(category.getId(), id)).findFirst();
+    }
+
+    @Override
+    public Optional<Category> findByTitleIgnoreCase(String title) {
+        return categories.stream().filter(category -> category.getTitle().equalsIgnoreCase(title)).findFirst();
+    }
+
+    @Override
+    public boolean existsByParentId(Long id) {
+        return categories.stream().anyMatch(category -> category.getParent() != null && Objects.equals(category.getParent().getId(), id));
+    }
+
+    @Override
+    public Category save(Category category) {
+        throw new UnsupportedOperationException("Benchmark categories are read-only");
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        throw new UnsupportedOperationException("Benchmark categories are read-only");
+    }
+
+    @Override
+    public void deleteByIds(Collection<Long> ids) {
+        throw new UnsupportedOperationException("Benchmark categories are read-only");
+    }
+}
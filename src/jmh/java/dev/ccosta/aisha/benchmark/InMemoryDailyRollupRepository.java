@@ -0,0 +1,111 @@
+package dev.ccosta.aisha.benchmark;
+
+import dev.ccosta.aisha.domain.entry.EntryGroupTotal;
+import dev.ccosta.aisha.domain.ledger.DailyRollup;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRepository;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRow;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+final class InMemoryDailyRollupRepository implements DailyRollupRepository {
+
+    private final List<DailyRollupRow> rows;
+
+    InMemoryDailyRollupRepository(List<DailyRollupRow> rowsByEpochDay) {
+        this.rows = rowsByEpochDay;
+    }
+
+    @Override
+    public List<DailyRollupRow> listRowsBySettlementDateBetween(LocalDate startDate, LocalDate endDate) {
+        return slice(startDate.toEpochDay(), endDate.toEpochDay() + 1);
+    }
+
+    @Override
+    public Optional<LocalDate> findEarliestSettlementDate() {
+        return rows.isEmpty() ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(rows.getFirst().epochDay()));
+    }
+
+    @Override
+    public Optional<LocalDate> findLatestSettlementDate() {
+        return rows.isEmpty() ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(rows.getLast().epochDay()));
+    }
+
+    @Override
+    public BigDecimal sumSignedAmount(LocalDate fromDate, LocalDate beforeDate) {
+        long cents = 0;
+        for (DailyRollupRow row : slice(fromDate.toEpochDay(), beforeDate.toEpochDay())) {
+            cents += row.signedCents();
+        }
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    @Override
+    public List<EntryGroupTotal> sumSignedAmountByAccount(LocalDate fromDate, LocalDate beforeDate) {
+        return sumSignedAmountBy(fromDate, beforeDate, DailyRollupRow::accountId);
+    }
+
+    @Override
+    public List<EntryGroupTotal> sumSignedAmountByCategory(LocalDate fromDate, LocalDate beforeDate) {
+        return sumSignedAmountBy(fromDate, beforeDate, DailyRollupRow::categoryId);
+    }
+
+    @Override
+    public void addDelta(DailyRollup delta) {
+        throw new UnsupportedOperationException("Benchmark rollups are read-only");
+    }
+
+    @Override
+    public void deleteEmpty(LocalDate settlementDate, Long accountId, Long categoryId) {
+        throw new UnsupportedOperationException("Benchmark rollups are read-only");
+    }
+
+    @Override
+    public void saveAll(Collection<DailyRollup> rollups) {
+        throw new UnsupportedOperationException("Benchmark rollups are read-only");
+    }
+
+    @Override
+    public void deleteAll() {
+        throw new UnsupportedOperationException("Benchmark rollups are read-only");
+    }
+
+    List<DailyRollupRow> slice(long fromEpochDay, long beforeEpochDay) {
+        return rows.subList(lowerBound(fromEpochDay), lowerBound(beforeEpochDay));
+    }
+
+    private List<EntryGroupTotal> sumSignedAmountBy(
+        LocalDate fromDate,
+        LocalDate beforeDate,
+        ToLongFunction<DailyRollupRow> groupId
+    ) {
+        Map<Long, Long> centsByGroup = new TreeMap<>();
+        for (DailyRollupRow row : slice(fromDate.toEpochDay(), beforeDate.toEpochDay())) {
+            centsByGroup.merge(groupId.applyAsLong(row), row.signedCents(), Long::sum);
+        }
+
+        List<EntryGroupTotal> totals = new ArrayList<>(centsByGroup.size());
+        centsByGroup.forEach((id, cents) -> totals.add(new EntryGroupTotal(id, BigDecimal.valueOf(cents, 2))));
+        return totals;
+    }
+
+    private int lowerBound(long epochDay) {
+        int low = 0;
+        int high = rows.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (rows.get(middle).epochDay() < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
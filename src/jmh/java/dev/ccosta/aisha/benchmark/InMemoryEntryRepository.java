@@ -0,0 +1,152 @@
+package dev.ccosta.aisha.benchmark;
+
+import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryBucketTotal;
+import dev.ccosta.aisha.domain.entry.EntryCursor;
+import dev.ccosta.aisha.domain.entry.EntryDayChecksum;
+import dev.ccosta.aisha.domain.entry.EntryDraft;
+import dev.ccosta.aisha.domain.entry.EntryExportRow;
+import dev.ccosta.aisha.domain.entry.EntryFilter;
+import dev.ccosta.aisha.domain.entry.EntryLedgerRow;
+import dev.ccosta.aisha.domain.entry.EntryPage;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.entry.SettlementPeriod;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRow;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+final class InMemoryEntryRepository implements EntryRepository {
+
+    private final InMemoryDailyRollupRepository rollups;
+    private final Map<TotalsKey, List<EntryBucketTotal>> totals = new HashMap<>();
+
+    InMemoryEntryRepository(InMemoryDailyRollupRepository rollups) {
+        this.rollups = rollups;
+    }
+
+    @Override
+    public List<EntryBucketTotal> sumAmountByAccountAndPeriod(LocalDate startDate, LocalDate endDate, SettlementPeriod period) {
+        return totals.computeIfAbsent(
+            new TotalsKey(true, startDate, endDate, period),
+            key -> sumAmountBy(startDate, endDate, period, DailyRollupRow::accountId)
+        );
+    }
+
+    @Override
+    public List<EntryBucketTotal> sumAmountByCategoryAndPeriod(LocalDate startDate, LocalDate endDate, SettlementPeriod period) {
+        return totals.computeIfAbsent(
+            new TotalsKey(false, startDate, endDate, period),
+            key -> sumAmountBy(startDate, endDate, period, DailyRollupRow::categoryId)
+        );
+    }
+
+    @Override
+    public EntryPage listMostRecentBySettlementDate(EntryFilter filter, EntryCursor after, int limit) {
+        throw new UnsupportedOperationException("Benchmark ledger keeps rollups only");
+    }
+
+    @Override
+    public Stream<EntryExportRow> streamExportRows(EntryFilter filter) {
+        throw new UnsupportedOperationException("Benchmark ledger keeps rollups only");
+    }
+
+    @Override
+    public List<EntryDayChecksum> listDayChecksums(Collection<LocalDate> settlementDates) {
+        throw new UnsupportedOperationException("Benchmark ledger keeps rollups only");
+    }
+
+    @Override
+    public long count() {
+        throw new UnsupportedOperationException("Benchmark ledger keeps rollups only");
+    }
+
+    @Override
+    public Optional<Entry> findById(Long id) {
+        throw new UnsupportedOperationException("Benchmark ledger keeps rollups only");
+    }
+
+    @Override
+    public List<Entry> findAllByIds(Collection<Long> ids) {
+        throw new UnsupportedOperationException("Benchmark ledger keeps rollups only");
+    }
+
+    @Override
+    public Stream<EntryLedgerRow> streamLedgerRows() {
+        return rollups.slice(Long.MIN_VALUE, Long.MAX_VALUE).stream().flatMap(row -> Stream.of(
+            new EntryLedgerRow(row.epochDay(), row.accountId(), row.categoryId(), row.revenueCents()),
+            new EntryLedgerRow(row.epochDay(), row.accountId(), row.categoryId(), -row.expenseCents())
+        ).filter(ledgerRow -> ledgerRow.amountCents() != 0));
+    }
+
+    @Override
+    public Entry save(Entry entry) {
+        throw new UnsupportedOperationException("Benchmark ledger is read-only");
+    }
+
+    @Override
+    public void insertAll(List<EntryDraft> drafts) {
+        throw new UnsupportedOperationException("Benchmark ledger is read-only");
+    }
+
+    @Override
+    public boolean existsByCategoryId(Long categoryId) {
+        throw new UnsupportedOperationException("Benchmark ledger keeps rollups only");
+    }
+
+    @Override
+    public boolean existsByAccountId(Long accountId) {
+        throw new UnsupportedOperationException("Benchmark ledger keeps rollups only");
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        throw new UnsupportedOperationException("Benchmark ledger is read-only");
+    }
+
+    @Override
+    public void deleteByIds(Collection<Long> ids) {
+        throw new UnsupportedOperationException("Benchmark ledger is read-only");
+    }
+
+    private List<EntryBucketTotal> sumAmountBy(
+        LocalDate startDate,
+        LocalDate endDate,
+        SettlementPeriod period,
+        ToLongFunction<DailyRollupRow> groupId
+    ) {
+        Map<BucketKey, Long> centsByBucket = new LinkedHashMap<>();
+        for (DailyRollupRow row : rollups.listRowsBySettlementDateBetween(startDate, endDate)) {
+            BucketKey key = new BucketKey(groupId.applyAsLong(row), bucketStart(LocalDate.ofEpochDay(row.epochDay()), period));
+            centsByBucket.merge(key, row.signedCents(), Long::sum);
+        }
+
+        List<EntryBucketTotal> bucketTotals = new ArrayList<>(centsByBucket.size());
+        centsByBucket.forEach((key, cents) -> bucketTotals.add(
+            new EntryBucketTotal(key.groupId(), key.bucketStart(), BigDecimal.valueOf(cents, 2))
+        ));
+        return List.copyOf(bucketTotals);
+    }
+
+    private static LocalDate bucketStart(LocalDate settlementDate, SettlementPeriod period) {
+        return switch (period) {
+            case YEAR -> settlementDate.withDayOfYear(1);
+            case MONTH -> settlementDate.withDayOfMonth(1);
+            case DAY -> settlementDate;
+        };
+    }
+
+    private record TotalsKey(boolean byAccount, LocalDate startDate, LocalDate endDate, SettlementPeriod period) {
+    }
+
+    private record BucketKey(long groupId, LocalDate bucketStart) {
+    }
+}
@@ -0,0 +1,34 @@
+package dev.ccosta.aisha.benchmark;
+
+import dev.ccosta.aisha.domain.ledger.LedgerJournalEntry;
+import dev.ccosta.aisha.domain.ledger.LedgerJournalRepository;
+import java.util.Collection;
+import java.util.List;
+
+final class InMemoryLedgerJournalRepository implements LedgerJournalRepository {
+
+    @Override
+    public long advancePosition() {
+        throw new UnsupportedOperationException("Benchmark ledger keeps no journal");
+    }
+
+    @Override
+    public long findPosition() {
+        return 0;
+    }
+
+    @Override
+    public List<LedgerJournalEntry> listAfter(long position) {
+        throw new UnsupportedOperationException("Benchmark ledger keeps no journal");
+    }
+
+    @Override
+    public void saveAll(Collection<LedgerJournalEntry> entries) {
+        throw new UnsupportedOperationException("Benchmark ledger keeps no journal");
+    }
+
+    @Override
+    public void deleteUpTo(long position) {
+        throw new UnsupportedOperationException("Benchmark ledger keeps no journal");
+    }
+}
@@ -0,0 +1,93 @@
+package dev.ccosta.aisha.benchmark;
+
+import dev.ccosta.aisha.application.account.AccountBalanceReportService;
+import dev.ccosta.aisha.application.category.CategoryBalanceReportService;
+import dev.ccosta.aisha.application.category.CategoryTreeCache;
+import dev.ccosta.aisha.application.dashboard.DashboardService;
+import dev.ccosta.aisha.application.ledger.BalanceCheckpointService;
+import dev.ccosta.aisha.application.ledger.BalanceIndex;
+import dev.ccosta.aisha.application.ledger.ColumnarLedger;
+import dev.ccosta.aisha.application.ledger.ParallelAggregationProperties;
+import dev.ccosta.aisha.application.ledger.ParallelAggregator;
+import java.time.LocalDate;
+import org.springframework.transaction.support.TransactionOperations;
+
+final class LedgerFixture implements AutoCloseable {
+
+    private static final int PARALLEL_AGGREGATION_THRESHOLD = 100_000;
+
+    final SyntheticLedger ledger;
+    final DashboardService dashboardService;
+    final AccountBalanceReportService accountBalanceReportService;
+    final CategoryBalanceReportService categoryBalanceReportService;
+    final LocalDate startDate;
+    final LocalDate endDate;
+    final Long parentCategoryId;
+    private final ParallelAggregator parallelAggregator;
+
+    LedgerFixture(
+        int entries,
+        CategoryShape categoryShape,
+        String window,
+        LedgerSource source,
+        int aggregationParallelism
+    ) {
+        ledger = SyntheticLedger.generate(entries, categoryShape);
+
+        InMemoryDailyRollupRepository rollups = new InMemoryDailyRollupRepository(ledger.rows());
+        InMemoryEntryRepository entryRepository = new InMemoryEntryRepository(rollups);
+        BalanceCheckpointService balanceCheckpointService = new BalanceCheckpointService(
+            new InMemoryBalanceCheckpointRepository(),
+            rollups,
+            TransactionOperations.withoutTransaction()
+        );
+        balanceCheckpointService.rebuild();
+        BalanceIndex balanceIndex = new BalanceIndex(entryRepository);
+        if (source == LedgerSource.BALANCE_INDEX) {
+            balanceIndex.load();
+        }
+        ColumnarLedger columnarLedger = new ColumnarLedger(
+            entryRepository,
+            new InMemoryLedgerJournalRepository(),
+            TransactionOperations.withoutTransaction()
+        );
+        if (source == LedgerSource.COLUMNAR) {
+            columnarLedger.load();
+        }
+        CategoryTreeCache categoryTreeCache = new CategoryTreeCache(new InMemoryCategoryRepository(ledger.categories()));
+        parallelAggregator = new ParallelAggregator(
+            new ParallelAggregationProperties(PARALLEL_AGGREGATION_THRESHOLD, aggregationParallelism)
+        );
+
+        dashboardService = new DashboardService(
+            rollups,
+            categoryTreeCache,
+            balanceCheckpointService,
+            balanceIndex,
+            columnarLedger,
+            parallelAggregator
+        );
+        accountBalanceReportService = new AccountBalanceReportService(
+            entryRepository,
+            balanceCheckpointService,
+            balanceIndex,
+            columnarLedger
+        );
+        categoryBalanceReportService = new CategoryBalanceReportService(
+            entryRepository,
+            balanceCheckpointService,
+            columnarLedger,
+            categoryTreeCache,
+            parallelAggregator
+        );
+
+        endDate = SyntheticLedger.LAST_DAY;
+        startDate = "YEAR".equals(window) ? endDate.withDayOfYear(1) : endDate.withDayOfMonth(1);
+        parentCategoryId = ledger.categories().getFirst().getId();
+    }
+
+    @Override
+    public void close() {
+        parallelAggregator.close();
+    }
+}
@@ -0,0 +1,7 @@
+package dev.ccosta.aisha.benchmark;
+
+public enum LedgerSource {
+    ROLLUPS,
+    BALANCE_INDEX,
+    COLUMNAR
+}
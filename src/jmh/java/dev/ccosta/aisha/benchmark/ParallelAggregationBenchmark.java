@@ -0,0 +1,60 @@
+package dev.ccosta.aisha.benchmark;
+
+import dev.ccosta.aisha.application.category.CategoryBalanceReport;
+import dev.ccosta.aisha.application.dashboard.DashboardOverview;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelAggregationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ParallelAggregationState {
+
+        @Param({"1000000", "10000000"})
+        public int entries;
+
+        @Param({"1", "4"})
+        public int aggregationParallelism;
+
+        LedgerFixture fixture;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            fixture = new LedgerFixture(entries, CategoryShape.DEEP, "YEAR", LedgerSource.COLUMNAR, aggregationParallelism);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            fixture.close();
+        }
+    }
+
+    @Benchmark
+    public DashboardOverview buildOverview(ParallelAggregationState state) {
+        LedgerFixture fixture = state.fixture;
+        return fixture.dashboardService.buildOverview(fixture.startDate, fixture.endDate, null);
+    }
+
+    @Benchmark
+    public CategoryBalanceReport buildCategoryReport(ParallelAggregationState state) {
+        LedgerFixture fixture = state.fixture;
+        return fixture.categoryBalanceReportService.buildReport(fixture.ledger.categories(), fixture.startDate, fixture.endDate, true);
+    }
+}
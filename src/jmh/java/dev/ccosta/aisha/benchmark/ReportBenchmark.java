@@ -0,0 +1,97 @@
+package dev.ccosta.aisha.benchmark;
+
+import dev.ccosta.aisha.application.account.AccountBalanceReport;
+import dev.ccosta.aisha.application.category.CategoryBalanceReport;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReportBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class AccountReportState {
+
+        @Param({"10000", "1000000", "10000000"})
+        public int entries;
+
+        @Param({"MONTH", "YEAR"})
+        public String window;
+
+        @Param({"ROLLUPS", "BALANCE_INDEX", "COLUMNAR"})
+        public LedgerSource source;
+
+        LedgerFixture fixture;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            fixture = new LedgerFixture(entries, CategoryShape.FLAT, window, source, 1);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            fixture.close();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CategoryReportState {
+
+        @Param({"10000", "1000000", "10000000"})
+        public int entries;
+
+        @Param({"FLAT", "DEEP"})
+        public CategoryShape categoryShape;
+
+        @Param({"MONTH", "YEAR"})
+        public String window;
+
+        @Param({"ROLLUPS", "COLUMNAR"})
+        public LedgerSource source;
+
+        LedgerFixture fixture;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            fixture = new LedgerFixture(entries, categoryShape, window, source, 1);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            fixture.close();
+        }
+    }
+
+    @Benchmark
+    public AccountBalanceReport buildAccountReport(AccountReportState state) {
+        LedgerFixture fixture = state.fixture;
+        return fixture.accountBalanceReportService.buildReport(fixture.ledger.accounts(), fixture.startDate, fixture.endDate);
+    }
+
+    @Benchmark
+    public CategoryBalanceReport buildCategoryReport(CategoryReportState state) {
+        LedgerFixture fixture = state.fixture;
+        return fixture.categoryBalanceReportService.buildReport(fixture.ledger.categories(), fixture.startDate, fixture.endDate);
+    }
+
+    @Benchmark
+    public CategoryBalanceReport buildCategoryReportWithSubcategories(CategoryReportState state) {
+        LedgerFixture fixture = state.fixture;
+        return fixture.categoryBalanceReportService.buildReport(fixture.ledger.categories(), fixture.startDate, fixture.endDate, true);
+    }
+}
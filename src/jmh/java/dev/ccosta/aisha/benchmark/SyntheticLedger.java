@@ -0,0 +1,123 @@
+package dev.ccosta.aisha.benchmark;
+
+import dev.ccosta.aisha.domain.account.Account;
+import dev.ccosta.aisha.domain.category.Category;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRow;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+final class SyntheticLedger {
+
+    static final LocalDate FIRST_DAY = LocalDate.of(2021, 1, 1);
+    static final LocalDate LAST_DAY = LocalDate.of(2025, 12, 31);
+
+    private static final int ACCOUNT_COUNT = 8;
+    private static final int CATEGORY_COUNT = 63;
+    private static final long SEED = 20260101L;
+
+    private final List<Account> accounts;
+    private final List<Category> categories;
+    private final List<DailyRollupRow> rows;
+
+    private SyntheticLedger(List<Account> accounts, List<Category> categories, List<DailyRollupRow> rows) {
+        this.accounts = accounts;
+        this.categories = categories;
+        this.rows = rows;
+    }
+
+    static SyntheticLedger generate(int entryCount, CategoryShape shape) {
+        List<Account> accounts = new ArrayList<>(ACCOUNT_COUNT);
+        for (int index = 0; index < ACCOUNT_COUNT; index++) {
+            Account account = new Account();
+            account.setTitle("Account " + index);
+            setId(account, Account.class, index + 1L);
+            accounts.add(account);
+        }
+        List<Category> categories = generateCategories(CATEGORY_COUNT, shape);
+
+        int dayCount = (int) (LAST_DAY.toEpochDay() - FIRST_DAY.toEpochDay() + 1);
+        int cells = dayCount * ACCOUNT_COUNT * CATEGORY_COUNT;
+        long[] signed = new long[cells];
+        long[] revenues = new long[cells];
+        long[] expenses = new long[cells];
+        int[] counts = new int[cells];
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int entry = 0; entry < entryCount; entry++) {
+            int cell = (random.nextInt(dayCount) * ACCOUNT_COUNT + random.nextInt(ACCOUNT_COUNT)) * CATEGORY_COUNT
+                + random.nextInt(CATEGORY_COUNT);
+            long cents = random.nextInt(5) == 0
+                ? 50_000 + random.nextInt(500_000)
+                : -(100 + random.nextInt(40_000));
+            signed[cell] += cents;
+            if (cents > 0) {
+                revenues[cell] += cents;
+            } else {
+                expenses[cell] -= cents;
+            }
+            counts[cell]++;
+        }
+
+        List<DailyRollupRow> rows = new ArrayList<>();
+        for (int cell = 0; cell < cells; cell++) {
+            if (counts[cell] == 0) {
+                continue;
+            }
+            int category = cell % CATEGORY_COUNT;
+            int account = (cell / CATEGORY_COUNT) % ACCOUNT_COUNT;
+            int day = cell / (CATEGORY_COUNT * ACCOUNT_COUNT);
+            rows.add(new DailyRollupRow(
+                FIRST_DAY.toEpochDay() + day,
+                account + 1L,
+                categories.get(category).getId(),
+                signed[cell],
+                revenues[cell],
+                expenses[cell]
+            ));
+        }
+
+        List<Category> ordered = new ArrayList<>(categories);
+        ordered.sort(Comparator.comparing(Category::getTitle).thenComparing(Category::getId));
+        return new SyntheticLedger(List.copyOf(accounts), List.copyOf(ordered), List.copyOf(rows));
+    }
+
+    static List<Category> generateCategories(int count, CategoryShape shape) {
+        List<Category> categories = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            Category category = new Category();
+            category.setTitle("Category %05d".formatted(index));
+            setId(category, Category.class, index + 1L);
+            if (shape == CategoryShape.DEEP && index > 0) {
+                category.setParent(categories.get((index - 1) / 2));
+            }
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    List<Account> accounts() {
+        return accounts;
+    }
+
+    List<Category> categories() {
+        return categories;
+    }
+
+    List<DailyRollupRow> rows() {
+        return rows;
+    }
+
+    private static <T> void setId(T target, Class<T> type, Long id) {
+        try {
+            Field idField = type.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(target, id);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Unable to assign id to " + type.getSimpleName(), ex);
+        }
+    }
+}
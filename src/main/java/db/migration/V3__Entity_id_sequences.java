@@ -0,0 +1,46 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V3__Entity_id_sequences extends BaseJavaMigration {
+
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final List<String> TABLES = List.of("accounts", "categories", "entries");
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                String sequence = table + "_seq";
+                long start = maxId(statement, table) + ALLOCATION_SIZE;
+                statement.execute(
+                    "CREATE SEQUENCE " + sequence + " AS BIGINT START WITH " + start + " INCREMENT BY " + ALLOCATION_SIZE
+                );
+                if (postgres) {
+                    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+                    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT nextval('" + sequence + "')");
+                    statement.execute("ALTER SEQUENCE " + sequence + " OWNED BY " + table + ".id");
+                } else {
+                    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP GENERATED");
+                    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id SET GENERATED BY DEFAULT AS SEQUENCE " + sequence);
+                }
+            }
+        }
+    }
+
+    private static long maxId(Statement statement, String table) throws SQLException {
+        try (ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package dev.ccosta.aisha.application.account;
 
+import dev.ccosta.aisha.application.ledger.BalanceCheckpointService;
+import dev.ccosta.aisha.application.ledger.BalanceIndex;
+import dev.ccosta.aisha.application.ledger.BucketIndex;
+import dev.ccosta.aisha.application.ledger.ColumnarLedger;
+import dev.ccosta.aisha.application.ledger.LedgerColumns;
+import dev.ccosta.aisha.application.ledger.LedgerDimension;
+import dev.ccosta.aisha.application.ledger.MoneySeries;
 import dev.ccosta.aisha.domain.account.Account;
-import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryBucketTotal;
 import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.entry.SettlementPeriod;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +25,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class AccountBalanceReportService {
 
     private final EntryRepository entryRepository;
-
-    public AccountBalanceReportService(EntryRepository entryRepository) {
+    private final BalanceCheckpointService balanceCheckpointService;
+    private final BalanceIndex balanceIndex;
+    private final ColumnarLedger columnarLedger;
+
+    public AccountBalanceReportService(
+        EntryRepository entryRepository,
+        BalanceCheckpointService balanceCheckpointService,
+        BalanceIndex balanceIndex,
+        ColumnarLedger columnarLedger
+    ) {
         this.entryRepository = entryRepository;
+        this.balanceCheckpointService = balanceCheckpointService;
+        this.balanceIndex = balanceIndex;
+        this.columnarLedger = columnarLedger;
     }
 
     @Transactional(readOnly = true)
@@ -33,30 +53,31 @@ public class AccountBalanceReportService {
         AccountBalanceGranularity granularity = resolveGranularity(startDate, endDate);
         List<AccountBalanceBucket> buckets = buildBuckets(startDate, endDate, granularity);
 
-        Map<Long, BigDecimal> previousBalancesByAccount = new HashMap<>();
-        Map<Long, Map<LocalDate, BigDecimal>> periodBalancesByAccount = new HashMap<>();
-        for (Entry entry : entryRepository.listAllBySettlementDateLessThanEqual(endDate)) {
-            Long accountId = entry.getAccount().getId();
-            BigDecimal amount = entry.getAmount();
-            LocalDate settlementDate = entry.getSettlementDate();
-
-            if (settlementDate.isBefore(startDate)) {
-                previousBalancesByAccount.merge(accountId, amount, BigDecimal::add);
-                continue;
+        SettlementPeriod period = toSettlementPeriod(granularity);
+        BucketIndex bucketIndex = BucketIndex.of(period, startDate, endDate);
+        Optional<LedgerColumns> columns = columnarLedger.columns();
+        Map<Long, BigDecimal> previousBalancesByAccount = balanceIndex.balancesByAccountBefore(startDate)
+            .or(() -> columns.map(loaded -> loaded.totalsBefore(LedgerDimension.ACCOUNT, startDate)))
+            .orElseGet(() -> balanceCheckpointService.balancesByAccountBefore(startDate));
+        Map<Long, MoneySeries> periodBalancesByAccount;
+        if (columns.isPresent()) {
+            periodBalancesByAccount = columns.get().bucketTotals(LedgerDimension.ACCOUNT, startDate, endDate, bucketIndex);
+        } else {
+            periodBalancesByAccount = new HashMap<>();
+            for (EntryBucketTotal total : entryRepository.sumAmountByAccountAndPeriod(startDate, endDate, period)) {
+                periodBalancesByAccount
+                    .computeIfAbsent(total.groupId(), ignored -> new MoneySeries(bucketIndex.size()))
+                    .add(bucketIndex.indexOf(total.bucketStart()), total.amount());
             }
-
-            LocalDate bucketStart = normalizeBucketStart(settlementDate, granularity);
-            periodBalancesByAccount
-                .computeIfAbsent(accountId, ignored -> new HashMap<>())
-                .merge(bucketStart, amount, BigDecimal::add);
         }
 
+        MoneySeries noMovements = new MoneySeries(bucketIndex.size());
         List<AccountBalanceRow> rows = new ArrayList<>();
         for (Account account : accounts) {
-            Map<LocalDate, BigDecimal> accountBuckets = periodBalancesByAccount.getOrDefault(account.getId(), Map.of());
+            MoneySeries accountBuckets = periodBalancesByAccount.getOrDefault(account.getId(), noMovements);
             List<BigDecimal> periodBalances = new ArrayList<>(buckets.size());
-            for (AccountBalanceBucket bucket : buckets) {
-                periodBalances.add(accountBuckets.getOrDefault(bucket.startDate(), BigDecimal.ZERO));
+            for (int index = 0; index < buckets.size(); index++) {
+                periodBalances.add(accountBuckets.toBigDecimal(index));
             }
 
             rows.add(new AccountBalanceRow(
@@ -81,6 +102,14 @@ public class AccountBalanceReportService {
         return AccountBalanceGranularity.DAY;
     }
 
+    private SettlementPeriod toSettlementPeriod(AccountBalanceGranularity granularity) {
+        return switch (granularity) {
+            case YEAR -> SettlementPeriod.YEAR;
+            case MONTH -> SettlementPeriod.MONTH;
+            case DAY -> SettlementPeriod.DAY;
+        };
+    }
+
     private List<AccountBalanceBucket> buildBuckets(
         LocalDate startDate,
         LocalDate endDate,
@@ -1,5 +1,6 @@
 package dev.ccosta.aisha.application.account;
 
+import dev.ccosta.aisha.application.ledger.LedgerVersion;
 import dev.ccosta.aisha.domain.account.Account;
 import dev.ccosta.aisha.domain.account.AccountRepository;
 import dev.ccosta.aisha.domain.entry.EntryRepository;
@@ -14,10 +15,12 @@ public class AccountService {
 
     private final AccountRepository accountRepository;
     private final EntryRepository entryRepository;
+    private final LedgerVersion ledgerVersion;
 
-    public AccountService(AccountRepository accountRepository, EntryRepository entryRepository) {
+    public AccountService(AccountRepository accountRepository, EntryRepository entryRepository, LedgerVersion ledgerVersion) {
         this.accountRepository = accountRepository;
         this.entryRepository = entryRepository;
+        this.ledgerVersion = ledgerVersion;
     }
 
     @Transactional(readOnly = true)
@@ -33,7 +36,9 @@ public class AccountService {
 
     @Transactional
     public Account create(Account account) {
-        return accountRepository.save(account);
+        Account saved = accountRepository.save(account);
+        ledgerVersion.bumpAfterCommit();
+        return saved;
     }
 
     @Transactional
@@ -41,7 +46,9 @@ public class AccountService {
         Account existing = findById(id);
         existing.setTitle(updatedData.getTitle());
         existing.setDescription(updatedData.getDescription());
-        return accountRepository.save(existing);
+        Account saved = accountRepository.save(existing);
+        ledgerVersion.bumpAfterCommit();
+        return saved;
     }
 
     @Transactional
@@ -49,6 +56,7 @@ public class AccountService {
         findById(id);
         ensureAccountIsNotInUse(id);
         accountRepository.deleteById(id);
+        ledgerVersion.bumpAfterCommit();
     }
 
     @Transactional
@@ -64,6 +72,7 @@ public class AccountService {
         }
 
         accountRepository.deleteByIds(uniqueIds);
+        ledgerVersion.bumpAfterCommit();
     }
 
     private void ensureAccountIsNotInUse(Long id) {
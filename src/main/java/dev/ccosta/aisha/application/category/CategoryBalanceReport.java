@@ -8,6 +8,7 @@ public record CategoryBalanceReport(
     LocalDate endDate,
     CategoryBalanceGranularity granularity,
     List<CategoryBalanceBucket> buckets,
-    List<CategoryBalanceRow> rows
+    List<CategoryBalanceRow> rows,
+    boolean includeSubcategories
 ) {
 }
@@ -1,14 +1,23 @@
 package dev.ccosta.aisha.application.category;
 
+import dev.ccosta.aisha.application.ledger.BalanceCheckpointService;
+import dev.ccosta.aisha.application.ledger.BucketIndex;
+import dev.ccosta.aisha.application.ledger.ColumnarLedger;
+import dev.ccosta.aisha.application.ledger.LedgerColumns;
+import dev.ccosta.aisha.application.ledger.LedgerDimension;
+import dev.ccosta.aisha.application.ledger.MoneySeries;
+import dev.ccosta.aisha.application.ledger.ParallelAggregator;
 import dev.ccosta.aisha.domain.category.Category;
-import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryBucketTotal;
 import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.entry.SettlementPeriod;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,13 +25,37 @@ import org.springframework.transaction.annotation.Transactional;
 public class CategoryBalanceReportService {
 
     private final EntryRepository entryRepository;
-
-    public CategoryBalanceReportService(EntryRepository entryRepository) {
+    private final BalanceCheckpointService balanceCheckpointService;
+    private final ColumnarLedger columnarLedger;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ParallelAggregator parallelAggregator;
+
+    public CategoryBalanceReportService(
+        EntryRepository entryRepository,
+        BalanceCheckpointService balanceCheckpointService,
+        ColumnarLedger columnarLedger,
+        CategoryTreeCache categoryTreeCache,
+        ParallelAggregator parallelAggregator
+    ) {
         this.entryRepository = entryRepository;
+        this.balanceCheckpointService = balanceCheckpointService;
+        this.columnarLedger = columnarLedger;
+        this.categoryTreeCache = categoryTreeCache;
+        this.parallelAggregator = parallelAggregator;
     }
 
     @Transactional(readOnly = true)
     public CategoryBalanceReport buildReport(List<Category> categories, LocalDate startDate, LocalDate endDate) {
+        return buildReport(categories, startDate, endDate, false);
+    }
+
+    @Transactional(readOnly = true)
+    public CategoryBalanceReport buildReport(
+        List<Category> categories,
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean includeSubcategories
+    ) {
         if (startDate == null || endDate == null) {
             throw new IllegalArgumentException("Start and end dates are required");
         }
@@ -33,30 +66,42 @@ public class CategoryBalanceReportService {
         CategoryBalanceGranularity granularity = resolveGranularity(startDate, endDate);
         List<CategoryBalanceBucket> buckets = buildBuckets(startDate, endDate, granularity);
 
-        Map<Long, BigDecimal> previousBalancesByCategory = new HashMap<>();
-        Map<Long, Map<LocalDate, BigDecimal>> periodBalancesByCategory = new HashMap<>();
-        for (Entry entry : entryRepository.listAllBySettlementDateLessThanEqual(endDate)) {
-            Long categoryId = entry.getCategory().getId();
-            BigDecimal amount = entry.getAmount();
-            LocalDate settlementDate = entry.getSettlementDate();
-
-            if (settlementDate.isBefore(startDate)) {
-                previousBalancesByCategory.merge(categoryId, amount, BigDecimal::add);
-                continue;
+        SettlementPeriod period = toSettlementPeriod(granularity);
+        BucketIndex bucketIndex = BucketIndex.of(period, startDate, endDate);
+        Map<Long, BigDecimal> previousBalancesByCategory;
+        Map<Long, MoneySeries> periodBalancesByCategory;
+        Optional<LedgerColumns> columns = columnarLedger.columns();
+        if (columns.isPresent()) {
+            previousBalancesByCategory = columns.get().totalsBefore(LedgerDimension.CATEGORY, startDate, parallelAggregator);
+            periodBalancesByCategory = columns.get().bucketTotals(
+                LedgerDimension.CATEGORY,
+                startDate,
+                endDate,
+                bucketIndex,
+                parallelAggregator
+            );
+        } else {
+            previousBalancesByCategory = balanceCheckpointService.balancesByCategoryBefore(startDate);
+            periodBalancesByCategory = new HashMap<>();
+            for (EntryBucketTotal total : entryRepository.sumAmountByCategoryAndPeriod(startDate, endDate, period)) {
+                periodBalancesByCategory
+                    .computeIfAbsent(total.groupId(), ignored -> new MoneySeries(bucketIndex.size()))
+                    .add(bucketIndex.indexOf(total.bucketStart()), total.amount());
             }
+        }
 
-            LocalDate bucketStart = normalizeBucketStart(settlementDate, granularity);
-            periodBalancesByCategory
-                .computeIfAbsent(categoryId, ignored -> new HashMap<>())
-                .merge(bucketStart, amount, BigDecimal::add);
+        if (includeSubcategories) {
+            previousBalancesByCategory = new HashMap<>(previousBalancesByCategory);
+            rollUpSubcategories(previousBalancesByCategory, periodBalancesByCategory, bucketIndex.size());
         }
 
+        MoneySeries noMovements = new MoneySeries(bucketIndex.size());
         List<CategoryBalanceRow> rows = new ArrayList<>();
         for (Category category : categories) {
-            Map<LocalDate, BigDecimal> categoryBuckets = periodBalancesByCategory.getOrDefault(category.getId(), Map.of());
+            MoneySeries categoryBuckets = periodBalancesByCategory.getOrDefault(category.getId(), noMovements);
             List<BigDecimal> periodBalances = new ArrayList<>(buckets.size());
-            for (CategoryBalanceBucket bucket : buckets) {
-                periodBalances.add(categoryBuckets.getOrDefault(bucket.startDate(), BigDecimal.ZERO));
+            for (int index = 0; index < buckets.size(); index++) {
+                periodBalances.add(categoryBuckets.toBigDecimal(index));
             }
 
             rows.add(new CategoryBalanceRow(
@@ -68,7 +113,39 @@ public class CategoryBalanceReportService {
             ));
         }
 
-        return new CategoryBalanceReport(startDate, endDate, granularity, buckets, rows);
+        return new CategoryBalanceReport(startDate, endDate, granularity, buckets, rows, includeSubcategories);
+    }
+
+    private void rollUpSubcategories(
+        Map<Long, BigDecimal> previousBalancesByCategory,
+        Map<Long, MoneySeries> periodBalancesByCategory,
+        int bucketCount
+    ) {
+        CategoryTree tree = categoryTreeCache.current();
+        MoneySeries previousBySlot = new MoneySeries(tree.size());
+        for (Map.Entry<Long, BigDecimal> previousBalance : previousBalancesByCategory.entrySet()) {
+            int slot = tree.indexOf(previousBalance.getKey());
+            if (slot >= 0) {
+                previousBySlot.add(slot, previousBalance.getValue());
+            }
+        }
+        MoneySeries[] periodBySlot = new MoneySeries[tree.size()];
+        for (Map.Entry<Long, MoneySeries> periodBalances : periodBalancesByCategory.entrySet()) {
+            int slot = tree.indexOf(periodBalances.getKey());
+            if (slot >= 0) {
+                periodBySlot[slot] = periodBalances.getValue();
+            }
+        }
+
+        MoneySeries subtreePrevious = CategorySubtreeRollup.rollUp(tree, previousBySlot);
+        MoneySeries[] subtreePeriods = CategorySubtreeRollup.rollUp(tree, periodBySlot, bucketCount);
+        for (int slot = 0; slot < tree.size(); slot++) {
+            long categoryId = tree.idAt(slot);
+            previousBalancesByCategory.put(categoryId, subtreePrevious.toBigDecimal(slot));
+            if (subtreePeriods[slot] != null) {
+                periodBalancesByCategory.put(categoryId, subtreePeriods[slot]);
+            }
+        }
     }
 
     private CategoryBalanceGranularity resolveGranularity(LocalDate startDate, LocalDate endDate) {
@@ -81,6 +158,14 @@ public class CategoryBalanceReportService {
         return CategoryBalanceGranularity.DAY;
     }
 
+    private SettlementPeriod toSettlementPeriod(CategoryBalanceGranularity granularity) {
+        return switch (granularity) {
+            case YEAR -> SettlementPeriod.YEAR;
+            case MONTH -> SettlementPeriod.MONTH;
+            case DAY -> SettlementPeriod.DAY;
+        };
+    }
+
     private List<CategoryBalanceBucket> buildBuckets(
         LocalDate startDate,
         LocalDate endDate,
@@ -0,0 +1,6 @@
+package dev.ccosta.aisha.application.category;
+
+import dev.ccosta.aisha.domain.category.Category;
+
+public record CategoryResolution(Category category, boolean created) {
+}
@@ -1,11 +1,13 @@
 package dev.ccosta.aisha.application.category;
 
+import dev.ccosta.aisha.application.ledger.LedgerVersion;
 import dev.ccosta.aisha.domain.category.Category;
 import dev.ccosta.aisha.domain.category.CategoryRepository;
 import dev.ccosta.aisha.domain.entry.EntryRepository;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -15,10 +17,19 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final EntryRepository entryRepository;
-
-    public CategoryService(CategoryRepository categoryRepository, EntryRepository entryRepository) {
+    private final CategoryTreeCache categoryTreeCache;
+    private final LedgerVersion ledgerVersion;
+
+    public CategoryService(
+        CategoryRepository categoryRepository,
+        EntryRepository entryRepository,
+        CategoryTreeCache categoryTreeCache,
+        LedgerVersion ledgerVersion
+    ) {
         this.categoryRepository = categoryRepository;
         this.entryRepository = entryRepository;
+        this.categoryTreeCache = categoryTreeCache;
+        this.ledgerVersion = ledgerVersion;
     }
 
     @Transactional(readOnly = true)
@@ -26,10 +37,8 @@ public class CategoryService {
         return categoryRepository.findAllOrdered();
     }
 
-    @Transactional(readOnly = true)
     public List<CategoryOption> listHierarchyOptions() {
-        List<Category> categories = categoryRepository.findAllOrdered();
-        return CategoryHierarchyBuilder.buildOptions(categories);
+        return categoryTreeCache.current().options();
     }
 
     @Transactional(readOnly = true)
@@ -41,7 +50,10 @@ public class CategoryService {
     @Transactional
     public Category create(Category category, Long parentId) {
         category.setParent(resolveParent(parentId, null));
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        categoryTreeCache.refreshAfterCommit();
+        ledgerVersion.bumpAfterCommit();
+        return saved;
     }
 
     @Transactional
@@ -50,24 +62,37 @@ public class CategoryService {
         existing.setTitle(updatedData.getTitle());
         existing.setDescription(updatedData.getDescription());
         existing.setParent(resolveParent(parentId, id));
-        return categoryRepository.save(existing);
+        Category saved = categoryRepository.save(existing);
+        categoryTreeCache.refreshAfterCommit();
+        ledgerVersion.bumpAfterCommit();
+        return saved;
     }
 
     @Transactional
     public Category findOrCreateByTitle(String rawTitle) {
+        return resolveByTitle(rawTitle).category();
+    }
+
+    @Transactional
+    public CategoryResolution resolveByTitle(String rawTitle) {
         String title = rawTitle == null ? "" : rawTitle.trim();
         if (!StringUtils.hasText(title)) {
             throw new IllegalArgumentException("Category title must not be blank");
         }
 
-        return categoryRepository.findByTitleIgnoreCase(title)
-            .orElseGet(() -> {
-                Category category = new Category();
-                category.setTitle(title);
-                category.setDescription(null);
-                category.setParent(null);
-                return categoryRepository.save(category);
-            });
+        Optional<Category> existing = categoryRepository.findByTitleIgnoreCase(title);
+        if (existing.isPresent()) {
+            return new CategoryResolution(existing.get(), false);
+        }
+
+        Category category = new Category();
+        category.setTitle(title);
+        category.setDescription(null);
+        category.setParent(null);
+        Category saved = categoryRepository.save(category);
+        categoryTreeCache.refreshAfterCommit();
+        ledgerVersion.bumpAfterCommit();
+        return new CategoryResolution(saved, true);
     }
 
     @Transactional
@@ -75,6 +100,8 @@ public class CategoryService {
         findById(id);
         ensureCategoryIsNotInUse(id);
         categoryRepository.deleteById(id);
+        categoryTreeCache.refreshAfterCommit();
+        ledgerVersion.bumpAfterCommit();
     }
 
     @Transactional
@@ -90,6 +117,8 @@ public class CategoryService {
         }
 
         categoryRepository.deleteByIds(uniqueIds);
+        categoryTreeCache.refreshAfterCommit();
+        ledgerVersion.bumpAfterCommit();
     }
 
     private Category resolveParent(Long parentId, Long currentId) {
@@ -113,6 +142,16 @@ public class CategoryService {
             return;
         }
 
+        CategoryTree tree = categoryTreeCache.current();
+        int currentSlot = tree.indexOf(currentId);
+        int parentSlot = tree.indexOf(parent.getId());
+        if (currentSlot >= 0 && parentSlot >= 0) {
+            if (tree.isInSubtree(currentSlot, parentSlot)) {
+                throw new IllegalArgumentException("Category hierarchy cannot contain cycles");
+            }
+            return;
+        }
+
         Category cursor = parent;
         while (cursor != null) {
             if (currentId.equals(cursor.getId())) {
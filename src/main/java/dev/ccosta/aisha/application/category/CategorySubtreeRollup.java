@@ -0,0 +1,51 @@
+package dev.ccosta.aisha.application.category;
+
+import dev.ccosta.aisha.application.ledger.MoneySeries;
+
+public final class CategorySubtreeRollup {
+
+    private CategorySubtreeRollup() {
+    }
+
+    public static MoneySeries rollUp(CategoryTree tree, MoneySeries directBySlot) {
+        MoneySeries totals = new MoneySeries(tree.size());
+        for (int position = tree.size() - 1; position >= 0; position--) {
+            int slot = tree.preOrderAt(position);
+            if (slot < 0) {
+                continue;
+            }
+            totals.add(slot, directBySlot, slot);
+            int parentSlot = tree.parentOf(slot);
+            if (parentSlot >= 0) {
+                totals.add(parentSlot, totals, slot);
+            }
+        }
+        return totals;
+    }
+
+    public static MoneySeries[] rollUp(CategoryTree tree, MoneySeries[] directBySlot, int bucketCount) {
+        MoneySeries[] totals = new MoneySeries[tree.size()];
+        for (int position = tree.size() - 1; position >= 0; position--) {
+            int slot = tree.preOrderAt(position);
+            if (slot < 0) {
+                continue;
+            }
+            MoneySeries direct = directBySlot[slot];
+            if (direct != null) {
+                if (totals[slot] == null) {
+                    totals[slot] = new MoneySeries(bucketCount);
+                }
+                totals[slot].addAll(direct);
+            }
+
+            int parentSlot = tree.parentOf(slot);
+            if (parentSlot >= 0 && totals[slot] != null) {
+                if (totals[parentSlot] == null) {
+                    totals[parentSlot] = new MoneySeries(bucketCount);
+                }
+                totals[parentSlot].addAll(totals[slot]);
+            }
+        }
+        return totals;
+    }
+}
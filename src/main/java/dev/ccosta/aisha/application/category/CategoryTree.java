@@ -0,0 +1,220 @@
+package dev.ccosta.aisha.application.category;
+
+import dev.ccosta.aisha.domain.category.Category;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class CategoryTree {
+
+    private static final int[] NO_CHILDREN = new int[0];
+
+    private final long version;
+    private final long[] ids;
+    private final String[] titles;
+    private final int[] parents;
+    private final int[][] children;
+    private final int[] roots;
+    private final long[] sortedIds;
+    private final int[] slotsBySortedId;
+    private final int[] preOrder;
+    private final int[] enter;
+    private final int[] exit;
+    private final List<CategoryOption> options;
+
+    private CategoryTree(long version, long[] ids, String[] titles, int[] parents, int[][] children, int[] roots) {
+        this.version = version;
+        this.ids = ids;
+        this.titles = titles;
+        this.parents = parents;
+        this.children = children;
+        this.roots = roots;
+        this.sortedIds = ids.clone();
+        Arrays.sort(sortedIds);
+        this.slotsBySortedId = new int[ids.length];
+        for (int slot = 0; slot < ids.length; slot++) {
+            slotsBySortedId[Arrays.binarySearch(sortedIds, ids[slot])] = slot;
+        }
+        this.preOrder = new int[ids.length];
+        this.enter = new int[ids.length];
+        this.exit = new int[ids.length];
+        Arrays.fill(preOrder, -1);
+        Arrays.fill(enter, -1);
+        Arrays.fill(exit, -1);
+
+        List<CategoryOption> renderedOptions = new ArrayList<>(ids.length);
+        int position = 0;
+        for (int root : sortedByTitleAndId(roots)) {
+            position = visit(root, 0, position, renderedOptions);
+        }
+        this.options = Collections.unmodifiableList(renderedOptions);
+    }
+
+    public static CategoryTree of(long version, List<Category> categories) {
+        int size = categories.size();
+        long[] ids = new long[size];
+        String[] titles = new String[size];
+        Map<Long, Integer> slotById = new HashMap<>();
+        for (int slot = 0; slot < size; slot++) {
+            Category category = categories.get(slot);
+            ids[slot] = category.getId();
+            titles[slot] = category.getTitle();
+            slotById.put(category.getId(), slot);
+        }
+
+        int[] parents = new int[size];
+        int[] childCounts = new int[size];
+        int rootCount = 0;
+        for (int slot = 0; slot < size; slot++) {
+            Category parent = categories.get(slot).getParent();
+            Integer parentSlot = parent == null ? null : slotById.get(parent.getId());
+            parents[slot] = parentSlot == null ? -1 : parentSlot;
+            if (parents[slot] < 0) {
+                rootCount++;
+            } else {
+                childCounts[parents[slot]]++;
+            }
+        }
+
+        int[][] children = new int[size][];
+        for (int slot = 0; slot < size; slot++) {
+            children[slot] = childCounts[slot] == 0 ? NO_CHILDREN : new int[childCounts[slot]];
+            childCounts[slot] = 0;
+        }
+        int[] roots = new int[rootCount];
+        rootCount = 0;
+        for (int slot = 0; slot < size; slot++) {
+            int parentSlot = parents[slot];
+            if (parentSlot < 0) {
+                roots[rootCount++] = slot;
+            } else {
+                children[parentSlot][childCounts[parentSlot]++] = slot;
+            }
+        }
+
+        return new CategoryTree(version, ids, titles, parents, children, roots);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public int indexOf(Long categoryId) {
+        if (categoryId == null) {
+            return -1;
+        }
+        return indexOf(categoryId.longValue());
+    }
+
+    public int indexOf(long categoryId) {
+        int position = Arrays.binarySearch(sortedIds, categoryId);
+        return position < 0 ? -1 : slotsBySortedId[position];
+    }
+
+    public boolean contains(Long categoryId) {
+        return indexOf(categoryId) >= 0;
+    }
+
+    public long idAt(int slot) {
+        return ids[slot];
+    }
+
+    public String titleAt(int slot) {
+        return titles[slot];
+    }
+
+    public int parentOf(int slot) {
+        return parents[slot];
+    }
+
+    public Long parentIdOf(int slot) {
+        int parentSlot = parents[slot];
+        return parentSlot < 0 ? null : ids[parentSlot];
+    }
+
+    public int childCount(int slot) {
+        return children[slot].length;
+    }
+
+    public int childAt(int slot, int index) {
+        return children[slot][index];
+    }
+
+    public int rootCount() {
+        return roots.length;
+    }
+
+    public int rootAt(int index) {
+        return roots[index];
+    }
+
+    public int preOrderAt(int position) {
+        return preOrder[position];
+    }
+
+    public int enterOf(int slot) {
+        return enter[slot];
+    }
+
+    public int exitOf(int slot) {
+        return exit[slot];
+    }
+
+    public boolean isInSubtree(int ancestorSlot, int slot) {
+        int position = enter[slot];
+        return position >= 0 && enter[ancestorSlot] <= position && position <= exit[ancestorSlot];
+    }
+
+    public List<Long> childIdsOf(Long parentCategoryId) {
+        int[] siblings = parentCategoryId == null ? roots : children[indexOf(parentCategoryId)];
+        List<Long> childIds = new ArrayList<>(siblings.length);
+        for (int slot : siblings) {
+            childIds.add(ids[slot]);
+        }
+        return childIds;
+    }
+
+    public List<CategoryOption> options() {
+        return options;
+    }
+
+    private int visit(int slot, int depth, int position, List<CategoryOption> renderedOptions) {
+        enter[slot] = position;
+        preOrder[position++] = slot;
+        renderedOptions.add(new CategoryOption(ids[slot], prefix(depth) + titles[slot]));
+        for (int child : sortedByTitleAndId(children[slot])) {
+            position = visit(child, depth + 1, position, renderedOptions);
+        }
+        exit[slot] = position - 1;
+        return position;
+    }
+
+    private static String prefix(int depth) {
+        if (depth <= 0) {
+            return "";
+        }
+        return "- ".repeat(depth);
+    }
+
+    private int[] sortedByTitleAndId(int[] slots) {
+        if (slots.length < 2) {
+            return slots;
+        }
+        return Arrays.stream(slots)
+            .boxed()
+            .sorted(Comparator
+                .comparing((Integer slot) -> titles[slot], String.CASE_INSENSITIVE_ORDER)
+                .thenComparing(slot -> titles[slot])
+                .thenComparingLong(slot -> ids[slot]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+}
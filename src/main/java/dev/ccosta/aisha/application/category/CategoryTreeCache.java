@@ -0,0 +1,52 @@
+package dev.ccosta.aisha.application.category;
+
+import dev.ccosta.aisha.domain.category.CategoryRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicReference<CategoryTree> current = new AtomicReference<>();
+
+    public CategoryTreeCache(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public CategoryTree current() {
+        CategoryTree tree = current.get();
+        if (tree != null) {
+            return tree;
+        }
+        return reload();
+    }
+
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    private CategoryTree reload() {
+        long version = versions.incrementAndGet();
+        CategoryTree loaded = CategoryTree.of(version, categoryRepository.findAllOrdered());
+        return current.accumulateAndGet(loaded, (existing, candidate) ->
+            existing != null && existing.version() > candidate.version() ? existing : candidate
+        );
+    }
+}
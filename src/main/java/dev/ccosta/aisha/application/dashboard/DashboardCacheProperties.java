@@ -0,0 +1,13 @@
+package dev.ccosta.aisha.application.dashboard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("aisha.dashboard.cache")
+public record DashboardCacheProperties(long maximumWeight) {
+
+    public DashboardCacheProperties {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Dashboard cache maximum weight must not be negative");
+        }
+    }
+}
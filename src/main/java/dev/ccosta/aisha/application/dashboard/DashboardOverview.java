@@ -0,0 +1,10 @@
+package dev.ccosta.aisha.application.dashboard;
+
+public record DashboardOverview(
+    DashboardSummary summary,
+    DashboardBalanceEvolution balanceEvolution,
+    DashboardRevenueExpenseEvolution revenueExpenseEvolution,
+    DashboardExpenseCategoryBreakdown expenseCategoryBreakdown,
+    DashboardCategoryTotalsEvolution categoryTotalsEvolution
+) {
+}
@@ -0,0 +1,170 @@
+package dev.ccosta.aisha.application.dashboard;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.ccosta.aisha.application.ledger.LedgerVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+@Service
+@EnableConfigurationProperties(DashboardCacheProperties.class)
+public class DashboardResultCache {
+
+    static final String CACHE_NAME = "dashboard";
+
+    private final DashboardService dashboardService;
+    private final LedgerVersion ledgerVersion;
+    private final Cache<Key, Object> cache;
+
+    public DashboardResultCache(
+        DashboardService dashboardService,
+        LedgerVersion ledgerVersion,
+        DashboardCacheProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.dashboardService = dashboardService;
+        this.ledgerVersion = ledgerVersion;
+        this.cache = CaffeineCacheMetrics.monitor(
+            meterRegistry,
+            Caffeine.newBuilder()
+                .maximumWeight(properties.maximumWeight())
+                .weigher((Key key, Object value) -> weigh(value))
+                .recordStats()
+                .build(),
+            CACHE_NAME
+        );
+    }
+
+    public DashboardSummary buildSummary(LocalDate startDate, LocalDate endDate) {
+        return get(Widget.SUMMARY, startDate, endDate, null, () -> dashboardService.buildSummary(startDate, endDate));
+    }
+
+    public DashboardBalanceEvolution buildBalanceEvolution(LocalDate startDate, LocalDate endDate) {
+        return buildBalanceEvolution(startDate, endDate, null);
+    }
+
+    public DashboardBalanceEvolution buildBalanceEvolution(LocalDate startDate, LocalDate endDate, Integer maxPoints) {
+        return get(
+            Widget.BALANCE_EVOLUTION,
+            startDate,
+            endDate,
+            null,
+            maxPoints,
+            () -> dashboardService.buildBalanceEvolution(startDate, endDate, maxPoints)
+        );
+    }
+
+    public DashboardRevenueExpenseEvolution buildRevenueExpenseEvolution(LocalDate startDate, LocalDate endDate) {
+        return get(
+            Widget.REVENUE_EXPENSE_EVOLUTION,
+            startDate,
+            endDate,
+            null,
+            () -> dashboardService.buildRevenueExpenseEvolution(startDate, endDate)
+        );
+    }
+
+    public DashboardExpenseCategoryBreakdown buildExpenseCategoryBreakdown(
+        LocalDate startDate,
+        LocalDate endDate,
+        Long parentCategoryId
+    ) {
+        return get(
+            Widget.EXPENSE_CATEGORY_BREAKDOWN,
+            startDate,
+            endDate,
+            parentCategoryId,
+            () -> dashboardService.buildExpenseCategoryBreakdown(startDate, endDate, parentCategoryId)
+        );
+    }
+
+    public DashboardCategoryTotalsEvolution buildCategoryTotalsEvolution(
+        LocalDate startDate,
+        LocalDate endDate,
+        Long parentCategoryId
+    ) {
+        return buildCategoryTotalsEvolution(startDate, endDate, parentCategoryId, null);
+    }
+
+    public DashboardCategoryTotalsEvolution buildCategoryTotalsEvolution(
+        LocalDate startDate,
+        LocalDate endDate,
+        Long parentCategoryId,
+        Integer maxPoints
+    ) {
+        return get(
+            Widget.CATEGORY_TOTALS_EVOLUTION,
+            startDate,
+            endDate,
+            parentCategoryId,
+            maxPoints,
+            () -> dashboardService.buildCategoryTotalsEvolution(startDate, endDate, parentCategoryId, maxPoints)
+        );
+    }
+
+    public DashboardOverview buildOverview(LocalDate startDate, LocalDate endDate, Long parentCategoryId) {
+        return get(
+            Widget.OVERVIEW,
+            startDate,
+            endDate,
+            parentCategoryId,
+            () -> dashboardService.buildOverview(startDate, endDate, parentCategoryId)
+        );
+    }
+
+    private <T> T get(Widget widget, LocalDate startDate, LocalDate endDate, Long parentCategoryId, Supplier<T> loader) {
+        return get(widget, startDate, endDate, parentCategoryId, null, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(
+        Widget widget,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long parentCategoryId,
+        Integer maxPoints,
+        Supplier<T> loader
+    ) {
+        Key key = new Key(widget, startDate, endDate, parentCategoryId, maxPoints, ledgerVersion.current());
+        return (T) cache.get(key, ignored -> loader.get());
+    }
+
+    private static int weigh(Object value) {
+        return switch (value) {
+            case DashboardOverview overview -> 1
+                + weigh(overview.balanceEvolution())
+                + weigh(overview.revenueExpenseEvolution())
+                + weigh(overview.expenseCategoryBreakdown())
+                + weigh(overview.categoryTotalsEvolution());
+            case DashboardBalanceEvolution evolution -> 1 + evolution.points().size();
+            case DashboardRevenueExpenseEvolution evolution -> 1 + evolution.points().size();
+            case DashboardExpenseCategoryBreakdown breakdown -> 1 + breakdown.items().size();
+            case DashboardCategoryTotalsEvolution evolution ->
+                1 + evolution.buckets().size() * (1 + evolution.series().size());
+            default -> 1;
+        };
+    }
+
+    private enum Widget {
+        SUMMARY,
+        BALANCE_EVOLUTION,
+        REVENUE_EXPENSE_EVOLUTION,
+        EXPENSE_CATEGORY_BREAKDOWN,
+        CATEGORY_TOTALS_EVOLUTION,
+        OVERVIEW
+    }
+
+    private record Key(
+        Widget widget,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long parentCategoryId,
+        Integer maxPoints,
+        long ledgerVersion
+    ) {
+    }
+}
@@ -2,5 +2,7 @@ package dev.ccosta.aisha.application.dashboard;
 
 public enum DashboardSeriesGranularity {
     DAY,
-    MONTH
+    WEEK,
+    MONTH,
+    QUARTER
 }
@@ -1,29 +1,54 @@
 package dev.ccosta.aisha.application.dashboard;
 
-import dev.ccosta.aisha.domain.category.Category;
-import dev.ccosta.aisha.domain.category.CategoryRepository;
-import dev.ccosta.aisha.domain.entry.Entry;
-import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.application.category.CategorySubtreeRollup;
+import dev.ccosta.aisha.application.category.CategoryTree;
+import dev.ccosta.aisha.application.category.CategoryTreeCache;
+import dev.ccosta.aisha.application.ledger.BalanceCheckpointService;
+import dev.ccosta.aisha.application.ledger.BalanceIndex;
+import dev.ccosta.aisha.application.ledger.BucketIndex;
+import dev.ccosta.aisha.application.ledger.ColumnarLedger;
+import dev.ccosta.aisha.application.ledger.LedgerColumns;
+import dev.ccosta.aisha.application.ledger.MoneyAccumulator;
+import dev.ccosta.aisha.application.ledger.MoneySeries;
+import dev.ccosta.aisha.application.ledger.ParallelAggregator;
+import dev.ccosta.aisha.domain.entry.SettlementPeriod;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRepository;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRow;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class DashboardService {
 
-    private final EntryRepository entryRepository;
-    private final CategoryRepository categoryRepository;
-
-    public DashboardService(EntryRepository entryRepository, CategoryRepository categoryRepository) {
-        this.entryRepository = entryRepository;
-        this.categoryRepository = categoryRepository;
+    private final DailyRollupRepository dailyRollupRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final BalanceCheckpointService balanceCheckpointService;
+    private final BalanceIndex balanceIndex;
+    private final ColumnarLedger columnarLedger;
+    private final ParallelAggregator parallelAggregator;
+
+    public DashboardService(
+        DailyRollupRepository dailyRollupRepository,
+        CategoryTreeCache categoryTreeCache,
+        BalanceCheckpointService balanceCheckpointService,
+        BalanceIndex balanceIndex,
+        ColumnarLedger columnarLedger,
+        ParallelAggregator parallelAggregator
+    ) {
+        this.dailyRollupRepository = dailyRollupRepository;
+        this.categoryTreeCache = categoryTreeCache;
+        this.balanceCheckpointService = balanceCheckpointService;
+        this.balanceIndex = balanceIndex;
+        this.columnarLedger = columnarLedger;
+        this.parallelAggregator = parallelAggregator;
     }
 
     @Transactional(readOnly = true)
@@ -31,275 +56,268 @@ public class DashboardService {
         validateRange(startDate, endDate);
 
         LocalDate previousStartDate = resolvePreviousStart(startDate, endDate);
-        LocalDate previousEndDate = startDate.minusDays(1);
-        List<Entry> entries = entryRepository.listAllBySettlementDateLessThanEqual(endDate);
-
-        BigDecimal currentBalance = BigDecimal.ZERO;
-        BigDecimal previousBalance = BigDecimal.ZERO;
-        BigDecimal currentExpenses = BigDecimal.ZERO;
-        BigDecimal previousExpenses = BigDecimal.ZERO;
-        BigDecimal currentRevenues = BigDecimal.ZERO;
-        BigDecimal previousRevenues = BigDecimal.ZERO;
-
-        for (Entry entry : entries) {
-            LocalDate settlementDate = entry.getSettlementDate();
-            BigDecimal amount = entry.getAmount();
-
-            currentBalance = currentBalance.add(amount);
-            if (settlementDate.isBefore(startDate)) {
-                previousBalance = previousBalance.add(amount);
-            }
-
-            if (isInsideRange(settlementDate, startDate, endDate)) {
-                if (amount.signum() < 0) {
-                    currentExpenses = currentExpenses.add(amount.abs());
-                } else if (amount.signum() > 0) {
-                    currentRevenues = currentRevenues.add(amount);
-                }
-                continue;
-            }
-
-            if (isInsideRange(settlementDate, previousStartDate, previousEndDate)) {
-                if (amount.signum() < 0) {
-                    previousExpenses = previousExpenses.add(amount.abs());
-                } else if (amount.signum() > 0) {
-                    previousRevenues = previousRevenues.add(amount);
-                }
-            }
-        }
-
-        return new DashboardSummary(
-            metric(currentBalance, previousBalance),
-            metric(currentExpenses, previousExpenses),
-            metric(currentRevenues, previousRevenues)
-        );
+        return toSummary(aggregate(previousStartDate, startDate, endDate, true, null));
     }
 
     @Transactional(readOnly = true)
     public DashboardBalanceEvolution buildBalanceEvolution(LocalDate startDate, LocalDate endDate) {
-        validateRange(startDate, endDate);
-
-        DashboardSeriesGranularity granularity = resolveGranularity(startDate, endDate);
-        List<Entry> entries = entryRepository.listAllBySettlementDateLessThanEqual(endDate);
-        Map<LocalDate, BigDecimal> periodAmountsByBucket = new HashMap<>();
-        BigDecimal openingBalance = BigDecimal.ZERO;
-        LocalDate lastBucketWithRecords = null;
-
-        for (Entry entry : entries) {
-            LocalDate settlementDate = entry.getSettlementDate();
-            BigDecimal amount = entry.getAmount();
-
-            if (settlementDate.isBefore(startDate)) {
-                openingBalance = openingBalance.add(amount);
-                continue;
-            }
-            if (settlementDate.isAfter(endDate)) {
-                continue;
-            }
-
-            LocalDate bucketDate = normalizeBucketStart(settlementDate, granularity);
-            periodAmountsByBucket.merge(bucketDate, amount, BigDecimal::add);
-            lastBucketWithRecords = maxDate(lastBucketWithRecords, bucketDate);
-        }
+        return buildBalanceEvolution(startDate, endDate, null);
+    }
 
-        List<DashboardBalancePoint> points = new ArrayList<>();
-        BigDecimal accumulatedBalance = openingBalance;
-        LocalDate effectiveEndDate = resolveEffectiveEndDate(endDate, lastBucketWithRecords, granularity);
-        for (LocalDate bucketStart : buildBucketStarts(startDate, effectiveEndDate, granularity)) {
-            BigDecimal periodAmount = periodAmountsByBucket.getOrDefault(bucketStart, BigDecimal.ZERO);
-            accumulatedBalance = accumulatedBalance.add(periodAmount);
-            points.add(new DashboardBalancePoint(bucketStart, periodAmount, accumulatedBalance));
-        }
+    @Transactional(readOnly = true)
+    public DashboardBalanceEvolution buildBalanceEvolution(LocalDate startDate, LocalDate endDate, Integer maxPoints) {
+        validateRange(startDate, endDate);
+        validateMaxPoints(maxPoints);
 
-        return new DashboardBalanceEvolution(startDate, endDate, granularity, openingBalance, points);
+        DashboardSeriesGranularity granularity = resolveGranularity(startDate, endDate, maxPoints);
+        return toBalanceEvolution(aggregate(startDate, startDate, endDate, true, null, granularity), maxPoints);
     }
 
     @Transactional(readOnly = true)
     public DashboardRevenueExpenseEvolution buildRevenueExpenseEvolution(LocalDate startDate, LocalDate endDate) {
         validateRange(startDate, endDate);
 
-        DashboardSeriesGranularity granularity = resolveGranularity(startDate, endDate);
-        List<Entry> entries = entryRepository.listAllBySettlementDateLessThanEqual(endDate);
-        Map<LocalDate, BigDecimal> revenuesByBucket = new HashMap<>();
-        Map<LocalDate, BigDecimal> expensesByBucket = new HashMap<>();
-        LocalDate lastBucketWithRecords = null;
-
-        for (Entry entry : entries) {
-            LocalDate settlementDate = entry.getSettlementDate();
-            if (!isInsideRange(settlementDate, startDate, endDate)) {
-                continue;
-            }
-
-            BigDecimal amount = entry.getAmount();
-            LocalDate bucketDate = normalizeBucketStart(settlementDate, granularity);
-            if (amount.signum() < 0) {
-                expensesByBucket.merge(bucketDate, amount.abs(), BigDecimal::add);
-            } else if (amount.signum() > 0) {
-                revenuesByBucket.merge(bucketDate, amount, BigDecimal::add);
-            }
-            lastBucketWithRecords = maxDate(lastBucketWithRecords, bucketDate);
-        }
+        return toRevenueExpenseEvolution(aggregate(startDate, startDate, endDate, false, null));
+    }
 
-        List<DashboardRevenueExpensePoint> points = new ArrayList<>();
-        LocalDate effectiveEndDate = resolveEffectiveEndDate(endDate, lastBucketWithRecords, granularity);
-        for (LocalDate bucketStart : buildBucketStarts(startDate, effectiveEndDate, granularity)) {
-            points.add(new DashboardRevenueExpensePoint(
-                bucketStart,
-                revenuesByBucket.getOrDefault(bucketStart, BigDecimal.ZERO),
-                expensesByBucket.getOrDefault(bucketStart, BigDecimal.ZERO)
-            ));
-        }
+    @Transactional(readOnly = true)
+    public DashboardExpenseCategoryBreakdown buildExpenseCategoryBreakdown(
+        LocalDate startDate,
+        LocalDate endDate,
+        Long parentCategoryId
+    ) {
+        validateRange(startDate, endDate);
 
-        return new DashboardRevenueExpenseEvolution(startDate, endDate, granularity, points);
+        CategoryTree categoryTree = loadCategoryTree(parentCategoryId);
+        return toExpenseCategoryBreakdown(aggregate(startDate, startDate, endDate, false, categoryTree), categoryTree, parentCategoryId);
     }
 
     @Transactional(readOnly = true)
-    public DashboardExpenseCategoryBreakdown buildExpenseCategoryBreakdown(
+    public DashboardCategoryTotalsEvolution buildCategoryTotalsEvolution(
         LocalDate startDate,
         LocalDate endDate,
         Long parentCategoryId
+    ) {
+        return buildCategoryTotalsEvolution(startDate, endDate, parentCategoryId, null);
+    }
+
+    @Transactional(readOnly = true)
+    public DashboardCategoryTotalsEvolution buildCategoryTotalsEvolution(
+        LocalDate startDate,
+        LocalDate endDate,
+        Long parentCategoryId,
+        Integer maxPoints
     ) {
         validateRange(startDate, endDate);
+        validateMaxPoints(maxPoints);
 
-        List<Category> categories = categoryRepository.findAllOrdered();
-        Map<Long, Category> categoryById = new HashMap<>();
-        Map<Long, List<Long>> childrenByParentId = new HashMap<>();
-        for (Category category : categories) {
-            categoryById.put(category.getId(), category);
-            Long key = parentIdOf(category);
-            childrenByParentId.computeIfAbsent(key, ignored -> new ArrayList<>()).add(category.getId());
-        }
+        CategoryTree categoryTree = loadCategoryTree(parentCategoryId);
+        DashboardSeriesGranularity granularity = resolveGranularity(startDate, endDate, maxPoints);
+        return toCategoryTotalsEvolution(
+            aggregate(startDate, startDate, endDate, false, categoryTree, granularity),
+            categoryTree,
+            parentCategoryId,
+            maxPoints
+        );
+    }
 
-        if (parentCategoryId != null && !categoryById.containsKey(parentCategoryId)) {
-            throw new IllegalArgumentException("Parent category was not found");
-        }
+    @Transactional(readOnly = true)
+    public DashboardOverview buildOverview(LocalDate startDate, LocalDate endDate, Long parentCategoryId) {
+        validateRange(startDate, endDate);
 
-        List<Entry> entries = entryRepository.listAllBySettlementDateLessThanEqual(endDate);
-        Map<Long, BigDecimal> expenseByCategoryId = new HashMap<>();
+        CategoryTree categoryTree = loadCategoryTree(parentCategoryId);
+        LocalDate previousStartDate = resolvePreviousStart(startDate, endDate);
+        DashboardAggregation aggregation = aggregate(previousStartDate, startDate, endDate, true, categoryTree);
+
+        return new DashboardOverview(
+            toSummary(aggregation),
+            toBalanceEvolution(aggregation, null),
+            toRevenueExpenseEvolution(aggregation),
+            toExpenseCategoryBreakdown(aggregation, categoryTree, parentCategoryId),
+            toCategoryTotalsEvolution(aggregation, categoryTree, parentCategoryId, null)
+        );
+    }
 
-        for (Entry entry : entries) {
-            LocalDate settlementDate = entry.getSettlementDate();
-            if (!isInsideRange(settlementDate, startDate, endDate)) {
-                continue;
-            }
+    private DashboardAggregation aggregate(
+        LocalDate sliceStartDate,
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean withOpeningBalance,
+        CategoryTree categoryTree
+    ) {
+        return aggregate(sliceStartDate, startDate, endDate, withOpeningBalance, categoryTree, resolveGranularity(startDate, endDate));
+    }
 
-            BigDecimal amount = entry.getAmount();
-            if (amount.signum() >= 0) {
-                continue;
+    private DashboardAggregation aggregate(
+        LocalDate sliceStartDate,
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean withOpeningBalance,
+        CategoryTree categoryTree,
+        DashboardSeriesGranularity granularity
+    ) {
+        DashboardAggregation aggregation = new DashboardAggregation(startDate, endDate, granularity, categoryTree);
+        Optional<LedgerColumns> columns = columnarLedger.columns();
+        if (columns.isPresent()) {
+            aggregation.accept(columns.get(), sliceStartDate, withOpeningBalance, parallelAggregator);
+            return aggregation;
+        }
+
+        if (withOpeningBalance) {
+            Optional<BigDecimal> indexedBalance = balanceIndex.balanceBefore(startDate);
+            if (indexedBalance.isPresent()) {
+                aggregation.balanceBeforeStart.add(indexedBalance.get());
+                aggregation.openingBalanceIndexed = true;
+            } else {
+                aggregation.balanceBeforeStart.add(balanceCheckpointService.balanceBefore(sliceStartDate));
             }
+        }
+
+        aggregation.accept(dailyRollupRepository.listRowsBySettlementDateBetween(sliceStartDate, endDate), parallelAggregator);
+        return aggregation;
+    }
 
-            Long categoryId = entry.getCategory().getId();
-            expenseByCategoryId.merge(categoryId, amount.abs(), BigDecimal::add);
+    private DashboardSummary toSummary(DashboardAggregation aggregation) {
+        return new DashboardSummary(
+            metric(aggregation.currentBalance(), aggregation.balanceBeforeStart.toBigDecimal()),
+            metric(aggregation.currentExpenses.toBigDecimal(), aggregation.previousExpenses.toBigDecimal()),
+            metric(aggregation.currentRevenues.toBigDecimal(), aggregation.previousRevenues.toBigDecimal())
+        );
+    }
+
+    private DashboardBalanceEvolution toBalanceEvolution(DashboardAggregation aggregation, Integer maxPoints) {
+        BucketIndex buckets = aggregation.buckets;
+        MoneySeries signedByBucket = aggregation.signedByBucket;
+        int visibleBuckets = resolveVisibleBuckets(buckets, signedByBucket.lastTouchedIndex());
+        List<DashboardBalancePoint> points = new ArrayList<>(visibleBuckets);
+        MoneyAccumulator accumulatedBalance = new MoneyAccumulator();
+        accumulatedBalance.add(aggregation.balanceBeforeStart);
+        for (int index = 0; index < visibleBuckets; index++) {
+            signedByBucket.addTo(index, accumulatedBalance);
+            points.add(new DashboardBalancePoint(
+                buckets.bucketStart(index),
+                signedByBucket.toBigDecimal(index),
+                accumulatedBalance.toBigDecimal()
+            ));
         }
 
-        Map<Long, BigDecimal> subtreeExpenseByCategory = new HashMap<>();
-        for (Long categoryId : categoryById.keySet()) {
-            subtreeExpense(categoryId, childrenByParentId, expenseByCategoryId, subtreeExpenseByCategory);
+        BigDecimal openingBalance = aggregation.balanceBeforeStart.toBigDecimal();
+        return new DashboardBalanceEvolution(
+            aggregation.startDate,
+            aggregation.endDate,
+            aggregation.granularity,
+            openingBalance,
+            maxPoints == null ? points : downsample(points, openingBalance, maxPoints)
+        );
+    }
+
+    private DashboardRevenueExpenseEvolution toRevenueExpenseEvolution(DashboardAggregation aggregation) {
+        BucketIndex buckets = aggregation.buckets;
+        int visibleBuckets = resolveVisibleBuckets(buckets, aggregation.signedByBucket.lastTouchedIndex());
+        List<DashboardRevenueExpensePoint> points = new ArrayList<>(visibleBuckets);
+        for (int index = 0; index < visibleBuckets; index++) {
+            points.add(new DashboardRevenueExpensePoint(
+                buckets.bucketStart(index),
+                aggregation.revenuesByBucket.toBigDecimal(index),
+                aggregation.expensesByBucket.toBigDecimal(index)
+            ));
         }
 
-        List<Long> visibleCategoryIds = childrenByParentId.getOrDefault(parentCategoryId, List.of());
-        List<DashboardExpenseCategoryItem> items = visibleCategoryIds
+        return new DashboardRevenueExpenseEvolution(aggregation.startDate, aggregation.endDate, aggregation.granularity, points);
+    }
+
+    private DashboardExpenseCategoryBreakdown toExpenseCategoryBreakdown(
+        DashboardAggregation aggregation,
+        CategoryTree categoryTree,
+        Long parentCategoryId
+    ) {
+        MoneySeries subtreeExpenseBySlot = CategorySubtreeRollup.rollUp(categoryTree, aggregation.expenseByCategorySlot);
+        List<DashboardExpenseCategoryItem> items = categoryTree.childIdsOf(parentCategoryId)
             .stream()
-            .map(categoryId -> toItem(categoryId, categoryById, childrenByParentId, subtreeExpenseByCategory))
+            .map(categoryId -> toItem(categoryTree.indexOf(categoryId), categoryTree, subtreeExpenseBySlot))
             .filter(item -> item.amount().signum() > 0)
             .sorted(Comparator.comparing(DashboardExpenseCategoryItem::amount).reversed())
             .toList();
 
         return new DashboardExpenseCategoryBreakdown(
-            startDate,
-            endDate,
+            aggregation.startDate,
+            aggregation.endDate,
             parentCategoryId,
-            currentParentName(parentCategoryId, categoryById),
-            parentOfCurrent(parentCategoryId, categoryById),
+            currentParentName(parentCategoryId, categoryTree),
+            parentOfCurrent(parentCategoryId, categoryTree),
             items
         );
     }
 
-    @Transactional(readOnly = true)
-    public DashboardCategoryTotalsEvolution buildCategoryTotalsEvolution(
-        LocalDate startDate,
-        LocalDate endDate,
-        Long parentCategoryId
+    private DashboardCategoryTotalsEvolution toCategoryTotalsEvolution(
+        DashboardAggregation aggregation,
+        CategoryTree categoryTree,
+        Long parentCategoryId,
+        Integer maxPoints
     ) {
-        validateRange(startDate, endDate);
-
-        DashboardSeriesGranularity granularity = resolveGranularity(startDate, endDate);
-        List<Category> categories = categoryRepository.findAllOrdered();
-        Map<Long, Category> categoryById = new HashMap<>();
-        Map<Long, List<Long>> childrenByParentId = new HashMap<>();
-        for (Category category : categories) {
-            categoryById.put(category.getId(), category);
-            Long key = parentIdOf(category);
-            childrenByParentId.computeIfAbsent(key, ignored -> new ArrayList<>()).add(category.getId());
-        }
-
-        if (parentCategoryId != null && !categoryById.containsKey(parentCategoryId)) {
-            throw new IllegalArgumentException("Parent category was not found");
-        }
-
-        List<Entry> entries = entryRepository.listAllBySettlementDateLessThanEqual(endDate);
-        Map<Long, Map<LocalDate, BigDecimal>> directAmountsByCategory = new HashMap<>();
-
-        for (Entry entry : entries) {
-            LocalDate settlementDate = entry.getSettlementDate();
-            if (!isInsideRange(settlementDate, startDate, endDate)) {
-                continue;
-            }
-
-            Long categoryId = entry.getCategory().getId();
-            LocalDate bucketDate = normalizeBucketStart(settlementDate, granularity);
-            directAmountsByCategory
-                .computeIfAbsent(categoryId, ignored -> new HashMap<>())
-                .merge(bucketDate, entry.getAmount(), BigDecimal::add);
-        }
-
-        Map<Long, Map<LocalDate, BigDecimal>> subtreeAmountsByCategory = new HashMap<>();
-        for (Long categoryId : categoryById.keySet()) {
-            subtreeAmounts(categoryId, childrenByParentId, directAmountsByCategory, subtreeAmountsByCategory);
-        }
-
-        List<Long> visibleCategoryIds = childrenByParentId.getOrDefault(parentCategoryId, List.of());
-        LocalDate lastBucketWithRecords = null;
+        BucketIndex buckets = aggregation.buckets;
+        MoneySeries[] subtreeAmountsBySlot = CategorySubtreeRollup.rollUp(
+            categoryTree,
+            aggregation.signedByCategorySlot,
+            buckets.size()
+        );
+        int lastIndexWithRecords = -1;
         List<CategorySeriesData> categorySeries = new ArrayList<>();
 
-        for (Long categoryId : visibleCategoryIds) {
-            Map<LocalDate, BigDecimal> valuesByBucket = subtreeAmountsByCategory.getOrDefault(categoryId, Map.of());
-            if (valuesByBucket.isEmpty()) {
+        for (Long categoryId : categoryTree.childIdsOf(parentCategoryId)) {
+            int slot = categoryTree.indexOf(categoryId);
+            MoneySeries values = subtreeAmountsBySlot[slot];
+            if (values == null || values.isEmpty()) {
                 continue;
             }
 
-            Category category = categoryById.get(categoryId);
             categorySeries.add(new CategorySeriesData(
                 categoryId,
-                category == null ? "" : category.getTitle(),
-                !childrenByParentId.getOrDefault(categoryId, List.of()).isEmpty(),
-                valuesByBucket,
-                sumAmounts(valuesByBucket)
+                categoryTree.titleAt(slot),
+                categoryTree.childCount(slot) > 0,
+                values,
+                values.sumAbsolute()
             ));
-            lastBucketWithRecords = maxDate(lastBucketWithRecords, latestBucket(valuesByBucket));
+            lastIndexWithRecords = Math.max(lastIndexWithRecords, values.lastTouchedIndex());
         }
 
         categorySeries.sort(Comparator.comparing(CategorySeriesData::total).reversed());
 
-        LocalDate effectiveEndDate = resolveEffectiveEndDate(endDate, lastBucketWithRecords, granularity);
-        List<LocalDate> buckets = buildBucketStarts(startDate, effectiveEndDate, granularity);
+        int visibleBuckets = resolveVisibleBuckets(buckets, lastIndexWithRecords);
+        List<LocalDate> bucketStarts = new ArrayList<>(visibleBuckets);
+        for (int index = 0; index < visibleBuckets; index++) {
+            bucketStarts.add(buckets.bucketStart(index));
+        }
         List<DashboardCategoryTotalsSeries> series = categorySeries
             .stream()
-            .map(data -> toCategoryTotalsSeries(data, buckets))
+            .map(data -> toCategoryTotalsSeries(data, visibleBuckets))
             .toList();
+        if (maxPoints != null && visibleBuckets > maxPoints) {
+            int[] keptBuckets = LargestTriangleThreeBuckets.select(stackedTotals(series, visibleBuckets), maxPoints);
+            bucketStarts = Arrays.stream(keptBuckets).mapToObj(bucketStarts::get).toList();
+            series = series.stream().map(values -> mergeSkippedBuckets(values, keptBuckets, visibleBuckets)).toList();
+        }
 
         return new DashboardCategoryTotalsEvolution(
-            startDate,
-            endDate,
-            granularity,
+            aggregation.startDate,
+            aggregation.endDate,
+            aggregation.granularity,
             parentCategoryId,
-            currentParentName(parentCategoryId, categoryById),
-            parentOfCurrent(parentCategoryId, categoryById),
-            buckets,
+            currentParentName(parentCategoryId, categoryTree),
+            parentOfCurrent(parentCategoryId, categoryTree),
+            bucketStarts,
             series
         );
     }
 
+    private CategoryTree loadCategoryTree(Long parentCategoryId) {
+        CategoryTree categoryTree = categoryTreeCache.current();
+        if (parentCategoryId != null && !categoryTree.contains(parentCategoryId)) {
+            throw new IllegalArgumentException("Parent category was not found");
+        }
+        return categoryTree;
+    }
+
     private DashboardMetric metric(BigDecimal currentValue, BigDecimal previousValue) {
         return new DashboardMetric(currentValue, previousValue, resolveVariationPercent(currentValue, previousValue));
     }
@@ -319,181 +337,295 @@ public class DashboardService {
     }
 
     private DashboardSeriesGranularity resolveGranularity(LocalDate startDate, LocalDate endDate) {
+        if (!endDate.isBefore(startDate.plusYears(10))) {
+            return DashboardSeriesGranularity.QUARTER;
+        }
         if (!endDate.isBefore(startDate.plusMonths(2))) {
             return DashboardSeriesGranularity.MONTH;
         }
         return DashboardSeriesGranularity.DAY;
     }
 
-    private List<LocalDate> buildBucketStarts(LocalDate startDate, LocalDate endDate, DashboardSeriesGranularity granularity) {
-        if (endDate == null || endDate.isBefore(startDate)) {
-            return List.of();
+    private DashboardSeriesGranularity resolveGranularity(LocalDate startDate, LocalDate endDate, Integer maxPoints) {
+        DashboardSeriesGranularity granularity = resolveGranularity(startDate, endDate);
+        if (maxPoints == null) {
+            return granularity;
         }
 
-        List<LocalDate> bucketStarts = new ArrayList<>();
-        LocalDate cursor = normalizeBucketStart(startDate, granularity);
-
-        while (!cursor.isAfter(endDate)) {
-            bucketStarts.add(cursor);
-            cursor = nextBucket(cursor, granularity);
+        DashboardSeriesGranularity[] coarser = DashboardSeriesGranularity.values();
+        while (granularity.ordinal() < coarser.length - 1
+            && toBucketIndex(granularity, startDate, endDate).size() > maxPoints) {
+            granularity = coarser[granularity.ordinal() + 1];
         }
-
-        return bucketStarts;
+        return granularity;
     }
 
-    private LocalDate normalizeBucketStart(LocalDate date, DashboardSeriesGranularity granularity) {
-        if (granularity == DashboardSeriesGranularity.MONTH) {
-            return date.withDayOfMonth(1);
-        }
-        return date;
+    private static BucketIndex toBucketIndex(DashboardSeriesGranularity granularity, LocalDate startDate, LocalDate endDate) {
+        return switch (granularity) {
+            case DAY -> BucketIndex.of(SettlementPeriod.DAY, startDate, endDate);
+            case WEEK -> BucketIndex.weeks(startDate, endDate);
+            case MONTH -> BucketIndex.of(SettlementPeriod.MONTH, startDate, endDate);
+            case QUARTER -> BucketIndex.quarters(startDate, endDate);
+        };
     }
 
-    private LocalDate nextBucket(LocalDate date, DashboardSeriesGranularity granularity) {
-        if (granularity == DashboardSeriesGranularity.MONTH) {
-            return date.plusMonths(1);
+    private List<DashboardBalancePoint> downsample(List<DashboardBalancePoint> points, BigDecimal openingBalance, int maxPoints) {
+        double[] balances = points.stream().mapToDouble(point -> point.accumulatedBalance().doubleValue()).toArray();
+        List<DashboardBalancePoint> kept = new ArrayList<>(maxPoints);
+        BigDecimal previousBalance = openingBalance;
+        for (int index : LargestTriangleThreeBuckets.select(balances, maxPoints)) {
+            DashboardBalancePoint point = points.get(index);
+            kept.add(new DashboardBalancePoint(
+                point.date(),
+                point.accumulatedBalance().subtract(previousBalance),
+                point.accumulatedBalance()
+            ));
+            previousBalance = point.accumulatedBalance();
         }
-        return date.plusDays(1);
+        return kept;
     }
 
-    private LocalDate resolveEffectiveEndDate(LocalDate fallbackEndDate, LocalDate lastBucketWithRecords, DashboardSeriesGranularity granularity) {
-        if (lastBucketWithRecords == null) {
-            return startOfPreviousBucket(fallbackEndDate, granularity);
+    private double[] stackedTotals(List<DashboardCategoryTotalsSeries> series, int visibleBuckets) {
+        double[] totals = new double[visibleBuckets];
+        for (DashboardCategoryTotalsSeries values : series) {
+            for (int index = 0; index < visibleBuckets; index++) {
+                totals[index] += values.values().get(index).doubleValue();
+            }
         }
-        return lastBucketWithRecords;
+        return totals;
     }
 
-    private LocalDate startOfPreviousBucket(LocalDate date, DashboardSeriesGranularity granularity) {
-        LocalDate normalized = normalizeBucketStart(date, granularity);
-        if (granularity == DashboardSeriesGranularity.MONTH) {
-            return normalized.minusMonths(1);
+    private DashboardCategoryTotalsSeries mergeSkippedBuckets(
+        DashboardCategoryTotalsSeries series,
+        int[] keptBuckets,
+        int visibleBuckets
+    ) {
+        List<BigDecimal> merged = new ArrayList<>(keptBuckets.length);
+        for (int kept = 0; kept < keptBuckets.length; kept++) {
+            int nextKept = kept + 1 < keptBuckets.length ? keptBuckets[kept + 1] : visibleBuckets;
+            BigDecimal total = BigDecimal.ZERO;
+            for (int index = keptBuckets[kept]; index < nextKept; index++) {
+                total = total.add(series.values().get(index));
+            }
+            merged.add(total);
         }
-        return normalized.minusDays(1);
+        return new DashboardCategoryTotalsSeries(series.categoryId(), series.categoryName(), series.hasChildren(), merged);
     }
 
-    private LocalDate maxDate(LocalDate first, LocalDate second) {
-        if (first == null) {
-            return second;
+    private int resolveVisibleBuckets(BucketIndex buckets, int lastIndexWithRecords) {
+        if (lastIndexWithRecords < 0) {
+            return buckets.size() - 1;
         }
-        if (second == null) {
-            return first;
-        }
-        return first.isAfter(second) ? first : second;
+        return lastIndexWithRecords + 1;
     }
 
-    private DashboardCategoryTotalsSeries toCategoryTotalsSeries(CategorySeriesData data, List<LocalDate> buckets) {
-        List<BigDecimal> values = new ArrayList<>(buckets.size());
-        for (LocalDate bucket : buckets) {
-            values.add(data.valuesByBucket().getOrDefault(bucket, BigDecimal.ZERO));
+    private DashboardCategoryTotalsSeries toCategoryTotalsSeries(CategorySeriesData data, int visibleBuckets) {
+        List<BigDecimal> values = new ArrayList<>(visibleBuckets);
+        for (int index = 0; index < visibleBuckets; index++) {
+            values.add(data.values().toBigDecimal(index));
         }
         return new DashboardCategoryTotalsSeries(data.categoryId(), data.categoryName(), data.hasChildren(), values);
     }
 
-    private Map<LocalDate, BigDecimal> subtreeAmounts(
-        Long categoryId,
-        Map<Long, List<Long>> childrenByParentId,
-        Map<Long, Map<LocalDate, BigDecimal>> directAmountsByCategory,
-        Map<Long, Map<LocalDate, BigDecimal>> memo
-    ) {
-        Map<LocalDate, BigDecimal> cached = memo.get(categoryId);
-        if (cached != null) {
-            return cached;
-        }
-
-        Map<LocalDate, BigDecimal> totalByBucket = new HashMap<>(directAmountsByCategory.getOrDefault(categoryId, Map.of()));
-        for (Long childId : childrenByParentId.getOrDefault(categoryId, List.of())) {
-            Map<LocalDate, BigDecimal> childValues = subtreeAmounts(childId, childrenByParentId, directAmountsByCategory, memo);
-            for (Map.Entry<LocalDate, BigDecimal> childEntry : childValues.entrySet()) {
-                totalByBucket.merge(childEntry.getKey(), childEntry.getValue(), BigDecimal::add);
-            }
-        }
-
-        memo.put(categoryId, totalByBucket);
-        return totalByBucket;
+    private DashboardExpenseCategoryItem toItem(int slot, CategoryTree categoryTree, MoneySeries subtreeExpenseBySlot) {
+        return new DashboardExpenseCategoryItem(
+            categoryTree.idAt(slot),
+            categoryTree.titleAt(slot),
+            subtreeExpenseBySlot.toBigDecimal(slot),
+            categoryTree.childCount(slot) > 0
+        );
     }
 
-    private BigDecimal sumAmounts(Map<LocalDate, BigDecimal> valuesByBucket) {
-        BigDecimal total = BigDecimal.ZERO;
-        for (BigDecimal value : valuesByBucket.values()) {
-            total = total.add(value.abs());
+    private String currentParentName(Long parentCategoryId, CategoryTree categoryTree) {
+        if (parentCategoryId == null) {
+            return null;
         }
-        return total;
+        return categoryTree.titleAt(categoryTree.indexOf(parentCategoryId));
     }
 
-    private LocalDate latestBucket(Map<LocalDate, BigDecimal> valuesByBucket) {
-        LocalDate latest = null;
-        for (LocalDate bucket : valuesByBucket.keySet()) {
-            latest = maxDate(latest, bucket);
+    private Long parentOfCurrent(Long parentCategoryId, CategoryTree categoryTree) {
+        if (parentCategoryId == null) {
+            return null;
         }
-        return latest;
-    }
-
-    private DashboardExpenseCategoryItem toItem(
-        Long categoryId,
-        Map<Long, Category> categoryById,
-        Map<Long, List<Long>> childrenByParentId,
-        Map<Long, BigDecimal> subtreeExpenseByCategory
-    ) {
-        Category category = categoryById.get(categoryId);
-        return new DashboardExpenseCategoryItem(
-            categoryId,
-            category == null ? "" : category.getTitle(),
-            subtreeExpenseByCategory.getOrDefault(categoryId, BigDecimal.ZERO),
-            !childrenByParentId.getOrDefault(categoryId, List.of()).isEmpty()
-        );
+        return categoryTree.parentIdOf(categoryTree.indexOf(parentCategoryId));
     }
 
-    private BigDecimal subtreeExpense(
-        Long categoryId,
-        Map<Long, List<Long>> childrenByParentId,
-        Map<Long, BigDecimal> expenseByCategoryId,
-        Map<Long, BigDecimal> memo
-    ) {
-        BigDecimal cached = memo.get(categoryId);
-        if (cached != null) {
-            return cached;
+    private static final class DashboardAggregation {
+
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final long startEpochDay;
+        private final DashboardSeriesGranularity granularity;
+        private final BucketIndex buckets;
+        private final CategoryTree categoryTree;
+        private final MoneySeries signedByBucket;
+        private final MoneySeries revenuesByBucket;
+        private final MoneySeries expensesByBucket;
+        private final MoneySeries expenseByCategorySlot;
+        private final MoneySeries[] signedByCategorySlot;
+        private final MoneyAccumulator balanceBeforeStart = new MoneyAccumulator();
+        private final MoneyAccumulator periodBalance = new MoneyAccumulator();
+        private final MoneyAccumulator currentExpenses = new MoneyAccumulator();
+        private final MoneyAccumulator currentRevenues = new MoneyAccumulator();
+        private final MoneyAccumulator previousExpenses = new MoneyAccumulator();
+        private final MoneyAccumulator previousRevenues = new MoneyAccumulator();
+        private boolean openingBalanceIndexed;
+
+        private DashboardAggregation(
+            LocalDate startDate,
+            LocalDate endDate,
+            DashboardSeriesGranularity granularity,
+            CategoryTree categoryTree
+        ) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.startEpochDay = startDate.toEpochDay();
+            this.granularity = granularity;
+            this.buckets = toBucketIndex(granularity, startDate, endDate);
+            this.categoryTree = categoryTree;
+            this.signedByBucket = new MoneySeries(buckets.size());
+            this.revenuesByBucket = new MoneySeries(buckets.size());
+            this.expensesByBucket = new MoneySeries(buckets.size());
+            int categoryCount = categoryTree == null ? 0 : categoryTree.size();
+            this.expenseByCategorySlot = new MoneySeries(categoryCount);
+            this.signedByCategorySlot = new MoneySeries[categoryCount];
+        }
+
+        private DashboardAggregation partial() {
+            DashboardAggregation partial = new DashboardAggregation(startDate, endDate, granularity, categoryTree);
+            partial.openingBalanceIndexed = openingBalanceIndexed;
+            return partial;
+        }
+
+        private DashboardAggregation merge(DashboardAggregation later) {
+            balanceBeforeStart.add(later.balanceBeforeStart);
+            periodBalance.add(later.periodBalance);
+            currentExpenses.add(later.currentExpenses);
+            currentRevenues.add(later.currentRevenues);
+            previousExpenses.add(later.previousExpenses);
+            previousRevenues.add(later.previousRevenues);
+            signedByBucket.addAll(later.signedByBucket);
+            revenuesByBucket.addAll(later.revenuesByBucket);
+            expensesByBucket.addAll(later.expensesByBucket);
+            expenseByCategorySlot.addAll(later.expenseByCategorySlot);
+            for (int slot = 0; slot < signedByCategorySlot.length; slot++) {
+                MoneySeries laterSeries = later.signedByCategorySlot[slot];
+                if (laterSeries == null) {
+                    continue;
+                }
+                if (signedByCategorySlot[slot] == null) {
+                    signedByCategorySlot[slot] = laterSeries;
+                } else {
+                    signedByCategorySlot[slot].addAll(laterSeries);
+                }
+            }
+            return this;
         }
 
-        BigDecimal total = expenseByCategoryId.getOrDefault(categoryId, BigDecimal.ZERO);
-        for (Long childId : childrenByParentId.getOrDefault(categoryId, List.of())) {
-            total = total.add(subtreeExpense(childId, childrenByParentId, expenseByCategoryId, memo));
+        private void accept(List<DailyRollupRow> rows, ParallelAggregator aggregator) {
+            merge(aggregator.aggregate(0, rows.size(), (fromRow, toRow) -> {
+                DashboardAggregation partial = partial();
+                for (int row = fromRow; row < toRow; row++) {
+                    partial.accept(rows.get(row));
+                }
+                return partial;
+            }, DashboardAggregation::merge));
         }
 
-        memo.put(categoryId, total);
-        return total;
-    }
+        private void accept(DailyRollupRow row) {
+            if (row.epochDay() < startEpochDay) {
+                if (!openingBalanceIndexed) {
+                    balanceBeforeStart.add(row.signedCents());
+                }
+                previousExpenses.add(row.expenseCents());
+                previousRevenues.add(row.revenueCents());
+                return;
+            }
 
-    private Long parentIdOf(Category category) {
-        if (category.getParent() == null) {
-            return null;
+            int categorySlot = categoryTree == null ? -1 : categoryTree.indexOf(row.categoryId());
+            accept(row.epochDay(), categorySlot, row.signedCents(), row.revenueCents(), row.expenseCents());
         }
-        return category.getParent().getId();
-    }
 
-    private String currentParentName(Long parentCategoryId, Map<Long, Category> categoryById) {
-        if (parentCategoryId == null) {
-            return null;
-        }
-        Category category = categoryById.get(parentCategoryId);
-        return category == null ? null : category.getTitle();
-    }
+        private void accept(
+            LedgerColumns columns,
+            LocalDate sliceStartDate,
+            boolean withOpeningBalance,
+            ParallelAggregator aggregator
+        ) {
+            if (withOpeningBalance) {
+                balanceBeforeStart.add(columns.signedCentsBefore(startDate));
+            }
+            if (sliceStartDate.isBefore(startDate)) {
+                LocalDate previousEndDate = startDate.minusDays(1);
+                previousExpenses.add(columns.expenseCentsBetween(sliceStartDate, previousEndDate));
+                previousRevenues.add(columns.revenueCentsBetween(sliceStartDate, previousEndDate));
+            }
 
-    private Long parentOfCurrent(Long parentCategoryId, Map<Long, Category> categoryById) {
-        if (parentCategoryId == null) {
-            return null;
+            int[] slotByCategoryIndex = new int[columns.categoryCount()];
+            for (int categoryIndex = 0; categoryIndex < slotByCategoryIndex.length; categoryIndex++) {
+                slotByCategoryIndex[categoryIndex] = categoryTree == null ? -1 : categoryTree.indexOf(columns.categoryId(categoryIndex));
+            }
+            int fromRow = columns.firstRowFrom(startDate);
+            int toRow = columns.firstRowFrom(endDate.plusDays(1));
+            merge(aggregator.aggregate(fromRow, toRow, (segmentFrom, segmentTo) -> {
+                DashboardAggregation partial = partial();
+                columns.forEachRow(segmentFrom, segmentTo, partial.rowVisitor(slotByCategoryIndex));
+                return partial;
+            }, DashboardAggregation::merge));
+            columns.forEachAppendedRow(startDate, endDate, rowVisitor(slotByCategoryIndex));
+        }
+
+        private LedgerColumns.RowVisitor rowVisitor(int[] slotByCategoryIndex) {
+            return (epochDay, accountIndex, categoryIndex, amountCents) -> accept(
+                epochDay,
+                slotByCategoryIndex[categoryIndex],
+                amountCents,
+                Math.max(amountCents, 0),
+                Math.max(-amountCents, 0)
+            );
+        }
+
+        private void accept(long epochDay, int categorySlot, long signedCents, long revenueCents, long expenseCents) {
+            int bucket = buckets.indexOfEpochDay(epochDay);
+            periodBalance.add(signedCents);
+            currentExpenses.add(expenseCents);
+            currentRevenues.add(revenueCents);
+            signedByBucket.add(bucket, signedCents);
+            if (revenueCents != 0) {
+                revenuesByBucket.add(bucket, revenueCents);
+            }
+            if (expenseCents != 0) {
+                expensesByBucket.add(bucket, expenseCents);
+            }
+
+            if (categorySlot < 0) {
+                return;
+            }
+            if (expenseCents != 0) {
+                expenseByCategorySlot.add(categorySlot, expenseCents);
+            }
+            MoneySeries categorySeries = signedByCategorySlot[categorySlot];
+            if (categorySeries == null) {
+                categorySeries = new MoneySeries(buckets.size());
+                signedByCategorySlot[categorySlot] = categorySeries;
+            }
+            categorySeries.add(bucket, signedCents);
         }
-        Category category = categoryById.get(parentCategoryId);
-        if (category == null || category.getParent() == null) {
-            return null;
+
+        private BigDecimal currentBalance() {
+            MoneyAccumulator currentBalance = new MoneyAccumulator();
+            currentBalance.add(balanceBeforeStart);
+            currentBalance.add(periodBalance);
+            return currentBalance.toBigDecimal();
         }
-        return category.getParent().getId();
     }
 
     private record CategorySeriesData(
         Long categoryId,
         String categoryName,
         boolean hasChildren,
-        Map<LocalDate, BigDecimal> valuesByBucket,
-        BigDecimal total
+        MoneySeries values,
+        MoneyAccumulator total
     ) {
     }
 
@@ -502,8 +634,10 @@ public class DashboardService {
         return startDate.minusDays(rangeLength);
     }
 
-    private boolean isInsideRange(LocalDate date, LocalDate startDate, LocalDate endDate) {
-        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    private void validateMaxPoints(Integer maxPoints) {
+        if (maxPoints != null && maxPoints < 3) {
+            throw new IllegalArgumentException("Max points must be at least 3");
+        }
     }
 
     private void validateRange(LocalDate startDate, LocalDate endDate) {
@@ -0,0 +1,48 @@
+package dev.ccosta.aisha.application.dashboard;
+
+import java.util.stream.IntStream;
+
+final class LargestTriangleThreeBuckets {
+
+    private LargestTriangleThreeBuckets() {
+    }
+
+    static int[] select(double[] values, int maxPoints) {
+        int size = values.length;
+        if (size <= maxPoints) {
+            return IntStream.range(0, size).toArray();
+        }
+
+        int[] selected = new int[maxPoints];
+        double bucketWidth = (double) (size - 2) / (maxPoints - 2);
+        int anchor = 0;
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            int nextFrom = (int) Math.floor((bucket + 1) * bucketWidth) + 1;
+            int nextTo = Math.min((int) Math.floor((bucket + 2) * bucketWidth) + 1, size);
+            double nextX = 0;
+            double nextY = 0;
+            for (int index = nextFrom; index < nextTo; index++) {
+                nextX += index;
+                nextY += values[index];
+            }
+            nextX /= nextTo - nextFrom;
+            nextY /= nextTo - nextFrom;
+
+            int from = (int) Math.floor(bucket * bucketWidth) + 1;
+            int to = (int) Math.floor((bucket + 1) * bucketWidth) + 1;
+            double largestArea = -1;
+            int chosen = from;
+            for (int index = from; index < to; index++) {
+                double area = Math.abs((anchor - nextX) * (values[index] - values[anchor]) - (anchor - index) * (nextY - values[anchor]));
+                if (area > largestArea) {
+                    largestArea = area;
+                    chosen = index;
+                }
+            }
+            selected[bucket + 1] = chosen;
+            anchor = chosen;
+        }
+        selected[maxPoints - 1] = size - 1;
+        return selected;
+    }
+}
@@ -2,46 +2,57 @@ package dev.ccosta.aisha.application.entry;
 
 import dev.ccosta.aisha.application.account.AccountService;
 import dev.ccosta.aisha.application.category.CategoryService;
+import dev.ccosta.aisha.application.ledger.LedgerChangedEvent;
+import dev.ccosta.aisha.application.ledger.LedgerContribution;
+import dev.ccosta.aisha.application.ledger.LedgerVersion;
 import dev.ccosta.aisha.domain.account.Account;
 import dev.ccosta.aisha.domain.category.Category;
 import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryCursor;
+import dev.ccosta.aisha.domain.entry.EntryFilter;
+import dev.ccosta.aisha.domain.entry.EntryPage;
 import dev.ccosta.aisha.domain.entry.EntryRepository;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 public class EntryService {
 
+    static final int PAGE_SIZE = 50;
+
     private final EntryRepository entryRepository;
     private final AccountService accountService;
     private final CategoryService categoryService;
-
-    public EntryService(EntryRepository entryRepository, AccountService accountService, CategoryService categoryService) {
+    private final ApplicationEventPublisher eventPublisher;
+    private final LedgerVersion ledgerVersion;
+
+    public EntryService(
+        EntryRepository entryRepository,
+        AccountService accountService,
+        CategoryService categoryService,
+        ApplicationEventPublisher eventPublisher,
+        LedgerVersion ledgerVersion
+    ) {
         this.entryRepository = entryRepository;
         this.accountService = accountService;
         this.categoryService = categoryService;
+        this.eventPublisher = eventPublisher;
+        this.ledgerVersion = ledgerVersion;
     }
 
     @Transactional(readOnly = true)
-    public List<Entry> listTop100MostRecentBySettlementDate() {
-        return entryRepository.listTop100MostRecentBySettlementDate();
-    }
-
-    @Transactional(readOnly = true)
-    public List<Entry> listTop100MostRecentBySettlementDateBetween(LocalDate startDate, LocalDate endDate) {
-        return listTop100MostRecentBySettlementDateBetweenAndFilters(startDate, endDate, null, null);
-    }
-
-    @Transactional(readOnly = true)
-    public List<Entry> listTop100MostRecentBySettlementDateBetweenAndFilters(
+    public EntryPage listMostRecentBySettlementDate(
         LocalDate startDate,
         LocalDate endDate,
         Long accountId,
-        Long categoryId
+        Long categoryId,
+        String cursorToken
     ) {
         if (startDate == null || endDate == null) {
             throw new IllegalArgumentException("Start and end dates are required");
@@ -49,7 +60,13 @@ public class EntryService {
         if (endDate.isBefore(startDate)) {
             throw new IllegalArgumentException("End date must be greater than or equal to start date");
         }
-        return entryRepository.listTop100MostRecentBySettlementDateBetweenAndFilters(startDate, endDate, accountId, categoryId);
+
+        EntryCursor after = StringUtils.hasText(cursorToken) ? parseCursor(cursorToken) : null;
+        return entryRepository.listMostRecentBySettlementDate(
+            new EntryFilter(startDate, endDate, accountId, categoryId),
+            after,
+            PAGE_SIZE
+        );
     }
 
     @Transactional(readOnly = true)
@@ -62,12 +79,16 @@ public class EntryService {
     public Entry create(Entry entry, Long accountId, Long categoryId, String newCategoryTitle) {
         entry.setAccount(resolveAccount(accountId));
         entry.setCategory(resolveCategory(categoryId, newCategoryTitle));
-        return entryRepository.save(entry);
+        Entry saved = entryRepository.save(entry);
+        eventPublisher.publishEvent(LedgerChangedEvent.created(saved));
+        ledgerVersion.bumpAfterCommit();
+        return saved;
     }
 
     @Transactional
     public Entry update(Long id, Entry updatedData, Long accountId, Long categoryId, String newCategoryTitle) {
         Entry existing = findById(id);
+        LedgerContribution previous = LedgerContribution.of(existing);
         existing.setAccount(resolveAccount(accountId));
         existing.setMovementDate(updatedData.getMovementDate());
         existing.setSettlementDate(updatedData.getSettlementDate());
@@ -75,13 +96,18 @@ public class EntryService {
         existing.setCategory(resolveCategory(categoryId, newCategoryTitle));
         existing.setNotes(updatedData.getNotes());
         existing.setAmount(updatedData.getAmount());
-        return entryRepository.save(existing);
+        Entry saved = entryRepository.save(existing);
+        eventPublisher.publishEvent(LedgerChangedEvent.updated(previous, saved));
+        ledgerVersion.bumpAfterCommit();
+        return saved;
     }
 
     @Transactional
     public void deleteById(Long id) {
-        findById(id);
+        Entry existing = findById(id);
         entryRepository.deleteById(id);
+        eventPublisher.publishEvent(LedgerChangedEvent.deleted(List.of(existing)));
+        ledgerVersion.bumpAfterCommit();
     }
 
     @Transactional
@@ -91,7 +117,10 @@ public class EntryService {
         }
 
         LinkedHashSet<Long> uniqueIds = new LinkedHashSet<>(ids);
+        List<Entry> existing = entryRepository.findAllByIds(uniqueIds);
         entryRepository.deleteByIds(uniqueIds);
+        eventPublisher.publishEvent(LedgerChangedEvent.deleted(existing));
+        ledgerVersion.bumpAfterCommit();
     }
 
     private Category resolveCategory(Long categoryId, String newCategoryTitle) {
@@ -114,4 +143,12 @@ public class EntryService {
 
         return accountService.findById(accountId);
     }
+
+    private EntryCursor parseCursor(String cursorToken) {
+        try {
+            return EntryCursor.fromToken(cursorToken);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidEntryCursorException(cursorToken, ex);
+        }
+    }
 }
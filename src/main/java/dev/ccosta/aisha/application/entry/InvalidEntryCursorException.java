@@ -0,0 +1,8 @@
+package dev.ccosta.aisha.application.entry;
+
+public class InvalidEntryCursorException extends IllegalArgumentException {
+
+    public InvalidEntryCursorException(String cursor, Throwable cause) {
+        super("Invalid entry cursor: " + cursor, cause);
+    }
+}
@@ -0,0 +1,58 @@
+package dev.ccosta.aisha.application.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+final class CsvTabularWriter implements TabularWriter {
+
+    private final Writer writer;
+
+    CsvTabularWriter(OutputStream output) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void header(List<String> columns) throws IOException {
+        row(columns.toArray());
+    }
+
+    @Override
+    public void row(Object... values) throws IOException {
+        for (int index = 0; index < values.length; index++) {
+            if (index > 0) {
+                writer.write(',');
+            }
+            writer.write(quote(format(values[index])));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private static String format(Object value) {
+        return switch (value) {
+            case null -> "";
+            case BigDecimal amount -> amount.toPlainString();
+            default -> value.toString();
+        };
+    }
+
+    private static String quote(String value) {
+        for (int index = 0; index < value.length(); index++) {
+            char current = value.charAt(index);
+            if (current == ',' || current == '"' || current == '\n' || current == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+}
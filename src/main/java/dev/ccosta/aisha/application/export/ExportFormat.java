@@ -0,0 +1,39 @@
+package dev.ccosta.aisha.application.export;
+
+import java.io.OutputStream;
+
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv", true),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx", false),
+    JSON("application/json", "json", true);
+
+    private final String contentType;
+    private final String extension;
+    private final boolean compressible;
+
+    ExportFormat(String contentType, String extension, boolean compressible) {
+        this.contentType = contentType;
+        this.extension = extension;
+        this.compressible = compressible;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public boolean compressible() {
+        return compressible;
+    }
+
+    TabularWriter newWriter(OutputStream output, String name) {
+        return switch (this) {
+            case CSV -> new CsvTabularWriter(output);
+            case XLSX -> new XlsxTabularWriter(output, name);
+            case JSON -> new JsonTabularWriter(output);
+        };
+    }
+}
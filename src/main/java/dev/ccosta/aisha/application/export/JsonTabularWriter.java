@@ -0,0 +1,46 @@
+package dev.ccosta.aisha.application.export;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.json.JsonFactory;
+
+final class JsonTabularWriter implements TabularWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+    private List<String> columns = List.of();
+
+    JsonTabularWriter(OutputStream output) {
+        this.generator = JSON_FACTORY.createGenerator(output);
+    }
+
+    @Override
+    public void header(List<String> columns) {
+        this.columns = List.copyOf(columns);
+        generator.writeStartArray();
+    }
+
+    @Override
+    public void row(Object... values) {
+        generator.writeStartObject();
+        for (int index = 0; index < values.length; index++) {
+            generator.writeName(columns.get(index));
+            switch (values[index]) {
+                case null -> generator.writeNull();
+                case BigDecimal amount -> generator.writeNumber(amount);
+                case Long number -> generator.writeNumber(number);
+                default -> generator.writeString(values[index].toString());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void finish() {
+        generator.writeEndArray();
+        generator.flush();
+    }
+}
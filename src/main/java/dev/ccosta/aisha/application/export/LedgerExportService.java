@@ -0,0 +1,156 @@
+package dev.ccosta.aisha.application.export;
+
+import dev.ccosta.aisha.application.account.AccountBalanceBucket;
+import dev.ccosta.aisha.application.account.AccountBalanceReport;
+import dev.ccosta.aisha.application.account.AccountBalanceReportService;
+import dev.ccosta.aisha.application.account.AccountBalanceRow;
+import dev.ccosta.aisha.application.account.AccountService;
+import dev.ccosta.aisha.application.category.CategoryBalanceBucket;
+import dev.ccosta.aisha.application.category.CategoryBalanceReport;
+import dev.ccosta.aisha.application.category.CategoryBalanceReportService;
+import dev.ccosta.aisha.application.category.CategoryBalanceRow;
+import dev.ccosta.aisha.application.category.CategoryService;
+import dev.ccosta.aisha.domain.entry.EntryExportRow;
+import dev.ccosta.aisha.domain.entry.EntryFilter;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class LedgerExportService {
+
+    private static final List<String> ENTRY_COLUMNS = List.of(
+        "id",
+        "settlement_date",
+        "movement_date",
+        "description",
+        "account",
+        "category",
+        "notes",
+        "amount"
+    );
+
+    private final EntryRepository entryRepository;
+    private final AccountService accountService;
+    private final AccountBalanceReportService accountBalanceReportService;
+    private final CategoryService categoryService;
+    private final CategoryBalanceReportService categoryBalanceReportService;
+
+    public LedgerExportService(
+        EntryRepository entryRepository,
+        AccountService accountService,
+        AccountBalanceReportService accountBalanceReportService,
+        CategoryService categoryService,
+        CategoryBalanceReportService categoryBalanceReportService
+    ) {
+        this.entryRepository = entryRepository;
+        this.accountService = accountService;
+        this.accountBalanceReportService = accountBalanceReportService;
+        this.categoryService = categoryService;
+        this.categoryBalanceReportService = categoryBalanceReportService;
+    }
+
+    @Transactional(readOnly = true)
+    public void exportEntries(
+        LocalDate startDate,
+        LocalDate endDate,
+        Long accountId,
+        Long categoryId,
+        ExportFormat format,
+        OutputStream output
+    ) throws IOException {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start and end dates are required");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must be greater than or equal to start date");
+        }
+
+        TabularWriter writer = format.newWriter(output, "entries");
+        writer.header(ENTRY_COLUMNS);
+        try (Stream<EntryExportRow> rows = entryRepository.streamExportRows(new EntryFilter(startDate, endDate, accountId, categoryId))) {
+            Iterator<EntryExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                EntryExportRow row = iterator.next();
+                writer.row(
+                    row.id(),
+                    row.settlementDate(),
+                    row.movementDate(),
+                    row.description(),
+                    row.accountTitle(),
+                    row.categoryTitle(),
+                    row.notes(),
+                    row.amount()
+                );
+            }
+        }
+        writer.finish();
+    }
+
+    public void exportAccountBalances(LocalDate startDate, LocalDate endDate, ExportFormat format, OutputStream output)
+        throws IOException {
+        AccountBalanceReport report = accountBalanceReportService.buildReport(accountService.listAllOrdered(), startDate, endDate);
+
+        TabularWriter writer = format.newWriter(output, "accounts");
+        writer.header(balanceColumns("account", report.buckets().stream().map(AccountBalanceBucket::startDate).toList()));
+        for (AccountBalanceRow row : report.rows()) {
+            writer.row(balanceValues(row.accountTitle(), row.accountDescription(), row.previousPeriodBalance(), row.periodBalances()));
+        }
+        writer.finish();
+    }
+
+    public void exportCategoryBalances(
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean includeSubcategories,
+        ExportFormat format,
+        OutputStream output
+    ) throws IOException {
+        CategoryBalanceReport report = categoryBalanceReportService.buildReport(
+            categoryService.listAllOrdered(),
+            startDate,
+            endDate,
+            includeSubcategories
+        );
+
+        TabularWriter writer = format.newWriter(output, "categories");
+        writer.header(balanceColumns("category", report.buckets().stream().map(CategoryBalanceBucket::startDate).toList()));
+        for (CategoryBalanceRow row : report.rows()) {
+            writer.row(balanceValues(row.categoryTitle(), row.categoryDescription(), row.previousPeriodBalance(), row.periodBalances()));
+        }
+        writer.finish();
+    }
+
+    private static List<String> balanceColumns(String titleColumn, List<LocalDate> bucketStarts) {
+        List<String> columns = new ArrayList<>(3 + bucketStarts.size());
+        columns.add(titleColumn);
+        columns.add("description");
+        columns.add("previous_balance");
+        bucketStarts.forEach(bucketStart -> columns.add(bucketStart.toString()));
+        return columns;
+    }
+
+    private static Object[] balanceValues(
+        String title,
+        String description,
+        BigDecimal previousBalance,
+        List<BigDecimal> periodBalances
+    ) {
+        Object[] values = new Object[3 + periodBalances.size()];
+        values[0] = title;
+        values[1] = description;
+        values[2] = previousBalance;
+        for (int index = 0; index < periodBalances.size(); index++) {
+            values[3 + index] = periodBalances.get(index);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,13 @@
+package dev.ccosta.aisha.application.export;
+
+import java.io.IOException;
+import java.util.List;
+
+interface TabularWriter {
+
+    void header(List<String> columns) throws IOException;
+
+    void row(Object... values) throws IOException;
+
+    void finish() throws IOException;
+}
@@ -0,0 +1,162 @@
+package dev.ccosta.aisha.application.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+final class XlsxTabularWriter implements TabularWriter {
+
+    private static final LocalDate EXCEL_EPOCH = LocalDate.of(1899, 12, 30);
+    private static final int DATE_STYLE = 1;
+    private static final int AMOUNT_STYLE = 2;
+
+    private static final String CONTENT_TYPES = """
+        <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+        <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">
+        <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>
+        <Default Extension="xml" ContentType="application/xml"/>
+        <Override PartName="/xl/workbook.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>
+        <Override PartName="/xl/worksheets/sheet1.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml"/>
+        <Override PartName="/xl/styles.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml"/>
+        </Types>
+        """;
+
+    private static final String ROOT_RELATIONSHIPS = """
+        <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+        <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+        <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="xl/workbook.xml"/>
+        </Relationships>
+        """;
+
+    private static final String WORKBOOK = """
+        <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+        <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">
+        <sheets><sheet name="%s" sheetId="1" r:id="rId1"/></sheets>
+        </workbook>
+        """;
+
+    private static final String WORKBOOK_RELATIONSHIPS = """
+        <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+        <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+        <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" Target="worksheets/sheet1.xml"/>
+        <Relationship Id="rId2" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles" Target="styles.xml"/>
+        </Relationships>
+        """;
+
+    private static final String STYLES = """
+        <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+        <styleSheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">
+        <fonts count="1"><font><sz val="11"/><name val="Calibri"/></font></fonts>
+        <fills count="2"><fill><patternFill patternType="none"/></fill><fill><patternFill patternType="gray125"/></fill></fills>
+        <borders count="1"><border><left/><right/><top/><bottom/><diagonal/></border></borders>
+        <cellStyleXfs count="1"><xf numFmtId="0" fontId="0" fillId="0" borderId="0"/></cellStyleXfs>
+        <cellXfs count="3">
+        <xf numFmtId="0" fontId="0" fillId="0" borderId="0" xfId="0"/>
+        <xf numFmtId="14" fontId="0" fillId="0" borderId="0" xfId="0" applyNumberFormat="1"/>
+        <xf numFmtId="4" fontId="0" fillId="0" borderId="0" xfId="0" applyNumberFormat="1"/>
+        </cellXfs>
+        </styleSheet>
+        """;
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final String sheetName;
+    private int rowNumber;
+
+    XlsxTabularWriter(OutputStream output, String sheetName) {
+        this.zip = new ZipOutputStream(output, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+        this.sheetName = sheetName;
+    }
+
+    @Override
+    public void header(List<String> columns) throws IOException {
+        part("[Content_Types].xml", CONTENT_TYPES);
+        part("_rels/.rels", ROOT_RELATIONSHIPS);
+        part("xl/workbook.xml", WORKBOOK.formatted(escape(sheetName)));
+        part("xl/_rels/workbook.xml.rels", WORKBOOK_RELATIONSHIPS);
+        part("xl/styles.xml", STYLES);
+
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+        writer.write("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+        row(columns.toArray());
+    }
+
+    @Override
+    public void row(Object... values) throws IOException {
+        rowNumber++;
+        writer.write("<row r=\"" + rowNumber + "\">");
+        for (int index = 0; index < values.length; index++) {
+            String reference = columnName(index) + rowNumber;
+            switch (values[index]) {
+                case null -> {
+                }
+                case BigDecimal amount -> writer.write(
+                    "<c r=\"" + reference + "\" s=\"" + AMOUNT_STYLE + "\"><v>" + amount.toPlainString() + "</v></c>"
+                );
+                case Long number -> writer.write("<c r=\"" + reference + "\"><v>" + number + "</v></c>");
+                case LocalDate date -> writer.write(
+                    "<c r=\"" + reference + "\" s=\"" + DATE_STYLE + "\"><v>" + ChronoUnit.DAYS.between(EXCEL_EPOCH, date) + "</v></c>"
+                );
+                default -> writer.write(
+                    "<c r=\"" + reference + "\" t=\"inlineStr\"><is><t xml:space=\"preserve\">"
+                        + escape(values[index].toString())
+                        + "</t></is></c>"
+                );
+            }
+        }
+        writer.write("</row>");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+        zip.finish();
+    }
+
+    private void part(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private static String columnName(int index) {
+        StringBuilder name = new StringBuilder();
+        for (int remaining = index + 1; remaining > 0; remaining = (remaining - 1) / 26) {
+            name.insert(0, (char) ('A' + (remaining - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int index = 0; index < value.length(); index++) {
+            char current = value.charAt(index);
+            switch (current) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                default -> {
+                    if (current >= 0x20 || current == '\t' || current == '\n' || current == '\r') {
+                        escaped.append(current);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+}
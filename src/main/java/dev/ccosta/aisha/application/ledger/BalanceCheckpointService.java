@@ -0,0 +1,231 @@
+package dev.ccosta.aisha.application.ledger;
+
+import dev.ccosta.aisha.domain.entry.EntryGroupTotal;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpoint;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointInvalidation;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointRepository;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointScope;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Service
+public class BalanceCheckpointService {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceCheckpointService.class);
+    private static final CheckpointKey LEDGER_KEY = new CheckpointKey(BalanceCheckpointScope.LEDGER, null);
+
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final DailyRollupRepository dailyRollupRepository;
+    private final TransactionOperations transactionOperations;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    public BalanceCheckpointService(
+        BalanceCheckpointRepository balanceCheckpointRepository,
+        DailyRollupRepository dailyRollupRepository,
+        TransactionOperations transactionOperations
+    ) {
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.dailyRollupRepository = dailyRollupRepository;
+        this.transactionOperations = transactionOperations;
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal balanceBefore(LocalDate date) {
+        Optional<LocalDate> checkpointDate = validCheckpointDateOnOrBefore(date);
+        if (checkpointDate.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal balance = BigDecimal.ZERO;
+        for (BalanceCheckpoint checkpoint : balanceCheckpointRepository.listByCheckpointDateAndScope(
+            checkpointDate.get(),
+            BalanceCheckpointScope.LEDGER
+        )) {
+            balance = balance.add(checkpoint.getBalance());
+        }
+
+        if (checkpointDate.get().isBefore(date)) {
+            balance = balance.add(dailyRollupRepository.sumSignedAmount(checkpointDate.get(), date));
+        }
+        return balance;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, BigDecimal> balancesByAccountBefore(LocalDate date) {
+        return balancesBefore(date, BalanceCheckpointScope.ACCOUNT);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, BigDecimal> balancesByCategoryBefore(LocalDate date) {
+        return balancesBefore(date, BalanceCheckpointScope.CATEGORY);
+    }
+
+    /**
+     * Records that checkpoints after the date no longer hold. The writing transaction only inserts a row; the
+     * checkpoints are rebuilt after it commits, and reads skip them until then.
+     */
+    @Transactional
+    public void invalidateAfter(LocalDate settlementDate) {
+        balanceCheckpointRepository.addInvalidation(settlementDate);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("balance-checkpoint-refresh").start(this::refreshInBackground);
+        }
+    }
+
+    /**
+     * Rebuilds the checkpoints after the earliest recorded invalidation. Refreshes are serialized on the lock row, and
+     * only the invalidations read here are cleared, so a write committed meanwhile leaves its own for the next refresh.
+     */
+    @Transactional
+    public void refresh() {
+        balanceCheckpointRepository.lockRefresh();
+        List<BalanceCheckpointInvalidation> invalidations = balanceCheckpointRepository.listInvalidations();
+        if (invalidations.isEmpty()) {
+            return;
+        }
+
+        LocalDate earliestSettlementDate = invalidations.getFirst().getSettlementDate();
+        for (BalanceCheckpointInvalidation invalidation : invalidations) {
+            if (invalidation.getSettlementDate().isBefore(earliestSettlementDate)) {
+                earliestSettlementDate = invalidation.getSettlementDate();
+            }
+        }
+        balanceCheckpointRepository.deleteByCheckpointDateAfter(earliestSettlementDate);
+        extendCheckpoints();
+        balanceCheckpointRepository.deleteInvalidations(invalidations);
+    }
+
+    /**
+     * Takes the refresh lock for the current transaction. Bulk rollup changes take it first so a refresh never holds
+     * it while waiting on their rows.
+     */
+    @Transactional
+    public void lockRefresh() {
+        balanceCheckpointRepository.lockRefresh();
+    }
+
+    @Transactional
+    public void rebuild() {
+        balanceCheckpointRepository.lockRefresh();
+        List<BalanceCheckpointInvalidation> invalidations = balanceCheckpointRepository.listInvalidations();
+        balanceCheckpointRepository.deleteAll();
+        extendCheckpoints();
+        balanceCheckpointRepository.deleteInvalidations(invalidations);
+    }
+
+    private void refreshInBackground() {
+        refreshScheduled.set(false);
+        try {
+            transactionOperations.executeWithoutResult(status -> refresh());
+        } catch (RuntimeException exception) {
+            log.warn("Balance checkpoints could not be refreshed; balances read from earlier checkpoints", exception);
+        }
+    }
+
+    private Optional<LocalDate> validCheckpointDateOnOrBefore(LocalDate date) {
+        LocalDate limit = balanceCheckpointRepository.findEarliestInvalidation()
+            .filter(settlementDate -> settlementDate.isBefore(date))
+            .orElse(date);
+        return balanceCheckpointRepository.findLatestCheckpointDateOnOrBefore(limit);
+    }
+
+    private Map<Long, BigDecimal> balancesBefore(LocalDate date, BalanceCheckpointScope scope) {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        Optional<LocalDate> checkpointDate = validCheckpointDateOnOrBefore(date);
+        if (checkpointDate.isEmpty()) {
+            return balances;
+        }
+
+        for (BalanceCheckpoint checkpoint : balanceCheckpointRepository.listByCheckpointDateAndScope(checkpointDate.get(), scope)) {
+            balances.put(checkpoint.getScopeId(), checkpoint.getBalance());
+        }
+
+        if (checkpointDate.get().isBefore(date)) {
+            List<EntryGroupTotal> movements = scope == BalanceCheckpointScope.ACCOUNT
+                ? dailyRollupRepository.sumSignedAmountByAccount(checkpointDate.get(), date)
+                : dailyRollupRepository.sumSignedAmountByCategory(checkpointDate.get(), date);
+            for (EntryGroupTotal movement : movements) {
+                balances.merge(movement.groupId(), movement.amount(), BigDecimal::add);
+            }
+        }
+        return balances;
+    }
+
+    private void extendCheckpoints() {
+        Optional<LocalDate> latestSettlementDate = dailyRollupRepository.findLatestSettlementDate();
+        if (latestSettlementDate.isEmpty()) {
+            return;
+        }
+
+        LocalDate targetDate = latestSettlementDate.get().withDayOfMonth(1);
+        Optional<LocalDate> latestCheckpointDate = balanceCheckpointRepository.findLatestCheckpointDate();
+        if (latestCheckpointDate.isPresent() && !latestCheckpointDate.get().isBefore(targetDate)) {
+            return;
+        }
+
+        Map<CheckpointKey, BigDecimal> balances = new LinkedHashMap<>();
+        List<BalanceCheckpoint> checkpoints = new ArrayList<>();
+        LocalDate checkpointDate;
+        if (latestCheckpointDate.isPresent()) {
+            checkpointDate = latestCheckpointDate.get();
+            for (BalanceCheckpoint checkpoint : balanceCheckpointRepository.listByCheckpointDate(checkpointDate)) {
+                balances.put(new CheckpointKey(checkpoint.getScope(), checkpoint.getScopeId()), checkpoint.getBalance());
+            }
+        } else {
+            checkpointDate = dailyRollupRepository.findEarliestSettlementDate().orElse(targetDate).withDayOfMonth(1);
+            balances.put(LEDGER_KEY, BigDecimal.ZERO);
+            checkpoints.addAll(toCheckpoints(checkpointDate, balances));
+        }
+
+        while (checkpointDate.isBefore(targetDate)) {
+            LocalDate nextCheckpointDate = checkpointDate.plusMonths(1);
+
+            balances.merge(LEDGER_KEY, dailyRollupRepository.sumSignedAmount(checkpointDate, nextCheckpointDate), BigDecimal::add);
+            for (EntryGroupTotal total : dailyRollupRepository.sumSignedAmountByAccount(checkpointDate, nextCheckpointDate)) {
+                balances.merge(new CheckpointKey(BalanceCheckpointScope.ACCOUNT, total.groupId()), total.amount(), BigDecimal::add);
+            }
+            for (EntryGroupTotal total : dailyRollupRepository.sumSignedAmountByCategory(checkpointDate, nextCheckpointDate)) {
+                balances.merge(new CheckpointKey(BalanceCheckpointScope.CATEGORY, total.groupId()), total.amount(), BigDecimal::add);
+            }
+
+            checkpoints.addAll(toCheckpoints(nextCheckpointDate, balances));
+            checkpointDate = nextCheckpointDate;
+        }
+
+        balanceCheckpointRepository.saveAll(checkpoints);
+    }
+
+    private List<BalanceCheckpoint> toCheckpoints(LocalDate checkpointDate, Map<CheckpointKey, BigDecimal> balances) {
+        List<BalanceCheckpoint> checkpoints = new ArrayList<>(balances.size());
+        for (Map.Entry<CheckpointKey, BigDecimal> balance : balances.entrySet()) {
+            BalanceCheckpoint checkpoint = new BalanceCheckpoint();
+            checkpoint.setCheckpointDate(checkpointDate);
+            checkpoint.setScope(balance.getKey().scope());
+            checkpoint.setScopeId(balance.getKey().scopeId());
+            checkpoint.setBalance(balance.getValue());
+            checkpoints.add(checkpoint);
+        }
+        return checkpoints;
+    }
+
+    private record CheckpointKey(BalanceCheckpointScope scope, Long scopeId) {
+    }
+}
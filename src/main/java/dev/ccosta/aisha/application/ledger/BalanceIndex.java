@@ -0,0 +1,217 @@
+package dev.ccosta.aisha.application.ledger;
+
+import dev.ccosta.aisha.domain.entry.EntryLedgerRow;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class BalanceIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceIndex.class);
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    private static final int SCALE = 2;
+
+    private final EntryRepository entryRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Trees trees;
+    private boolean loading;
+    private boolean stale;
+
+    public BalanceIndex(EntryRepository entryRepository) {
+        this.entryRepository = entryRepository;
+    }
+
+    public Optional<BigDecimal> balanceBefore(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            if (trees == null) {
+                return Optional.empty();
+            }
+            return Optional.of(BigDecimal.valueOf(trees.ledgerCentsBefore(date.toEpochDay()), SCALE));
+        } catch (ArithmeticException exception) {
+            return Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<BigDecimal> accountBalanceBefore(Long accountId, LocalDate date) {
+        lock.readLock().lock();
+        try {
+            if (trees == null) {
+                return Optional.empty();
+            }
+            DayFenwickTree account = trees.accounts.get(accountId);
+            long cents = account == null ? 0 : account.sumBefore(date.toEpochDay());
+            return Optional.of(BigDecimal.valueOf(cents, SCALE));
+        } catch (ArithmeticException exception) {
+            return Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Map<Long, BigDecimal>> balancesByAccountBefore(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            if (trees == null) {
+                return Optional.empty();
+            }
+            long epochDay = date.toEpochDay();
+            Map<Long, BigDecimal> balances = new LinkedHashMap<>();
+            trees.accounts.forEach((accountId, account) ->
+                balances.put(accountId, BigDecimal.valueOf(account.sumBefore(epochDay), SCALE))
+            );
+            return Optional.of(balances);
+        } catch (ArithmeticException exception) {
+            return Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void load() {
+        loadTrees(this::readTrees);
+    }
+
+    /**
+     * Builds the trees from columns already held in memory, reading the entries table only when the columns are gone.
+     */
+    @Transactional(readOnly = true)
+    public void load(Supplier<Optional<LedgerColumns>> columns) {
+        loadTrees(() -> columns.get().map(BalanceIndex::treesOf).orElseGet(this::readTrees));
+    }
+
+    private void loadTrees(Supplier<Trees> reader) {
+        try {
+            for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+                markLoading();
+                Trees loaded = reader.get();
+                if (install(loaded)) {
+                    log.info("Balance index loaded for {} accounts", loaded.accounts.size());
+                    return;
+                }
+            }
+            log.warn("Balance index kept changing while loading; balances read from checkpoints");
+        } catch (ArithmeticException exception) {
+            log.warn("Ledger totals exceed the balance index range; balances read from checkpoints", exception);
+        } finally {
+            finishLoading();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                stale = true;
+                return;
+            }
+            if (trees == null) {
+                return;
+            }
+            apply(event.removed(), true);
+            apply(event.added(), false);
+        } catch (ArithmeticException exception) {
+            trees = null;
+            log.warn("Balance index dropped after exceeding its range; balances read from checkpoints", exception);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Collection<LedgerContribution> contributions, boolean reverse) {
+        for (LedgerContribution contribution : contributions) {
+            long cents = contribution.amount().movePointRight(SCALE).longValueExact();
+            trees.add(contribution.settlementDate().toEpochDay(), contribution.accountId(), reverse ? Math.negateExact(cents) : cents);
+        }
+    }
+
+    private Trees readTrees() {
+        Trees loaded = new Trees();
+        try (Stream<EntryLedgerRow> rows = entryRepository.streamLedgerRows()) {
+            Iterator<EntryLedgerRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                EntryLedgerRow row = iterator.next();
+                loaded.add(row.epochDay(), row.accountId(), row.amountCents());
+            }
+        }
+        return loaded;
+    }
+
+    private static Trees treesOf(LedgerColumns columns) {
+        Trees loaded = new Trees();
+        columns.forEachRow(LocalDate.MIN, LocalDate.MAX, (epochDay, accountIndex, categoryIndex, amountCents) ->
+            loaded.add(epochDay, columns.accountId(accountIndex), amountCents)
+        );
+        return loaded;
+    }
+
+    private void markLoading() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            stale = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean install(Trees loaded) {
+        lock.writeLock().lock();
+        try {
+            if (stale) {
+                return false;
+            }
+            trees = loaded;
+            loading = false;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void finishLoading() {
+        lock.writeLock().lock();
+        try {
+            loading = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static final class Trees {
+
+        private final Map<Long, DayFenwickTree> accounts = new HashMap<>();
+        private DayFenwickTree ledger;
+
+        private void add(long epochDay, long accountId, long amountCents) {
+            if (ledger == null) {
+                ledger = new DayFenwickTree(epochDay);
+            }
+            ledger.add(epochDay, amountCents);
+            accounts.computeIfAbsent(accountId, ignored -> new DayFenwickTree(epochDay)).add(epochDay, amountCents);
+        }
+
+        private long ledgerCentsBefore(long epochDay) {
+            return ledger == null ? 0 : ledger.sumBefore(epochDay);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package dev.ccosta.aisha.application.ledger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "aisha.ledger.balance-index", name = "enabled", havingValue = "true")
+public class BalanceIndexInitializer implements ApplicationRunner {
+
+    private final BalanceIndex balanceIndex;
+    private final ObjectProvider<LedgerSnapshotService> ledgerSnapshotService;
+
+    public BalanceIndexInitializer(BalanceIndex balanceIndex, ObjectProvider<LedgerSnapshotService> ledgerSnapshotService) {
+        this.balanceIndex = balanceIndex;
+        this.ledgerSnapshotService = ledgerSnapshotService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // A restored snapshot already holds every entry, so the trees are built from it instead of the table.
+        LedgerSnapshotService snapshots = ledgerSnapshotService.getIfAvailable();
+        if (snapshots != null && snapshots.isRestored()) {
+            balanceIndex.load(snapshots::restoredColumns);
+        } else {
+            balanceIndex.load();
+        }
+    }
+}
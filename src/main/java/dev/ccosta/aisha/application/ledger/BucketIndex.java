@@ -0,0 +1,98 @@
+package dev.ccosta.aisha.application.ledger;
+
+import dev.ccosta.aisha.domain.entry.SettlementPeriod;
+import java.time.LocalDate;
+
+public final class BucketIndex {
+
+    private final Unit unit;
+    private final long originOrdinal;
+    private final int size;
+
+    private BucketIndex(Unit unit, long originOrdinal, int size) {
+        this.unit = unit;
+        this.originOrdinal = originOrdinal;
+        this.size = size;
+    }
+
+    public static BucketIndex of(SettlementPeriod period, LocalDate startDate, LocalDate endDate) {
+        Unit unit = switch (period) {
+            case DAY -> Unit.DAY;
+            case MONTH -> Unit.MONTH;
+            case YEAR -> Unit.YEAR;
+        };
+        return of(unit, startDate, endDate);
+    }
+
+    public static BucketIndex weeks(LocalDate startDate, LocalDate endDate) {
+        return of(Unit.WEEK, startDate, endDate);
+    }
+
+    public static BucketIndex quarters(LocalDate startDate, LocalDate endDate) {
+        return of(Unit.QUARTER, startDate, endDate);
+    }
+
+    private static BucketIndex of(Unit unit, LocalDate startDate, LocalDate endDate) {
+        long originOrdinal = ordinal(unit, startDate);
+        return new BucketIndex(unit, originOrdinal, Math.toIntExact(ordinal(unit, endDate) - originOrdinal + 1));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int indexOf(LocalDate date) {
+        return toIndex(ordinal(unit, date));
+    }
+
+    public int indexOfEpochDay(long epochDay) {
+        if (unit == Unit.DAY) {
+            return toIndex(epochDay);
+        }
+        if (unit == Unit.WEEK) {
+            return toIndex(weekOrdinal(epochDay));
+        }
+        return indexOf(LocalDate.ofEpochDay(epochDay));
+    }
+
+    public LocalDate bucketStart(int index) {
+        long ordinal = originOrdinal + index;
+        return switch (unit) {
+            case DAY -> LocalDate.ofEpochDay(ordinal);
+            case WEEK -> LocalDate.ofEpochDay(ordinal * 7 - 3);
+            case MONTH -> LocalDate.of(Math.toIntExact(Math.floorDiv(ordinal, 12)), (int) Math.floorMod(ordinal, 12) + 1, 1);
+            case QUARTER -> LocalDate.of(Math.toIntExact(Math.floorDiv(ordinal, 4)), (int) Math.floorMod(ordinal, 4) * 3 + 1, 1);
+            case YEAR -> LocalDate.of(Math.toIntExact(ordinal), 1, 1);
+        };
+    }
+
+    private int toIndex(long ordinal) {
+        long index = ordinal - originOrdinal;
+        if (index < 0 || index >= size) {
+            return -1;
+        }
+        return (int) index;
+    }
+
+    private static long ordinal(Unit unit, LocalDate date) {
+        return switch (unit) {
+            case DAY -> date.toEpochDay();
+            case WEEK -> weekOrdinal(date.toEpochDay());
+            case MONTH -> date.getYear() * 12L + date.getMonthValue() - 1;
+            case QUARTER -> date.getYear() * 4L + (date.getMonthValue() - 1) / 3;
+            case YEAR -> date.getYear();
+        };
+    }
+
+    private static long weekOrdinal(long epochDay) {
+        return Math.floorDiv(epochDay + 3, 7);
+    }
+
+    private enum Unit {
+        DAY,
+        WEEK,
+        MONTH,
+        QUARTER,
+        YEAR
+    }
+}
@@ -0,0 +1,223 @@
+package dev.ccosta.aisha.application.ledger;
+
+import dev.ccosta.aisha.domain.entry.EntryLedgerRow;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.ledger.LedgerJournalRepository;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class ColumnarLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarLedger.class);
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    private static final int MAX_PENDING_CHANGES = 1024;
+    private static final long UNKNOWN_POSITION = -1;
+
+    private final EntryRepository entryRepository;
+    private final LedgerJournalRepository ledgerJournalRepository;
+    private final TransactionOperations transactionOperations;
+    private final Object journalPositionsKey = new Object();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final NavigableMap<Long, LedgerChangedEvent> pendingChanges = new TreeMap<>();
+    private volatile LedgerColumns columns;
+    private long journalPosition = UNKNOWN_POSITION;
+    private boolean loading;
+    private boolean stale;
+
+    public ColumnarLedger(
+        EntryRepository entryRepository,
+        LedgerJournalRepository ledgerJournalRepository,
+        TransactionOperations transactionOperations
+    ) {
+        this.entryRepository = entryRepository;
+        this.ledgerJournalRepository = ledgerJournalRepository;
+        this.transactionOperations = transactionOperations;
+    }
+
+    public Optional<LedgerColumns> columns() {
+        return Optional.ofNullable(columns);
+    }
+
+    @Transactional(readOnly = true)
+    public void load() {
+        try {
+            for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+                markLoading();
+                long position = ledgerJournalRepository.findPosition();
+                LedgerColumns loaded = readColumns();
+                if (ledgerJournalRepository.findPosition() == position && install(new LedgerSnapshot(loaded, position))) {
+                    log.info("Columnar ledger loaded with {} entries at journal position {}", loaded.size(), position);
+                    return;
+                }
+            }
+            log.warn("Columnar ledger kept changing while loading; analytics read from the database");
+        } catch (ArithmeticException exception) {
+            log.warn("Ledger totals exceed the columnar ledger range; analytics read from the database", exception);
+        } finally {
+            finishLoading();
+        }
+    }
+
+    boolean restore(Supplier<Optional<LedgerSnapshot>> source) {
+        try {
+            markLoading();
+            Optional<LedgerSnapshot> restored = source.get();
+            return restored.isPresent() && install(restored.get());
+        } finally {
+            finishLoading();
+        }
+    }
+
+    /**
+     * Captures the columns together with the last journal position they include, or nothing while that position is
+     * unknown.
+     */
+    Optional<LedgerSnapshot> snapshot() {
+        lock.lock();
+        try {
+            if (columns == null || journalPosition == UNKNOWN_POSITION) {
+                return Optional.empty();
+            }
+            return Optional.of(new LedgerSnapshot(columns, journalPosition));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void recordJournalPosition(LedgerChangedEvent event, long position) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<LedgerChangedEvent, Long> positions = (Map<LedgerChangedEvent, Long>) TransactionSynchronizationManager.getResource(journalPositionsKey);
+        if (positions == null) {
+            positions = new IdentityHashMap<>();
+            TransactionSynchronizationManager.bindResource(journalPositionsKey, positions);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(journalPositionsKey);
+                }
+            });
+        }
+        positions.put(event, position);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        Long position = journalPositionOf(event);
+        lock.lock();
+        try {
+            if (loading) {
+                stale = true;
+                return;
+            }
+            if (columns == null) {
+                return;
+            }
+            if (position == null || journalPosition == UNKNOWN_POSITION) {
+                columns = columns.withChanges(event.removed(), event.added());
+                journalPosition = UNKNOWN_POSITION;
+                return;
+            }
+            if (position <= journalPosition) {
+                return;
+            }
+
+            // Positions are handed out in commit order, but after-commit listeners of concurrent transactions may run
+            // in any order, so changes wait here until every earlier position has been applied.
+            pendingChanges.put(position, event);
+            while (!pendingChanges.isEmpty() && pendingChanges.firstKey() == journalPosition + 1) {
+                LedgerChangedEvent next = pendingChanges.pollFirstEntry().getValue();
+                columns = columns.withChanges(next.removed(), next.added());
+                journalPosition++;
+            }
+            if (pendingChanges.size() > MAX_PENDING_CHANGES) {
+                throw new IllegalStateException("Journal position " + (journalPosition + 1) + " never reached the columnar ledger");
+            }
+        } catch (IllegalStateException | ArithmeticException exception) {
+            columns = null;
+            pendingChanges.clear();
+            log.warn("Columnar ledger dropped after an inconsistent change; reloading it from the database", exception);
+            Thread.ofVirtual().name("columnar-ledger-reload").start(this::reload);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reload() {
+        try {
+            transactionOperations.executeWithoutResult(status -> load());
+        } catch (RuntimeException exception) {
+            log.warn("Columnar ledger could not be reloaded; analytics read from the database", exception);
+        }
+    }
+
+    private Long journalPositionOf(LedgerChangedEvent event) {
+        return TransactionSynchronizationManager.getResource(journalPositionsKey) instanceof Map<?, ?> positions
+            ? (Long) positions.get(event)
+            : null;
+    }
+
+    private LedgerColumns readColumns() {
+        LedgerColumns.Builder builder = LedgerColumns.builder();
+        try (Stream<EntryLedgerRow> rows = entryRepository.streamLedgerRows()) {
+            Iterator<EntryLedgerRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                builder.add(iterator.next());
+            }
+        }
+        return builder.build();
+    }
+
+    private void markLoading() {
+        lock.lock();
+        try {
+            loading = true;
+            stale = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean install(LedgerSnapshot loaded) {
+        lock.lock();
+        try {
+            if (stale) {
+                return false;
+            }
+            columns = loaded.columns();
+            journalPosition = loaded.journalPosition();
+            pendingChanges.clear();
+            loading = false;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void finishLoading() {
+        lock.lock();
+        try {
+            loading = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package dev.ccosta.aisha.application.ledger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(1)
+@ConditionalOnProperty(prefix = "aisha.ledger.columnar", name = "enabled", havingValue = "true")
+public class ColumnarLedgerInitializer implements ApplicationRunner {
+
+    private final ColumnarLedger columnarLedger;
+    private final ObjectProvider<LedgerSnapshotService> ledgerSnapshotService;
+
+    public ColumnarLedgerInitializer(ColumnarLedger columnarLedger, ObjectProvider<LedgerSnapshotService> ledgerSnapshotService) {
+        this.columnarLedger = columnarLedger;
+        this.ledgerSnapshotService = ledgerSnapshotService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LedgerSnapshotService snapshots = ledgerSnapshotService.getIfAvailable();
+        if (snapshots == null || !snapshots.restore()) {
+            columnarLedger.load();
+        }
+    }
+}
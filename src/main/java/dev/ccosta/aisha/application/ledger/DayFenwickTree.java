@@ -0,0 +1,73 @@
+package dev.ccosta.aisha.application.ledger;
+
+final class DayFenwickTree {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private long originDay;
+    private long[] tree;
+
+    DayFenwickTree(long originDay) {
+        this.originDay = originDay;
+        this.tree = new long[INITIAL_CAPACITY + 1];
+    }
+
+    void add(long epochDay, long amountCents) {
+        ensureCovers(epochDay);
+        for (int node = Math.toIntExact(epochDay - originDay) + 1; node < tree.length; node += node & -node) {
+            tree[node] = Math.addExact(tree[node], amountCents);
+        }
+    }
+
+    long sumBefore(long epochDay) {
+        long days = epochDay - originDay;
+        if (days <= 0) {
+            return 0;
+        }
+
+        long sum = 0;
+        for (int node = (int) Math.min(days, tree.length - 1); node > 0; node -= node & -node) {
+            sum = Math.addExact(sum, tree[node]);
+        }
+        return sum;
+    }
+
+    private void ensureCovers(long epochDay) {
+        int capacity = tree.length - 1;
+        if (epochDay >= originDay && epochDay < originDay + capacity) {
+            return;
+        }
+
+        long firstDay = Math.min(originDay, epochDay);
+        long lastDay = Math.max(originDay + capacity - 1, epochDay);
+        int grownCapacity = capacity;
+        while (grownCapacity < lastDay - firstDay + 1) {
+            grownCapacity = Math.multiplyExact(grownCapacity, 2);
+        }
+        long grownOrigin = epochDay < originDay ? lastDay - grownCapacity + 1 : firstDay;
+
+        long[] points = toPoints();
+        long[] grown = new long[grownCapacity + 1];
+        System.arraycopy(points, 1, grown, Math.toIntExact(originDay - grownOrigin) + 1, capacity);
+        for (int node = 1; node <= grownCapacity; node++) {
+            int parent = node + (node & -node);
+            if (parent <= grownCapacity) {
+                grown[parent] = Math.addExact(grown[parent], grown[node]);
+            }
+        }
+
+        tree = grown;
+        originDay = grownOrigin;
+    }
+
+    private long[] toPoints() {
+        long[] points = tree.clone();
+        for (int node = points.length - 1; node > 0; node--) {
+            int parent = node + (node & -node);
+            if (parent < points.length) {
+                points[parent] -= points[node];
+            }
+        }
+        return points;
+    }
+}
@@ -0,0 +1,25 @@
+package dev.ccosta.aisha.application.ledger;
+
+import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryDraft;
+import java.util.Collection;
+import java.util.List;
+
+public record LedgerChangedEvent(List<LedgerContribution> removed, List<LedgerContribution> added) {
+
+    public static LedgerChangedEvent created(Entry entry) {
+        return new LedgerChangedEvent(List.of(), List.of(LedgerContribution.of(entry)));
+    }
+
+    public static LedgerChangedEvent updated(LedgerContribution previous, Entry current) {
+        return new LedgerChangedEvent(List.of(previous), List.of(LedgerContribution.of(current)));
+    }
+
+    public static LedgerChangedEvent deleted(Collection<Entry> entries) {
+        return new LedgerChangedEvent(entries.stream().map(LedgerContribution::of).toList(), List.of());
+    }
+
+    public static LedgerChangedEvent imported(Collection<EntryDraft> drafts) {
+        return new LedgerChangedEvent(List.of(), drafts.stream().map(LedgerContribution::of).toList());
+    }
+}
@@ -0,0 +1,840 @@
+package dev.ccosta.aisha.application.ledger;
+
+import dev.ccosta.aisha.domain.entry.EntryLedgerRow;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public final class LedgerColumns {
+
+    private static final int SCALE = 2;
+    private static final int COMPACTION_THRESHOLD = 4096;
+    private static final int[] NO_ROWS = new int[0];
+
+    private final int baseSize;
+    private final IntBuffer epochDays;
+    private final IntBuffer accountIndexes;
+    private final IntBuffer categoryIndexes;
+    private final LongBuffer amountCents;
+    private final LongBuffer signedPrefix;
+    private final LongBuffer revenuePrefix;
+    private final LongBuffer expensePrefix;
+    private final Dictionary accounts;
+    private final Dictionary categories;
+    private final AppendedRows appended;
+    private final int appendedCount;
+    private final int[] removedRows;
+
+    private LedgerColumns(Builder builder) {
+        int size = builder.size;
+        long[] amounts = Arrays.copyOf(builder.amountCents, size);
+        long[] signed = new long[size + 1];
+        long[] revenue = new long[size + 1];
+        long[] expense = new long[size + 1];
+        for (int row = 0; row < size; row++) {
+            long cents = amounts[row];
+            signed[row + 1] = Math.addExact(signed[row], cents);
+            revenue[row + 1] = cents > 0 ? Math.addExact(revenue[row], cents) : revenue[row];
+            expense[row + 1] = cents < 0 ? Math.subtractExact(expense[row], cents) : expense[row];
+        }
+
+        this.baseSize = size;
+        this.epochDays = IntBuffer.wrap(Arrays.copyOf(builder.epochDays, size));
+        this.accountIndexes = IntBuffer.wrap(Arrays.copyOf(builder.accountIndexes, size));
+        this.categoryIndexes = IntBuffer.wrap(Arrays.copyOf(builder.categoryIndexes, size));
+        this.amountCents = LongBuffer.wrap(amounts);
+        this.signedPrefix = LongBuffer.wrap(signed);
+        this.revenuePrefix = LongBuffer.wrap(revenue);
+        this.expensePrefix = LongBuffer.wrap(expense);
+        this.accounts = builder.accounts.copy();
+        this.categories = builder.categories.copy();
+        this.appended = new AppendedRows(0);
+        this.appendedCount = 0;
+        this.removedRows = NO_ROWS;
+    }
+
+    private LedgerColumns(
+        int size,
+        Dictionary accounts,
+        Dictionary categories,
+        IntBuffer epochDays,
+        IntBuffer accountIndexes,
+        IntBuffer categoryIndexes,
+        LongBuffer amountCents,
+        LongBuffer signedPrefix,
+        LongBuffer revenuePrefix,
+        LongBuffer expensePrefix
+    ) {
+        this.baseSize = size;
+        this.epochDays = epochDays;
+        this.accountIndexes = accountIndexes;
+        this.categoryIndexes = categoryIndexes;
+        this.amountCents = amountCents;
+        this.signedPrefix = signedPrefix;
+        this.revenuePrefix = revenuePrefix;
+        this.expensePrefix = expensePrefix;
+        this.accounts = accounts;
+        this.categories = categories;
+        this.appended = new AppendedRows(0);
+        this.appendedCount = 0;
+        this.removedRows = NO_ROWS;
+    }
+
+    private LedgerColumns(
+        LedgerColumns base,
+        Dictionary accounts,
+        Dictionary categories,
+        AppendedRows appended,
+        int appendedCount,
+        int[] removedRows
+    ) {
+        this.baseSize = base.baseSize;
+        this.epochDays = base.epochDays;
+        this.accountIndexes = base.accountIndexes;
+        this.categoryIndexes = base.categoryIndexes;
+        this.amountCents = base.amountCents;
+        this.signedPrefix = base.signedPrefix;
+        this.revenuePrefix = base.revenuePrefix;
+        this.expensePrefix = base.expensePrefix;
+        this.accounts = accounts;
+        this.categories = categories;
+        this.appended = appended;
+        this.appendedCount = appendedCount;
+        this.removedRows = removedRows;
+    }
+
+    public static Builder builder() {
+        return new Builder(new Dictionary(), new Dictionary(), 1024);
+    }
+
+    public int size() {
+        return baseSize + appendedCount - removedRows.length;
+    }
+
+    public long accountId(int accountIndex) {
+        return accounts.idAt(accountIndex);
+    }
+
+    public long categoryId(int categoryIndex) {
+        return categories.idAt(categoryIndex);
+    }
+
+    public int categoryCount() {
+        return categories.size();
+    }
+
+    public long signedCentsBefore(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        return Math.addExact(signedPrefix.get(lowerBound(epochDay)), pendingCents(Measure.SIGNED, Long.MIN_VALUE, epochDay));
+    }
+
+    public long signedCentsBetween(LocalDate startDate, LocalDate endDate) {
+        return rangeSum(Measure.SIGNED, startDate, endDate);
+    }
+
+    public long revenueCentsBetween(LocalDate startDate, LocalDate endDate) {
+        return rangeSum(Measure.REVENUE, startDate, endDate);
+    }
+
+    public long expenseCentsBetween(LocalDate startDate, LocalDate endDate) {
+        return rangeSum(Measure.EXPENSE, startDate, endDate);
+    }
+
+    public void forEachRow(LocalDate startDate, LocalDate endDate, RowVisitor visitor) {
+        forEachRowInOrder(startDate.toEpochDay(), endDate.toEpochDay() + 1, visitor);
+    }
+
+    /**
+     * Visits the compacted rows in {@code [fromRow, toRow)}; rows appended since the last compaction are visited by
+     * {@link #forEachAppendedRow(LocalDate, LocalDate, RowVisitor)}.
+     */
+    public void forEachRow(int fromRow, int toRow, RowVisitor visitor) {
+        int removed = firstRemovedAtOrAfter(fromRow);
+        for (int row = fromRow; row < toRow; row++) {
+            if (removed < removedRows.length && removedRows[removed] == row) {
+                removed++;
+                continue;
+            }
+            visitor.visit(epochDays.get(row), accountIndexes.get(row), categoryIndexes.get(row), amountCents.get(row));
+        }
+    }
+
+    public void forEachAppendedRow(LocalDate startDate, LocalDate endDate, RowVisitor visitor) {
+        forEachAppendedRow(startDate.toEpochDay(), endDate.toEpochDay() + 1, visitor);
+    }
+
+    public int firstRowFrom(LocalDate date) {
+        return lowerBound(date.toEpochDay());
+    }
+
+    public Map<Long, BigDecimal> totalsBefore(LedgerDimension dimension, LocalDate date) {
+        IntBuffer groups = groupColumn(dimension);
+        Dictionary dictionary = dictionary(dimension);
+        MoneySeries totals = groupTotals(groups, dictionary.size(), 0, firstRowFrom(date));
+        return toTotalsById(addPendingTotals(totals, dimension, date.toEpochDay()), dictionary);
+    }
+
+    public Map<Long, BigDecimal> totalsBefore(LedgerDimension dimension, LocalDate date, ParallelAggregator aggregator) {
+        IntBuffer groups = groupColumn(dimension);
+        Dictionary dictionary = dictionary(dimension);
+        MoneySeries totals = aggregator.aggregate(
+            0,
+            firstRowFrom(date),
+            (fromRow, toRow) -> groupTotals(groups, dictionary.size(), fromRow, toRow),
+            (earlier, later) -> {
+                earlier.addAll(later);
+                return earlier;
+            }
+        );
+        return toTotalsById(addPendingTotals(totals, dimension, date.toEpochDay()), dictionary);
+    }
+
+    public Map<Long, MoneySeries> bucketTotals(
+        LedgerDimension dimension,
+        LocalDate startDate,
+        LocalDate endDate,
+        BucketIndex buckets
+    ) {
+        IntBuffer groups = groupColumn(dimension);
+        Dictionary dictionary = dictionary(dimension);
+        MoneySeries[] seriesByGroup = bucketSeries(
+            groups,
+            dictionary.size(),
+            firstRowFrom(startDate),
+            firstRowFrom(endDate.plusDays(1)),
+            buckets
+        );
+        addPendingSeries(seriesByGroup, dimension, startDate, endDate, buckets);
+        return toSeriesById(seriesByGroup, dictionary);
+    }
+
+    public Map<Long, MoneySeries> bucketTotals(
+        LedgerDimension dimension,
+        LocalDate startDate,
+        LocalDate endDate,
+        BucketIndex buckets,
+        ParallelAggregator aggregator
+    ) {
+        IntBuffer groups = groupColumn(dimension);
+        Dictionary dictionary = dictionary(dimension);
+        MoneySeries[] seriesByGroup = aggregator.aggregate(
+            firstRowFrom(startDate),
+            firstRowFrom(endDate.plusDays(1)),
+            (fromRow, toRow) -> bucketSeries(groups, dictionary.size(), fromRow, toRow, buckets),
+            LedgerColumns::mergeSeries
+        );
+        addPendingSeries(seriesByGroup, dimension, startDate, endDate, buckets);
+        return toSeriesById(seriesByGroup, dictionary);
+    }
+
+    int snapshotBytes() {
+        long bytes = 4L * Integer.BYTES
+            + (long) (accounts.size() + categories.size()) * Long.BYTES
+            + alignedIntBytes(3L * baseSize)
+            + (long) baseSize * Long.BYTES
+            + 3L * (baseSize + 1) * Long.BYTES;
+        return Math.toIntExact(bytes);
+    }
+
+    /**
+     * Writes the compacted columns, running totals included, so that {@link #readFrom(ByteBuffer)} can serve them
+     * straight from the buffer.
+     */
+    void writeTo(ByteBuffer buffer) {
+        if (appendedCount > 0 || removedRows.length > 0) {
+            throw new IllegalStateException("Only compacted columns can be written to a snapshot");
+        }
+        buffer.putInt(baseSize).putInt(accounts.size()).putInt(categories.size()).putInt(0);
+        putLongs(buffer, LongBuffer.wrap(accounts.ids, 0, accounts.size()));
+        putLongs(buffer, LongBuffer.wrap(categories.ids, 0, categories.size()));
+        putInts(buffer, epochDays);
+        putInts(buffer, accountIndexes);
+        putInts(buffer, categoryIndexes);
+        buffer.position(buffer.position() + (int) (alignedIntBytes(3L * baseSize) - 3L * baseSize * Integer.BYTES));
+        putLongs(buffer, amountCents);
+        putLongs(buffer, signedPrefix);
+        putLongs(buffer, revenuePrefix);
+        putLongs(buffer, expensePrefix);
+    }
+
+    /**
+     * Reads columns written by {@link #writeTo(ByteBuffer)}. The row columns and running totals stay views over the
+     * buffer, so a memory-mapped snapshot is served without copying it onto the heap.
+     */
+    static LedgerColumns readFrom(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        int accountCount = buffer.getInt();
+        int categoryCount = buffer.getInt();
+        buffer.getInt();
+        if (size < 0 || accountCount < 0 || categoryCount < 0) {
+            throw new IllegalArgumentException("Ledger snapshot has negative sizes");
+        }
+
+        Dictionary accounts = Dictionary.of(getLongs(buffer, accountCount));
+        Dictionary categories = Dictionary.of(getLongs(buffer, categoryCount));
+        IntBuffer epochDays = intView(buffer, size);
+        IntBuffer accountIndexes = intView(buffer, size);
+        IntBuffer categoryIndexes = intView(buffer, size);
+        skip(buffer, alignedIntBytes(3L * size) - 3L * size * Integer.BYTES);
+        LongBuffer amountCents = longView(buffer, size);
+        LongBuffer signedPrefix = longView(buffer, size + 1);
+        LongBuffer revenuePrefix = longView(buffer, size + 1);
+        LongBuffer expensePrefix = longView(buffer, size + 1);
+        if (signedPrefix.get(0) != 0 || revenuePrefix.get(0) != 0 || expensePrefix.get(0) != 0) {
+            throw new IllegalArgumentException("Ledger snapshot running totals are inconsistent");
+        }
+        for (int row = 0; row < size; row++) {
+            long cents = amountCents.get(row);
+            if ((row > 0 && epochDays.get(row) < epochDays.get(row - 1))
+                || accountIndexes.get(row) < 0 || accountIndexes.get(row) >= accountCount
+                || categoryIndexes.get(row) < 0 || categoryIndexes.get(row) >= categoryCount) {
+                throw new IllegalArgumentException("Ledger snapshot rows are inconsistent");
+            }
+            if (signedPrefix.get(row + 1) != Math.addExact(signedPrefix.get(row), cents)
+                || revenuePrefix.get(row + 1) != Math.addExact(revenuePrefix.get(row), Math.max(cents, 0))
+                || expensePrefix.get(row + 1) != Math.addExact(expensePrefix.get(row), Math.max(-cents, 0))) {
+                throw new IllegalArgumentException("Ledger snapshot running totals are inconsistent");
+            }
+        }
+        return new LedgerColumns(
+            size,
+            accounts,
+            categories,
+            epochDays,
+            accountIndexes,
+            categoryIndexes,
+            amountCents,
+            signedPrefix,
+            revenuePrefix,
+            expensePrefix
+        );
+    }
+
+    /**
+     * Returns a version with the changes applied. Added rows go to an append-only segment shared with this version and
+     * removed rows become tombstones, so a change costs O(changes) until the segment and tombstones together reach
+     * {@value #COMPACTION_THRESHOLD} rows and are merged into new base columns. Callers must apply changes to one
+     * version at a time.
+     */
+    public LedgerColumns withChanges(Collection<LedgerContribution> removed, Collection<LedgerContribution> added) {
+        Set<Integer> newlyRemoved = new HashSet<>();
+        for (LedgerContribution contribution : removed) {
+            newlyRemoved.add(find(contribution, newlyRemoved));
+        }
+
+        Dictionary nextAccounts = accounts;
+        Dictionary nextCategories = categories;
+        AppendedRows nextAppended = appended.forAppend(appendedCount, added.size());
+        int nextAppendedCount = appendedCount;
+        for (LedgerContribution contribution : added) {
+            if (nextAccounts.indexOf(contribution.accountId()) < 0 && nextAccounts == accounts) {
+                nextAccounts = accounts.copy();
+            }
+            if (nextCategories.indexOf(contribution.categoryId()) < 0 && nextCategories == categories) {
+                nextCategories = categories.copy();
+            }
+            nextAppended.set(
+                nextAppendedCount++,
+                Math.toIntExact(contribution.settlementDate().toEpochDay()),
+                nextAccounts.indexOrAdd(contribution.accountId()),
+                nextCategories.indexOrAdd(contribution.categoryId()),
+                toCents(contribution.amount())
+            );
+        }
+
+        LedgerColumns next = new LedgerColumns(
+            this,
+            nextAccounts,
+            nextCategories,
+            nextAppended,
+            nextAppendedCount,
+            mergeRemoved(newlyRemoved)
+        );
+        return nextAppendedCount + next.removedRows.length >= COMPACTION_THRESHOLD ? next.compacted() : next;
+    }
+
+    LedgerColumns compacted() {
+        if (appendedCount == 0 && removedRows.length == 0) {
+            return this;
+        }
+        Builder builder = new Builder(accounts.copy(), categories.copy(), Math.max(size(), 1));
+        forEachRowInOrder(Long.MIN_VALUE, Long.MAX_VALUE, builder::append);
+        return builder.build();
+    }
+
+    private int find(LedgerContribution contribution, Set<Integer> newlyRemoved) {
+        long epochDay = contribution.settlementDate().toEpochDay();
+        int accountIndex = accounts.indexOf(contribution.accountId());
+        int categoryIndex = categories.indexOf(contribution.categoryId());
+        long cents = toCents(contribution.amount());
+        for (int index = appendedCount - 1; index >= 0; index--) {
+            int row = baseSize + index;
+            if (appended.epochDays[index] == epochDay
+                && appended.accountIndexes[index] == accountIndex
+                && appended.categoryIndexes[index] == categoryIndex
+                && appended.amountCents[index] == cents
+                && !isRemoved(row)
+                && !newlyRemoved.contains(row)) {
+                return row;
+            }
+        }
+        int to = lowerBound(epochDay + 1);
+        for (int row = lowerBound(epochDay); row < to; row++) {
+            if (accountIndexes.get(row) == accountIndex
+                && categoryIndexes.get(row) == categoryIndex
+                && amountCents.get(row) == cents
+                && !isRemoved(row)
+                && !newlyRemoved.contains(row)) {
+                return row;
+            }
+        }
+        throw new IllegalStateException("Removed entry is not part of the columnar ledger");
+    }
+
+    private int[] mergeRemoved(Set<Integer> newlyRemoved) {
+        if (newlyRemoved.isEmpty()) {
+            return removedRows;
+        }
+        int[] merged = Arrays.copyOf(removedRows, removedRows.length + newlyRemoved.size());
+        int index = removedRows.length;
+        for (int row : newlyRemoved) {
+            merged[index++] = row;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private boolean isRemoved(int row) {
+        return Arrays.binarySearch(removedRows, row) >= 0;
+    }
+
+    private int firstRemovedAtOrAfter(int row) {
+        int index = Arrays.binarySearch(removedRows, row);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private void forEachRowInOrder(long fromDay, long toDay, RowVisitor visitor) {
+        long[] appendedKeys = appendedKeysInOrder(fromDay, toDay);
+        int next = 0;
+        int from = lowerBound(fromDay);
+        int to = lowerBound(toDay);
+        int removed = firstRemovedAtOrAfter(from);
+        for (int row = from; row < to; row++) {
+            for (; next < appendedKeys.length && (int) (appendedKeys[next] >> 32) < epochDays.get(row); next++) {
+                visitAppended((int) appendedKeys[next], visitor);
+            }
+            if (removed < removedRows.length && removedRows[removed] == row) {
+                removed++;
+                continue;
+            }
+            visitor.visit(epochDays.get(row), accountIndexes.get(row), categoryIndexes.get(row), amountCents.get(row));
+        }
+        for (; next < appendedKeys.length; next++) {
+            visitAppended((int) appendedKeys[next], visitor);
+        }
+    }
+
+    private long[] appendedKeysInOrder(long fromDay, long toDay) {
+        long[] keys = new long[appendedCount];
+        int count = 0;
+        for (int index = 0; index < appendedCount; index++) {
+            int epochDay = appended.epochDays[index];
+            if (epochDay >= fromDay && epochDay < toDay && !isRemoved(baseSize + index)) {
+                keys[count++] = ((long) epochDay << 32) | index;
+            }
+        }
+        keys = Arrays.copyOf(keys, count);
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    private void visitAppended(int index, RowVisitor visitor) {
+        visitor.visit(appended.epochDays[index], appended.accountIndexes[index], appended.categoryIndexes[index], appended.amountCents[index]);
+    }
+
+    private void forEachAppendedRow(long fromDay, long toDay, RowVisitor visitor) {
+        for (int index = 0; index < appendedCount; index++) {
+            int epochDay = appended.epochDays[index];
+            if (epochDay >= fromDay && epochDay < toDay && !isRemoved(baseSize + index)) {
+                visitAppended(index, visitor);
+            }
+        }
+    }
+
+    private void forEachRemovedBaseRow(long fromDay, long toDay, RowVisitor visitor) {
+        for (int row : removedRows) {
+            if (row >= baseSize) {
+                return;
+            }
+            if (epochDays.get(row) >= fromDay && epochDays.get(row) < toDay) {
+                visitor.visit(epochDays.get(row), accountIndexes.get(row), categoryIndexes.get(row), amountCents.get(row));
+            }
+        }
+    }
+
+    private long pendingCents(Measure measure, long fromDay, long toDay) {
+        long[] cents = new long[1];
+        forEachRemovedBaseRow(fromDay, toDay, (epochDay, accountIndex, categoryIndex, amountCents) ->
+            cents[0] = Math.subtractExact(cents[0], measure.of(amountCents)));
+        forEachAppendedRow(fromDay, toDay, (epochDay, accountIndex, categoryIndex, amountCents) ->
+            cents[0] = Math.addExact(cents[0], measure.of(amountCents)));
+        return cents[0];
+    }
+
+    private MoneySeries addPendingTotals(MoneySeries totals, LedgerDimension dimension, long toDay) {
+        forEachRemovedBaseRow(Long.MIN_VALUE, toDay, (epochDay, accountIndex, categoryIndex, amountCents) ->
+            totals.add(dimension == LedgerDimension.ACCOUNT ? accountIndex : categoryIndex, -amountCents));
+        forEachAppendedRow(Long.MIN_VALUE, toDay, (epochDay, accountIndex, categoryIndex, amountCents) ->
+            totals.add(dimension == LedgerDimension.ACCOUNT ? accountIndex : categoryIndex, amountCents));
+        return totals;
+    }
+
+    private void addPendingSeries(
+        MoneySeries[] seriesByGroup,
+        LedgerDimension dimension,
+        LocalDate startDate,
+        LocalDate endDate,
+        BucketIndex buckets
+    ) {
+        long fromDay = startDate.toEpochDay();
+        long toDay = endDate.toEpochDay() + 1;
+        forEachRemovedBaseRow(fromDay, toDay, (epochDay, accountIndex, categoryIndex, amountCents) ->
+            seriesFor(seriesByGroup, dimension == LedgerDimension.ACCOUNT ? accountIndex : categoryIndex, buckets)
+                .add(buckets.indexOfEpochDay(epochDay), -amountCents));
+        forEachAppendedRow(fromDay, toDay, (epochDay, accountIndex, categoryIndex, amountCents) ->
+            seriesFor(seriesByGroup, dimension == LedgerDimension.ACCOUNT ? accountIndex : categoryIndex, buckets)
+                .add(buckets.indexOfEpochDay(epochDay), amountCents));
+    }
+
+    private MoneySeries groupTotals(IntBuffer groups, int groupCount, int fromRow, int toRow) {
+        MoneySeries totals = new MoneySeries(groupCount);
+        for (int row = fromRow; row < toRow; row++) {
+            totals.add(groups.get(row), amountCents.get(row));
+        }
+        return totals;
+    }
+
+    private MoneySeries[] bucketSeries(IntBuffer groups, int groupCount, int fromRow, int toRow, BucketIndex buckets) {
+        MoneySeries[] seriesByGroup = new MoneySeries[groupCount];
+        for (int row = fromRow; row < toRow; row++) {
+            seriesFor(seriesByGroup, groups.get(row), buckets).add(buckets.indexOfEpochDay(epochDays.get(row)), amountCents.get(row));
+        }
+        return seriesByGroup;
+    }
+
+    private static MoneySeries seriesFor(MoneySeries[] seriesByGroup, int group, BucketIndex buckets) {
+        MoneySeries series = seriesByGroup[group];
+        if (series == null) {
+            series = new MoneySeries(buckets.size());
+            seriesByGroup[group] = series;
+        }
+        return series;
+    }
+
+    private static MoneySeries[] mergeSeries(MoneySeries[] earlier, MoneySeries[] later) {
+        for (int group = 0; group < earlier.length; group++) {
+            if (later[group] == null) {
+                continue;
+            }
+            if (earlier[group] == null) {
+                earlier[group] = later[group];
+            } else {
+                earlier[group].addAll(later[group]);
+            }
+        }
+        return earlier;
+    }
+
+    private Map<Long, BigDecimal> toTotalsById(MoneySeries totals, Dictionary dictionary) {
+        Map<Long, BigDecimal> totalsById = new HashMap<>();
+        for (int group = 0; group <= totals.lastTouchedIndex(); group++) {
+            totalsById.put(dictionary.idAt(group), totals.toBigDecimal(group));
+        }
+        return totalsById;
+    }
+
+    private Map<Long, MoneySeries> toSeriesById(MoneySeries[] seriesByGroup, Dictionary dictionary) {
+        Map<Long, MoneySeries> seriesById = new HashMap<>();
+        for (int group = 0; group < seriesByGroup.length; group++) {
+            if (seriesByGroup[group] != null) {
+                seriesById.put(dictionary.idAt(group), seriesByGroup[group]);
+            }
+        }
+        return seriesById;
+    }
+
+    private long rangeSum(Measure measure, LocalDate startDate, LocalDate endDate) {
+        long fromDay = startDate.toEpochDay();
+        long toDay = endDate.toEpochDay() + 1;
+        LongBuffer prefix = switch (measure) {
+            case SIGNED -> signedPrefix;
+            case REVENUE -> revenuePrefix;
+            case EXPENSE -> expensePrefix;
+        };
+        return Math.addExact(prefix.get(lowerBound(toDay)) - prefix.get(lowerBound(fromDay)), pendingCents(measure, fromDay, toDay));
+    }
+
+    private int lowerBound(long epochDay) {
+        int low = 0;
+        int high = baseSize;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (epochDays.get(middle) < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private IntBuffer groupColumn(LedgerDimension dimension) {
+        return dimension == LedgerDimension.ACCOUNT ? accountIndexes : categoryIndexes;
+    }
+
+    private Dictionary dictionary(LedgerDimension dimension) {
+        return dimension == LedgerDimension.ACCOUNT ? accounts : categories;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    private static long alignedIntBytes(long count) {
+        return (count * Integer.BYTES + Long.BYTES - 1) / Long.BYTES * Long.BYTES;
+    }
+
+    private static void putInts(ByteBuffer buffer, IntBuffer values) {
+        IntBuffer source = values.duplicate().clear();
+        buffer.asIntBuffer().put(source);
+        buffer.position(buffer.position() + source.capacity() * Integer.BYTES);
+    }
+
+    private static void putLongs(ByteBuffer buffer, LongBuffer values) {
+        LongBuffer source = values.duplicate();
+        int length = source.remaining();
+        buffer.asLongBuffer().put(source);
+        buffer.position(buffer.position() + length * Long.BYTES);
+    }
+
+    private static long[] getLongs(ByteBuffer buffer, int length) {
+        long[] values = new long[length];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + length * Long.BYTES);
+        return values;
+    }
+
+    private static IntBuffer intView(ByteBuffer buffer, int length) {
+        int bytes = Math.multiplyExact(length, Integer.BYTES);
+        IntBuffer view = buffer.slice(buffer.position(), checkRemaining(buffer, bytes)).order(buffer.order()).asIntBuffer();
+        buffer.position(buffer.position() + bytes);
+        return view;
+    }
+
+    private static LongBuffer longView(ByteBuffer buffer, int length) {
+        int bytes = Math.multiplyExact(length, Long.BYTES);
+        LongBuffer view = buffer.slice(buffer.position(), checkRemaining(buffer, bytes)).order(buffer.order()).asLongBuffer();
+        buffer.position(buffer.position() + bytes);
+        return view;
+    }
+
+    private static void skip(ByteBuffer buffer, long bytes) {
+        buffer.position(buffer.position() + checkRemaining(buffer, Math.toIntExact(bytes)));
+    }
+
+    private static int checkRemaining(ByteBuffer buffer, int bytes) {
+        if (bytes > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return bytes;
+    }
+
+    @FunctionalInterface
+    public interface RowVisitor {
+
+        void visit(int epochDay, int accountIndex, int categoryIndex, long amountCents);
+    }
+
+    private enum Measure {
+        SIGNED,
+        REVENUE,
+        EXPENSE;
+
+        private long of(long cents) {
+            return switch (this) {
+                case SIGNED -> cents;
+                case REVENUE -> Math.max(cents, 0);
+                case EXPENSE -> Math.max(-cents, 0);
+            };
+        }
+    }
+
+    private static final class AppendedRows {
+
+        private final int[] epochDays;
+        private final int[] accountIndexes;
+        private final int[] categoryIndexes;
+        private final long[] amountCents;
+        private int claimed;
+
+        private AppendedRows(int capacity) {
+            this.epochDays = new int[capacity];
+            this.accountIndexes = new int[capacity];
+            this.categoryIndexes = new int[capacity];
+            this.amountCents = new long[capacity];
+        }
+
+        private AppendedRows forAppend(int count, int additional) {
+            if (additional == 0) {
+                return this;
+            }
+            if (claimed == count && count + additional <= epochDays.length) {
+                return this;
+            }
+            AppendedRows copy = new AppendedRows(Math.max(64, Math.max(count + additional, epochDays.length * 2)));
+            System.arraycopy(epochDays, 0, copy.epochDays, 0, count);
+            System.arraycopy(accountIndexes, 0, copy.accountIndexes, 0, count);
+            System.arraycopy(categoryIndexes, 0, copy.categoryIndexes, 0, count);
+            System.arraycopy(amountCents, 0, copy.amountCents, 0, count);
+            copy.claimed = count;
+            return copy;
+        }
+
+        private void set(int index, int epochDay, int accountIndex, int categoryIndex, long cents) {
+            epochDays[index] = epochDay;
+            accountIndexes[index] = accountIndex;
+            categoryIndexes[index] = categoryIndex;
+            amountCents[index] = cents;
+            claimed = index + 1;
+        }
+    }
+
+    public static final class Builder {
+
+        private final Dictionary accounts;
+        private final Dictionary categories;
+        private int[] epochDays;
+        private int[] accountIndexes;
+        private int[] categoryIndexes;
+        private long[] amountCents;
+        private int size;
+
+        private Builder(Dictionary accounts, Dictionary categories, int capacity) {
+            this(accounts, categories, new int[capacity], new int[capacity], new int[capacity], new long[capacity], 0);
+        }
+
+        private Builder(
+            Dictionary accounts,
+            Dictionary categories,
+            int[] epochDays,
+            int[] accountIndexes,
+            int[] categoryIndexes,
+            long[] amountCents,
+            int size
+        ) {
+            this.accounts = accounts;
+            this.categories = categories;
+            this.epochDays = epochDays;
+            this.accountIndexes = accountIndexes;
+            this.categoryIndexes = categoryIndexes;
+            this.amountCents = amountCents;
+            this.size = size;
+        }
+
+        public Builder add(EntryLedgerRow row) {
+            return add(row.epochDay(), row.accountId(), row.categoryId(), row.amountCents());
+        }
+
+        public Builder add(long epochDay, long accountId, long categoryId, long amountCents) {
+            return append(Math.toIntExact(epochDay), accounts.indexOrAdd(accountId), categories.indexOrAdd(categoryId), amountCents);
+        }
+
+        public LedgerColumns build() {
+            return new LedgerColumns(this);
+        }
+
+        private Builder append(int epochDay, int accountIndex, int categoryIndex, long cents) {
+            if (size > 0 && epochDay < epochDays[size - 1]) {
+                throw new IllegalArgumentException("Ledger rows must be added in settlement date order");
+            }
+            if (size == epochDays.length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                accountIndexes = Arrays.copyOf(accountIndexes, capacity);
+                categoryIndexes = Arrays.copyOf(categoryIndexes, capacity);
+                amountCents = Arrays.copyOf(amountCents, capacity);
+            }
+            epochDays[size] = epochDay;
+            accountIndexes[size] = accountIndex;
+            categoryIndexes[size] = categoryIndex;
+            amountCents[size] = cents;
+            size++;
+            return this;
+        }
+    }
+
+    private static final class Dictionary {
+
+        private final Map<Long, Integer> indexById;
+        private long[] ids;
+        private int size;
+
+        private Dictionary() {
+            this(new HashMap<>(), new long[16], 0);
+        }
+
+        private Dictionary(Map<Long, Integer> indexById, long[] ids, int size) {
+            this.indexById = indexById;
+            this.ids = ids;
+            this.size = size;
+        }
+
+        private static Dictionary of(long[] ids) {
+            Dictionary dictionary = new Dictionary(new HashMap<>(), ids, 0);
+            for (long id : ids) {
+                if (dictionary.indexById.putIfAbsent(id, dictionary.size++) != null) {
+                    throw new IllegalArgumentException("Ledger snapshot repeats a dictionary id");
+                }
+            }
+            return dictionary;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private long idAt(int index) {
+            return ids[index];
+        }
+
+        private int indexOf(long id) {
+            return indexById.getOrDefault(id, -1);
+        }
+
+        private int indexOrAdd(long id) {
+            Integer index = indexById.get(id);
+            if (index != null) {
+                return index;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(16, size * 2));
+            }
+            ids[size] = id;
+            indexById.put(id, size);
+            return size++;
+        }
+
+        private Dictionary copy() {
+            return new Dictionary(new HashMap<>(indexById), Arrays.copyOf(ids, ids.length), size);
+        }
+    }
+}
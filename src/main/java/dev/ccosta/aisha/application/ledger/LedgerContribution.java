@@ -0,0 +1,22 @@
+package dev.ccosta.aisha.application.ledger;
+
+import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryDraft;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record LedgerContribution(LocalDate settlementDate, Long accountId, Long categoryId, BigDecimal amount) {
+
+    public static LedgerContribution of(Entry entry) {
+        return new LedgerContribution(
+            entry.getSettlementDate(),
+            entry.getAccount().getId(),
+            entry.getCategory().getId(),
+            entry.getAmount()
+        );
+    }
+
+    public static LedgerContribution of(EntryDraft draft) {
+        return new LedgerContribution(draft.settlementDate(), draft.accountId(), draft.categoryId(), draft.amount());
+    }
+}
@@ -0,0 +1,6 @@
+package dev.ccosta.aisha.application.ledger;
+
+public enum LedgerDimension {
+    ACCOUNT,
+    CATEGORY
+}
@@ -0,0 +1,42 @@
+package dev.ccosta.aisha.application.ledger;
+
+import dev.ccosta.aisha.domain.ledger.DailyRollupRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableConfigurationProperties(LedgerRollupProperties.class)
+public class LedgerRollupInitializer implements ApplicationRunner {
+
+    private final LedgerRollupService ledgerRollupService;
+    private final DailyRollupRepository dailyRollupRepository;
+    private final LedgerRollupProperties properties;
+    private final ObjectProvider<LedgerSnapshotService> ledgerSnapshotService;
+
+    public LedgerRollupInitializer(
+        LedgerRollupService ledgerRollupService,
+        DailyRollupRepository dailyRollupRepository,
+        LedgerRollupProperties properties,
+        ObjectProvider<LedgerSnapshotService> ledgerSnapshotService
+    ) {
+        this.ledgerRollupService = ledgerRollupService;
+        this.dailyRollupRepository = dailyRollupRepository;
+        this.properties = properties;
+        this.ledgerSnapshotService = ledgerSnapshotService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Rollups are maintained on every entry write, so a full rebuild is only needed when the
+        // table has never been filled or an operator asks for it. A restored snapshot was verified against the
+        // entries table, which the rollups are written alongside, so a requested rebuild is skipped then.
+        LedgerSnapshotService snapshots = ledgerSnapshotService.getIfAvailable();
+        boolean restored = snapshots != null && snapshots.isRestored();
+        if ((properties.rebuildOnStartup() && !restored) || dailyRollupRepository.findEarliestSettlementDate().isEmpty()) {
+            ledgerRollupService.rebuild();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package dev.ccosta.aisha.application.ledger;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("aisha.ledger.rollup")
+public record LedgerRollupProperties(boolean rebuildOnStartup) {
+}
@@ -0,0 +1,199 @@
+package dev.ccosta.aisha.application.ledger;
+
+import dev.ccosta.aisha.domain.entry.EntryLedgerRow;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.ledger.DailyRollup;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class LedgerRollupService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final DailyRollupRepository dailyRollupRepository;
+    private final EntryRepository entryRepository;
+    private final BalanceCheckpointService balanceCheckpointService;
+
+    public LedgerRollupService(
+        DailyRollupRepository dailyRollupRepository,
+        EntryRepository entryRepository,
+        BalanceCheckpointService balanceCheckpointService
+    ) {
+        this.dailyRollupRepository = dailyRollupRepository;
+        this.entryRepository = entryRepository;
+        this.balanceCheckpointService = balanceCheckpointService;
+    }
+
+    @EventListener
+    @Transactional
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        Map<RollupKey, RollupDelta> deltas = new LinkedHashMap<>();
+        LocalDate earliestSettlementDate = null;
+        for (LedgerContribution contribution : event.removed()) {
+            deltas.computeIfAbsent(RollupKey.of(contribution), key -> new RollupDelta()).add(contribution.amount(), -1);
+            earliestSettlementDate = min(earliestSettlementDate, contribution.settlementDate());
+        }
+        for (LedgerContribution contribution : event.added()) {
+            deltas.computeIfAbsent(RollupKey.of(contribution), key -> new RollupDelta()).add(contribution.amount(), 1);
+            earliestSettlementDate = min(earliestSettlementDate, contribution.settlementDate());
+        }
+        deltas.forEach(this::apply);
+
+        if (earliestSettlementDate != null) {
+            balanceCheckpointService.invalidateAfter(earliestSettlementDate);
+        }
+    }
+
+    @Transactional
+    public void rebuild() {
+        balanceCheckpointService.lockRefresh();
+        dailyRollupRepository.deleteAll();
+
+        List<DailyRollup> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+        RollupAccumulator current = null;
+        try (Stream<EntryLedgerRow> rows = entryRepository.streamLedgerRows()) {
+            Iterator<EntryLedgerRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                EntryLedgerRow row = iterator.next();
+                if (current == null || !current.matches(row)) {
+                    if (current != null) {
+                        addToBatch(batch, current.toRollup());
+                    }
+                    current = new RollupAccumulator(row);
+                }
+                current.add(row);
+            }
+        }
+
+        if (current != null) {
+            batch.add(current.toRollup());
+        }
+        dailyRollupRepository.saveAll(batch);
+        balanceCheckpointService.rebuild();
+    }
+
+    private void addToBatch(List<DailyRollup> batch, DailyRollup rollup) {
+        batch.add(rollup);
+        if (batch.size() >= REBUILD_BATCH_SIZE) {
+            dailyRollupRepository.saveAll(batch);
+            batch.clear();
+        }
+    }
+
+    private void apply(RollupKey key, RollupDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        DailyRollup change = newRollup(key.settlementDate(), key.accountId(), key.categoryId());
+        change.setSignedAmount(delta.signedAmount);
+        change.setRevenueAmount(delta.revenueAmount);
+        change.setExpenseAmount(delta.expenseAmount);
+        change.setEntryCount(delta.entryCount);
+        dailyRollupRepository.addDelta(change);
+
+        if (delta.entryCount < 0) {
+            dailyRollupRepository.deleteEmpty(key.settlementDate(), key.accountId(), key.categoryId());
+        }
+    }
+
+    private LocalDate min(LocalDate current, LocalDate candidate) {
+        if (current == null || candidate.isBefore(current)) {
+            return candidate;
+        }
+        return current;
+    }
+
+    private static DailyRollup newRollup(LocalDate settlementDate, Long accountId, Long categoryId) {
+        DailyRollup rollup = new DailyRollup();
+        rollup.setSettlementDate(settlementDate);
+        rollup.setAccountId(accountId);
+        rollup.setCategoryId(categoryId);
+        return rollup;
+    }
+
+    private record RollupKey(LocalDate settlementDate, Long accountId, Long categoryId) {
+
+        private static RollupKey of(LedgerContribution contribution) {
+            return new RollupKey(contribution.settlementDate(), contribution.accountId(), contribution.categoryId());
+        }
+    }
+
+    private static final class RollupDelta {
+
+        private BigDecimal signedAmount = BigDecimal.ZERO;
+        private BigDecimal revenueAmount = BigDecimal.ZERO;
+        private BigDecimal expenseAmount = BigDecimal.ZERO;
+        private long entryCount;
+
+        private void add(BigDecimal amount, int direction) {
+            BigDecimal delta = direction < 0 ? amount.negate() : amount;
+            signedAmount = signedAmount.add(delta);
+            if (amount.signum() > 0) {
+                revenueAmount = revenueAmount.add(delta);
+            } else if (amount.signum() < 0) {
+                expenseAmount = expenseAmount.subtract(delta);
+            }
+            entryCount += direction;
+        }
+
+        private boolean isEmpty() {
+            return entryCount == 0
+                && signedAmount.signum() == 0
+                && revenueAmount.signum() == 0
+                && expenseAmount.signum() == 0;
+        }
+    }
+
+    private static final class RollupAccumulator {
+
+        private final long epochDay;
+        private final long accountId;
+        private final long categoryId;
+        private final MoneyAccumulator signedAmount = new MoneyAccumulator();
+        private final MoneyAccumulator revenueAmount = new MoneyAccumulator();
+        private final MoneyAccumulator expenseAmount = new MoneyAccumulator();
+        private long entryCount;
+
+        private RollupAccumulator(EntryLedgerRow row) {
+            this.epochDay = row.epochDay();
+            this.accountId = row.accountId();
+            this.categoryId = row.categoryId();
+        }
+
+        private boolean matches(EntryLedgerRow row) {
+            return row.epochDay() == epochDay && row.accountId() == accountId && row.categoryId() == categoryId;
+        }
+
+        private void add(EntryLedgerRow row) {
+            long amountCents = row.amountCents();
+            signedAmount.add(amountCents);
+            if (amountCents > 0) {
+                revenueAmount.add(amountCents);
+            } else if (amountCents < 0) {
+                expenseAmount.subtract(amountCents);
+            }
+            entryCount++;
+        }
+
+        private DailyRollup toRollup() {
+            DailyRollup rollup = newRollup(LocalDate.ofEpochDay(epochDay), accountId, categoryId);
+            rollup.setSignedAmount(signedAmount.toBigDecimal());
+            rollup.setRevenueAmount(revenueAmount.toBigDecimal());
+            rollup.setExpenseAmount(expenseAmount.toBigDecimal());
+            rollup.setEntryCount(entryCount);
+            return rollup;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package dev.ccosta.aisha.application.ledger;
+
+record LedgerSnapshot(LedgerColumns columns, long journalPosition) {
+}
@@ -0,0 +1,90 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+final class LedgerSnapshotFile {
+
+    private static final int MAGIC = 0x41534C53;
+    private static final int FORMAT_VERSION = 3;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES + 2 * Long.BYTES;
+
+    private LedgerSnapshotFile() {
+    }
+
+    static void write(Path path, LedgerSnapshot snapshot) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+
+        LedgerColumns columns = snapshot.columns().compacted();
+        int payloadBytes = columns.snapshotBytes();
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) HEADER_BYTES + payloadBytes);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.position(HEADER_BYTES);
+            columns.writeTo(buffer);
+
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.slice(HEADER_BYTES, payloadBytes));
+            buffer.putInt(0, MAGIC)
+                .putInt(4, FORMAT_VERSION)
+                .putLong(8, snapshot.journalPosition())
+                .putLong(16, checksum.getValue());
+            buffer.force();
+        }
+        Files.move(temporary, path, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps the snapshot read-only. The restored columns keep reading from the mapping, which stays valid after the
+     * channel closes and after a later snapshot replaces the file.
+     */
+    static Optional<LedgerSnapshot> read(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            long fileBytes = channel.size();
+            if (fileBytes < HEADER_BYTES || fileBytes - HEADER_BYTES > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Ledger snapshot has an invalid length");
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileBytes);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Ledger snapshot has an unknown format");
+            }
+
+            ByteBuffer payload = buffer.slice(HEADER_BYTES, (int) (fileBytes - HEADER_BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32 checksum = new CRC32();
+            checksum.update(payload.duplicate());
+            if (checksum.getValue() != buffer.getLong(16)) {
+                throw new IllegalArgumentException("Ledger snapshot checksum does not match");
+            }
+
+            LedgerColumns columns = LedgerColumns.readFrom(payload);
+            if (payload.hasRemaining()) {
+                throw new IllegalArgumentException("Ledger snapshot has trailing bytes");
+            }
+            return Optional.of(new LedgerSnapshot(columns, buffer.getLong(8)));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package dev.ccosta.aisha.application.ledger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnExpression("${aisha.ledger.columnar.enabled:false} and ${aisha.ledger.columnar.snapshot.enabled:false}")
+public class LedgerSnapshotLifecycle implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerSnapshotLifecycle.class);
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final LedgerSnapshotService ledgerSnapshotService;
+    private volatile boolean running;
+    private Thread writer;
+
+    public LedgerSnapshotLifecycle(LedgerSnapshotService ledgerSnapshotService) {
+        this.ledgerSnapshotService = ledgerSnapshotService;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofVirtual().name("ledger-snapshot-writer").start(this::writeSnapshots);
+    }
+
+    @Override
+    public void stop() {
+        try {
+            stopWriter();
+            ledgerSnapshotService.save();
+        } finally {
+            running = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void writeSnapshots() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                ledgerSnapshotService.awaitSaveDue();
+                try {
+                    ledgerSnapshotService.save();
+                } catch (RuntimeException exception) {
+                    log.warn("Ledger snapshot could not be saved; retrying at the next interval", exception);
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void stopWriter() {
+        if (writer == null) {
+            return;
+        }
+        writer.interrupt();
+        try {
+            writer.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+}
@@ -0,0 +1,21 @@
+package dev.ccosta.aisha.application.ledger;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("aisha.ledger.columnar.snapshot")
+public record LedgerSnapshotProperties(boolean enabled, Path path, Duration interval, long journalRows) {
+
+    public LedgerSnapshotProperties {
+        if (enabled && path == null) {
+            throw new IllegalArgumentException("Ledger snapshot path is required when the snapshot is enabled");
+        }
+        if (enabled && (interval == null || interval.isNegative() || interval.isZero())) {
+            throw new IllegalArgumentException("Ledger snapshot interval must be positive");
+        }
+        if (enabled && journalRows < 1) {
+            throw new IllegalArgumentException("Ledger snapshot journal rows must be positive");
+        }
+    }
+}
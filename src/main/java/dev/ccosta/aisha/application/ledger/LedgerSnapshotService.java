@@ -0,0 +1,300 @@
+package dev.ccosta.aisha.application.ledger;
+
+import dev.ccosta.aisha.domain.entry.EntryDayChecksum;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.ledger.LedgerJournalEntry;
+import dev.ccosta.aisha.domain.ledger.LedgerJournalRepository;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@ConditionalOnExpression("${aisha.ledger.columnar.enabled:false} and ${aisha.ledger.columnar.snapshot.enabled:false}")
+@EnableConfigurationProperties(LedgerSnapshotProperties.class)
+public class LedgerSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerSnapshotService.class);
+
+    private final ColumnarLedger columnarLedger;
+    private final LedgerJournalRepository ledgerJournalRepository;
+    private final EntryRepository entryRepository;
+    private final LedgerSnapshotProperties properties;
+    private final Object pendingJournalKey = new Object();
+    private final AtomicLong journalRowsSinceSave = new AtomicLong();
+    private final ReentrantLock saveDueLock = new ReentrantLock();
+    private final Condition saveDue = saveDueLock.newCondition();
+    private volatile long savedPosition = -1;
+    private volatile boolean restored;
+
+    public LedgerSnapshotService(
+        ColumnarLedger columnarLedger,
+        LedgerJournalRepository ledgerJournalRepository,
+        EntryRepository entryRepository,
+        LedgerSnapshotProperties properties
+    ) {
+        this.columnarLedger = columnarLedger;
+        this.ledgerJournalRepository = ledgerJournalRepository;
+        this.entryRepository = entryRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Journals the change when its transaction is about to commit. The position counter row stays locked only from
+     * then until the commit, so positions follow commit order without writers queueing on it for their whole work.
+     */
+    @EventListener
+    @Transactional
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            journal(List.of(event));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<LedgerChangedEvent> pending = (List<LedgerChangedEvent>) TransactionSynchronizationManager.getResource(pendingJournalKey);
+        if (pending == null) {
+            List<LedgerChangedEvent> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(pendingJournalKey, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    journal(events);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingJournalKey);
+                }
+            });
+            pending = events;
+        }
+        pending.add(event);
+    }
+
+    private void journal(List<LedgerChangedEvent> events) {
+        List<LedgerJournalEntry> entries = new ArrayList<>();
+        for (LedgerChangedEvent event : events) {
+            long position = ledgerJournalRepository.advancePosition();
+            addJournalEntries(entries, event.removed(), true, position);
+            addJournalEntries(entries, event.added(), false, position);
+            columnarLedger.recordJournalPosition(event, position);
+        }
+        ledgerJournalRepository.saveAll(entries);
+        if (journalRowsSinceSave.addAndGet(entries.size()) >= properties.journalRows()) {
+            saveDueLock.lock();
+            try {
+                saveDue.signalAll();
+            } finally {
+                saveDueLock.unlock();
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public boolean restore() {
+        restored = columnarLedger.restore(this::readSnapshot);
+        return restored;
+    }
+
+    /**
+     * Tells whether the columns came from a snapshot verified against the entries table, so startup work that only
+     * rebuilds derived state can be skipped.
+     */
+    public boolean isRestored() {
+        return restored;
+    }
+
+    /**
+     * Returns the restored columns as they currently stand, or nothing when they were loaded from the database or
+     * have since been dropped.
+     */
+    public Optional<LedgerColumns> restoredColumns() {
+        return restored ? columnarLedger.columns() : Optional.empty();
+    }
+
+    /**
+     * Waits until the configured interval elapses or enough journal rows were written since the last save.
+     */
+    public void awaitSaveDue() throws InterruptedException {
+        long remaining = properties.interval().toNanos();
+        saveDueLock.lockInterruptibly();
+        try {
+            while (remaining > 0 && journalRowsSinceSave.get() < properties.journalRows()) {
+                remaining = saveDue.awaitNanos(remaining);
+            }
+        } finally {
+            saveDueLock.unlock();
+        }
+    }
+
+    @Transactional
+    public void save() {
+        journalRowsSinceSave.set(0);
+        Optional<LedgerSnapshot> snapshot = columnarLedger.snapshot();
+        if (snapshot.isEmpty() || snapshot.get().journalPosition() == savedPosition) {
+            return;
+        }
+
+        try {
+            LedgerSnapshotFile.write(properties.path(), snapshot.get());
+        } catch (IOException exception) {
+            log.warn("Ledger snapshot {} could not be written", properties.path(), exception);
+            return;
+        }
+        savedPosition = snapshot.get().journalPosition();
+        ledgerJournalRepository.deleteUpTo(snapshot.get().journalPosition());
+        log.info(
+            "Ledger snapshot {} written with {} entries at journal position {}",
+            properties.path(),
+            snapshot.get().columns().size(),
+            snapshot.get().journalPosition()
+        );
+    }
+
+    private Optional<LedgerSnapshot> readSnapshot() {
+        try {
+            Optional<LedgerSnapshot> snapshot = LedgerSnapshotFile.read(properties.path());
+            if (snapshot.isEmpty()) {
+                return Optional.empty();
+            }
+
+            List<LedgerJournalEntry> journal = ledgerJournalRepository.listAfter(snapshot.get().journalPosition());
+            LedgerColumns columns = replay(snapshot.get().columns(), journal);
+            if (!matches(columns, journal)) {
+                log.info("Ledger snapshot {} does not match the entries table; loading from the database", properties.path());
+                return Optional.empty();
+            }
+
+            savedPosition = snapshot.get().journalPosition();
+            long position = journal.isEmpty() ? snapshot.get().journalPosition() : journal.getLast().getJournalPosition();
+            log.info("Ledger snapshot {} restored with {} entries and {} journal changes", properties.path(), columns.size(), journal.size());
+            return Optional.of(new LedgerSnapshot(columns, position));
+        } catch (IOException | IllegalArgumentException | IllegalStateException | ArithmeticException | BufferUnderflowException exception) {
+            log.warn("Ledger snapshot {} could not be restored; loading from the database", properties.path(), exception);
+            return Optional.empty();
+        }
+    }
+
+    private static LedgerColumns replay(LedgerColumns columns, List<LedgerJournalEntry> journal) {
+        Map<LedgerContribution, Integer> pendingAdded = new HashMap<>();
+        List<LedgerContribution> removed = new ArrayList<>();
+        for (LedgerJournalEntry entry : journal) {
+            LedgerContribution contribution = new LedgerContribution(
+                entry.getSettlementDate(),
+                entry.getAccountId(),
+                entry.getCategoryId(),
+                entry.getAmount().setScale(2)
+            );
+            if (!entry.isRemoved()) {
+                pendingAdded.merge(contribution, 1, Integer::sum);
+                continue;
+            }
+
+            Integer pending = pendingAdded.get(contribution);
+            if (pending == null) {
+                removed.add(contribution);
+            } else if (pending == 1) {
+                pendingAdded.remove(contribution);
+            } else {
+                pendingAdded.put(contribution, pending - 1);
+            }
+        }
+
+        List<LedgerContribution> added = new ArrayList<>();
+        pendingAdded.forEach((contribution, count) -> {
+            for (int copy = 0; copy < count; copy++) {
+                added.add(contribution);
+            }
+        });
+        return columns.withChanges(removed, added);
+    }
+
+    /**
+     * Checks the replayed columns against the entries table without scanning it: the entry count must match, and
+     * every day the journal touched must have the same count and totals. Edits made outside the application to other
+     * days go unnoticed unless they change the count.
+     */
+    private boolean matches(LedgerColumns columns, List<LedgerJournalEntry> journal) {
+        if (entryRepository.count() != columns.size()) {
+            return false;
+        }
+
+        Set<LocalDate> touchedDays = new HashSet<>();
+        for (LedgerJournalEntry entry : journal) {
+            touchedDays.add(entry.getSettlementDate());
+        }
+        if (touchedDays.isEmpty()) {
+            return true;
+        }
+
+        Map<Long, DayChecksum> expected = new HashMap<>();
+        for (EntryDayChecksum checksum : entryRepository.listDayChecksums(touchedDays)) {
+            expected.put(checksum.settlementDate().toEpochDay(), new DayChecksum(
+                checksum.entryCount(),
+                checksum.amountTotal().movePointRight(2).longValueExact(),
+                checksum.accountIdTotal(),
+                checksum.categoryIdTotal()
+            ));
+        }
+
+        Map<Long, DayChecksum> actual = new HashMap<>();
+        for (LocalDate day : touchedDays) {
+            columns.forEachRow(day, day, (epochDay, accountIndex, categoryIndex, amountCents) -> actual.merge(
+                (long) epochDay,
+                new DayChecksum(1, amountCents, columns.accountId(accountIndex), columns.categoryId(categoryIndex)),
+                DayChecksum::plus
+            ));
+        }
+        return actual.equals(expected);
+    }
+
+    private void addJournalEntries(
+        List<LedgerJournalEntry> entries,
+        Collection<LedgerContribution> contributions,
+        boolean removed,
+        long position
+    ) {
+        for (LedgerContribution contribution : contributions) {
+            LedgerJournalEntry entry = new LedgerJournalEntry();
+            entry.setSettlementDate(contribution.settlementDate());
+            entry.setAccountId(contribution.accountId());
+            entry.setCategoryId(contribution.categoryId());
+            entry.setAmount(contribution.amount());
+            entry.setRemoved(removed);
+            entry.setJournalPosition(position);
+            entries.add(entry);
+        }
+    }
+
+    private record DayChecksum(long entryCount, long amountCents, long accountIdTotal, long categoryIdTotal) {
+
+        private DayChecksum plus(DayChecksum other) {
+            return new DayChecksum(
+                entryCount + other.entryCount,
+                Math.addExact(amountCents, other.amountCents),
+                accountIdTotal + other.accountIdTotal,
+                categoryIdTotal + other.categoryIdTotal
+            );
+        }
+    }
+}
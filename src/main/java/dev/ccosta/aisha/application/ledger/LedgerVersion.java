@@ -0,0 +1,58 @@
+package dev.ccosta.aisha.application.ledger;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class LedgerVersion {
+
+    private final Clock clock;
+    private final AtomicReference<Snapshot> current;
+
+    public LedgerVersion() {
+        this(Clock.systemUTC());
+    }
+
+    LedgerVersion(Clock clock) {
+        this.clock = clock;
+        // The counter restarts at 0 on every boot, so a per-boot epoch keeps tags issued before a
+        // restart from matching tags issued after it.
+        String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+        this.current = new AtomicReference<>(new Snapshot(epoch, 0, clock.instant()));
+    }
+
+    public long current() {
+        return current.get().version();
+    }
+
+    public Snapshot snapshot() {
+        return current.get();
+    }
+
+    public void bumpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump();
+            }
+        });
+    }
+
+    private void bump() {
+        Instant now = clock.instant();
+        current.updateAndGet(snapshot -> new Snapshot(snapshot.epoch(), snapshot.version() + 1, now));
+    }
+
+    public record Snapshot(String epoch, long version, Instant lastModified) {
+    }
+}
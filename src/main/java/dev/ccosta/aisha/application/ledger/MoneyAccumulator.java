@@ -0,0 +1,83 @@
+package dev.ccosta.aisha.application.ledger;
+
+import java.math.BigDecimal;
+
+public final class MoneyAccumulator implements Comparable<MoneyAccumulator> {
+
+    private static final int SCALE = 2;
+
+    private long cents;
+    private BigDecimal overflow;
+
+    public static MoneyAccumulator of(BigDecimal amount) {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        accumulator.add(amount);
+        return accumulator;
+    }
+
+    public void add(long amountCents) {
+        if (overflow != null) {
+            overflow = overflow.add(BigDecimal.valueOf(amountCents, SCALE));
+            return;
+        }
+
+        long result = cents + amountCents;
+        if (((cents ^ result) & (amountCents ^ result)) < 0) {
+            overflow = BigDecimal.valueOf(cents, SCALE).add(BigDecimal.valueOf(amountCents, SCALE));
+            return;
+        }
+        cents = result;
+    }
+
+    public void subtract(long amountCents) {
+        if (amountCents == Long.MIN_VALUE) {
+            overflow = toBigDecimal().subtract(BigDecimal.valueOf(amountCents, SCALE));
+            return;
+        }
+        add(-amountCents);
+    }
+
+    public void add(BigDecimal amount) {
+        if (overflow == null && amount.scale() <= SCALE && amount.precision() - amount.scale() <= 16) {
+            add(amount.movePointRight(SCALE).longValue());
+            return;
+        }
+        overflow = toBigDecimal().add(amount);
+    }
+
+    public void add(MoneyAccumulator other) {
+        if (other.overflow != null) {
+            overflow = toBigDecimal().add(other.overflow);
+            return;
+        }
+        add(other.cents);
+    }
+
+    public void addAbsolute(MoneyAccumulator other) {
+        if (other.signum() >= 0) {
+            add(other);
+            return;
+        }
+        if (other.overflow != null) {
+            overflow = toBigDecimal().subtract(other.overflow);
+            return;
+        }
+        subtract(other.cents);
+    }
+
+    public int signum() {
+        return overflow != null ? overflow.signum() : Long.signum(cents);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return overflow != null ? overflow : BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public int compareTo(MoneyAccumulator other) {
+        if (overflow == null && other.overflow == null) {
+            return Long.compare(cents, other.cents);
+        }
+        return toBigDecimal().compareTo(other.toBigDecimal());
+    }
+}
@@ -0,0 +1,130 @@
+package dev.ccosta.aisha.application.ledger;
+
+import java.math.BigDecimal;
+
+public final class MoneySeries {
+
+    private static final int SCALE = 2;
+
+    private final long[] cents;
+    private BigDecimal[] overflow;
+    private int lastTouchedIndex = -1;
+
+    public MoneySeries(int size) {
+        this.cents = new long[size];
+    }
+
+    public int size() {
+        return cents.length;
+    }
+
+    public boolean isEmpty() {
+        return lastTouchedIndex < 0;
+    }
+
+    public int lastTouchedIndex() {
+        return lastTouchedIndex;
+    }
+
+    public void add(int index, long amountCents) {
+        touch(index);
+        if (overflow != null && overflow[index] != null) {
+            overflow[index] = overflow[index].add(BigDecimal.valueOf(amountCents, SCALE));
+            return;
+        }
+
+        long current = cents[index];
+        long result = current + amountCents;
+        if (((current ^ result) & (amountCents ^ result)) < 0) {
+            overflowAt(index, BigDecimal.valueOf(current, SCALE).add(BigDecimal.valueOf(amountCents, SCALE)));
+            return;
+        }
+        cents[index] = result;
+    }
+
+    public void add(int index, BigDecimal amount) {
+        if ((overflow == null || overflow[index] == null)
+            && amount.scale() <= SCALE
+            && amount.precision() - amount.scale() <= 16) {
+            add(index, amount.movePointRight(SCALE).longValue());
+            return;
+        }
+        touch(index);
+        overflowAt(index, toBigDecimal(index).add(amount));
+    }
+
+    public void add(int index, MoneySeries source, int sourceIndex) {
+        if (source.overflow != null && source.overflow[sourceIndex] != null) {
+            add(index, source.overflow[sourceIndex]);
+        } else if (sourceIndex <= source.lastTouchedIndex) {
+            add(index, source.cents[sourceIndex]);
+        }
+    }
+
+    public void addAll(MoneySeries other) {
+        for (int index = 0; index <= other.lastTouchedIndex; index++) {
+            if (other.overflow != null && other.overflow[index] != null) {
+                add(index, other.overflow[index]);
+            } else if (other.cents[index] != 0) {
+                add(index, other.cents[index]);
+            }
+        }
+        if (other.lastTouchedIndex > lastTouchedIndex) {
+            lastTouchedIndex = other.lastTouchedIndex;
+        }
+    }
+
+    public void addTo(int index, MoneyAccumulator target) {
+        if (overflow != null && overflow[index] != null) {
+            target.add(overflow[index]);
+            return;
+        }
+        target.add(cents[index]);
+    }
+
+    public MoneyAccumulator sumAbsolute() {
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (int index = 0; index <= lastTouchedIndex; index++) {
+            if (overflow != null && overflow[index] != null) {
+                total.add(overflow[index].abs());
+            } else {
+                long amountCents = cents[index];
+                if (amountCents >= 0) {
+                    total.add(amountCents);
+                } else {
+                    total.subtract(amountCents);
+                }
+            }
+        }
+        return total;
+    }
+
+    public int signum(int index) {
+        if (overflow != null && overflow[index] != null) {
+            return overflow[index].signum();
+        }
+        return Long.signum(cents[index]);
+    }
+
+    public BigDecimal toBigDecimal(int index) {
+        if (overflow != null && overflow[index] != null) {
+            return overflow[index];
+        }
+        long amountCents = cents[index];
+        return amountCents == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(amountCents, SCALE);
+    }
+
+    private void touch(int index) {
+        if (index > lastTouchedIndex) {
+            lastTouchedIndex = index;
+        }
+    }
+
+    private void overflowAt(int index, BigDecimal value) {
+        if (overflow == null) {
+            overflow = new BigDecimal[cents.length];
+        }
+        overflow[index] = value;
+        cents[index] = 0;
+    }
+}
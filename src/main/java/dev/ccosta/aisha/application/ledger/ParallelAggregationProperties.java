@@ -0,0 +1,19 @@
+package dev.ccosta.aisha.application.ledger;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("aisha.ledger.parallel-aggregation")
+public record ParallelAggregationProperties(int threshold, int parallelism) {
+
+    public ParallelAggregationProperties {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Parallel aggregation threshold must be positive");
+        }
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Parallel aggregation parallelism must not be negative");
+        }
+        if (parallelism == 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package dev.ccosta.aisha.application.ledger;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@EnableConfigurationProperties(ParallelAggregationProperties.class)
+public class ParallelAggregator implements AutoCloseable {
+
+    private final int threshold;
+    private final int parallelism;
+    private final ForkJoinPool pool;
+
+    public ParallelAggregator(ParallelAggregationProperties properties) {
+        this.threshold = properties.threshold();
+        this.parallelism = properties.parallelism();
+        this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+
+    public <T> T aggregate(int fromRow, int toRow, Segment<T> segment, BinaryOperator<T> merge) {
+        int rows = toRow - fromRow;
+        if (pool == null || rows < threshold) {
+            return segment.aggregate(fromRow, toRow);
+        }
+
+        int segmentRows = Math.ceilDiv(rows, parallelism);
+        return pool.invoke(new SegmentTask<>(fromRow, toRow, segmentRows, segment, merge));
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Segment<T> {
+
+        T aggregate(int fromRow, int toRow);
+    }
+
+    private static final class SegmentTask<T> extends RecursiveTask<T> {
+
+        private final int fromRow;
+        private final int toRow;
+        private final int segmentRows;
+        private final Segment<T> segment;
+        private final BinaryOperator<T> merge;
+
+        private SegmentTask(int fromRow, int toRow, int segmentRows, Segment<T> segment, BinaryOperator<T> merge) {
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.segmentRows = segmentRows;
+            this.segment = segment;
+            this.merge = merge;
+        }
+
+        @Override
+        protected T compute() {
+            if (toRow - fromRow <= segmentRows) {
+                return segment.aggregate(fromRow, toRow);
+            }
+
+            int middleRow = fromRow + (toRow - fromRow) / 2;
+            SegmentTask<T> earlier = new SegmentTask<>(fromRow, middleRow, segmentRows, segment, merge);
+            SegmentTask<T> later = new SegmentTask<>(middleRow, toRow, segmentRows, segment, merge);
+            earlier.fork();
+            T laterResult = later.compute();
+            return merge.apply(earlier.join(), laterResult);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package dev.ccosta.aisha.application.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+class CsvStatementReader implements StatementReader {
+
+    private static final Map<String, String> COLUMN_ALIASES = Map.ofEntries(
+        Map.entry("date", "settlementdate"),
+        Map.entry("settlementdate", "settlementdate"),
+        Map.entry("movementdate", "movementdate"),
+        Map.entry("description", "description"),
+        Map.entry("amount", "amount"),
+        Map.entry("notes", "notes"),
+        Map.entry("account", "account"),
+        Map.entry("category", "category")
+    );
+
+    @Override
+    public void read(Reader reader, Consumer<StatementLine> sink) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String header = lines.readLine();
+        if (header == null) {
+            return;
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+
+        char delimiter = detectDelimiter(header);
+        Map<String, Integer> columns = parseHeader(split(header, delimiter, 1));
+
+        long lineNumber = 1;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            List<String> values = split(line, delimiter, lineNumber);
+            String settlementDate = StatementValues.required(value(values, columns, "settlementdate"), "settlement date", lineNumber);
+            String movementDate = value(values, columns, "movementdate");
+            sink.accept(new StatementLine(
+                lineNumber,
+                StatementValues.parseDate(movementDate == null || movementDate.isBlank() ? settlementDate : movementDate, lineNumber),
+                StatementValues.parseDate(settlementDate, lineNumber),
+                StatementValues.required(value(values, columns, "description"), "description", lineNumber),
+                StatementValues.optional(value(values, columns, "notes")),
+                StatementValues.parseAmount(StatementValues.required(value(values, columns, "amount"), "amount", lineNumber), lineNumber),
+                StatementValues.optional(value(values, columns, "account")),
+                StatementValues.optional(value(values, columns, "category"))
+            ));
+        }
+    }
+
+    private static char detectDelimiter(String header) {
+        long semicolons = header.chars().filter(character -> character == ';').count();
+        long tabs = header.chars().filter(character -> character == '\t').count();
+        long commas = header.chars().filter(character -> character == ',').count();
+        if (tabs > semicolons && tabs > commas) {
+            return '\t';
+        }
+        return semicolons > commas ? ';' : ',';
+    }
+
+    private static Map<String, Integer> parseHeader(List<String> names) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int index = 0; index < names.size(); index++) {
+            String normalized = names.get(index).toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+            String column = COLUMN_ALIASES.get(normalized);
+            if (column != null) {
+                columns.putIfAbsent(column, index);
+            }
+        }
+
+        for (String required : List.of("settlementdate", "description", "amount")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("Line 1: missing required column '" + required + "'");
+            }
+        }
+        return columns;
+    }
+
+    private static String value(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= values.size() ? null : values.get(index);
+    }
+
+    static List<String> split(String line, char delimiter, long lineNumber) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            char character = line.charAt(index);
+            if (quoted) {
+                if (character == '"' && index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                    current.append('"');
+                    index++;
+                } else if (character == '"') {
+                    quoted = false;
+                } else {
+                    current.append(character);
+                }
+            } else if (character == '"') {
+                quoted = true;
+            } else if (character == delimiter) {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(character);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": unterminated quoted value");
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
@@ -0,0 +1,133 @@
+package dev.ccosta.aisha.application.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+class OfxStatementReader implements StatementReader {
+
+    private static final String TRANSACTION = "STMTTRN";
+
+    @Override
+    public void read(Reader reader, Consumer<StatementLine> sink) throws IOException {
+        Tokenizer tokenizer = new Tokenizer(reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader));
+        Map<String, String> transaction = null;
+        long transactionLine = 0;
+
+        String tag;
+        while ((tag = tokenizer.nextTag()) != null) {
+            if (tag.startsWith("?") || tag.startsWith("!")) {
+                continue;
+            }
+            if (tag.equals(TRANSACTION)) {
+                transaction = new HashMap<>();
+                transactionLine = tokenizer.lineNumber();
+                continue;
+            }
+            if (tag.equals("/" + TRANSACTION)) {
+                if (transaction != null) {
+                    sink.accept(toLine(transaction, transactionLine));
+                }
+                transaction = null;
+                continue;
+            }
+
+            String value = tokenizer.text();
+            if (transaction != null && !tag.startsWith("/") && !value.isEmpty()) {
+                transaction.put(tag, value);
+            }
+        }
+    }
+
+    private static StatementLine toLine(Map<String, String> transaction, long lineNumber) {
+        String name = StatementValues.optional(transaction.get("NAME"));
+        String memo = StatementValues.optional(transaction.get("MEMO"));
+        String description = StatementValues.required(name != null ? name : memo, "NAME or MEMO", lineNumber);
+        String settlementDate = StatementValues.required(transaction.get("DTPOSTED"), "DTPOSTED", lineNumber);
+        String movementDate = transaction.getOrDefault("DTUSER", settlementDate);
+
+        return new StatementLine(
+            lineNumber,
+            StatementValues.parseDate(movementDate, lineNumber),
+            StatementValues.parseDate(settlementDate, lineNumber),
+            description,
+            name != null && memo != null && !memo.equals(name) ? memo : null,
+            StatementValues.parseAmount(StatementValues.required(transaction.get("TRNAMT"), "TRNAMT", lineNumber), lineNumber),
+            null,
+            null
+        );
+    }
+
+    private static final class Tokenizer {
+
+        private final BufferedReader reader;
+        private final StringBuilder buffer = new StringBuilder();
+        private int pending = -2;
+        private long lineNumber = 1;
+
+        private Tokenizer(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        private long lineNumber() {
+            return lineNumber;
+        }
+
+        private String nextTag() throws IOException {
+            int character;
+            while ((character = read()) != -1 && character != '<') {
+                // Skip the plain-text OFX header and any text between tags.
+            }
+            if (character == -1) {
+                return null;
+            }
+
+            buffer.setLength(0);
+            while ((character = read()) != -1 && character != '>') {
+                buffer.append((char) character);
+            }
+            return buffer.toString().trim().toUpperCase(Locale.ROOT);
+        }
+
+        private String text() throws IOException {
+            buffer.setLength(0);
+            int character;
+            while ((character = peek()) != -1 && character != '<') {
+                buffer.append((char) read());
+            }
+            return decode(buffer.toString().trim());
+        }
+
+        private int peek() throws IOException {
+            if (pending == -2) {
+                pending = reader.read();
+            }
+            return pending;
+        }
+
+        private int read() throws IOException {
+            int character = peek();
+            pending = -2;
+            if (character == '\n') {
+                lineNumber++;
+            }
+            return character;
+        }
+
+        private static String decode(String value) {
+            if (value.indexOf('&') < 0) {
+                return value;
+            }
+            return value
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.ccosta.aisha.application.statement;
+
+import dev.ccosta.aisha.application.ledger.LedgerChangedEvent;
+import dev.ccosta.aisha.application.ledger.LedgerVersion;
+import dev.ccosta.aisha.domain.entry.EntryDraft;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class StatementChunkWriter {
+
+    private final EntryRepository entryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LedgerVersion ledgerVersion;
+
+    public StatementChunkWriter(
+        EntryRepository entryRepository,
+        ApplicationEventPublisher eventPublisher,
+        LedgerVersion ledgerVersion
+    ) {
+        this.entryRepository = entryRepository;
+        this.eventPublisher = eventPublisher;
+        this.ledgerVersion = ledgerVersion;
+    }
+
+    @Transactional
+    public void write(List<EntryDraft> drafts) {
+        entryRepository.insertAll(drafts);
+        eventPublisher.publishEvent(LedgerChangedEvent.imported(drafts));
+        ledgerVersion.bumpAfterCommit();
+    }
+}
@@ -0,0 +1,13 @@
+package dev.ccosta.aisha.application.statement;
+
+public enum StatementFormat {
+    CSV,
+    OFX;
+
+    StatementReader newReader() {
+        return switch (this) {
+            case CSV -> new CsvStatementReader();
+            case OFX -> new OfxStatementReader();
+        };
+    }
+}
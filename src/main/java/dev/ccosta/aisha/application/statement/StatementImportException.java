@@ -0,0 +1,15 @@
+package dev.ccosta.aisha.application.statement;
+
+public class StatementImportException extends RuntimeException {
+
+    private final long importedEntries;
+
+    public StatementImportException(String reason, long importedEntries, Throwable cause) {
+        super(reason, cause);
+        this.importedEntries = importedEntries;
+    }
+
+    public long getImportedEntries() {
+        return importedEntries;
+    }
+}
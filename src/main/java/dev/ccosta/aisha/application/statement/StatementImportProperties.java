@@ -0,0 +1,13 @@
+package dev.ccosta.aisha.application.statement;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("aisha.statement-import")
+public record StatementImportProperties(int chunkSize) {
+
+    public StatementImportProperties {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Statement import chunk size must be positive");
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package dev.ccosta.aisha.application.statement;
+
+public record StatementImportResult(long importedEntries, int chunks, int createdCategories) {
+}
@@ -0,0 +1,165 @@
+package dev.ccosta.aisha.application.statement;
+
+import dev.ccosta.aisha.application.account.AccountService;
+import dev.ccosta.aisha.application.category.CategoryResolution;
+import dev.ccosta.aisha.application.category.CategoryService;
+import dev.ccosta.aisha.domain.account.Account;
+import dev.ccosta.aisha.domain.category.Category;
+import dev.ccosta.aisha.domain.entry.EntryDraft;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+@Service
+@EnableConfigurationProperties(StatementImportProperties.class)
+public class StatementImportService {
+
+    private static final int MAX_DESCRIPTION_LENGTH = 200;
+    private static final int MAX_NOTES_LENGTH = 1000;
+
+    private final AccountService accountService;
+    private final CategoryService categoryService;
+    private final StatementChunkWriter chunkWriter;
+    private final StatementImportProperties properties;
+
+    public StatementImportService(
+        AccountService accountService,
+        CategoryService categoryService,
+        StatementChunkWriter chunkWriter,
+        StatementImportProperties properties
+    ) {
+        this.accountService = accountService;
+        this.categoryService = categoryService;
+        this.chunkWriter = chunkWriter;
+        this.properties = properties;
+    }
+
+    public StatementImportResult importStatement(
+        InputStream input,
+        StatementFormat format,
+        Long defaultAccountId,
+        Long defaultCategoryId
+    ) {
+        if (format == null) {
+            throw new IllegalArgumentException("Statement format is required");
+        }
+        if (defaultAccountId == null) {
+            throw new IllegalArgumentException("Account is required");
+        }
+
+        Account defaultAccount = accountService.findById(defaultAccountId);
+        Category defaultCategory = defaultCategoryId == null ? null : categoryService.findById(defaultCategoryId);
+        ImportRun run = new ImportRun(defaultAccount.getId(), defaultCategory == null ? null : defaultCategory.getId());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            format.newReader().read(reader, run::accept);
+            run.flush();
+        } catch (IOException | UncheckedIOException ex) {
+            throw new StatementImportException("Could not read statement: " + ex.getMessage(), run.importedEntries, ex);
+        } catch (IllegalArgumentException ex) {
+            throw new StatementImportException(ex.getMessage(), run.importedEntries, ex);
+        }
+
+        return new StatementImportResult(run.importedEntries, run.chunks, run.createdCategories);
+    }
+
+    private final class ImportRun {
+
+        private final Long defaultAccountId;
+        private final Long defaultCategoryId;
+        private final Map<String, Long> accountIdsByTitle = new HashMap<>();
+        private final Map<String, Long> categoryIdsByTitle = new HashMap<>();
+        private final List<EntryDraft> chunk = new ArrayList<>(properties.chunkSize());
+        private long importedEntries;
+        private int chunks;
+        private int createdCategories;
+
+        private ImportRun(Long defaultAccountId, Long defaultCategoryId) {
+            this.defaultAccountId = defaultAccountId;
+            this.defaultCategoryId = defaultCategoryId;
+            for (Account account : accountService.listAllOrdered()) {
+                accountIdsByTitle.putIfAbsent(normalize(account.getTitle()), account.getId());
+            }
+            for (Category category : categoryService.listAllOrdered()) {
+                categoryIdsByTitle.putIfAbsent(normalize(category.getTitle()), category.getId());
+            }
+        }
+
+        private void accept(StatementLine line) {
+            if (line.description().length() > MAX_DESCRIPTION_LENGTH) {
+                throw new IllegalArgumentException(
+                    "Line " + line.lineNumber() + ": description exceeds " + MAX_DESCRIPTION_LENGTH + " characters"
+                );
+            }
+            if (line.notes() != null && line.notes().length() > MAX_NOTES_LENGTH) {
+                throw new IllegalArgumentException("Line " + line.lineNumber() + ": notes exceed " + MAX_NOTES_LENGTH + " characters");
+            }
+
+            chunk.add(new EntryDraft(
+                resolveAccount(line),
+                resolveCategory(line),
+                line.movementDate(),
+                line.settlementDate(),
+                line.description(),
+                line.notes(),
+                line.amount()
+            ));
+            if (chunk.size() == properties.chunkSize()) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunkWriter.write(List.copyOf(chunk));
+            importedEntries += chunk.size();
+            chunks++;
+            chunk.clear();
+        }
+
+        private Long resolveAccount(StatementLine line) {
+            if (line.accountTitle() == null) {
+                return defaultAccountId;
+            }
+
+            Long accountId = accountIdsByTitle.get(normalize(line.accountTitle()));
+            if (accountId == null) {
+                throw new IllegalArgumentException("Line " + line.lineNumber() + ": unknown account '" + line.accountTitle() + "'");
+            }
+            return accountId;
+        }
+
+        private Long resolveCategory(StatementLine line) {
+            if (line.categoryTitle() == null) {
+                if (defaultCategoryId == null) {
+                    throw new IllegalArgumentException("Line " + line.lineNumber() + ": category is required");
+                }
+                return defaultCategoryId;
+            }
+
+            return categoryIdsByTitle.computeIfAbsent(normalize(line.categoryTitle()), title -> {
+                CategoryResolution resolution = categoryService.resolveByTitle(line.categoryTitle());
+                if (resolution.created()) {
+                    createdCategories++;
+                }
+                return resolution.category().getId();
+            });
+        }
+    }
+
+    private static String normalize(String title) {
+        return title.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,16 @@
+package dev.ccosta.aisha.application.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record StatementLine(
+    long lineNumber,
+    LocalDate movementDate,
+    LocalDate settlementDate,
+    String description,
+    String notes,
+    BigDecimal amount,
+    String accountTitle,
+    String categoryTitle
+) {
+}
@@ -0,0 +1,10 @@
+package dev.ccosta.aisha.application.statement;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+interface StatementReader {
+
+    void read(Reader reader, Consumer<StatementLine> sink) throws IOException;
+}
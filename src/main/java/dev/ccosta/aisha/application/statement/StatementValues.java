@@ -0,0 +1,71 @@
+package dev.ccosta.aisha.application.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+final class StatementValues {
+
+    private static final DateTimeFormatter DAY_MONTH_YEAR = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter BASIC_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private StatementValues() {
+    }
+
+    static LocalDate parseDate(String value, long lineNumber) {
+        String trimmed = value == null ? "" : value.trim();
+        try {
+            if (trimmed.length() >= 8 && trimmed.chars().limit(8).allMatch(Character::isDigit)) {
+                return LocalDate.parse(trimmed.substring(0, 8), BASIC_DATE);
+            }
+            if (trimmed.indexOf('/') > 0) {
+                return LocalDate.parse(trimmed, DAY_MONTH_YEAR);
+            }
+            return LocalDate.parse(trimmed);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": invalid date '" + trimmed + "'", ex);
+        }
+    }
+
+    static BigDecimal parseAmount(String value, long lineNumber) {
+        String trimmed = value == null ? "" : value.trim();
+        StringBuilder digits = new StringBuilder(trimmed.length());
+        for (int index = 0; index < trimmed.length(); index++) {
+            char current = trimmed.charAt(index);
+            if (Character.isDigit(current) || current == '-' || current == ',' || current == '.') {
+                digits.append(current);
+            }
+        }
+
+        String normalized = digits.toString();
+        int lastComma = normalized.lastIndexOf(',');
+        int lastDot = normalized.lastIndexOf('.');
+        if (lastComma > lastDot) {
+            normalized = normalized.replace(".", "").replace(',', '.');
+        } else if (lastComma >= 0) {
+            normalized = normalized.replace(",", "");
+        }
+
+        try {
+            BigDecimal amount = new BigDecimal(normalized);
+            if (amount.scale() > 2) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": amount '" + trimmed + "' has more than 2 decimal places");
+            }
+            return amount.setScale(2);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": invalid amount '" + trimmed + "'", ex);
+        }
+    }
+
+    static String required(String value, String field, long lineNumber) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": " + field + " is required");
+        }
+        return value.trim();
+    }
+
+    static String optional(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
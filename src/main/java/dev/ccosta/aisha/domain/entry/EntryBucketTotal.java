@@ -0,0 +1,7 @@
+package dev.ccosta.aisha.domain.entry;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record EntryBucketTotal(Long groupId, LocalDate bucketStart, BigDecimal amount) {
+}
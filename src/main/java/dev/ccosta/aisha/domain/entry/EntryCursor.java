@@ -0,0 +1,36 @@
+package dev.ccosta.aisha.domain.entry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record EntryCursor(LocalDate settlementDate, long id) {
+
+    private static final char SEPARATOR = ':';
+
+    public static EntryCursor of(Entry entry) {
+        return new EntryCursor(entry.getSettlementDate(), entry.getId());
+    }
+
+    public static EntryCursor fromToken(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid entry cursor");
+            }
+            return new EntryCursor(
+                LocalDate.parse(decoded.substring(0, separator)),
+                Long.parseLong(decoded.substring(separator + 1))
+            );
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid entry cursor", ex);
+        }
+    }
+
+    public String toToken() {
+        String raw = settlementDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,13 @@
+package dev.ccosta.aisha.domain.entry;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record EntryDayChecksum(
+    LocalDate settlementDate,
+    long entryCount,
+    BigDecimal amountTotal,
+    long accountIdTotal,
+    long categoryIdTotal
+) {
+}
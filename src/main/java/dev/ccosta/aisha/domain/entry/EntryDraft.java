@@ -0,0 +1,15 @@
+package dev.ccosta.aisha.domain.entry;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record EntryDraft(
+    Long accountId,
+    Long categoryId,
+    LocalDate movementDate,
+    LocalDate settlementDate,
+    String description,
+    String notes,
+    BigDecimal amount
+) {
+}
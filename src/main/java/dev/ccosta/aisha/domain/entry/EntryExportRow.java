@@ -0,0 +1,16 @@
+package dev.ccosta.aisha.domain.entry;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record EntryExportRow(
+    Long id,
+    LocalDate settlementDate,
+    LocalDate movementDate,
+    String description,
+    String accountTitle,
+    String categoryTitle,
+    String notes,
+    BigDecimal amount
+) {
+}
@@ -0,0 +1,6 @@
+package dev.ccosta.aisha.domain.entry;
+
+import java.time.LocalDate;
+
+public record EntryFilter(LocalDate startDate, LocalDate endDate, Long accountId, Long categoryId) {
+}
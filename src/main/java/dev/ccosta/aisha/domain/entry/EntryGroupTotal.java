@@ -0,0 +1,6 @@
+package dev.ccosta.aisha.domain.entry;
+
+import java.math.BigDecimal;
+
+public record EntryGroupTotal(Long groupId, BigDecimal amount) {
+}
@@ -0,0 +1,15 @@
+package dev.ccosta.aisha.domain.entry;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record EntryLedgerRow(long epochDay, long accountId, long categoryId, long amountCents) {
+
+    public LocalDate settlementDate() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    public BigDecimal amount() {
+        return BigDecimal.valueOf(amountCents, 2);
+    }
+}
@@ -0,0 +1,10 @@
+package dev.ccosta.aisha.domain.entry;
+
+import java.util.List;
+
+public record EntryPage(List<Entry> entries, EntryCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
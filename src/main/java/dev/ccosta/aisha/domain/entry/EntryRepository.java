@@ -4,21 +4,32 @@ import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EntryRepository {
 
-    List<Entry> listTop100MostRecentBySettlementDate();
+    EntryPage listMostRecentBySettlementDate(EntryFilter filter, EntryCursor after, int limit);
 
-    List<Entry> listTop100MostRecentBySettlementDateBetween(LocalDate startDate, LocalDate endDate);
+    Optional<Entry> findById(Long id);
 
-    List<Entry> listTop100MostRecentBySettlementDateBetweenAndFilters(LocalDate startDate, LocalDate endDate, Long accountId, Long categoryId);
+    List<Entry> findAllByIds(Collection<Long> ids);
 
-    List<Entry> listAllBySettlementDateLessThanEqual(LocalDate endDate);
+    Stream<EntryLedgerRow> streamLedgerRows();
 
-    Optional<Entry> findById(Long id);
+    List<EntryDayChecksum> listDayChecksums(Collection<LocalDate> settlementDates);
+
+    long count();
+
+    Stream<EntryExportRow> streamExportRows(EntryFilter filter);
+
+    List<EntryBucketTotal> sumAmountByAccountAndPeriod(LocalDate startDate, LocalDate endDate, SettlementPeriod period);
+
+    List<EntryBucketTotal> sumAmountByCategoryAndPeriod(LocalDate startDate, LocalDate endDate, SettlementPeriod period);
 
     Entry save(Entry entry);
 
+    void insertAll(List<EntryDraft> drafts);
+
     boolean existsByCategoryId(Long categoryId);
 
     boolean existsByAccountId(Long accountId);
@@ -0,0 +1,7 @@
+package dev.ccosta.aisha.domain.entry;
+
+public enum SettlementPeriod {
+    YEAR,
+    MONTH,
+    DAY
+}
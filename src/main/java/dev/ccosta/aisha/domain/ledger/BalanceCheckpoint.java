@@ -0,0 +1,77 @@
+package dev.ccosta.aisha.domain.ledger;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(
+    name = "balance_checkpoints",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_balance_checkpoints_date_scope",
+        columnNames = {"checkpoint_date", "scope", "scope_id"}
+    )
+)
+public class BalanceCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "checkpoint_date", nullable = false)
+    private LocalDate checkpointDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 20)
+    private BalanceCheckpointScope scope;
+
+    @Column(name = "scope_id")
+    private Long scopeId;
+
+    @Column(name = "balance", nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getCheckpointDate() {
+        return checkpointDate;
+    }
+
+    public void setCheckpointDate(LocalDate checkpointDate) {
+        this.checkpointDate = checkpointDate;
+    }
+
+    public BalanceCheckpointScope getScope() {
+        return scope;
+    }
+
+    public void setScope(BalanceCheckpointScope scope) {
+        this.scope = scope;
+    }
+
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public void setScopeId(Long scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+}
@@ -0,0 +1,33 @@
+package dev.ccosta.aisha.domain.ledger;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BalanceCheckpointRepository {
+
+    Optional<LocalDate> findLatestCheckpointDate();
+
+    Optional<LocalDate> findLatestCheckpointDateOnOrBefore(LocalDate date);
+
+    List<BalanceCheckpoint> listByCheckpointDate(LocalDate checkpointDate);
+
+    List<BalanceCheckpoint> listByCheckpointDateAndScope(LocalDate checkpointDate, BalanceCheckpointScope scope);
+
+    void saveAll(Collection<BalanceCheckpoint> checkpoints);
+
+    void deleteByCheckpointDateAfter(LocalDate date);
+
+    void deleteAll();
+
+    void lockRefresh();
+
+    void addInvalidation(LocalDate settlementDate);
+
+    List<BalanceCheckpointInvalidation> listInvalidations();
+
+    Optional<LocalDate> findEarliestInvalidation();
+
+    void deleteInvalidations(Collection<BalanceCheckpointInvalidation> invalidations);
+}
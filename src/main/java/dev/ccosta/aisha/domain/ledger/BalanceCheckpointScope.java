@@ -0,0 +1,7 @@
+package dev.ccosta.aisha.domain.ledger;
+
+public enum BalanceCheckpointScope {
+    LEDGER,
+    ACCOUNT,
+    CATEGORY
+}
@@ -0,0 +1,107 @@
+package dev.ccosta.aisha.domain.ledger;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(
+    name = "daily_rollups",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_daily_rollups_day_account_category",
+        columnNames = {"settlement_date", "account_id", "category_id"}
+    )
+)
+public class DailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "settlement_date", nullable = false)
+    private LocalDate settlementDate;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "signed_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal signedAmount = BigDecimal.ZERO;
+
+    @Column(name = "revenue_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenueAmount = BigDecimal.ZERO;
+
+    @Column(name = "expense_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal expenseAmount = BigDecimal.ZERO;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getSettlementDate() {
+        return settlementDate;
+    }
+
+    public void setSettlementDate(LocalDate settlementDate) {
+        this.settlementDate = settlementDate;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public BigDecimal getSignedAmount() {
+        return signedAmount;
+    }
+
+    public void setSignedAmount(BigDecimal signedAmount) {
+        this.signedAmount = signedAmount;
+    }
+
+    public BigDecimal getRevenueAmount() {
+        return revenueAmount;
+    }
+
+    public void setRevenueAmount(BigDecimal revenueAmount) {
+        this.revenueAmount = revenueAmount;
+    }
+
+    public BigDecimal getExpenseAmount() {
+        return expenseAmount;
+    }
+
+    public void setExpenseAmount(BigDecimal expenseAmount) {
+        this.expenseAmount = expenseAmount;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public void setEntryCount(long entryCount) {
+        this.entryCount = entryCount;
+    }
+}
@@ -0,0 +1,31 @@
+package dev.ccosta.aisha.domain.ledger;
+
+import dev.ccosta.aisha.domain.entry.EntryGroupTotal;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailyRollupRepository {
+
+    void addDelta(DailyRollup delta);
+
+    void deleteEmpty(LocalDate settlementDate, Long accountId, Long categoryId);
+
+    List<DailyRollupRow> listRowsBySettlementDateBetween(LocalDate startDate, LocalDate endDate);
+
+    Optional<LocalDate> findEarliestSettlementDate();
+
+    Optional<LocalDate> findLatestSettlementDate();
+
+    BigDecimal sumSignedAmount(LocalDate fromDate, LocalDate beforeDate);
+
+    List<EntryGroupTotal> sumSignedAmountByAccount(LocalDate fromDate, LocalDate beforeDate);
+
+    List<EntryGroupTotal> sumSignedAmountByCategory(LocalDate fromDate, LocalDate beforeDate);
+
+    void saveAll(Collection<DailyRollup> rollups);
+
+    void deleteAll();
+}
@@ -0,0 +1,11 @@
+package dev.ccosta.aisha.domain.ledger;
+
+public record DailyRollupRow(
+    long epochDay,
+    long accountId,
+    long categoryId,
+    long signedCents,
+    long revenueCents,
+    long expenseCents
+) {
+}
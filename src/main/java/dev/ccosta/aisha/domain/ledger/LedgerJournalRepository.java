@@ -0,0 +1,17 @@
+package dev.ccosta.aisha.domain.ledger;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LedgerJournalRepository {
+
+    long advancePosition();
+
+    long findPosition();
+
+    List<LedgerJournalEntry> listAfter(long position);
+
+    void saveAll(Collection<LedgerJournalEntry> entries);
+
+    void deleteUpTo(long position);
+}
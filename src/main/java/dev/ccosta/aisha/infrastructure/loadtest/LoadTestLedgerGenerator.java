@@ -0,0 +1,115 @@
+package dev.ccosta.aisha.infrastructure.loadtest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+public class LoadTestLedgerGenerator {
+
+    private static final int MAX_SETTLEMENT_DELAY_DAYS = 3;
+
+    private final LoadTestLedgerProperties properties;
+    private final List<PlannedCategory> categories;
+    private final int[] leafCategories;
+
+    public LoadTestLedgerGenerator(LoadTestLedgerProperties properties) {
+        this.properties = properties;
+        this.categories = planCategories(properties);
+        this.leafCategories = findLeaves(categories);
+    }
+
+    public List<String> accountTitles() {
+        List<String> titles = new ArrayList<>(properties.accounts());
+        for (int index = 1; index <= properties.accounts(); index++) {
+            titles.add("Load test account " + index);
+        }
+        return titles;
+    }
+
+    public List<PlannedCategory> categories() {
+        return categories;
+    }
+
+    public LocalDate firstDay(LocalDate endDate) {
+        return endDate.minusYears(properties.years()).plusDays(1);
+    }
+
+    public void generateEntries(LocalDate endDate, Consumer<PlannedEntry> sink) {
+        SplittableRandom random = new SplittableRandom(properties.seed());
+        long sequence = 0;
+        for (LocalDate day = firstDay(endDate); !day.isAfter(endDate); day = day.plusDays(1)) {
+            int entriesToday = properties.entriesPerDay() / 2 + random.nextInt(properties.entriesPerDay() + 1);
+            for (int index = 0; index < entriesToday; index++) {
+                boolean revenue = random.nextInt(10) == 0;
+                long amountCents = revenue
+                    ? 100_000 + random.nextLong(900_000)
+                    : -(500 + random.nextLong(60_000));
+                sequence++;
+                sink.accept(new PlannedEntry(
+                    random.nextInt(properties.accounts()),
+                    leafCategories[random.nextInt(leafCategories.length)],
+                    day,
+                    day.plusDays(random.nextInt(MAX_SETTLEMENT_DELAY_DAYS + 1)),
+                    (revenue ? "Load test revenue #" : "Load test expense #") + sequence,
+                    amountCents
+                ));
+            }
+        }
+    }
+
+    private static List<PlannedCategory> planCategories(LoadTestLedgerProperties properties) {
+        List<PlannedCategory> planned = new ArrayList<>();
+        List<Integer> level = new ArrayList<>();
+        for (int root = 1; root <= properties.rootCategories(); root++) {
+            planned.add(new PlannedCategory("Load test category " + root, -1));
+            level.add(planned.size() - 1);
+        }
+
+        for (int depth = 1; depth < properties.categoryDepth(); depth++) {
+            List<Integer> nextLevel = new ArrayList<>(level.size() * properties.categoryFanOut());
+            for (int parentIndex : level) {
+                String parentTitle = planned.get(parentIndex).title();
+                for (int child = 1; child <= properties.categoryFanOut(); child++) {
+                    planned.add(new PlannedCategory(parentTitle + "." + child, parentIndex));
+                    nextLevel.add(planned.size() - 1);
+                }
+            }
+            level = nextLevel;
+        }
+        return List.copyOf(planned);
+    }
+
+    private static int[] findLeaves(List<PlannedCategory> categories) {
+        boolean[] hasChildren = new boolean[categories.size()];
+        for (PlannedCategory category : categories) {
+            if (category.parentIndex() >= 0) {
+                hasChildren[category.parentIndex()] = true;
+            }
+        }
+
+        int[] leaves = new int[categories.size()];
+        int count = 0;
+        for (int index = 0; index < categories.size(); index++) {
+            if (!hasChildren[index]) {
+                leaves[count++] = index;
+            }
+        }
+        return Arrays.copyOf(leaves, count);
+    }
+
+    public record PlannedCategory(String title, int parentIndex) {
+    }
+
+    public record PlannedEntry(
+        int accountIndex,
+        int categoryIndex,
+        LocalDate movementDate,
+        LocalDate settlementDate,
+        String description,
+        long amountCents
+    ) {
+    }
+}
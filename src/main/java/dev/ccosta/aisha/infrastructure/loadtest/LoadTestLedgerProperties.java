@@ -0,0 +1,27 @@
+package dev.ccosta.aisha.infrastructure.loadtest;
+
+import java.time.LocalDate;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("aisha.loadtest")
+public record LoadTestLedgerProperties(
+    long seed,
+    int accounts,
+    int rootCategories,
+    int categoryDepth,
+    int categoryFanOut,
+    int entriesPerDay,
+    int years,
+    LocalDate endDate,
+    int batchSize
+) {
+
+    public LoadTestLedgerProperties {
+        if (accounts < 1 || rootCategories < 1 || categoryDepth < 1 || categoryFanOut < 1) {
+            throw new IllegalArgumentException("Load test ledger needs at least one account and one category per level");
+        }
+        if (entriesPerDay < 1 || years < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Load test entries per day, years and batch size must be positive");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package dev.ccosta.aisha.infrastructure.loadtest;
+
+import dev.ccosta.aisha.infrastructure.loadtest.LoadTestLedgerGenerator.PlannedCategory;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("loadtest")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(LoadTestLedgerProperties.class)
+public class LoadTestLedgerSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestLedgerSeeder.class);
+
+    private static final String INSERT_ENTRY = """
+        insert into entries (account_id, movement_date, settlement_date, description, category_id, amount)
+        values (?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestLedgerProperties properties;
+
+    public LoadTestLedgerSeeder(JdbcTemplate jdbcTemplate, LoadTestLedgerProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existingEntries = jdbcTemplate.queryForObject("select count(*) from entries", Long.class);
+        if (existingEntries != null && existingEntries > 0) {
+            log.info("Skipping load test ledger: entries table already has {} rows", existingEntries);
+            return;
+        }
+
+        LoadTestLedgerGenerator generator = new LoadTestLedgerGenerator(properties);
+        LocalDate endDate = properties.endDate() != null ? properties.endDate() : LocalDate.now();
+        long[] accountIds = insertAccounts(generator.accountTitles());
+        long[] categoryIds = insertCategories(generator.categories());
+
+        List<Object[]> batch = new ArrayList<>(properties.batchSize());
+        long[] inserted = new long[1];
+        generator.generateEntries(endDate, entry -> {
+            batch.add(new Object[] {
+                accountIds[entry.accountIndex()],
+                Date.valueOf(entry.movementDate()),
+                Date.valueOf(entry.settlementDate()),
+                entry.description(),
+                categoryIds[entry.categoryIndex()],
+                BigDecimal.valueOf(entry.amountCents(), 2)
+            });
+            if (batch.size() == properties.batchSize()) {
+                inserted[0] += flush(batch);
+            }
+        });
+        inserted[0] += flush(batch);
+
+        log.info(
+            "Seeded load test ledger: {} accounts, {} categories, {} entries from {} to {}",
+            accountIds.length,
+            categoryIds.length,
+            inserted[0],
+            generator.firstDay(endDate),
+            endDate
+        );
+    }
+
+    private long[] insertAccounts(List<String> titles) {
+        SimpleJdbcInsert insert = new SimpleJdbcInsert(jdbcTemplate)
+            .withTableName("accounts")
+            .usingColumns("title")
+            .usingGeneratedKeyColumns("id");
+        long[] ids = new long[titles.size()];
+        for (int index = 0; index < titles.size(); index++) {
+            ids[index] = insert.executeAndReturnKey(Map.of("title", titles.get(index))).longValue();
+        }
+        return ids;
+    }
+
+    private long[] insertCategories(List<PlannedCategory> categories) {
+        SimpleJdbcInsert insert = new SimpleJdbcInsert(jdbcTemplate)
+            .withTableName("categories")
+            .usingColumns("title", "parent_id")
+            .usingGeneratedKeyColumns("id");
+        long[] ids = new long[categories.size()];
+        for (int index = 0; index < categories.size(); index++) {
+            PlannedCategory category = categories.get(index);
+            Map<String, Object> values = new HashMap<>();
+            values.put("title", category.title());
+            values.put("parent_id", category.parentIndex() >= 0 ? ids[category.parentIndex()] : null);
+            ids[index] = insert.executeAndReturnKey(values).longValue();
+        }
+        return ids;
+    }
+
+    private int flush(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, batch);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+}
@@ -0,0 +1,133 @@
+package dev.ccosta.aisha.infrastructure.metrics;
+
+import dev.ccosta.aisha.application.account.AccountBalanceReport;
+import dev.ccosta.aisha.application.category.CategoryBalanceReport;
+import dev.ccosta.aisha.application.dashboard.DashboardBalanceEvolution;
+import dev.ccosta.aisha.application.dashboard.DashboardCategoryTotalsEvolution;
+import dev.ccosta.aisha.application.dashboard.DashboardExpenseCategoryBreakdown;
+import dev.ccosta.aisha.application.dashboard.DashboardOverview;
+import dev.ccosta.aisha.application.dashboard.DashboardRevenueExpenseEvolution;
+import dev.ccosta.aisha.domain.entry.EntryPage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "aisha.metrics", name = "enabled", havingValue = "true")
+public class HotPathMetricsAspect {
+
+    static final String SERVICE_TIMER = "aisha.service.duration";
+    static final String REPOSITORY_TIMER = "aisha.repository.duration";
+    static final String ROWS_FETCHED = "aisha.repository.rows.fetched";
+    static final String BUCKETS_PRODUCED = "aisha.service.buckets.produced";
+    static final String CATEGORIES_VISITED = "aisha.service.categories.visited";
+
+    private final MeterRegistry meterRegistry;
+
+    public HotPathMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around(
+        "execution(public * dev.ccosta.aisha.application.dashboard.DashboardService.*(..))"
+            + " || execution(public * dev.ccosta.aisha.application.account.AccountBalanceReportService.*(..))"
+            + " || execution(public * dev.ccosta.aisha.application.category.CategoryBalanceReportService.*(..))"
+    )
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = time(SERVICE_TIMER, joinPoint);
+        recordShape(joinPoint, result);
+        return result;
+    }
+
+    @Around(
+        "execution(public * dev.ccosta.aisha.infrastructure.persistence.entry.EntryRepositoryAdapter.*(..))"
+            + " || execution(public * dev.ccosta.aisha.infrastructure.persistence.ledger.DailyRollupRepositoryAdapter.*(..))"
+    )
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = time(REPOSITORY_TIMER, joinPoint);
+        int rows = rowsFetched(result);
+        if (rows >= 0) {
+            summary(ROWS_FETCHED, joinPoint, "rows").record(rows);
+        }
+        return result;
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        long startedAt = System.nanoTime();
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable exception) {
+            outcome = exception.getClass().getSimpleName();
+            throw exception;
+        } finally {
+            Timer.builder(name)
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void recordShape(ProceedingJoinPoint joinPoint, Object result) {
+        switch (result) {
+            case DashboardOverview overview -> {
+                recordShape(joinPoint, overview.balanceEvolution());
+                recordShape(joinPoint, overview.revenueExpenseEvolution());
+                recordShape(joinPoint, overview.expenseCategoryBreakdown());
+                recordShape(joinPoint, overview.categoryTotalsEvolution());
+            }
+            case DashboardBalanceEvolution evolution -> recordBuckets(joinPoint, evolution.points().size());
+            case DashboardRevenueExpenseEvolution evolution -> recordBuckets(joinPoint, evolution.points().size());
+            case DashboardExpenseCategoryBreakdown breakdown -> recordCategories(joinPoint, breakdown.items().size());
+            case DashboardCategoryTotalsEvolution evolution -> {
+                recordBuckets(joinPoint, evolution.buckets().size());
+                recordCategories(joinPoint, evolution.series().size());
+            }
+            case AccountBalanceReport report -> recordBuckets(joinPoint, report.buckets().size());
+            case CategoryBalanceReport report -> {
+                recordBuckets(joinPoint, report.buckets().size());
+                recordCategories(joinPoint, report.rows().size());
+            }
+            case null, default -> {
+            }
+        }
+    }
+
+    private void recordBuckets(ProceedingJoinPoint joinPoint, int buckets) {
+        summary(BUCKETS_PRODUCED, joinPoint, "buckets").record(buckets);
+    }
+
+    private void recordCategories(ProceedingJoinPoint joinPoint, int categories) {
+        summary(CATEGORIES_VISITED, joinPoint, "categories").record(categories);
+    }
+
+    private DistributionSummary summary(String name, ProceedingJoinPoint joinPoint, String unit) {
+        return DistributionSummary.builder(name)
+            .baseUnit(unit)
+            .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+            .tag("method", joinPoint.getSignature().getName())
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private static int rowsFetched(Object result) {
+        return switch (result) {
+            case Collection<?> rows -> rows.size();
+            case EntryPage page -> page.entries().size();
+            case Optional<?> row -> row.isPresent() ? 1 : 0;
+            case null, default -> -1;
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package dev.ccosta.aisha.infrastructure.persistence;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(0)
+@ConditionalOnProperty(prefix = "aisha.persistence.index-check", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequiredIndexCheck implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(RequiredIndexCheck.class);
+
+    static final List<RequiredIndex> REQUIRED_INDEXES = List.of(
+        new RequiredIndex("entries", List.of("settlement_date", "id")),
+        new RequiredIndex("entries", List.of("account_id", "settlement_date", "id", "category_id", "amount")),
+        new RequiredIndex("entries", List.of("category_id", "settlement_date", "id", "amount")),
+        new RequiredIndex("categories", List.of("parent_id")),
+        new RequiredIndex("daily_rollups", List.of("settlement_date")),
+        new RequiredIndex("balance_checkpoints", List.of("checkpoint_date"))
+    );
+
+    private final DataSource dataSource;
+
+    public RequiredIndexCheck(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<RequiredIndex> missing = findMissingIndexes();
+        if (missing.isEmpty()) {
+            log.info("All {} required indexes are present", REQUIRED_INDEXES.size());
+            return;
+        }
+        for (RequiredIndex index : missing) {
+            log.warn("Missing index on {} ({})", index.table(), String.join(", ", index.columns()));
+        }
+    }
+
+    public List<RequiredIndex> findMissingIndexes() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            List<RequiredIndex> missing = new ArrayList<>();
+            for (RequiredIndex index : REQUIRED_INDEXES) {
+                if (!isCovered(index, readIndexColumns(metaData, connection.getCatalog(), connection.getSchema(), index.table()))) {
+                    missing.add(index);
+                }
+            }
+            return missing;
+        }
+    }
+
+    private static boolean isCovered(RequiredIndex required, List<List<String>> existingIndexes) {
+        for (List<String> columns : existingIndexes) {
+            if (columns.size() >= required.columns().size()
+                && columns.subList(0, required.columns().size()).equals(required.columns())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<List<String>> readIndexColumns(
+        DatabaseMetaData metaData,
+        String catalog,
+        String schema,
+        String table
+    ) throws SQLException {
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Map<String, TreeMap<Short, String>> columnsByIndex = new TreeMap<>();
+        try (ResultSet rows = metaData.getIndexInfo(catalog, schema, tableName, false, true)) {
+            while (rows.next()) {
+                String indexName = rows.getString("INDEX_NAME");
+                String columnName = rows.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName, ignored -> new TreeMap<>())
+                    .put(rows.getShort("ORDINAL_POSITION"), columnName.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        List<List<String>> indexes = new ArrayList<>(columnsByIndex.size());
+        for (TreeMap<Short, String> columns : columnsByIndex.values()) {
+            indexes.add(List.copyOf(columns.values()));
+        }
+        return indexes;
+    }
+
+    public record RequiredIndex(String table, List<String> columns) {
+    }
+}
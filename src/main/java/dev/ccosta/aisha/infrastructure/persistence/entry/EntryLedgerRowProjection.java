@@ -0,0 +1,17 @@
+package dev.ccosta.aisha.infrastructure.persistence.entry;
+
+import dev.ccosta.aisha.domain.entry.EntryLedgerRow;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record EntryLedgerRowProjection(LocalDate settlementDate, Long accountId, Long categoryId, BigDecimal amount) {
+
+    EntryLedgerRow toLedgerRow() {
+        return new EntryLedgerRow(
+            settlementDate.toEpochDay(),
+            accountId,
+            categoryId,
+            amount.movePointRight(2).longValueExact()
+        );
+    }
+}
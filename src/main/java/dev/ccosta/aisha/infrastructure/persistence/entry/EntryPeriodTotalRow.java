@@ -0,0 +1,12 @@
+package dev.ccosta.aisha.infrastructure.persistence.entry;
+
+import dev.ccosta.aisha.domain.entry.EntryBucketTotal;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record EntryPeriodTotalRow(Long groupId, Integer year, Integer month, BigDecimal amount) {
+
+    EntryBucketTotal toBucketTotal() {
+        return new EntryBucketTotal(groupId, LocalDate.of(year, month, 1), amount);
+    }
+}
@@ -1,75 +1,135 @@
 package dev.ccosta.aisha.infrastructure.persistence.entry;
 
+import dev.ccosta.aisha.domain.account.Account;
+import dev.ccosta.aisha.domain.category.Category;
 import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryBucketTotal;
+import dev.ccosta.aisha.domain.entry.EntryCursor;
+import dev.ccosta.aisha.domain.entry.EntryDayChecksum;
+import dev.ccosta.aisha.domain.entry.EntryDraft;
+import dev.ccosta.aisha.domain.entry.EntryExportRow;
+import dev.ccosta.aisha.domain.entry.EntryFilter;
+import dev.ccosta.aisha.domain.entry.EntryLedgerRow;
+import dev.ccosta.aisha.domain.entry.EntryPage;
 import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.entry.SettlementPeriod;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class EntryRepositoryAdapter implements EntryRepository {
 
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final Sort MOST_RECENT_FIRST = Sort.by(Sort.Order.desc("settlementDate"), Sort.Order.desc("id"));
+
     private final JpaEntryRepository jpaEntryRepository;
+    private final EntityManager entityManager;
 
-    public EntryRepositoryAdapter(JpaEntryRepository jpaEntryRepository) {
+    public EntryRepositoryAdapter(JpaEntryRepository jpaEntryRepository, EntityManager entityManager) {
         this.jpaEntryRepository = jpaEntryRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
-    public List<Entry> listTop100MostRecentBySettlementDate() {
-        return jpaEntryRepository.findTop100ByOrderBySettlementDateDescIdDesc();
+    public EntryPage listMostRecentBySettlementDate(EntryFilter filter, EntryCursor after, int limit) {
+        Specification<Entry> specification = EntrySpecifications.matching(filter);
+        if (after != null) {
+            specification = specification.and(EntrySpecifications.before(after));
+        }
+
+        List<Entry> entries = jpaEntryRepository.findBy(specification, query -> query
+            .sortBy(MOST_RECENT_FIRST)
+            .limit(limit + 1)
+            .project("account", "category")
+            .all());
+        if (entries.size() <= limit) {
+            return new EntryPage(entries, null);
+        }
+
+        List<Entry> page = List.copyOf(entries.subList(0, limit));
+        return new EntryPage(page, EntryCursor.of(page.getLast()));
     }
 
     @Override
-    public List<Entry> listTop100MostRecentBySettlementDateBetween(LocalDate startDate, LocalDate endDate) {
-        return jpaEntryRepository.findTop100BySettlementDateBetweenOrderBySettlementDateDescIdDesc(startDate, endDate);
+    public Optional<Entry> findById(Long id) {
+        return jpaEntryRepository.findById(id);
     }
 
     @Override
-    public List<Entry> listTop100MostRecentBySettlementDateBetweenAndFilters(
-        LocalDate startDate,
-        LocalDate endDate,
-        Long accountId,
-        Long categoryId
-    ) {
-        if (accountId != null && categoryId != null) {
-            return jpaEntryRepository.findTop100BySettlementDateBetweenAndAccountIdAndCategoryIdOrderBySettlementDateDescIdDesc(
-                startDate,
-                endDate,
-                accountId,
-                categoryId
-            );
-        }
+    public List<Entry> findAllByIds(Collection<Long> ids) {
+        return jpaEntryRepository.findAllById(ids);
+    }
 
-        if (accountId != null) {
-            return jpaEntryRepository.findTop100BySettlementDateBetweenAndAccountIdOrderBySettlementDateDescIdDesc(
-                startDate,
-                endDate,
-                accountId
-            );
-        }
+    @Override
+    public Stream<EntryLedgerRow> streamLedgerRows() {
+        return jpaEntryRepository.streamLedgerRows().map(EntryLedgerRowProjection::toLedgerRow);
+    }
 
-        if (categoryId != null) {
-            return jpaEntryRepository.findTop100BySettlementDateBetweenAndCategoryIdOrderBySettlementDateDescIdDesc(
-                startDate,
-                endDate,
-                categoryId
-            );
-        }
+    @Override
+    public List<EntryDayChecksum> listDayChecksums(Collection<LocalDate> settlementDates) {
+        return jpaEntryRepository.findDayChecksums(settlementDates);
+    }
 
-        return jpaEntryRepository.findTop100BySettlementDateBetweenOrderBySettlementDateDescIdDesc(startDate, endDate);
+    @Override
+    public long count() {
+        return jpaEntryRepository.count();
     }
 
     @Override
-    public List<Entry> listAllBySettlementDateLessThanEqual(LocalDate endDate) {
-        return jpaEntryRepository.findBySettlementDateLessThanEqualOrderBySettlementDateAscIdAsc(endDate);
+    public Stream<EntryExportRow> streamExportRows(EntryFilter filter) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EntryExportRow> query = builder.createQuery(EntryExportRow.class);
+        Root<Entry> entry = query.from(Entry.class);
+        Join<Entry, Account> account = entry.join("account");
+        Join<Entry, Category> category = entry.join("category");
+        query.select(builder.construct(
+                EntryExportRow.class,
+                entry.get("id"),
+                entry.get("settlementDate"),
+                entry.get("movementDate"),
+                entry.get("description"),
+                account.get("title"),
+                category.get("title"),
+                entry.get("notes"),
+                entry.get("amount")
+            ))
+            .where(EntrySpecifications.matching(filter).toPredicate(entry, query, builder))
+            .orderBy(builder.desc(entry.get("settlementDate")), builder.desc(entry.get("id")));
+
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
     }
 
     @Override
-    public Optional<Entry> findById(Long id) {
-        return jpaEntryRepository.findById(id);
+    public List<EntryBucketTotal> sumAmountByAccountAndPeriod(LocalDate startDate, LocalDate endDate, SettlementPeriod period) {
+        return switch (period) {
+            case DAY -> jpaEntryRepository.sumAmountByAccountAndDay(startDate, endDate);
+            case MONTH -> toBucketTotals(jpaEntryRepository.sumAmountByAccountAndMonth(startDate, endDate));
+            case YEAR -> toBucketTotals(jpaEntryRepository.sumAmountByAccountAndYear(startDate, endDate));
+        };
+    }
+
+    @Override
+    public List<EntryBucketTotal> sumAmountByCategoryAndPeriod(LocalDate startDate, LocalDate endDate, SettlementPeriod period) {
+        return switch (period) {
+            case DAY -> jpaEntryRepository.sumAmountByCategoryAndDay(startDate, endDate);
+            case MONTH -> toBucketTotals(jpaEntryRepository.sumAmountByCategoryAndMonth(startDate, endDate));
+            case YEAR -> toBucketTotals(jpaEntryRepository.sumAmountByCategoryAndYear(startDate, endDate));
+        };
     }
 
     @Override
@@ -77,6 +137,26 @@ public class EntryRepositoryAdapter implements EntryRepository {
         return jpaEntryRepository.save(entry);
     }
 
+    @Override
+    public void insertAll(List<EntryDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        for (EntryDraft draft : drafts) {
+            Entry entry = new Entry();
+            entry.setAccount(entityManager.getReference(Account.class, draft.accountId()));
+            entry.setCategory(entityManager.getReference(Category.class, draft.categoryId()));
+            entry.setMovementDate(draft.movementDate());
+            entry.setSettlementDate(draft.settlementDate());
+            entry.setDescription(draft.description());
+            entry.setNotes(draft.notes());
+            entry.setAmount(draft.amount());
+            entityManager.persist(entry);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
     @Override
     public boolean existsByCategoryId(Long categoryId) {
         return jpaEntryRepository.existsByCategoryId(categoryId);
@@ -96,4 +176,8 @@ public class EntryRepositoryAdapter implements EntryRepository {
     public void deleteByIds(Collection<Long> ids) {
         jpaEntryRepository.deleteAllByIdInBatch(ids);
     }
+
+    private List<EntryBucketTotal> toBucketTotals(List<EntryPeriodTotalRow> rows) {
+        return rows.stream().map(EntryPeriodTotalRow::toBucketTotal).toList();
+    }
 }
@@ -0,0 +1,45 @@
+package dev.ccosta.aisha.infrastructure.persistence.entry;
+
+import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryCursor;
+import dev.ccosta.aisha.domain.entry.EntryFilter;
+import java.time.LocalDate;
+import org.springframework.data.jpa.domain.Specification;
+
+final class EntrySpecifications {
+
+    private EntrySpecifications() {
+    }
+
+    static Specification<Entry> matching(EntryFilter filter) {
+        return settledBetween(filter.startDate(), filter.endDate())
+            .and(inAccount(filter.accountId()))
+            .and(inCategory(filter.categoryId()));
+    }
+
+    static Specification<Entry> settledBetween(LocalDate startDate, LocalDate endDate) {
+        return (root, query, builder) -> builder.between(root.get("settlementDate"), startDate, endDate);
+    }
+
+    static Specification<Entry> inAccount(Long accountId) {
+        return (root, query, builder) -> accountId == null
+            ? builder.conjunction()
+            : builder.equal(root.get("account").get("id"), accountId);
+    }
+
+    static Specification<Entry> inCategory(Long categoryId) {
+        return (root, query, builder) -> categoryId == null
+            ? builder.conjunction()
+            : builder.equal(root.get("category").get("id"), categoryId);
+    }
+
+    static Specification<Entry> before(EntryCursor cursor) {
+        return (root, query, builder) -> builder.or(
+            builder.lessThan(root.get("settlementDate"), cursor.settlementDate()),
+            builder.and(
+                builder.equal(root.get("settlementDate"), cursor.settlementDate()),
+                builder.lessThan(root.get("id"), cursor.id())
+            )
+        );
+    }
+}
@@ -1,43 +1,119 @@
 package dev.ccosta.aisha.infrastructure.persistence.entry;
 
 import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryBucketTotal;
+import dev.ccosta.aisha.domain.entry.EntryDayChecksum;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import org.springframework.data.jpa.repository.EntityGraph;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface JpaEntryRepository extends JpaRepository<Entry, Long> {
-
-    @EntityGraph(attributePaths = {"account", "category"})
-    List<Entry> findTop100ByOrderBySettlementDateDescIdDesc();
-
-    @EntityGraph(attributePaths = {"account", "category"})
-    List<Entry> findTop100BySettlementDateBetweenOrderBySettlementDateDescIdDesc(LocalDate startDate, LocalDate endDate);
-
-    @EntityGraph(attributePaths = {"account", "category"})
-    List<Entry> findTop100BySettlementDateBetweenAndAccountIdOrderBySettlementDateDescIdDesc(
-        LocalDate startDate,
-        LocalDate endDate,
-        Long accountId
-    );
-
-    @EntityGraph(attributePaths = {"account", "category"})
-    List<Entry> findTop100BySettlementDateBetweenAndCategoryIdOrderBySettlementDateDescIdDesc(
-        LocalDate startDate,
-        LocalDate endDate,
-        Long categoryId
-    );
-
-    @EntityGraph(attributePaths = {"account", "category"})
-    List<Entry> findTop100BySettlementDateBetweenAndAccountIdAndCategoryIdOrderBySettlementDateDescIdDesc(
-        LocalDate startDate,
-        LocalDate endDate,
-        Long accountId,
-        Long categoryId
-    );
-
-    @EntityGraph(attributePaths = {"account", "category"})
-    List<Entry> findBySettlementDateLessThanEqualOrderBySettlementDateAscIdAsc(LocalDate endDate);
+public interface JpaEntryRepository extends JpaRepository<Entry, Long>, JpaSpecificationExecutor<Entry> {
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select new dev.ccosta.aisha.infrastructure.persistence.entry.EntryLedgerRowProjection(
+            e.settlementDate,
+            e.account.id,
+            e.category.id,
+            e.amount
+        )
+        from Entry e
+        order by e.settlementDate, e.account.id, e.category.id
+        """)
+    Stream<EntryLedgerRowProjection> streamLedgerRows();
+
+    @Query("""
+        select new dev.ccosta.aisha.domain.entry.EntryDayChecksum(
+            e.settlementDate,
+            count(e),
+            sum(e.amount),
+            sum(e.account.id),
+            sum(e.category.id)
+        )
+        from Entry e
+        where e.settlementDate in :settlementDates
+        group by e.settlementDate
+        """)
+    List<EntryDayChecksum> findDayChecksums(@Param("settlementDates") Collection<LocalDate> settlementDates);
+
+    @Query("""
+        select new dev.ccosta.aisha.domain.entry.EntryBucketTotal(e.account.id, e.settlementDate, sum(e.amount))
+        from Entry e
+        where e.settlementDate between :startDate and :endDate
+        group by e.account.id, e.settlementDate
+        """)
+    List<EntryBucketTotal> sumAmountByAccountAndDay(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("""
+        select new dev.ccosta.aisha.infrastructure.persistence.entry.EntryPeriodTotalRow(
+            e.account.id,
+            year(e.settlementDate),
+            month(e.settlementDate),
+            sum(e.amount)
+        )
+        from Entry e
+        where e.settlementDate between :startDate and :endDate
+        group by e.account.id, year(e.settlementDate), month(e.settlementDate)
+        """)
+    List<EntryPeriodTotalRow> sumAmountByAccountAndMonth(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("""
+        select new dev.ccosta.aisha.infrastructure.persistence.entry.EntryPeriodTotalRow(
+            e.account.id,
+            year(e.settlementDate),
+            1,
+            sum(e.amount)
+        )
+        from Entry e
+        where e.settlementDate between :startDate and :endDate
+        group by e.account.id, year(e.settlementDate)
+        """)
+    List<EntryPeriodTotalRow> sumAmountByAccountAndYear(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("""
+        select new dev.ccosta.aisha.domain.entry.EntryBucketTotal(e.category.id, e.settlementDate, sum(e.amount))
+        from Entry e
+        where e.settlementDate between :startDate and :endDate
+        group by e.category.id, e.settlementDate
+        """)
+    List<EntryBucketTotal> sumAmountByCategoryAndDay(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("""
+        select new dev.ccosta.aisha.infrastructure.persistence.entry.EntryPeriodTotalRow(
+            e.category.id,
+            year(e.settlementDate),
+            month(e.settlementDate),
+            sum(e.amount)
+        )
+        from Entry e
+        where e.settlementDate between :startDate and :endDate
+        group by e.category.id, year(e.settlementDate), month(e.settlementDate)
+        """)
+    List<EntryPeriodTotalRow> sumAmountByCategoryAndMonth(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("""
+        select new dev.ccosta.aisha.infrastructure.persistence.entry.EntryPeriodTotalRow(
+            e.category.id,
+            year(e.settlementDate),
+            1,
+            sum(e.amount)
+        )
+        from Entry e
+        where e.settlementDate between :startDate and :endDate
+        group by e.category.id, year(e.settlementDate)
+        """)
+    List<EntryPeriodTotalRow> sumAmountByCategoryAndYear(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     boolean existsByCategoryId(Long categoryId);
 
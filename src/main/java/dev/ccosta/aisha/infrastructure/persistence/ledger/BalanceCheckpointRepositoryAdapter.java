@@ -0,0 +1,88 @@
+package dev.ccosta.aisha.infrastructure.persistence.ledger;
+
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpoint;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointInvalidation;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointRepository;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointScope;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class BalanceCheckpointRepositoryAdapter implements BalanceCheckpointRepository {
+
+    private final JpaBalanceCheckpointRepository jpaBalanceCheckpointRepository;
+    private final JpaBalanceCheckpointInvalidationRepository jpaBalanceCheckpointInvalidationRepository;
+
+    public BalanceCheckpointRepositoryAdapter(
+        JpaBalanceCheckpointRepository jpaBalanceCheckpointRepository,
+        JpaBalanceCheckpointInvalidationRepository jpaBalanceCheckpointInvalidationRepository
+    ) {
+        this.jpaBalanceCheckpointRepository = jpaBalanceCheckpointRepository;
+        this.jpaBalanceCheckpointInvalidationRepository = jpaBalanceCheckpointInvalidationRepository;
+    }
+
+    @Override
+    public Optional<LocalDate> findLatestCheckpointDate() {
+        return Optional.ofNullable(jpaBalanceCheckpointRepository.findMaxCheckpointDate());
+    }
+
+    @Override
+    public Optional<LocalDate> findLatestCheckpointDateOnOrBefore(LocalDate date) {
+        return Optional.ofNullable(jpaBalanceCheckpointRepository.findMaxCheckpointDateOnOrBefore(date));
+    }
+
+    @Override
+    public List<BalanceCheckpoint> listByCheckpointDate(LocalDate checkpointDate) {
+        return jpaBalanceCheckpointRepository.findByCheckpointDate(checkpointDate);
+    }
+
+    @Override
+    public List<BalanceCheckpoint> listByCheckpointDateAndScope(LocalDate checkpointDate, BalanceCheckpointScope scope) {
+        return jpaBalanceCheckpointRepository.findByCheckpointDateAndScope(checkpointDate, scope);
+    }
+
+    @Override
+    public void saveAll(Collection<BalanceCheckpoint> checkpoints) {
+        jpaBalanceCheckpointRepository.saveAll(checkpoints);
+    }
+
+    @Override
+    public void deleteByCheckpointDateAfter(LocalDate date) {
+        jpaBalanceCheckpointRepository.deleteByCheckpointDateAfter(date);
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaBalanceCheckpointRepository.deleteAllInBatch();
+    }
+
+    @Override
+    public void lockRefresh() {
+        jpaBalanceCheckpointRepository.lockRefresh();
+    }
+
+    @Override
+    public void addInvalidation(LocalDate settlementDate) {
+        BalanceCheckpointInvalidation invalidation = new BalanceCheckpointInvalidation();
+        invalidation.setSettlementDate(settlementDate);
+        jpaBalanceCheckpointInvalidationRepository.save(invalidation);
+    }
+
+    @Override
+    public List<BalanceCheckpointInvalidation> listInvalidations() {
+        return jpaBalanceCheckpointInvalidationRepository.findAll();
+    }
+
+    @Override
+    public Optional<LocalDate> findEarliestInvalidation() {
+        return Optional.ofNullable(jpaBalanceCheckpointInvalidationRepository.findMinSettlementDate());
+    }
+
+    @Override
+    public void deleteInvalidations(Collection<BalanceCheckpointInvalidation> invalidations) {
+        jpaBalanceCheckpointInvalidationRepository.deleteAllInBatch(invalidations);
+    }
+}
@@ -0,0 +1,115 @@
+package dev.ccosta.aisha.infrastructure.persistence.ledger;
+
+import dev.ccosta.aisha.domain.entry.EntryGroupTotal;
+import dev.ccosta.aisha.domain.ledger.DailyRollup;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRepository;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRow;
+import java.math.BigDecimal;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class DailyRollupRepositoryAdapter implements DailyRollupRepository {
+
+    private final JpaDailyRollupRepository jpaDailyRollupRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private volatile Boolean postgres;
+
+    public DailyRollupRepositoryAdapter(
+        JpaDailyRollupRepository jpaDailyRollupRepository,
+        EntityManagerFactory entityManagerFactory
+    ) {
+        this.jpaDailyRollupRepository = jpaDailyRollupRepository;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void addDelta(DailyRollup delta) {
+        if (isPostgres()) {
+            jpaDailyRollupRepository.upsertOnConflict(
+                delta.getSettlementDate(),
+                delta.getAccountId(),
+                delta.getCategoryId(),
+                delta.getSignedAmount(),
+                delta.getRevenueAmount(),
+                delta.getExpenseAmount(),
+                delta.getEntryCount()
+            );
+            return;
+        }
+        jpaDailyRollupRepository.upsertByMerge(
+            delta.getSettlementDate(),
+            delta.getAccountId(),
+            delta.getCategoryId(),
+            delta.getSignedAmount(),
+            delta.getRevenueAmount(),
+            delta.getExpenseAmount(),
+            delta.getEntryCount()
+        );
+    }
+
+    private boolean isPostgres() {
+        Boolean resolved = postgres;
+        if (resolved == null) {
+            resolved = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+            postgres = resolved;
+        }
+        return resolved;
+    }
+
+    @Override
+    public void deleteEmpty(LocalDate settlementDate, Long accountId, Long categoryId) {
+        jpaDailyRollupRepository.deleteEmpty(settlementDate, accountId, categoryId);
+    }
+
+    @Override
+    public List<DailyRollupRow> listRowsBySettlementDateBetween(LocalDate startDate, LocalDate endDate) {
+        return jpaDailyRollupRepository.findRowsBySettlementDateBetween(startDate, endDate)
+            .stream()
+            .map(DailyRollupRowProjection::toRow)
+            .toList();
+    }
+
+    @Override
+    public Optional<LocalDate> findEarliestSettlementDate() {
+        return Optional.ofNullable(jpaDailyRollupRepository.findMinSettlementDate());
+    }
+
+    @Override
+    public Optional<LocalDate> findLatestSettlementDate() {
+        return Optional.ofNullable(jpaDailyRollupRepository.findMaxSettlementDate());
+    }
+
+    @Override
+    public BigDecimal sumSignedAmount(LocalDate fromDate, LocalDate beforeDate) {
+        return jpaDailyRollupRepository.sumSignedAmount(fromDate, beforeDate);
+    }
+
+    @Override
+    public List<EntryGroupTotal> sumSignedAmountByAccount(LocalDate fromDate, LocalDate beforeDate) {
+        return jpaDailyRollupRepository.sumSignedAmountByAccount(fromDate, beforeDate);
+    }
+
+    @Override
+    public List<EntryGroupTotal> sumSignedAmountByCategory(LocalDate fromDate, LocalDate beforeDate) {
+        return jpaDailyRollupRepository.sumSignedAmountByCategory(fromDate, beforeDate);
+    }
+
+    @Override
+    public void saveAll(Collection<DailyRollup> rollups) {
+        jpaDailyRollupRepository.saveAll(rollups);
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaDailyRollupRepository.deleteAllInBatch();
+    }
+}
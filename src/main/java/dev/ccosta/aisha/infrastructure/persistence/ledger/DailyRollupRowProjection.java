@@ -0,0 +1,30 @@
+package dev.ccosta.aisha.infrastructure.persistence.ledger;
+
+import dev.ccosta.aisha.domain.ledger.DailyRollupRow;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyRollupRowProjection(
+    LocalDate settlementDate,
+    Long accountId,
+    Long categoryId,
+    BigDecimal signedAmount,
+    BigDecimal revenueAmount,
+    BigDecimal expenseAmount
+) {
+
+    DailyRollupRow toRow() {
+        return new DailyRollupRow(
+            settlementDate.toEpochDay(),
+            accountId,
+            categoryId,
+            toCents(signedAmount),
+            toCents(revenueAmount),
+            toCents(expenseAmount)
+        );
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+}
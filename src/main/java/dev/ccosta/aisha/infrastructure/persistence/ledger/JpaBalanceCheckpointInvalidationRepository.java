@@ -0,0 +1,12 @@
+package dev.ccosta.aisha.infrastructure.persistence.ledger;
+
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointInvalidation;
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface JpaBalanceCheckpointInvalidationRepository extends JpaRepository<BalanceCheckpointInvalidation, Long> {
+
+    @Query("select min(i.settlementDate) from BalanceCheckpointInvalidation i")
+    LocalDate findMinSettlementDate();
+}
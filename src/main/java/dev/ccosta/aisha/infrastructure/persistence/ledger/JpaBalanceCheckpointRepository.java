@@ -0,0 +1,31 @@
+package dev.ccosta.aisha.infrastructure.persistence.ledger;
+
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpoint;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointScope;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JpaBalanceCheckpointRepository extends JpaRepository<BalanceCheckpoint, Long> {
+
+    @Query("select max(c.checkpointDate) from BalanceCheckpoint c")
+    LocalDate findMaxCheckpointDate();
+
+    @Query("select max(c.checkpointDate) from BalanceCheckpoint c where c.checkpointDate <= :date")
+    LocalDate findMaxCheckpointDateOnOrBefore(@Param("date") LocalDate date);
+
+    List<BalanceCheckpoint> findByCheckpointDate(LocalDate checkpointDate);
+
+    List<BalanceCheckpoint> findByCheckpointDateAndScope(LocalDate checkpointDate, BalanceCheckpointScope scope);
+
+    @Modifying
+    @Query("delete from BalanceCheckpoint c where c.checkpointDate > :date")
+    void deleteByCheckpointDateAfter(@Param("date") LocalDate date);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE balance_checkpoint_lock SET refresh_count = refresh_count + 1 WHERE id = 1")
+    void lockRefresh();
+}
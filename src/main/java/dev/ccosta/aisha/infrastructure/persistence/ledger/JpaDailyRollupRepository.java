@@ -0,0 +1,132 @@
+package dev.ccosta.aisha.infrastructure.persistence.ledger;
+
+import dev.ccosta.aisha.domain.entry.EntryGroupTotal;
+import dev.ccosta.aisha.domain.ledger.DailyRollup;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JpaDailyRollupRepository extends JpaRepository<DailyRollup, Long> {
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        INSERT INTO daily_rollups (settlement_date, account_id, category_id, signed_amount, revenue_amount, expense_amount, entry_count)
+        VALUES (:settlementDate, :accountId, :categoryId, :signedAmount, :revenueAmount, :expenseAmount, :entryCount)
+        ON CONFLICT (settlement_date, account_id, category_id) DO UPDATE SET
+            signed_amount = daily_rollups.signed_amount + EXCLUDED.signed_amount,
+            revenue_amount = daily_rollups.revenue_amount + EXCLUDED.revenue_amount,
+            expense_amount = daily_rollups.expense_amount + EXCLUDED.expense_amount,
+            entry_count = daily_rollups.entry_count + EXCLUDED.entry_count
+        """)
+    void upsertOnConflict(
+        @Param("settlementDate") LocalDate settlementDate,
+        @Param("accountId") Long accountId,
+        @Param("categoryId") Long categoryId,
+        @Param("signedAmount") BigDecimal signedAmount,
+        @Param("revenueAmount") BigDecimal revenueAmount,
+        @Param("expenseAmount") BigDecimal expenseAmount,
+        @Param("entryCount") long entryCount
+    );
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        MERGE INTO daily_rollups r
+        USING (VALUES (
+            CAST(:settlementDate AS DATE),
+            CAST(:accountId AS BIGINT),
+            CAST(:categoryId AS BIGINT),
+            CAST(:signedAmount AS NUMERIC(19, 2)),
+            CAST(:revenueAmount AS NUMERIC(19, 2)),
+            CAST(:expenseAmount AS NUMERIC(19, 2)),
+            CAST(:entryCount AS BIGINT)
+        )) AS d (settlement_date, account_id, category_id, signed_amount, revenue_amount, expense_amount, entry_count)
+        ON r.settlement_date = d.settlement_date AND r.account_id = d.account_id AND r.category_id = d.category_id
+        WHEN MATCHED THEN UPDATE SET
+            r.signed_amount = r.signed_amount + d.signed_amount,
+            r.revenue_amount = r.revenue_amount + d.revenue_amount,
+            r.expense_amount = r.expense_amount + d.expense_amount,
+            r.entry_count = r.entry_count + d.entry_count
+        WHEN NOT MATCHED THEN INSERT (settlement_date, account_id, category_id, signed_amount, revenue_amount, expense_amount, entry_count)
+            VALUES (d.settlement_date, d.account_id, d.category_id, d.signed_amount, d.revenue_amount, d.expense_amount, d.entry_count)
+        """)
+    void upsertByMerge(
+        @Param("settlementDate") LocalDate settlementDate,
+        @Param("accountId") Long accountId,
+        @Param("categoryId") Long categoryId,
+        @Param("signedAmount") BigDecimal signedAmount,
+        @Param("revenueAmount") BigDecimal revenueAmount,
+        @Param("expenseAmount") BigDecimal expenseAmount,
+        @Param("entryCount") long entryCount
+    );
+
+    @Modifying
+    @Query("""
+        delete from DailyRollup r
+        where r.settlementDate = :settlementDate
+            and r.accountId = :accountId
+            and r.categoryId = :categoryId
+            and r.entryCount <= 0
+        """)
+    void deleteEmpty(
+        @Param("settlementDate") LocalDate settlementDate,
+        @Param("accountId") Long accountId,
+        @Param("categoryId") Long categoryId
+    );
+
+    @Query("""
+        select new dev.ccosta.aisha.infrastructure.persistence.ledger.DailyRollupRowProjection(
+            r.settlementDate,
+            r.accountId,
+            r.categoryId,
+            r.signedAmount,
+            r.revenueAmount,
+            r.expenseAmount
+        )
+        from DailyRollup r
+        where r.settlementDate between :startDate and :endDate
+        order by r.settlementDate
+        """)
+    List<DailyRollupRowProjection> findRowsBySettlementDateBetween(
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Query("select min(r.settlementDate) from DailyRollup r")
+    LocalDate findMinSettlementDate();
+
+    @Query("select max(r.settlementDate) from DailyRollup r")
+    LocalDate findMaxSettlementDate();
+
+    @Query("""
+        select coalesce(sum(r.signedAmount), 0)
+        from DailyRollup r
+        where r.settlementDate >= :fromDate and r.settlementDate < :beforeDate
+        """)
+    BigDecimal sumSignedAmount(@Param("fromDate") LocalDate fromDate, @Param("beforeDate") LocalDate beforeDate);
+
+    @Query("""
+        select new dev.ccosta.aisha.domain.entry.EntryGroupTotal(r.accountId, sum(r.signedAmount))
+        from DailyRollup r
+        where r.settlementDate >= :fromDate and r.settlementDate < :beforeDate
+        group by r.accountId
+        """)
+    List<EntryGroupTotal> sumSignedAmountByAccount(
+        @Param("fromDate") LocalDate fromDate,
+        @Param("beforeDate") LocalDate beforeDate
+    );
+
+    @Query("""
+        select new dev.ccosta.aisha.domain.entry.EntryGroupTotal(r.categoryId, sum(r.signedAmount))
+        from DailyRollup r
+        where r.settlementDate >= :fromDate and r.settlementDate < :beforeDate
+        group by r.categoryId
+        """)
+    List<EntryGroupTotal> sumSignedAmountByCategory(
+        @Param("fromDate") LocalDate fromDate,
+        @Param("beforeDate") LocalDate beforeDate
+    );
+}
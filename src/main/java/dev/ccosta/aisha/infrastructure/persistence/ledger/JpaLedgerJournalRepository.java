@@ -0,0 +1,24 @@
+package dev.ccosta.aisha.infrastructure.persistence.ledger;
+
+import dev.ccosta.aisha.domain.ledger.LedgerJournalEntry;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JpaLedgerJournalRepository extends JpaRepository<LedgerJournalEntry, Long> {
+
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE ledger_journal_head SET journal_position = journal_position + 1 WHERE id = 1")
+    void incrementPosition();
+
+    @Query(nativeQuery = true, value = "SELECT journal_position FROM ledger_journal_head WHERE id = 1")
+    long findPosition();
+
+    List<LedgerJournalEntry> findByJournalPositionGreaterThanOrderByJournalPositionAscIdAsc(long journalPosition);
+
+    @Modifying
+    @Query("delete from LedgerJournalEntry j where j.journalPosition <= :position")
+    void deleteByJournalPositionLessThanEqual(@Param("position") long position);
+}
@@ -0,0 +1,43 @@
+package dev.ccosta.aisha.infrastructure.persistence.ledger;
+
+import dev.ccosta.aisha.domain.ledger.LedgerJournalEntry;
+import dev.ccosta.aisha.domain.ledger.LedgerJournalRepository;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class LedgerJournalRepositoryAdapter implements LedgerJournalRepository {
+
+    private final JpaLedgerJournalRepository jpaLedgerJournalRepository;
+
+    public LedgerJournalRepositoryAdapter(JpaLedgerJournalRepository jpaLedgerJournalRepository) {
+        this.jpaLedgerJournalRepository = jpaLedgerJournalRepository;
+    }
+
+    @Override
+    public long advancePosition() {
+        jpaLedgerJournalRepository.incrementPosition();
+        return jpaLedgerJournalRepository.findPosition();
+    }
+
+    @Override
+    public long findPosition() {
+        return jpaLedgerJournalRepository.findPosition();
+    }
+
+    @Override
+    public List<LedgerJournalEntry> listAfter(long position) {
+        return jpaLedgerJournalRepository.findByJournalPositionGreaterThanOrderByJournalPositionAscIdAsc(position);
+    }
+
+    @Override
+    public void saveAll(Collection<LedgerJournalEntry> entries) {
+        jpaLedgerJournalRepository.saveAll(entries);
+    }
+
+    @Override
+    public void deleteUpTo(long position) {
+        jpaLedgerJournalRepository.deleteByJournalPositionLessThanEqual(position);
+    }
+}
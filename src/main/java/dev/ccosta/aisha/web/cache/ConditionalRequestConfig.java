@@ -0,0 +1,21 @@
+package dev.ccosta.aisha.web.cache;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class ConditionalRequestConfig implements WebMvcConfigurer {
+
+    private final LedgerETagInterceptor ledgerETagInterceptor;
+
+    public ConditionalRequestConfig(LedgerETagInterceptor ledgerETagInterceptor) {
+        this.ledgerETagInterceptor = ledgerETagInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(ledgerETagInterceptor)
+            .addPathPatterns("/api/dashboard/**", "/entries/fragments/table", "/categories/fragments/table");
+    }
+}
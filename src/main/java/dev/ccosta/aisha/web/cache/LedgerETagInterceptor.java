@@ -0,0 +1,67 @@
+package dev.ccosta.aisha.web.cache;
+
+import dev.ccosta.aisha.application.ledger.LedgerVersion;
+import dev.ccosta.aisha.web.timefilter.DateFilterSessionService;
+import dev.ccosta.aisha.web.timefilter.DateFilterState;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+@Component
+public class LedgerETagInterceptor implements HandlerInterceptor {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+    private static final int VARIANT_BYTES = 16;
+
+    private final LedgerVersion ledgerVersion;
+    private final DateFilterSessionService dateFilterSessionService;
+
+    public LedgerETagInterceptor(LedgerVersion ledgerVersion, DateFilterSessionService dateFilterSessionService) {
+        this.ledgerVersion = ledgerVersion;
+        this.dateFilterSessionService = dateFilterSessionService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+
+        LedgerVersion.Snapshot snapshot = ledgerVersion.snapshot();
+        DateFilterState filter = dateFilterSessionService.getOrCreate(request.getSession());
+        String variant = String.join(
+            "\n",
+            String.valueOf(filter.getStartDate()),
+            String.valueOf(filter.getEndDate()),
+            request.getRequestURI(),
+            String.valueOf(request.getQueryString()),
+            RequestContextUtils.getLocale(request).toLanguageTag()
+        );
+        String eTag = "W/\"" + snapshot.epoch() + "-" + snapshot.version() + "-" + digest(variant) + "\"";
+
+        // Last-Modified is ledger-wide, so it is sent for information only; revalidation goes by the tag, which
+        // also covers the filter, the URL and the locale.
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, snapshot.lastModified().toEpochMilli());
+        return !new ServletWebRequest(request, response).checkNotModified(eTag);
+    }
+
+    private static String digest(String variant) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(variant.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(Arrays.copyOf(hash, VARIANT_BYTES));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+}
@@ -34,14 +34,22 @@ public class CategoryController {
     }
 
     @GetMapping
-    public String list(@ModelAttribute("globalDateFilter") DateFilterState globalDateFilter, Model model) {
-        fillListing(model, globalDateFilter);
+    public String list(
+        @ModelAttribute("globalDateFilter") DateFilterState globalDateFilter,
+        @RequestParam(name = "subcategories", defaultValue = "false") boolean includeSubcategories,
+        Model model
+    ) {
+        fillListing(model, globalDateFilter, includeSubcategories);
         return "categories/list";
     }
 
     @GetMapping("/fragments/table")
-    public String table(@ModelAttribute("globalDateFilter") DateFilterState globalDateFilter, Model model) {
-        fillListing(model, globalDateFilter);
+    public String table(
+        @ModelAttribute("globalDateFilter") DateFilterState globalDateFilter,
+        @RequestParam(name = "subcategories", defaultValue = "false") boolean includeSubcategories,
+        Model model
+    ) {
+        fillListing(model, globalDateFilter, includeSubcategories);
         return "categories/list :: table";
     }
 
@@ -135,6 +143,10 @@ public class CategoryController {
     }
 
     private void fillListing(Model model, DateFilterState globalDateFilter) {
+        fillListing(model, globalDateFilter, false);
+    }
+
+    private void fillListing(Model model, DateFilterState globalDateFilter, boolean includeSubcategories) {
         List<Category> categories = categoryService.listAllOrdered();
         model.addAttribute("categories", categories);
 
@@ -150,7 +162,8 @@ public class CategoryController {
             categoryBalanceReportService.buildReport(
                 categories,
                 effectiveFilter.getStartDate(),
-                effectiveFilter.getEndDate()
+                effectiveFilter.getEndDate(),
+                includeSubcategories
             )
         );
     }
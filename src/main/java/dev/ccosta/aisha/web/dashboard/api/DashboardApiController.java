@@ -7,36 +7,118 @@ import dev.ccosta.aisha.application.dashboard.DashboardCategoryTotalsSeries;
 import dev.ccosta.aisha.application.dashboard.DashboardExpenseCategoryBreakdown;
 import dev.ccosta.aisha.application.dashboard.DashboardExpenseCategoryItem;
 import dev.ccosta.aisha.application.dashboard.DashboardMetric;
+import dev.ccosta.aisha.application.dashboard.DashboardOverview;
 import dev.ccosta.aisha.application.dashboard.DashboardRevenueExpenseEvolution;
 import dev.ccosta.aisha.application.dashboard.DashboardRevenueExpensePoint;
-import dev.ccosta.aisha.application.dashboard.DashboardService;
+import dev.ccosta.aisha.application.dashboard.DashboardResultCache;
 import dev.ccosta.aisha.application.dashboard.DashboardSummary;
 import dev.ccosta.aisha.web.timefilter.DateFilterSessionService;
 import dev.ccosta.aisha.web.timefilter.DateFilterState;
 import jakarta.servlet.http.HttpSession;
 import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/dashboard")
 public class DashboardApiController {
 
-    private final DashboardService dashboardService;
+    private final DashboardResultCache dashboardResultCache;
     private final DateFilterSessionService dateFilterSessionService;
 
-    public DashboardApiController(DashboardService dashboardService, DateFilterSessionService dateFilterSessionService) {
-        this.dashboardService = dashboardService;
+    public DashboardApiController(DashboardResultCache dashboardResultCache, DateFilterSessionService dateFilterSessionService) {
+        this.dashboardResultCache = dashboardResultCache;
         this.dateFilterSessionService = dateFilterSessionService;
     }
 
     @GetMapping("/summary")
     public DashboardSummaryResponse summary(HttpSession session) {
         DateFilterState filter = dateFilterSessionService.getOrCreate(session);
-        DashboardSummary summary = dashboardService.buildSummary(filter.getStartDate(), filter.getEndDate());
+        return toSummaryResponse(dashboardResultCache.buildSummary(filter.getStartDate(), filter.getEndDate()));
+    }
 
+    @GetMapping("/balance-evolution")
+    public DashboardBalanceEvolutionResponse balanceEvolution(
+        HttpSession session,
+        @RequestParam(required = false) Integer maxPoints
+    ) {
+        DateFilterState filter = dateFilterSessionService.getOrCreate(session);
+        return toBalanceEvolutionResponse(dashboardResultCache.buildBalanceEvolution(
+            filter.getStartDate(),
+            filter.getEndDate(),
+            maxPoints
+        ));
+    }
+
+    @GetMapping("/revenues-vs-expenses")
+    public DashboardRevenueExpenseEvolutionResponse revenuesVsExpenses(HttpSession session) {
+        DateFilterState filter = dateFilterSessionService.getOrCreate(session);
+        return toRevenueExpenseEvolutionResponse(dashboardResultCache.buildRevenueExpenseEvolution(
+            filter.getStartDate(),
+            filter.getEndDate()
+        ));
+    }
+
+    @GetMapping("/expenses-by-category")
+    public DashboardExpenseCategoryBreakdownResponse expensesByCategory(
+        HttpSession session,
+        @RequestParam(required = false) Long parentCategoryId
+    ) {
+        DateFilterState filter = dateFilterSessionService.getOrCreate(session);
+        return toExpenseCategoryBreakdownResponse(dashboardResultCache.buildExpenseCategoryBreakdown(
+            filter.getStartDate(),
+            filter.getEndDate(),
+            parentCategoryId
+        ));
+    }
+
+    @GetMapping("/category-totals")
+    public DashboardCategoryTotalsEvolutionResponse categoryTotals(
+        HttpSession session,
+        @RequestParam(required = false) Long parentCategoryId,
+        @RequestParam(required = false) Integer maxPoints
+    ) {
+        DateFilterState filter = dateFilterSessionService.getOrCreate(session);
+        return toCategoryTotalsEvolutionResponse(dashboardResultCache.buildCategoryTotalsEvolution(
+            filter.getStartDate(),
+            filter.getEndDate(),
+            parentCategoryId,
+            maxPoints
+        ));
+    }
+
+    @GetMapping("/all")
+    public DashboardOverviewResponse all(
+        HttpSession session,
+        @RequestParam(required = false) Long parentCategoryId
+    ) {
+        DateFilterState filter = dateFilterSessionService.getOrCreate(session);
+        DashboardOverview overview = dashboardResultCache.buildOverview(
+            filter.getStartDate(),
+            filter.getEndDate(),
+            parentCategoryId
+        );
+
+        return new DashboardOverviewResponse(
+            toSummaryResponse(overview.summary()),
+            toBalanceEvolutionResponse(overview.balanceEvolution()),
+            toRevenueExpenseEvolutionResponse(overview.revenueExpenseEvolution()),
+            toExpenseCategoryBreakdownResponse(overview.expenseCategoryBreakdown()),
+            toCategoryTotalsEvolutionResponse(overview.categoryTotalsEvolution())
+        );
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public void handleInvalidRequest() {
+    }
+
+    private DashboardSummaryResponse toSummaryResponse(DashboardSummary summary) {
         return new DashboardSummaryResponse(
             toMetric(summary.currentBalance()),
             toMetric(summary.totalExpenses()),
@@ -44,11 +126,7 @@ public class DashboardApiController {
         );
     }
 
-    @GetMapping("/balance-evolution")
-    public DashboardBalanceEvolutionResponse balanceEvolution(HttpSession session) {
-        DateFilterState filter = dateFilterSessionService.getOrCreate(session);
-        DashboardBalanceEvolution evolution = dashboardService.buildBalanceEvolution(filter.getStartDate(), filter.getEndDate());
-
+    private DashboardBalanceEvolutionResponse toBalanceEvolutionResponse(DashboardBalanceEvolution evolution) {
         List<DashboardBalanceEvolutionResponse.DashboardBalancePointResponse> points = evolution.points()
             .stream()
             .map(this::toPoint)
@@ -63,14 +141,9 @@ public class DashboardApiController {
         );
     }
 
-    @GetMapping("/revenues-vs-expenses")
-    public DashboardRevenueExpenseEvolutionResponse revenuesVsExpenses(HttpSession session) {
-        DateFilterState filter = dateFilterSessionService.getOrCreate(session);
-        DashboardRevenueExpenseEvolution evolution = dashboardService.buildRevenueExpenseEvolution(
-            filter.getStartDate(),
-            filter.getEndDate()
-        );
-
+    private DashboardRevenueExpenseEvolutionResponse toRevenueExpenseEvolutionResponse(
+        DashboardRevenueExpenseEvolution evolution
+    ) {
         List<DashboardRevenueExpenseEvolutionResponse.DashboardRevenueExpensePointResponse> points = evolution.points()
             .stream()
             .map(this::toRevenueExpensePoint)
@@ -84,18 +157,9 @@ public class DashboardApiController {
         );
     }
 
-    @GetMapping("/expenses-by-category")
-    public DashboardExpenseCategoryBreakdownResponse expensesByCategory(
-        HttpSession session,
-        @RequestParam(required = false) Long parentCategoryId
+    private DashboardExpenseCategoryBreakdownResponse toExpenseCategoryBreakdownResponse(
+        DashboardExpenseCategoryBreakdown breakdown
     ) {
-        DateFilterState filter = dateFilterSessionService.getOrCreate(session);
-        DashboardExpenseCategoryBreakdown breakdown = dashboardService.buildExpenseCategoryBreakdown(
-            filter.getStartDate(),
-            filter.getEndDate(),
-            parentCategoryId
-        );
-
         List<DashboardExpenseCategoryBreakdownResponse.DashboardExpenseCategoryItemResponse> items = breakdown.items()
             .stream()
             .map(this::toExpenseCategoryItem)
@@ -111,18 +175,9 @@ public class DashboardApiController {
         );
     }
 
-    @GetMapping("/category-totals")
-    public DashboardCategoryTotalsEvolutionResponse categoryTotals(
-        HttpSession session,
-        @RequestParam(required = false) Long parentCategoryId
+    private DashboardCategoryTotalsEvolutionResponse toCategoryTotalsEvolutionResponse(
+        DashboardCategoryTotalsEvolution evolution
     ) {
-        DateFilterState filter = dateFilterSessionService.getOrCreate(session);
-        DashboardCategoryTotalsEvolution evolution = dashboardService.buildCategoryTotalsEvolution(
-            filter.getStartDate(),
-            filter.getEndDate(),
-            parentCategoryId
-        );
-
         List<DashboardCategoryTotalsEvolutionResponse.DashboardCategoryTotalsSeriesResponse> series = evolution.series()
             .stream()
             .map(this::toCategoryTotalsSeries)
@@ -0,0 +1,10 @@
+package dev.ccosta.aisha.web.dashboard.api;
+
+public record DashboardOverviewResponse(
+    DashboardSummaryResponse summary,
+    DashboardBalanceEvolutionResponse balanceEvolution,
+    DashboardRevenueExpenseEvolutionResponse revenuesVsExpenses,
+    DashboardExpenseCategoryBreakdownResponse expensesByCategory,
+    DashboardCategoryTotalsEvolutionResponse categoryTotals
+) {
+}
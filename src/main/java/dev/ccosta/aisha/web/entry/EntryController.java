@@ -8,7 +8,9 @@ import dev.ccosta.aisha.application.category.CategoryService;
 import dev.ccosta.aisha.domain.account.Account;
 import dev.ccosta.aisha.application.entry.EntryNotFoundException;
 import dev.ccosta.aisha.application.entry.EntryService;
+import dev.ccosta.aisha.application.entry.InvalidEntryCursorException;
 import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryPage;
 import dev.ccosta.aisha.web.timefilter.DateFilterState;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -63,6 +65,18 @@ public class EntryController {
         return "entries/list :: table";
     }
 
+    @GetMapping("/fragments/rows")
+    public String rows(
+        @ModelAttribute("globalDateFilter") DateFilterState globalDateFilter,
+        @RequestParam(name = "accountId", required = false) Long accountId,
+        @RequestParam(name = "categoryId", required = false) Long categoryId,
+        @RequestParam(name = "cursor") String cursor,
+        Model model
+    ) {
+        fillPage(model, globalDateFilter, accountId, categoryId, cursor);
+        return "entries/list :: rows";
+    }
+
     @GetMapping("/new")
     public String createForm(Model model) {
         model.addAttribute("form", EntryForm.newWithCurrentDates());
@@ -202,20 +216,29 @@ public class EntryController {
         return "errors/404";
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @org.springframework.web.bind.annotation.ExceptionHandler(InvalidEntryCursorException.class)
+    public void handleInvalidCursor() {
+    }
+
     private void fillListing(Model model, DateFilterState globalDateFilter, Long accountId, Long categoryId) {
-        model.addAttribute(
-            "entries",
-            entryService.listTop100MostRecentBySettlementDateBetweenAndFilters(
-                globalDateFilter.getStartDate(),
-                globalDateFilter.getEndDate(),
-                accountId,
-                categoryId
-            )
+        fillPage(model, globalDateFilter, accountId, categoryId, null);
+        fillAccountOptions(model);
+        fillCategoryOptions(model);
+    }
+
+    private void fillPage(Model model, DateFilterState globalDateFilter, Long accountId, Long categoryId, String cursor) {
+        EntryPage page = entryService.listMostRecentBySettlementDate(
+            globalDateFilter.getStartDate(),
+            globalDateFilter.getEndDate(),
+            accountId,
+            categoryId,
+            cursor
         );
+        model.addAttribute("entries", page.entries());
+        model.addAttribute("nextCursor", page.hasNext() ? page.nextCursor().toToken() : null);
         model.addAttribute("selectedAccountId", accountId);
         model.addAttribute("selectedCategoryId", categoryId);
-        fillAccountOptions(model);
-        fillCategoryOptions(model);
     }
 
     private boolean isHtmx(HttpServletRequest request) {
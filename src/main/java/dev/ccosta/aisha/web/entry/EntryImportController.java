@@ -0,0 +1,94 @@
+package dev.ccosta.aisha.web.entry;
+
+import dev.ccosta.aisha.application.account.AccountNotFoundException;
+import dev.ccosta.aisha.application.account.AccountService;
+import dev.ccosta.aisha.application.category.CategoryNotFoundException;
+import dev.ccosta.aisha.application.category.CategoryService;
+import dev.ccosta.aisha.application.statement.StatementFormat;
+import dev.ccosta.aisha.application.statement.StatementImportException;
+import dev.ccosta.aisha.application.statement.StatementImportResult;
+import dev.ccosta.aisha.application.statement.StatementImportService;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+@Controller
+@RequestMapping("/entries/import")
+public class EntryImportController {
+
+    private final StatementImportService statementImportService;
+    private final AccountService accountService;
+    private final CategoryService categoryService;
+
+    public EntryImportController(
+        StatementImportService statementImportService,
+        AccountService accountService,
+        CategoryService categoryService
+    ) {
+        this.statementImportService = statementImportService;
+        this.accountService = accountService;
+        this.categoryService = categoryService;
+    }
+
+    @GetMapping
+    public String form(Model model) {
+        model.addAttribute("form", new EntryImportForm());
+        fillOptions(model);
+        return "entries/import";
+    }
+
+    @PostMapping
+    public String importStatement(
+        @Valid @ModelAttribute("form") EntryImportForm form,
+        BindingResult bindingResult,
+        Model model,
+        RedirectAttributes redirectAttributes
+    ) {
+        if (form.getFile() == null || form.getFile().isEmpty()) {
+            bindingResult.rejectValue("file", "entryImportForm.file.notEmpty");
+        }
+        if (bindingResult.hasErrors()) {
+            fillOptions(model);
+            return "entries/import";
+        }
+
+        try (InputStream input = form.getFile().getInputStream()) {
+            StatementImportResult result = statementImportService.importStatement(
+                input,
+                form.getFormat(),
+                form.getAccountId(),
+                form.getCategoryId()
+            );
+            redirectAttributes.addFlashAttribute("importResult", result);
+        } catch (AccountNotFoundException ex) {
+            bindingResult.rejectValue("accountId", "entryImportForm.accountId.notNull");
+        } catch (CategoryNotFoundException ex) {
+            bindingResult.rejectValue("categoryId", "entryImportForm.categoryId.notFound");
+        } catch (StatementImportException ex) {
+            model.addAttribute("importError", ex.getMessage());
+            model.addAttribute("importedBeforeError", ex.getImportedEntries());
+        } catch (IOException ex) {
+            bindingResult.rejectValue("file", "entryImportForm.file.unreadable");
+        }
+
+        if (bindingResult.hasErrors() || model.containsAttribute("importError")) {
+            fillOptions(model);
+            return "entries/import";
+        }
+        return "redirect:/entries/import";
+    }
+
+    private void fillOptions(Model model) {
+        model.addAttribute("formatOptions", StatementFormat.values());
+        model.addAttribute("accountOptions", accountService.listAllOrdered());
+        model.addAttribute("categoryOptions", categoryService.listHierarchyOptions());
+    }
+}
@@ -0,0 +1,50 @@
+package dev.ccosta.aisha.web.entry;
+
+import dev.ccosta.aisha.application.statement.StatementFormat;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.web.multipart.MultipartFile;
+
+public class EntryImportForm {
+
+    @NotNull(message = "{entryImportForm.format.notNull}")
+    private StatementFormat format = StatementFormat.CSV;
+
+    @NotNull(message = "{entryImportForm.accountId.notNull}")
+    private Long accountId;
+
+    private Long categoryId;
+
+    private MultipartFile file;
+
+    public StatementFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(StatementFormat format) {
+        this.format = format;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public MultipartFile getFile() {
+        return file;
+    }
+
+    public void setFile(MultipartFile file) {
+        this.file = file;
+    }
+}
@@ -0,0 +1,136 @@
+package dev.ccosta.aisha.web.export;
+
+import dev.ccosta.aisha.application.export.ExportFormat;
+import dev.ccosta.aisha.application.export.LedgerExportService;
+import dev.ccosta.aisha.web.timefilter.DateFilterState;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Controller
+public class ExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final LedgerExportService ledgerExportService;
+
+    public ExportController(LedgerExportService ledgerExportService) {
+        this.ledgerExportService = ledgerExportService;
+    }
+
+    @GetMapping("/entries/export")
+    public ResponseEntity<StreamingResponseBody> exportEntries(
+        @ModelAttribute("globalDateFilter") DateFilterState globalDateFilter,
+        @RequestParam(name = "format", defaultValue = "CSV") ExportFormat format,
+        @RequestParam(name = "accountId", required = false) Long accountId,
+        @RequestParam(name = "categoryId", required = false) Long categoryId,
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        LocalDate startDate = globalDateFilter.getStartDate();
+        LocalDate endDate = globalDateFilter.getEndDate();
+        return stream(
+            "entries",
+            startDate,
+            endDate,
+            format,
+            acceptEncoding,
+            output -> ledgerExportService.exportEntries(startDate, endDate, accountId, categoryId, format, output)
+        );
+    }
+
+    @GetMapping("/accounts/export")
+    public ResponseEntity<StreamingResponseBody> exportAccountBalances(
+        @ModelAttribute("globalDateFilter") DateFilterState globalDateFilter,
+        @RequestParam(name = "format", defaultValue = "CSV") ExportFormat format,
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        LocalDate startDate = globalDateFilter.getStartDate();
+        LocalDate endDate = globalDateFilter.getEndDate();
+        return stream(
+            "account-balances",
+            startDate,
+            endDate,
+            format,
+            acceptEncoding,
+            output -> ledgerExportService.exportAccountBalances(startDate, endDate, format, output)
+        );
+    }
+
+    @GetMapping("/categories/export")
+    public ResponseEntity<StreamingResponseBody> exportCategoryBalances(
+        @ModelAttribute("globalDateFilter") DateFilterState globalDateFilter,
+        @RequestParam(name = "format", defaultValue = "CSV") ExportFormat format,
+        @RequestParam(name = "subcategories", defaultValue = "false") boolean includeSubcategories,
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        LocalDate startDate = globalDateFilter.getStartDate();
+        LocalDate endDate = globalDateFilter.getEndDate();
+        return stream(
+            "category-balances",
+            startDate,
+            endDate,
+            format,
+            acceptEncoding,
+            output -> ledgerExportService.exportCategoryBalances(startDate, endDate, includeSubcategories, format, output)
+        );
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(
+        String name,
+        LocalDate startDate,
+        LocalDate endDate,
+        ExportFormat format,
+        String acceptEncoding,
+        StreamingResponseBody body
+    ) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+            .filename(name + "-" + startDate + "-" + endDate + "." + format.extension())
+            .build();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.contentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+        if (!format.compressible()) {
+            return response.body(body);
+        }
+
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!acceptsGzip(acceptEncoding)) {
+            return response.body(body);
+        }
+        return response
+            .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+            .body(output -> {
+                GZIPOutputStream compressed = new GZIPOutputStream(output, GZIP_BUFFER_SIZE);
+                body.writeTo(compressed);
+                compressed.finish();
+            });
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int index = 1; index < parts.length; index++) {
+                if (parts[index].trim().matches("q=0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
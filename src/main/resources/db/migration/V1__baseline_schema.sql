@@ -0,0 +1,54 @@
+CREATE TABLE IF NOT EXISTS accounts (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    title VARCHAR(120) NOT NULL,
+    description VARCHAR(300),
+    CONSTRAINT pk_accounts PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    parent_id BIGINT,
+    title VARCHAR(120) NOT NULL,
+    description VARCHAR(300),
+    CONSTRAINT pk_categories PRIMARY KEY (id),
+    CONSTRAINT uk_categories_title UNIQUE (title),
+    CONSTRAINT fk_categories_parent FOREIGN KEY (parent_id) REFERENCES categories (id)
+);
+
+CREATE TABLE IF NOT EXISTS entries (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    account_id BIGINT NOT NULL,
+    movement_date DATE NOT NULL,
+    settlement_date DATE NOT NULL,
+    description VARCHAR(200) NOT NULL,
+    category_id BIGINT NOT NULL,
+    notes VARCHAR(1000),
+    amount NUMERIC(19, 2) NOT NULL,
+    CONSTRAINT pk_entries PRIMARY KEY (id),
+    CONSTRAINT fk_entries_account FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT fk_entries_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE IF NOT EXISTS daily_rollups (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    settlement_date DATE NOT NULL,
+    account_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    signed_amount NUMERIC(19, 2) NOT NULL,
+    revenue_amount NUMERIC(19, 2) NOT NULL,
+    expense_amount NUMERIC(19, 2) NOT NULL,
+    entry_count BIGINT NOT NULL,
+    CONSTRAINT pk_daily_rollups PRIMARY KEY (id),
+    CONSTRAINT uk_daily_rollups_day_account_category UNIQUE (settlement_date, account_id, category_id)
+);
+
+CREATE TABLE IF NOT EXISTS balance_checkpoints (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    checkpoint_date DATE NOT NULL,
+    scope VARCHAR(20) NOT NULL,
+    scope_id BIGINT,
+    balance NUMERIC(19, 2) NOT NULL,
+    CONSTRAINT pk_balance_checkpoints PRIMARY KEY (id),
+    CONSTRAINT uk_balance_checkpoints_date_scope UNIQUE (checkpoint_date, scope, scope_id),
+    CONSTRAINT ck_balance_checkpoints_scope CHECK (scope IN ('LEDGER', 'ACCOUNT', 'CATEGORY'))
+);
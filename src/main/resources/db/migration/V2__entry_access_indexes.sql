@@ -0,0 +1,7 @@
+CREATE INDEX IF NOT EXISTS ix_entries_settlement_date_id ON entries (settlement_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS ix_entries_account_settlement_date ON entries (account_id, settlement_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS ix_entries_category_settlement_date ON entries (category_id, settlement_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS ix_categories_parent ON categories (parent_id);
@@ -0,0 +1,11 @@
+CREATE SEQUENCE ledger_journal_seq AS BIGINT START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS ledger_journal (
+    id BIGINT NOT NULL,
+    settlement_date DATE NOT NULL,
+    account_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    removed BOOLEAN NOT NULL,
+    CONSTRAINT pk_ledger_journal PRIMARY KEY (id)
+);
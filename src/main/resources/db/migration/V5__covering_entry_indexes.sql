@@ -0,0 +1,7 @@
+DROP INDEX IF EXISTS ix_entries_account_settlement_date;
+
+CREATE INDEX ix_entries_account_settlement_date ON entries (account_id, settlement_date DESC, id DESC, category_id, amount);
+
+DROP INDEX IF EXISTS ix_entries_category_settlement_date;
+
+CREATE INDEX ix_entries_category_settlement_date ON entries (category_id, settlement_date DESC, id DESC, amount);
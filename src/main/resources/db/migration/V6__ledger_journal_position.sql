@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS ledger_journal_head (
+    id INTEGER NOT NULL,
+    journal_position BIGINT NOT NULL,
+    CONSTRAINT pk_ledger_journal_head PRIMARY KEY (id)
+);
+
+INSERT INTO ledger_journal_head (id, journal_position) VALUES (1, 0);
+
+ALTER TABLE ledger_journal ADD COLUMN journal_position BIGINT DEFAULT 0 NOT NULL;
+
+CREATE INDEX ix_ledger_journal_position ON ledger_journal (journal_position, id);
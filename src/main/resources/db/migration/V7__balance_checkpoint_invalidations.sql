@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS balance_checkpoint_invalidations (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    settlement_date DATE NOT NULL,
+    CONSTRAINT pk_balance_checkpoint_invalidations PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS balance_checkpoint_lock (
+    id INTEGER NOT NULL,
+    refresh_count BIGINT NOT NULL,
+    CONSTRAINT pk_balance_checkpoint_lock PRIMARY KEY (id)
+);
+
+INSERT INTO balance_checkpoint_lock (id, refresh_count) VALUES (1, 0);
@@ -1,13 +1,25 @@
 package dev.ccosta.aisha;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.ccosta.aisha.infrastructure.persistence.RequiredIndexCheck;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
 class AishaApplicationTests {
 
+	@Autowired
+	private RequiredIndexCheck requiredIndexCheck;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void migrationsCreateRequiredIndexes() throws Exception {
+		assertThat(requiredIndexCheck.findMissingIndexes()).isEmpty();
+	}
+
 }
@@ -1,14 +1,22 @@
 package dev.ccosta.aisha.application.account;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import dev.ccosta.aisha.application.ledger.BalanceCheckpointService;
+import dev.ccosta.aisha.application.ledger.BalanceIndex;
+import dev.ccosta.aisha.application.ledger.ColumnarLedger;
+import dev.ccosta.aisha.application.ledger.LedgerColumns;
 import dev.ccosta.aisha.domain.account.Account;
-import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryBucketTotal;
 import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.entry.SettlementPeriod;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -21,6 +29,15 @@ class AccountBalanceReportServiceTest {
     @Mock
     private EntryRepository entryRepository;
 
+    @Mock
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @Mock
+    private BalanceIndex balanceIndex;
+
+    @Mock
+    private ColumnarLedger columnarLedger;
+
     @InjectMocks
     private AccountBalanceReportService accountBalanceReportService;
 
@@ -29,12 +46,13 @@ class AccountBalanceReportServiceTest {
         Account checking = newAccount(1L, "Conta Corrente");
         Account cash = newAccount(2L, "Carteira");
 
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 12, 31))).thenReturn(List.of(
-            newEntry(1L, LocalDate.of(2025, 12, 10), "100.00"),
-            newEntry(1L, LocalDate.of(2026, 1, 10), "500.00"),
-            newEntry(1L, LocalDate.of(2026, 2, 5), "-120.50"),
-            newEntry(2L, LocalDate.of(2026, 2, 8), "40.00")
-        ));
+        when(balanceCheckpointService.balancesByAccountBefore(LocalDate.of(2026, 1, 1))).thenReturn(Map.of(1L, new BigDecimal("100.00")));
+        when(entryRepository.sumAmountByAccountAndPeriod(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), SettlementPeriod.MONTH))
+            .thenReturn(List.of(
+                newBucketTotal(1L, LocalDate.of(2026, 1, 1), "500.00"),
+                newBucketTotal(1L, LocalDate.of(2026, 2, 1), "-120.50"),
+                newBucketTotal(2L, LocalDate.of(2026, 2, 1), "40.00")
+            ));
 
         AccountBalanceReport report = accountBalanceReportService.buildReport(
             List.of(checking, cash),
@@ -63,11 +81,12 @@ class AccountBalanceReportServiceTest {
     void shouldBuildDailyBalancesForShortRange() {
         Account checking = newAccount(1L, "Conta Corrente");
 
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 2, 13))).thenReturn(List.of(
-            newEntry(1L, LocalDate.of(2026, 2, 9), "200.00"),
-            newEntry(1L, LocalDate.of(2026, 2, 10), "-50.00"),
-            newEntry(1L, LocalDate.of(2026, 2, 12), "25.00")
-        ));
+        when(balanceCheckpointService.balancesByAccountBefore(LocalDate.of(2026, 2, 10))).thenReturn(Map.of(1L, new BigDecimal("200.00")));
+        when(entryRepository.sumAmountByAccountAndPeriod(LocalDate.of(2026, 2, 10), LocalDate.of(2026, 2, 13), SettlementPeriod.DAY))
+            .thenReturn(List.of(
+                newBucketTotal(1L, LocalDate.of(2026, 2, 10), "-50.00"),
+                newBucketTotal(1L, LocalDate.of(2026, 2, 12), "25.00")
+            ));
 
         AccountBalanceReport report = accountBalanceReportService.buildReport(
             List.of(checking),
@@ -88,6 +107,60 @@ class AccountBalanceReportServiceTest {
         );
     }
 
+    @Test
+    void shouldReadBalancesFromColumnarLedgerWhenLoaded() {
+        Account checking = newAccount(1L, "Conta Corrente");
+        Account cash = newAccount(2L, "Carteira");
+
+        when(columnarLedger.columns()).thenReturn(Optional.of(LedgerColumns.builder()
+            .add(LocalDate.of(2025, 12, 30).toEpochDay(), 1L, 9L, 10000)
+            .add(LocalDate.of(2026, 1, 3).toEpochDay(), 2L, 9L, 5000)
+            .add(LocalDate.of(2026, 2, 10).toEpochDay(), 1L, 9L, -5000)
+            .add(LocalDate.of(2026, 2, 12).toEpochDay(), 1L, 9L, 2500)
+            .add(LocalDate.of(2026, 2, 12).toEpochDay(), 2L, 9L, -1000)
+            .add(LocalDate.of(2026, 2, 14).toEpochDay(), 1L, 9L, 999)
+            .build()));
+
+        AccountBalanceReport report = accountBalanceReportService.buildReport(
+            List.of(checking, cash),
+            LocalDate.of(2026, 2, 10),
+            LocalDate.of(2026, 2, 13)
+        );
+
+        assertThat(report.rows().get(0).previousPeriodBalance()).isEqualByComparingTo("100.00");
+        assertThat(report.rows().get(0).periodBalances()).containsExactly(
+            new BigDecimal("-50.00"),
+            BigDecimal.ZERO,
+            new BigDecimal("25.00"),
+            BigDecimal.ZERO
+        );
+        assertThat(report.rows().get(1).previousPeriodBalance()).isEqualByComparingTo("50.00");
+        assertThat(report.rows().get(1).periodBalances().get(2)).isEqualByComparingTo("-10.00");
+        verifyNoInteractions(entryRepository, balanceCheckpointService);
+    }
+
+    @Test
+    void shouldReadPreviousBalancesFromBalanceIndexWhenLoaded() {
+        Account checking = newAccount(1L, "Conta Corrente");
+        Account cash = newAccount(2L, "Carteira");
+
+        when(balanceIndex.balancesByAccountBefore(LocalDate.of(2026, 3, 1)))
+            .thenReturn(Optional.of(Map.of(1L, new BigDecimal("310.25"), 2L, new BigDecimal("-4.00"))));
+        when(entryRepository.sumAmountByAccountAndPeriod(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 4, 30), SettlementPeriod.MONTH))
+            .thenReturn(List.of(newBucketTotal(1L, LocalDate.of(2026, 3, 1), "-10.25")));
+
+        AccountBalanceReport report = accountBalanceReportService.buildReport(
+            List.of(checking, cash),
+            LocalDate.of(2026, 3, 1),
+            LocalDate.of(2026, 4, 30)
+        );
+
+        assertThat(report.rows().get(0).previousPeriodBalance()).isEqualByComparingTo("310.25");
+        assertThat(report.rows().get(0).periodBalances()).containsExactly(new BigDecimal("-10.25"), BigDecimal.ZERO);
+        assertThat(report.rows().get(1).previousPeriodBalance()).isEqualByComparingTo("-4.00");
+        verifyNoInteractions(balanceCheckpointService);
+    }
+
     private Account newAccount(Long id, String title) {
         Account account = new Account();
         account.setTitle(title);
@@ -103,11 +176,7 @@ class AccountBalanceReportServiceTest {
         return account;
     }
 
-    private Entry newEntry(Long accountId, LocalDate settlementDate, String amount) {
-        Entry entry = new Entry();
-        entry.setAccount(newAccount(accountId, "Conta"));
-        entry.setSettlementDate(settlementDate);
-        entry.setAmount(new BigDecimal(amount));
-        return entry;
+    private EntryBucketTotal newBucketTotal(Long groupId, LocalDate bucketStart, String amount) {
+        return new EntryBucketTotal(groupId, bucketStart, new BigDecimal(amount));
     }
 }
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dev.ccosta.aisha.application.ledger.LedgerVersion;
 import dev.ccosta.aisha.domain.account.Account;
 import dev.ccosta.aisha.domain.account.AccountRepository;
 import dev.ccosta.aisha.domain.entry.EntryRepository;
@@ -27,6 +28,9 @@ class AccountServiceTest {
     @Mock
     private EntryRepository entryRepository;
 
+    @Mock
+    private LedgerVersion ledgerVersion;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -40,6 +44,7 @@ class AccountServiceTest {
 
         assertThat(created.getTitle()).isEqualTo("Conta Corrente");
         verify(accountRepository).save(input);
+        verify(ledgerVersion).bumpAfterCommit();
     }
 
     @Test
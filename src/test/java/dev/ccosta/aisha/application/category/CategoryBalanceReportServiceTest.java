@@ -3,16 +3,23 @@ package dev.ccosta.aisha.application.category;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import dev.ccosta.aisha.application.ledger.BalanceCheckpointService;
+import dev.ccosta.aisha.application.ledger.ColumnarLedger;
+import dev.ccosta.aisha.application.ledger.ParallelAggregationProperties;
+import dev.ccosta.aisha.application.ledger.ParallelAggregator;
 import dev.ccosta.aisha.domain.category.Category;
-import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryBucketTotal;
 import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.entry.SettlementPeriod;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +28,18 @@ class CategoryBalanceReportServiceTest {
     @Mock
     private EntryRepository entryRepository;
 
+    @Mock
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @Mock
+    private ColumnarLedger columnarLedger;
+
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    @Spy
+    private ParallelAggregator parallelAggregator = new ParallelAggregator(new ParallelAggregationProperties(1, 1));
+
     @InjectMocks
     private CategoryBalanceReportService categoryBalanceReportService;
 
@@ -29,12 +48,13 @@ class CategoryBalanceReportServiceTest {
         Category housing = newCategory(1L, "Moradia");
         Category leisure = newCategory(2L, "Lazer");
 
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 12, 31))).thenReturn(List.of(
-            newEntry(1L, LocalDate.of(2025, 12, 10), "-100.00"),
-            newEntry(1L, LocalDate.of(2026, 1, 10), "-500.00"),
-            newEntry(1L, LocalDate.of(2026, 2, 5), "-120.50"),
-            newEntry(2L, LocalDate.of(2026, 2, 8), "-40.00")
-        ));
+        when(balanceCheckpointService.balancesByCategoryBefore(LocalDate.of(2026, 1, 1))).thenReturn(Map.of(1L, new BigDecimal("-100.00")));
+        when(entryRepository.sumAmountByCategoryAndPeriod(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), SettlementPeriod.MONTH))
+            .thenReturn(List.of(
+                newBucketTotal(1L, LocalDate.of(2026, 1, 1), "-500.00"),
+                newBucketTotal(1L, LocalDate.of(2026, 2, 1), "-120.50"),
+                newBucketTotal(2L, LocalDate.of(2026, 2, 1), "-40.00")
+            ));
 
         CategoryBalanceReport report = categoryBalanceReportService.buildReport(
             List.of(housing, leisure),
@@ -63,11 +83,12 @@ class CategoryBalanceReportServiceTest {
     void shouldBuildDailyBalancesForShortRange() {
         Category housing = newCategory(1L, "Moradia");
 
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 2, 13))).thenReturn(List.of(
-            newEntry(1L, LocalDate.of(2026, 2, 9), "-200.00"),
-            newEntry(1L, LocalDate.of(2026, 2, 10), "-50.00"),
-            newEntry(1L, LocalDate.of(2026, 2, 12), "25.00")
-        ));
+        when(balanceCheckpointService.balancesByCategoryBefore(LocalDate.of(2026, 2, 10))).thenReturn(Map.of(1L, new BigDecimal("-200.00")));
+        when(entryRepository.sumAmountByCategoryAndPeriod(LocalDate.of(2026, 2, 10), LocalDate.of(2026, 2, 13), SettlementPeriod.DAY))
+            .thenReturn(List.of(
+                newBucketTotal(1L, LocalDate.of(2026, 2, 10), "-50.00"),
+                newBucketTotal(1L, LocalDate.of(2026, 2, 12), "25.00")
+            ));
 
         CategoryBalanceReport report = categoryBalanceReportService.buildReport(
             List.of(housing),
@@ -88,6 +109,48 @@ class CategoryBalanceReportServiceTest {
         );
     }
 
+    @Test
+    void shouldRollSubcategoryBalancesIntoParentsInHierarchicalMode() {
+        Category food = newCategory(1L, "Alimentação");
+        Category market = newCategory(2L, "Mercado");
+        market.setParent(food);
+        Category bakery = newCategory(3L, "Padaria");
+        bakery.setParent(market);
+        Category leisure = newCategory(4L, "Lazer");
+
+        when(categoryTreeCache.current()).thenReturn(CategoryTree.of(1L, List.of(food, leisure, market, bakery)));
+        when(balanceCheckpointService.balancesByCategoryBefore(LocalDate.of(2026, 1, 1))).thenReturn(Map.of(
+            2L, new BigDecimal("-30.00"),
+            3L, new BigDecimal("-5.00")
+        ));
+        when(entryRepository.sumAmountByCategoryAndPeriod(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31), SettlementPeriod.MONTH))
+            .thenReturn(List.of(
+                newBucketTotal(1L, LocalDate.of(2026, 1, 1), "-10.00"),
+                newBucketTotal(2L, LocalDate.of(2026, 1, 1), "-20.00"),
+                newBucketTotal(3L, LocalDate.of(2026, 3, 1), "-7.50"),
+                newBucketTotal(4L, LocalDate.of(2026, 2, 1), "-40.00")
+            ));
+
+        CategoryBalanceReport report = categoryBalanceReportService.buildReport(
+            List.of(food, leisure, market, bakery),
+            LocalDate.of(2026, 1, 1),
+            LocalDate.of(2026, 3, 31),
+            true
+        );
+
+        assertThat(report.includeSubcategories()).isTrue();
+        CategoryBalanceRow foodRow = report.rows().get(0);
+        assertThat(foodRow.previousPeriodBalance()).isEqualByComparingTo("-35.00");
+        assertThat(foodRow.periodBalances().get(0)).isEqualByComparingTo("-30.00");
+        assertThat(foodRow.periodBalances().get(2)).isEqualByComparingTo("-7.50");
+        CategoryBalanceRow marketRow = report.rows().get(2);
+        assertThat(marketRow.previousPeriodBalance()).isEqualByComparingTo("-35.00");
+        assertThat(marketRow.periodBalances().get(0)).isEqualByComparingTo("-20.00");
+        CategoryBalanceRow leisureRow = report.rows().get(1);
+        assertThat(leisureRow.previousPeriodBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(leisureRow.periodBalances().get(1)).isEqualByComparingTo("-40.00");
+    }
+
     private Category newCategory(Long id, String title) {
         Category category = new Category();
         category.setTitle(title);
@@ -103,11 +166,7 @@ class CategoryBalanceReportServiceTest {
         return category;
     }
 
-    private Entry newEntry(Long categoryId, LocalDate settlementDate, String amount) {
-        Entry entry = new Entry();
-        entry.setCategory(newCategory(categoryId, "Categoria"));
-        entry.setSettlementDate(settlementDate);
-        entry.setAmount(new BigDecimal(amount));
-        return entry;
+    private EntryBucketTotal newBucketTotal(Long groupId, LocalDate bucketStart, String amount) {
+        return new EntryBucketTotal(groupId, bucketStart, new BigDecimal(amount));
     }
 }
@@ -2,10 +2,12 @@ package dev.ccosta.aisha.application.category;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dev.ccosta.aisha.application.ledger.LedgerVersion;
 import dev.ccosta.aisha.domain.category.Category;
 import dev.ccosta.aisha.domain.category.CategoryRepository;
 import dev.ccosta.aisha.domain.entry.EntryRepository;
@@ -27,6 +29,12 @@ class CategoryServiceTest {
     @Mock
     private EntryRepository entryRepository;
 
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    @Mock
+    private LedgerVersion ledgerVersion;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -50,12 +58,15 @@ class CategoryServiceTest {
 
         when(categoryRepository.findById(10L)).thenReturn(Optional.of(existing));
         when(categoryRepository.findById(11L)).thenReturn(Optional.of(parent));
+        when(categoryTreeCache.current()).thenReturn(CategoryTree.of(1L, List.of(existing, parent)));
         when(categoryRepository.save(existing)).thenReturn(existing);
 
         Category updated = categoryService.update(10L, updatedData, 11L);
 
         assertThat(updated.getTitle()).isEqualTo("Alimentação e bebidas");
         assertThat(updated.getParent()).isEqualTo(parent);
+        verify(categoryTreeCache).refreshAfterCommit();
+        verify(ledgerVersion).bumpAfterCommit();
     }
 
     @Test
@@ -67,6 +78,7 @@ class CategoryServiceTest {
 
         when(categoryRepository.findById(10L)).thenReturn(Optional.of(existing));
         when(categoryRepository.findById(11L)).thenReturn(Optional.of(parent));
+        when(categoryTreeCache.current()).thenReturn(CategoryTree.of(1L, List.of(existing, parent)));
 
         assertThatThrownBy(() -> categoryService.update(10L, updatedData, 11L))
             .isInstanceOf(IllegalArgumentException.class)
@@ -82,6 +94,22 @@ class CategoryServiceTest {
 
         assertThat(found).isEqualTo(existing);
         verify(categoryRepository, never()).save(existing);
+        verify(categoryTreeCache, never()).refreshAfterCommit();
+    }
+
+    @Test
+    void shouldReportWhetherTheTitleResolutionCreatedTheCategory() {
+        Category existing = newCategory("Transporte");
+        when(categoryRepository.findByTitleIgnoreCase("transporte")).thenReturn(Optional.of(existing));
+        when(categoryRepository.findByTitleIgnoreCase("Viagem")).thenReturn(Optional.empty());
+        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CategoryResolution found = categoryService.resolveByTitle("transporte");
+        CategoryResolution created = categoryService.resolveByTitle(" Viagem ");
+
+        assertThat(found).isEqualTo(new CategoryResolution(existing, false));
+        assertThat(created.created()).isTrue();
+        assertThat(created.category().getTitle()).isEqualTo("Viagem");
     }
 
     @Test
@@ -96,6 +124,7 @@ class CategoryServiceTest {
             .hasMessageContaining("12");
 
         verify(categoryRepository, never()).deleteById(12L);
+        verify(ledgerVersion, never()).bumpAfterCommit();
     }
 
     @Test
@@ -129,7 +158,7 @@ class CategoryServiceTest {
         Category grandChild = newCategory(5L, "Pilates");
         grandChild.setParent(childA1);
 
-        when(categoryRepository.findAllOrdered()).thenReturn(List.of(rootZ, childA2, grandChild, rootA, childA1));
+        when(categoryTreeCache.current()).thenReturn(CategoryTree.of(1L, List.of(rootZ, childA2, grandChild, rootA, childA1)));
 
         List<CategoryOption> options = categoryService.listHierarchyOptions();
 
@@ -142,6 +171,26 @@ class CategoryServiceTest {
         );
     }
 
+    @Test
+    void shouldIndexSubtreesInPreOrder() {
+        Category root = newCategory(1L, "Despesas");
+        Category food = newCategory(2L, "Alimentacao");
+        food.setParent(root);
+        Category market = newCategory(3L, "Mercado");
+        market.setParent(food);
+        Category salary = newCategory(4L, "Salario");
+
+        CategoryTree tree = CategoryTree.of(7L, List.of(food, root, market, salary));
+
+        int rootSlot = tree.indexOf(1L);
+        assertThat(tree.version()).isEqualTo(7L);
+        assertThat(tree.childIdsOf(null)).containsExactly(1L, 4L);
+        assertThat(tree.isInSubtree(rootSlot, tree.indexOf(3L))).isTrue();
+        assertThat(tree.isInSubtree(tree.indexOf(2L), rootSlot)).isFalse();
+        assertThat(tree.exitOf(rootSlot) - tree.enterOf(rootSlot)).isEqualTo(2);
+        assertThat(tree.parentIdOf(tree.indexOf(3L))).isEqualTo(2L);
+    }
+
     private Category newCategory(String title) {
         Category category = new Category();
         category.setTitle(title);
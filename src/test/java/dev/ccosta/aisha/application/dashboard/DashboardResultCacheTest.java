@@ -0,0 +1,101 @@
+package dev.ccosta.aisha.application.dashboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.ccosta.aisha.application.ledger.LedgerVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardResultCacheTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+    private static final LocalDate END = LocalDate.of(2026, 3, 31);
+
+    @Mock
+    private DashboardService dashboardService;
+
+    private final LedgerVersion ledgerVersion = new LedgerVersion();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DashboardResultCache dashboardResultCache;
+
+    @BeforeEach
+    void setUp() {
+        dashboardResultCache = new DashboardResultCache(
+            dashboardService,
+            ledgerVersion,
+            new DashboardCacheProperties(1_000),
+            meterRegistry
+        );
+    }
+
+    @Test
+    void shouldServeRepeatedRequestsFromMemory() {
+        DashboardSummary summary = newSummary();
+        when(dashboardService.buildSummary(START, END)).thenReturn(summary);
+
+        assertThat(dashboardResultCache.buildSummary(START, END)).isSameAs(summary);
+        assertThat(dashboardResultCache.buildSummary(START, END)).isSameAs(summary);
+
+        verify(dashboardService, times(1)).buildSummary(START, END);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "dashboard").tag("result", "hit").functionCounter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "dashboard").tag("result", "miss").functionCounter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepDrillDownLevelsApart() {
+        when(dashboardService.buildExpenseCategoryBreakdown(START, END, null)).thenReturn(newBreakdown(null));
+        when(dashboardService.buildExpenseCategoryBreakdown(START, END, 7L)).thenReturn(newBreakdown(7L));
+
+        dashboardResultCache.buildExpenseCategoryBreakdown(START, END, null);
+        dashboardResultCache.buildExpenseCategoryBreakdown(START, END, 7L);
+        DashboardExpenseCategoryBreakdown root = dashboardResultCache.buildExpenseCategoryBreakdown(START, END, null);
+
+        assertThat(root.currentParentCategoryId()).isNull();
+        verify(dashboardService, times(1)).buildExpenseCategoryBreakdown(START, END, null);
+        verify(dashboardService, times(1)).buildExpenseCategoryBreakdown(START, END, 7L);
+    }
+
+    @Test
+    void shouldRecomputeAfterLedgerChanges() {
+        when(dashboardService.buildSummary(START, END)).thenReturn(newSummary());
+
+        dashboardResultCache.buildSummary(START, END);
+        ledgerVersion.bumpAfterCommit();
+        dashboardResultCache.buildSummary(START, END);
+
+        verify(dashboardService, times(2)).buildSummary(START, END);
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        when(dashboardService.buildSummary(END, START)).thenThrow(new IllegalArgumentException("End date must be greater than or equal to start date"));
+
+        assertThatThrownBy(() -> dashboardResultCache.buildSummary(END, START)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dashboardResultCache.buildSummary(END, START)).isInstanceOf(IllegalArgumentException.class);
+
+        verify(dashboardService, times(2)).buildSummary(END, START);
+    }
+
+    private DashboardSummary newSummary() {
+        DashboardMetric metric = new DashboardMetric(BigDecimal.TEN, BigDecimal.ONE, null);
+        return new DashboardSummary(metric, metric, metric);
+    }
+
+    private DashboardExpenseCategoryBreakdown newBreakdown(Long parentCategoryId) {
+        return new DashboardExpenseCategoryBreakdown(START, END, parentCategoryId, null, null, List.of());
+    }
+}
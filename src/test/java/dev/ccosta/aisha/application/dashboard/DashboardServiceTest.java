@@ -1,42 +1,66 @@
 package dev.ccosta.aisha.application.dashboard;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import dev.ccosta.aisha.domain.account.Account;
+import dev.ccosta.aisha.application.category.CategoryTree;
+import dev.ccosta.aisha.application.category.CategoryTreeCache;
+import dev.ccosta.aisha.application.ledger.BalanceCheckpointService;
+import dev.ccosta.aisha.application.ledger.BalanceIndex;
+import dev.ccosta.aisha.application.ledger.ColumnarLedger;
+import dev.ccosta.aisha.application.ledger.LedgerColumns;
+import dev.ccosta.aisha.application.ledger.ParallelAggregationProperties;
+import dev.ccosta.aisha.application.ledger.ParallelAggregator;
 import dev.ccosta.aisha.domain.category.Category;
-import dev.ccosta.aisha.domain.category.CategoryRepository;
-import dev.ccosta.aisha.domain.entry.Entry;
-import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRepository;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRow;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class DashboardServiceTest {
 
     @Mock
-    private EntryRepository entryRepository;
+    private DailyRollupRepository dailyRollupRepository;
 
     @Mock
-    private CategoryRepository categoryRepository;
+    private CategoryTreeCache categoryTreeCache;
+
+    @Mock
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @Mock
+    private BalanceIndex balanceIndex;
+
+    @Mock
+    private ColumnarLedger columnarLedger;
+
+    @Spy
+    private ParallelAggregator parallelAggregator = new ParallelAggregator(new ParallelAggregationProperties(1, 1));
 
     @InjectMocks
     private DashboardService dashboardService;
 
     @Test
     void shouldBuildSummaryWithPreviousEquivalentPeriod() {
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 3, 31))).thenReturn(List.of(
-            newEntry(LocalDate.of(2026, 2, 10), "80.00"),
-            newEntry(LocalDate.of(2026, 2, 12), "-30.00"),
-            newEntry(LocalDate.of(2026, 3, 1), "100.00"),
-            newEntry(LocalDate.of(2026, 3, 5), "-40.00"),
-            newEntry(LocalDate.of(2026, 3, 20), "60.00")
+        when(balanceCheckpointService.balanceBefore(LocalDate.of(2026, 1, 29))).thenReturn(BigDecimal.ZERO);
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 1, 29), LocalDate.of(2026, 3, 31))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 2, 10), "80.00"),
+            newRollup(LocalDate.of(2026, 2, 12), "-30.00"),
+            newRollup(LocalDate.of(2026, 3, 1), "100.00"),
+            newRollup(LocalDate.of(2026, 3, 5), "-40.00"),
+            newRollup(LocalDate.of(2026, 3, 20), "60.00")
         ));
 
         DashboardSummary summary = dashboardService.buildSummary(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
@@ -54,10 +78,31 @@ class DashboardServiceTest {
         assertThat(summary.totalRevenues().variationPercent()).isEqualByComparingTo("100.00");
     }
 
+    @Test
+    void shouldTakeOpeningBalanceFromBalanceIndexWhenLoaded() {
+        when(balanceIndex.balanceBefore(LocalDate.of(2026, 3, 1))).thenReturn(Optional.of(new BigDecimal("500.00")));
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 1, 29), LocalDate.of(2026, 3, 31))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 2, 10), "80.00"),
+            newRollup(LocalDate.of(2026, 2, 12), "-30.00"),
+            newRollup(LocalDate.of(2026, 3, 1), "100.00"),
+            newRollup(LocalDate.of(2026, 3, 5), "-40.00"),
+            newRollup(LocalDate.of(2026, 3, 20), "60.00")
+        ));
+
+        DashboardSummary summary = dashboardService.buildSummary(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+
+        assertThat(summary.currentBalance().currentValue()).isEqualByComparingTo("620.00");
+        assertThat(summary.currentBalance().previousValue()).isEqualByComparingTo("500.00");
+        assertThat(summary.totalExpenses().previousValue()).isEqualByComparingTo("30.00");
+        assertThat(summary.totalRevenues().previousValue()).isEqualByComparingTo("80.00");
+        verifyNoInteractions(balanceCheckpointService);
+    }
+
     @Test
     void shouldReturnNullVariationWhenPreviousValueIsZeroAndCurrentHasValue() {
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 1, 31))).thenReturn(List.of(
-            newEntry(LocalDate.of(2026, 1, 10), "90.00")
+        when(balanceCheckpointService.balanceBefore(LocalDate.of(2025, 12, 1))).thenReturn(BigDecimal.ZERO);
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2025, 12, 1), LocalDate.of(2026, 1, 31))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 1, 10), "90.00")
         ));
 
         DashboardSummary summary = dashboardService.buildSummary(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
@@ -68,10 +113,10 @@ class DashboardServiceTest {
 
     @Test
     void shouldBuildDailyEvolutionForRangeShorterThanTwoMonths() {
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 1, 3))).thenReturn(List.of(
-            newEntry(LocalDate.of(2025, 12, 31), "200.00"),
-            newEntry(LocalDate.of(2026, 1, 1), "10.00"),
-            newEntry(LocalDate.of(2026, 1, 2), "-3.00")
+        when(balanceCheckpointService.balanceBefore(LocalDate.of(2026, 1, 1))).thenReturn(new BigDecimal("200.00"));
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 3))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 1, 1), "10.00"),
+            newRollup(LocalDate.of(2026, 1, 2), "-3.00")
         ));
 
         DashboardBalanceEvolution evolution = dashboardService.buildBalanceEvolution(
@@ -90,11 +135,11 @@ class DashboardServiceTest {
 
     @Test
     void shouldBuildMonthlyEvolutionForRangeOfTwoMonthsOrMore() {
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 3, 15))).thenReturn(List.of(
-            newEntry(LocalDate.of(2025, 12, 10), "40.00"),
-            newEntry(LocalDate.of(2026, 1, 20), "100.00"),
-            newEntry(LocalDate.of(2026, 2, 10), "-25.00"),
-            newEntry(LocalDate.of(2026, 3, 5), "10.00")
+        when(balanceCheckpointService.balanceBefore(LocalDate.of(2026, 1, 15))).thenReturn(new BigDecimal("40.00"));
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 1, 15), LocalDate.of(2026, 3, 15))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 1, 20), "100.00"),
+            newRollup(LocalDate.of(2026, 2, 10), "-25.00"),
+            newRollup(LocalDate.of(2026, 3, 5), "10.00")
         ));
 
         DashboardBalanceEvolution evolution = dashboardService.buildBalanceEvolution(
@@ -110,12 +155,66 @@ class DashboardServiceTest {
         assertThat(evolution.points().get(2).periodAmount()).isEqualByComparingTo("10.00");
     }
 
+    @Test
+    void shouldSwitchToWeeklyBucketsWhenDailyBucketsExceedMaxPoints() {
+        when(balanceCheckpointService.balanceBefore(LocalDate.of(2026, 1, 1))).thenReturn(new BigDecimal("200.00"));
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 15))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 1, 1), "10.00"),
+            newRollup(LocalDate.of(2026, 1, 4), "5.00"),
+            newRollup(LocalDate.of(2026, 1, 5), "-3.00"),
+            newRollup(LocalDate.of(2026, 2, 10), "-7.00")
+        ));
+
+        DashboardBalanceEvolution evolution = dashboardService.buildBalanceEvolution(
+            LocalDate.of(2026, 1, 1),
+            LocalDate.of(2026, 2, 15),
+            10
+        );
+
+        assertThat(evolution.granularity()).isEqualTo(DashboardSeriesGranularity.WEEK);
+        assertThat(evolution.points()).hasSize(7);
+        assertThat(evolution.points().get(0).date()).isEqualTo(LocalDate.of(2025, 12, 29));
+        assertThat(evolution.points().get(0).periodAmount()).isEqualByComparingTo("15.00");
+        assertThat(evolution.points().get(1).date()).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(evolution.points().get(6).accumulatedBalance()).isEqualByComparingTo("205.00");
+    }
+
+    @Test
+    void shouldDownsampleBalanceEvolutionWhenQuarterlyBucketsExceedMaxPoints() {
+        List<DailyRollupRow> rows = new ArrayList<>();
+        for (LocalDate month = LocalDate.of(2020, 1, 15); month.isBefore(LocalDate.of(2026, 1, 1)); month = month.plusMonths(1)) {
+            rows.add(newRollup(month, month.getMonthValue() % 4 == 0 ? "-90.00" : "35.50"));
+        }
+        when(balanceCheckpointService.balanceBefore(LocalDate.of(2020, 1, 1))).thenReturn(new BigDecimal("100.00"));
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2020, 1, 1), LocalDate.of(2025, 12, 31))).thenReturn(rows);
+
+        DashboardBalanceEvolution evolution = dashboardService.buildBalanceEvolution(
+            LocalDate.of(2020, 1, 1),
+            LocalDate.of(2025, 12, 31),
+            6
+        );
+
+        assertThat(evolution.granularity()).isEqualTo(DashboardSeriesGranularity.QUARTER);
+        assertThat(evolution.points()).hasSize(6);
+        assertThat(evolution.points().get(0).date()).isEqualTo(LocalDate.of(2020, 1, 1));
+        assertThat(evolution.points().get(5).date()).isEqualTo(LocalDate.of(2025, 10, 1));
+        assertThat(evolution.points().get(5).accumulatedBalance()).isEqualByComparingTo("397.00");
+        assertThat(evolution.points().stream().map(DashboardBalancePoint::periodAmount).reduce(BigDecimal.ZERO, BigDecimal::add))
+            .isEqualByComparingTo("297.00");
+    }
+
+    @Test
+    void shouldRejectMaxPointsBelowThree() {
+        assertThatThrownBy(() -> dashboardService.buildBalanceEvolution(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void shouldBuildDailyRevenueExpenseEvolutionForRangeShorterThanTwoMonths() {
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 1, 3))).thenReturn(List.of(
-            newEntry(LocalDate.of(2026, 1, 1), "15.00"),
-            newEntry(LocalDate.of(2026, 1, 1), "-4.00"),
-            newEntry(LocalDate.of(2026, 1, 2), "-3.50")
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 3))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 1, 1), "15.00"),
+            newRollup(LocalDate.of(2026, 1, 1), "-4.00"),
+            newRollup(LocalDate.of(2026, 1, 2), "-3.50")
         ));
 
         DashboardRevenueExpenseEvolution evolution = dashboardService.buildRevenueExpenseEvolution(
@@ -133,9 +232,10 @@ class DashboardServiceTest {
 
     @Test
     void shouldTrimTrailingMonthlyBucketsWithoutRecordsInBalanceEvolution() {
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 6, 30))).thenReturn(List.of(
-            newEntry(LocalDate.of(2026, 1, 20), "50.00"),
-            newEntry(LocalDate.of(2026, 2, 10), "-10.00")
+        when(balanceCheckpointService.balanceBefore(LocalDate.of(2026, 1, 1))).thenReturn(BigDecimal.ZERO);
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 6, 30))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 1, 20), "50.00"),
+            newRollup(LocalDate.of(2026, 2, 10), "-10.00")
         ));
 
         DashboardBalanceEvolution evolution = dashboardService.buildBalanceEvolution(
@@ -151,9 +251,9 @@ class DashboardServiceTest {
 
     @Test
     void shouldTrimTrailingMonthlyBucketsWithoutRecordsInRevenueExpenseEvolution() {
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 5, 31))).thenReturn(List.of(
-            newEntry(LocalDate.of(2026, 1, 15), "100.00"),
-            newEntry(LocalDate.of(2026, 3, 10), "-20.00")
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 5, 31))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 1, 15), "100.00"),
+            newRollup(LocalDate.of(2026, 3, 10), "-20.00")
         ));
 
         DashboardRevenueExpenseEvolution evolution = dashboardService.buildRevenueExpenseEvolution(
@@ -170,11 +270,11 @@ class DashboardServiceTest {
 
     @Test
     void shouldBuildMonthlyRevenueExpenseEvolutionForRangeOfTwoMonthsOrMore() {
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 3, 20))).thenReturn(List.of(
-            newEntry(LocalDate.of(2026, 1, 20), "100.00"),
-            newEntry(LocalDate.of(2026, 2, 5), "-25.00"),
-            newEntry(LocalDate.of(2026, 2, 20), "40.00"),
-            newEntry(LocalDate.of(2026, 3, 2), "-10.00")
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 1, 15), LocalDate.of(2026, 3, 20))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 1, 20), "100.00"),
+            newRollup(LocalDate.of(2026, 2, 5), "-25.00"),
+            newRollup(LocalDate.of(2026, 2, 20), "40.00"),
+            newRollup(LocalDate.of(2026, 3, 2), "-10.00")
         ));
 
         DashboardRevenueExpenseEvolution evolution = dashboardService.buildRevenueExpenseEvolution(
@@ -205,7 +305,7 @@ class DashboardServiceTest {
         Category subMarket = newCategory(8L, "Mercado", rootFood);
         Category subRestaurant = newCategory(9L, "Restaurante", rootFood);
 
-        when(categoryRepository.findAllOrdered()).thenReturn(List.of(
+        when(categoryTreeCache.current()).thenReturn(newCategoryTree(
             rootHousing,
             rootFood,
             rootTransport,
@@ -216,15 +316,15 @@ class DashboardServiceTest {
             subMarket,
             subRestaurant
         ));
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 2, 28))).thenReturn(List.of(
-            newEntry(LocalDate.of(2026, 2, 1), "-100.00", rootHousing),
-            newEntry(LocalDate.of(2026, 2, 2), "-80.00", subMarket),
-            newEntry(LocalDate.of(2026, 2, 3), "-20.00", subRestaurant),
-            newEntry(LocalDate.of(2026, 2, 4), "-60.00", rootTransport),
-            newEntry(LocalDate.of(2026, 2, 5), "-40.00", rootHealth),
-            newEntry(LocalDate.of(2026, 2, 6), "-30.00", rootEducation),
-            newEntry(LocalDate.of(2026, 2, 7), "-20.00", rootLeisure),
-            newEntry(LocalDate.of(2026, 2, 8), "-10.00", rootServices)
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 2, 1), "-100.00", rootHousing),
+            newRollup(LocalDate.of(2026, 2, 2), "-80.00", subMarket),
+            newRollup(LocalDate.of(2026, 2, 3), "-20.00", subRestaurant),
+            newRollup(LocalDate.of(2026, 2, 4), "-60.00", rootTransport),
+            newRollup(LocalDate.of(2026, 2, 5), "-40.00", rootHealth),
+            newRollup(LocalDate.of(2026, 2, 6), "-30.00", rootEducation),
+            newRollup(LocalDate.of(2026, 2, 7), "-20.00", rootLeisure),
+            newRollup(LocalDate.of(2026, 2, 8), "-10.00", rootServices)
         ));
 
         DashboardExpenseCategoryBreakdown breakdown = dashboardService.buildExpenseCategoryBreakdown(
@@ -247,11 +347,11 @@ class DashboardServiceTest {
     void shouldReturnOnlyExistingCategoriesWhenLessThanFive() {
         Category rootHouse = newCategory(10L, "Casa", null);
         Category rootTransport = newCategory(11L, "Transporte", null);
-        when(categoryRepository.findAllOrdered()).thenReturn(List.of(rootHouse, rootTransport));
+        when(categoryTreeCache.current()).thenReturn(newCategoryTree(rootHouse, rootTransport));
 
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 1, 31))).thenReturn(List.of(
-            newEntry(LocalDate.of(2026, 1, 10), "-12.00", rootHouse),
-            newEntry(LocalDate.of(2026, 1, 11), "-8.00", rootTransport)
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 1, 10), "-12.00", rootHouse),
+            newRollup(LocalDate.of(2026, 1, 11), "-8.00", rootTransport)
         ));
 
         DashboardExpenseCategoryBreakdown breakdown = dashboardService.buildExpenseCategoryBreakdown(
@@ -274,17 +374,17 @@ class DashboardServiceTest {
         Category subRestaurant = newCategory(23L, "Restaurante", rootFood);
         Category subPharmacy = newCategory(24L, "Farmácia", rootHealth);
 
-        when(categoryRepository.findAllOrdered()).thenReturn(List.of(
+        when(categoryTreeCache.current()).thenReturn(newCategoryTree(
             rootFood,
             rootHealth,
             subMarket,
             subRestaurant,
             subPharmacy
         ));
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 3, 31))).thenReturn(List.of(
-            newEntry(LocalDate.of(2026, 3, 1), "-50.00", subMarket),
-            newEntry(LocalDate.of(2026, 3, 2), "-30.00", subRestaurant),
-            newEntry(LocalDate.of(2026, 3, 3), "-20.00", subPharmacy)
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 3, 1), "-50.00", subMarket),
+            newRollup(LocalDate.of(2026, 3, 2), "-30.00", subRestaurant),
+            newRollup(LocalDate.of(2026, 3, 3), "-20.00", subPharmacy)
         ));
 
         DashboardExpenseCategoryBreakdown breakdown = dashboardService.buildExpenseCategoryBreakdown(
@@ -310,17 +410,17 @@ class DashboardServiceTest {
         Category subRestaurant = newCategory(33L, "Restaurante", rootFood);
         Category subPharmacy = newCategory(34L, "Farmácia", rootHealth);
 
-        when(categoryRepository.findAllOrdered()).thenReturn(List.of(
+        when(categoryTreeCache.current()).thenReturn(newCategoryTree(
             rootFood,
             rootHealth,
             subMarket,
             subRestaurant,
             subPharmacy
         ));
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 3, 31))).thenReturn(List.of(
-            newEntry(LocalDate.of(2026, 1, 10), "-80.00", subMarket),
-            newEntry(LocalDate.of(2026, 2, 12), "-20.00", subRestaurant),
-            newEntry(LocalDate.of(2026, 3, 2), "-30.00", subPharmacy)
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 1, 10), "-80.00", subMarket),
+            newRollup(LocalDate.of(2026, 2, 12), "-20.00", subRestaurant),
+            newRollup(LocalDate.of(2026, 3, 2), "-30.00", subPharmacy)
         ));
 
         DashboardCategoryTotalsEvolution evolution = dashboardService.buildCategoryTotalsEvolution(
@@ -352,10 +452,10 @@ class DashboardServiceTest {
         Category subMarket = newCategory(41L, "Mercado", rootFood);
         Category subRestaurant = newCategory(42L, "Restaurante", rootFood);
 
-        when(categoryRepository.findAllOrdered()).thenReturn(List.of(rootFood, subMarket, subRestaurant));
-        when(entryRepository.listAllBySettlementDateLessThanEqual(LocalDate.of(2026, 6, 30))).thenReturn(List.of(
-            newEntry(LocalDate.of(2026, 1, 5), "-10.00", subMarket),
-            newEntry(LocalDate.of(2026, 2, 7), "-15.00", subRestaurant)
+        when(categoryTreeCache.current()).thenReturn(newCategoryTree(rootFood, subMarket, subRestaurant));
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 6, 30))).thenReturn(List.of(
+            newRollup(LocalDate.of(2026, 1, 5), "-10.00", subMarket),
+            newRollup(LocalDate.of(2026, 2, 7), "-15.00", subRestaurant)
         ));
 
         DashboardCategoryTotalsEvolution evolution = dashboardService.buildCategoryTotalsEvolution(
@@ -375,27 +475,175 @@ class DashboardServiceTest {
         assertThat(evolution.series()).hasSize(2);
     }
 
-    private Entry newEntry(LocalDate settlementDate, String amount) {
-        return newEntry(settlementDate, amount, "Geral");
+    @Test
+    void shouldMergeSkippedBucketsWhenDownsamplingCategoryTotals() {
+        Category rootFood = newCategory(45L, "Alimentação", null);
+        Category rootHealth = newCategory(46L, "Saúde", null);
+        List<DailyRollupRow> rows = new ArrayList<>();
+        for (LocalDate month = LocalDate.of(2020, 1, 10); month.isBefore(LocalDate.of(2026, 1, 1)); month = month.plusMonths(1)) {
+            rows.add(newRollup(month, "-" + month.getMonthValue() * 7 + ".00", rootFood));
+            rows.add(newRollup(month.plusDays(5), "-" + month.getYear() % 100 + ".25", rootHealth));
+        }
+        when(categoryTreeCache.current()).thenReturn(newCategoryTree(rootFood, rootHealth));
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2020, 1, 1), LocalDate.of(2025, 12, 31))).thenReturn(rows);
+
+        DashboardCategoryTotalsEvolution full = dashboardService.buildCategoryTotalsEvolution(
+            LocalDate.of(2020, 1, 1),
+            LocalDate.of(2025, 12, 31),
+            null
+        );
+        DashboardCategoryTotalsEvolution sampled = dashboardService.buildCategoryTotalsEvolution(
+            LocalDate.of(2020, 1, 1),
+            LocalDate.of(2025, 12, 31),
+            null,
+            5
+        );
+
+        assertThat(full.granularity()).isEqualTo(DashboardSeriesGranularity.MONTH);
+        assertThat(sampled.granularity()).isEqualTo(DashboardSeriesGranularity.QUARTER);
+        assertThat(sampled.buckets()).hasSize(5).startsWith(LocalDate.of(2020, 1, 1));
+        assertThat(sampled.series()).hasSize(2);
+        for (int index = 0; index < 2; index++) {
+            assertThat(sampled.series().get(index).values()).hasSize(5);
+            assertThat(sampled.series().get(index).values().stream().reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo(full.series().get(index).values().stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+        }
+    }
+
+    @Test
+    void shouldBuildOverviewFromSingleRollupLoad() {
+        Category rootFood = newCategory(50L, "Alimentação", null);
+        Category rootSalary = newCategory(51L, "Salário", null);
+        Category subMarket = newCategory(52L, "Mercado", rootFood);
+
+        when(categoryTreeCache.current()).thenReturn(newCategoryTree(rootFood, rootSalary, subMarket));
+        when(balanceCheckpointService.balanceBefore(LocalDate.of(2025, 12, 1))).thenReturn(new BigDecimal("100.00"));
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2025, 12, 1), LocalDate.of(2026, 1, 31))).thenReturn(List.of(
+            newRollup(LocalDate.of(2025, 12, 10), "-20.00", subMarket),
+            newRollup(LocalDate.of(2026, 1, 5), "300.00", rootSalary),
+            newRollup(LocalDate.of(2026, 1, 6), "-50.00", subMarket),
+            newRollup(LocalDate.of(2026, 1, 8), "-10.00", rootFood)
+        ));
+
+        DashboardOverview overview = dashboardService.buildOverview(
+            LocalDate.of(2026, 1, 1),
+            LocalDate.of(2026, 1, 31),
+            null
+        );
+
+        assertThat(overview.summary().currentBalance().currentValue()).isEqualByComparingTo("320.00");
+        assertThat(overview.summary().currentBalance().previousValue()).isEqualByComparingTo("80.00");
+        assertThat(overview.summary().totalExpenses().currentValue()).isEqualByComparingTo("60.00");
+        assertThat(overview.summary().totalExpenses().previousValue()).isEqualByComparingTo("20.00");
+
+        assertThat(overview.balanceEvolution().openingBalance()).isEqualByComparingTo("80.00");
+        assertThat(overview.balanceEvolution().points()).hasSize(8);
+        assertThat(overview.balanceEvolution().points().get(7).accumulatedBalance()).isEqualByComparingTo("320.00");
+
+        assertThat(overview.revenueExpenseEvolution().points().get(4).revenues()).isEqualByComparingTo("300.00");
+        assertThat(overview.revenueExpenseEvolution().points().get(5).expenses()).isEqualByComparingTo("50.00");
+
+        assertThat(overview.expenseCategoryBreakdown().items()).hasSize(1);
+        assertThat(overview.expenseCategoryBreakdown().items().get(0).categoryName()).isEqualTo("Alimentação");
+        assertThat(overview.expenseCategoryBreakdown().items().get(0).amount()).isEqualByComparingTo("60.00");
+
+        assertThat(overview.categoryTotalsEvolution().series()).hasSize(2);
+        assertThat(overview.categoryTotalsEvolution().series().get(0).categoryName()).isEqualTo("Salário");
     }
 
-    private Entry newEntry(LocalDate settlementDate, String amount, String categoryName) {
-        return newEntry(settlementDate, amount, newCategory(999L, categoryName, null));
+    @Test
+    void shouldBuildOverviewFromColumnarLedgerWithoutReadingRollups() {
+        Category rootFood = newCategory(50L, "Alimentação", null);
+        Category rootSalary = newCategory(51L, "Salário", null);
+        Category subMarket = newCategory(52L, "Mercado", rootFood);
+
+        when(categoryTreeCache.current()).thenReturn(newCategoryTree(rootFood, rootSalary, subMarket));
+        when(columnarLedger.columns()).thenReturn(Optional.of(LedgerColumns.builder()
+            .add(LocalDate.of(2025, 11, 20).toEpochDay(), 1L, rootSalary.getId(), 10000)
+            .add(LocalDate.of(2025, 12, 10).toEpochDay(), 1L, subMarket.getId(), -2000)
+            .add(LocalDate.of(2026, 1, 5).toEpochDay(), 1L, rootSalary.getId(), 30000)
+            .add(LocalDate.of(2026, 1, 6).toEpochDay(), 2L, subMarket.getId(), -5000)
+            .add(LocalDate.of(2026, 1, 8).toEpochDay(), 1L, rootFood.getId(), -1000)
+            .add(LocalDate.of(2026, 2, 1).toEpochDay(), 1L, rootFood.getId(), -9900)
+            .build()));
+
+        DashboardOverview overview = dashboardService.buildOverview(
+            LocalDate.of(2026, 1, 1),
+            LocalDate.of(2026, 1, 31),
+            null
+        );
+
+        assertThat(overview.summary().currentBalance().currentValue()).isEqualByComparingTo("320.00");
+        assertThat(overview.summary().currentBalance().previousValue()).isEqualByComparingTo("80.00");
+        assertThat(overview.summary().totalExpenses().currentValue()).isEqualByComparingTo("60.00");
+        assertThat(overview.summary().totalExpenses().previousValue()).isEqualByComparingTo("20.00");
+        assertThat(overview.summary().totalRevenues().previousValue()).isEqualByComparingTo(BigDecimal.ZERO);
+
+        assertThat(overview.balanceEvolution().openingBalance()).isEqualByComparingTo("80.00");
+        assertThat(overview.balanceEvolution().points()).hasSize(8);
+        assertThat(overview.balanceEvolution().points().get(7).accumulatedBalance()).isEqualByComparingTo("320.00");
+
+        assertThat(overview.expenseCategoryBreakdown().items()).hasSize(1);
+        assertThat(overview.expenseCategoryBreakdown().items().get(0).amount()).isEqualByComparingTo("60.00");
+        assertThat(overview.categoryTotalsEvolution().series().get(0).categoryName()).isEqualTo("Salário");
+        verifyNoInteractions(dailyRollupRepository, balanceCheckpointService);
     }
 
-    private Entry newEntry(LocalDate settlementDate, String amount, Category category) {
-        Entry entry = new Entry();
-        entry.setAccount(newAccount());
-        entry.setCategory(category);
-        entry.setSettlementDate(settlementDate);
-        entry.setAmount(new BigDecimal(amount));
-        return entry;
+    @Test
+    void shouldAggregateLargeRangesInParallelSegmentsWithSequentialResults() {
+        Category rootFood = newCategory(60L, "Alimentação", null);
+        Category rootSalary = newCategory(61L, "Salário", null);
+        Category subMarket = newCategory(62L, "Mercado", rootFood);
+        List<DailyRollupRow> rows = new ArrayList<>();
+        for (LocalDate day = LocalDate.of(2024, 1, 1); day.isBefore(LocalDate.of(2026, 1, 1)); day = day.plusDays(1)) {
+            if (day.getDayOfMonth() == 5) {
+                rows.add(newRollup(day, "4500.00", rootSalary));
+            }
+            rows.add(newRollup(day, "-" + day.getDayOfYear() + ".35", subMarket));
+            rows.add(newRollup(day, "-" + day.getMonthValue() + ".10", rootFood));
+        }
+
+        when(categoryTreeCache.current()).thenReturn(newCategoryTree(rootFood, rootSalary, subMarket));
+        when(balanceCheckpointService.balanceBefore(LocalDate.of(2024, 1, 2))).thenReturn(new BigDecimal("250.00"));
+        when(dailyRollupRepository.listRowsBySettlementDateBetween(LocalDate.of(2024, 1, 2), LocalDate.of(2025, 12, 31))).thenReturn(rows);
+
+        try (ParallelAggregator segmented = new ParallelAggregator(new ParallelAggregationProperties(1, 4))) {
+            DashboardService parallelService = new DashboardService(
+                dailyRollupRepository,
+                categoryTreeCache,
+                balanceCheckpointService,
+                balanceIndex,
+                columnarLedger,
+                segmented
+            );
+
+            assertThat(parallelService.buildOverview(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), null))
+                .isEqualTo(dashboardService.buildOverview(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), null));
+        }
+    }
+
+    private DailyRollupRow newRollup(LocalDate settlementDate, String amount) {
+        return newRollup(settlementDate, amount, "Geral");
+    }
+
+    private DailyRollupRow newRollup(LocalDate settlementDate, String amount, String categoryName) {
+        return newRollup(settlementDate, amount, newCategory(999L, categoryName, null));
+    }
+
+    private DailyRollupRow newRollup(LocalDate settlementDate, String amount, Category category) {
+        long cents = new BigDecimal(amount).movePointRight(2).longValueExact();
+        return new DailyRollupRow(
+            settlementDate.toEpochDay(),
+            1L,
+            category.getId(),
+            cents,
+            Math.max(cents, 0),
+            Math.max(-cents, 0)
+        );
     }
 
-    private Account newAccount() {
-        Account account = new Account();
-        account.setTitle("Conta");
-        return account;
+    private CategoryTree newCategoryTree(Category... categories) {
+        return CategoryTree.of(1L, List.of(categories));
     }
 
     private Category newCategory(Long id, String title, Category parent) {
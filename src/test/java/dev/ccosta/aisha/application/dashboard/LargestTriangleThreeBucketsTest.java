@@ -0,0 +1,24 @@
+package dev.ccosta.aisha.application.dashboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LargestTriangleThreeBucketsTest {
+
+    @Test
+    void shouldKeepEveryPointWhenUnderTheLimit() {
+        assertThat(LargestTriangleThreeBuckets.select(new double[] {1, 5, 2}, 5)).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void shouldKeepEndpointsAndPeaks() {
+        double[] values = new double[100];
+        values[37] = 50;
+        values[81] = -40;
+
+        int[] selected = LargestTriangleThreeBuckets.select(values, 6);
+
+        assertThat(selected).hasSize(6).startsWith(0).endsWith(99).contains(37, 81).isSorted();
+    }
+}
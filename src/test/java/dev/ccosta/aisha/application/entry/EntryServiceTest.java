@@ -9,20 +9,27 @@ import static org.mockito.Mockito.when;
 import dev.ccosta.aisha.application.account.AccountService;
 import dev.ccosta.aisha.domain.account.Account;
 import dev.ccosta.aisha.application.category.CategoryService;
+import dev.ccosta.aisha.application.ledger.LedgerChangedEvent;
+import dev.ccosta.aisha.application.ledger.LedgerVersion;
 import dev.ccosta.aisha.domain.category.Category;
 import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.entry.EntryCursor;
+import dev.ccosta.aisha.domain.entry.EntryFilter;
+import dev.ccosta.aisha.domain.entry.EntryPage;
 import dev.ccosta.aisha.domain.entry.EntryRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class EntryServiceTest {
@@ -36,6 +43,12 @@ class EntryServiceTest {
     @Mock
     private CategoryService categoryService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LedgerVersion ledgerVersion;
+
     @InjectMocks
     private EntryService entryService;
 
@@ -58,6 +71,14 @@ class EntryServiceTest {
         assertThat(updated.getAmount()).isEqualByComparingTo("99.90");
         assertThat(updated.getCategory().getTitle()).isEqualTo("Alimentação");
         verify(entryRepository).save(existing);
+
+        ArgumentCaptor<LedgerChangedEvent> eventCaptor = ArgumentCaptor.forClass(LedgerChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().removed()).singleElement()
+            .satisfies(contribution -> assertThat(contribution.amount()).isEqualByComparingTo("10.00"));
+        assertThat(eventCaptor.getValue().added()).singleElement()
+            .satisfies(contribution -> assertThat(contribution.amount()).isEqualByComparingTo("99.90"));
+        verify(ledgerVersion).bumpAfterCommit();
     }
 
     @Test
@@ -88,6 +109,20 @@ class EntryServiceTest {
         assertThat(idsCaptor.getValue()).containsExactly(1L, 2L, 3L);
     }
 
+    @Test
+    void shouldPublishRemovedContributionsOnBulkDelete() {
+        Entry first = newEntry("Primeiro", new BigDecimal("-12.00"));
+        Entry second = newEntry("Segundo", new BigDecimal("30.00"));
+        when(entryRepository.findAllByIds(Set.of(1L, 2L))).thenReturn(List.of(first, second));
+
+        entryService.bulkDelete(List.of(1L, 2L));
+
+        ArgumentCaptor<LedgerChangedEvent> eventCaptor = ArgumentCaptor.forClass(LedgerChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().added()).isEmpty();
+        assertThat(eventCaptor.getValue().removed()).hasSize(2);
+    }
+
     @Test
     void shouldCreateWithExistingAccountAndCategory() {
         Entry input = newEntry("Descricao", new BigDecimal("15.00"));
@@ -129,14 +164,16 @@ class EntryServiceTest {
     void shouldListEntriesWithinSettlementDateRange() {
         LocalDate startDate = LocalDate.of(2026, 2, 1);
         LocalDate endDate = LocalDate.of(2026, 2, 28);
-        List<Entry> expected = List.of(newEntry("Descricao", new BigDecimal("1.00")));
+        EntryFilter filter = new EntryFilter(startDate, endDate, null, null);
+        EntryPage expected = new EntryPage(List.of(newEntry("Descricao", new BigDecimal("1.00"))), null);
 
-        when(entryRepository.listTop100MostRecentBySettlementDateBetweenAndFilters(startDate, endDate, null, null)).thenReturn(expected);
+        when(entryRepository.listMostRecentBySettlementDate(filter, null, EntryService.PAGE_SIZE)).thenReturn(expected);
 
-        List<Entry> result = entryService.listTop100MostRecentBySettlementDateBetween(startDate, endDate);
+        EntryPage result = entryService.listMostRecentBySettlementDate(startDate, endDate, null, null, null);
 
         assertThat(result).isEqualTo(expected);
-        verify(entryRepository).listTop100MostRecentBySettlementDateBetweenAndFilters(startDate, endDate, null, null);
+        assertThat(result.hasNext()).isFalse();
+        verify(entryRepository).listMostRecentBySettlementDate(filter, null, EntryService.PAGE_SIZE);
     }
 
     @Test
@@ -145,20 +182,40 @@ class EntryServiceTest {
         LocalDate endDate = LocalDate.of(2026, 2, 28);
         Long accountId = 10L;
         Long categoryId = 20L;
-        List<Entry> expected = List.of(newEntry("Descricao", new BigDecimal("1.00")));
+        EntryFilter filter = new EntryFilter(startDate, endDate, accountId, categoryId);
+        EntryPage expected = new EntryPage(List.of(newEntry("Descricao", new BigDecimal("1.00"))), null);
 
-        when(entryRepository.listTop100MostRecentBySettlementDateBetweenAndFilters(startDate, endDate, accountId, categoryId))
-            .thenReturn(expected);
+        when(entryRepository.listMostRecentBySettlementDate(filter, null, EntryService.PAGE_SIZE)).thenReturn(expected);
 
-        List<Entry> result = entryService.listTop100MostRecentBySettlementDateBetweenAndFilters(
-            startDate,
-            endDate,
-            accountId,
-            categoryId
-        );
+        EntryPage result = entryService.listMostRecentBySettlementDate(startDate, endDate, accountId, categoryId, null);
 
         assertThat(result).isEqualTo(expected);
-        verify(entryRepository).listTop100MostRecentBySettlementDateBetweenAndFilters(startDate, endDate, accountId, categoryId);
+        verify(entryRepository).listMostRecentBySettlementDate(filter, null, EntryService.PAGE_SIZE);
+    }
+
+    @Test
+    void shouldContinueListingAfterCursor() {
+        LocalDate startDate = LocalDate.of(2026, 2, 1);
+        LocalDate endDate = LocalDate.of(2026, 2, 28);
+        EntryFilter filter = new EntryFilter(startDate, endDate, null, null);
+        EntryCursor cursor = new EntryCursor(LocalDate.of(2026, 2, 11), 42L);
+        EntryPage expected = new EntryPage(List.of(), null);
+
+        when(entryRepository.listMostRecentBySettlementDate(filter, cursor, EntryService.PAGE_SIZE)).thenReturn(expected);
+
+        EntryPage result = entryService.listMostRecentBySettlementDate(startDate, endDate, null, null, cursor.toToken());
+
+        assertThat(result).isEqualTo(expected);
+        verify(entryRepository).listMostRecentBySettlementDate(filter, cursor, EntryService.PAGE_SIZE);
+    }
+
+    @Test
+    void shouldFailWhenCursorIsInvalid() {
+        LocalDate startDate = LocalDate.of(2026, 2, 1);
+        LocalDate endDate = LocalDate.of(2026, 2, 28);
+
+        assertThatThrownBy(() -> entryService.listMostRecentBySettlementDate(startDate, endDate, null, null, "not-a-cursor"))
+            .isInstanceOf(InvalidEntryCursorException.class);
     }
 
     @Test
@@ -166,10 +223,10 @@ class EntryServiceTest {
         LocalDate startDate = LocalDate.of(2026, 3, 1);
         LocalDate endDate = LocalDate.of(2026, 2, 1);
 
-        assertThatThrownBy(() -> entryService.listTop100MostRecentBySettlementDateBetween(startDate, endDate))
+        assertThatThrownBy(() -> entryService.listMostRecentBySettlementDate(startDate, endDate, null, null, null))
             .isInstanceOf(IllegalArgumentException.class);
 
-        verify(entryRepository, never()).listTop100MostRecentBySettlementDateBetweenAndFilters(startDate, endDate, null, null);
+        verify(entryRepository, never()).listMostRecentBySettlementDate(new EntryFilter(startDate, endDate, null, null), null, EntryService.PAGE_SIZE);
     }
 
     private Entry newEntry(String description, BigDecimal amount) {
@@ -0,0 +1,138 @@
+package dev.ccosta.aisha.application.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.ccosta.aisha.application.account.AccountBalanceBucket;
+import dev.ccosta.aisha.application.account.AccountBalanceGranularity;
+import dev.ccosta.aisha.application.account.AccountBalanceReport;
+import dev.ccosta.aisha.application.account.AccountBalanceReportService;
+import dev.ccosta.aisha.application.account.AccountBalanceRow;
+import dev.ccosta.aisha.application.account.AccountService;
+import dev.ccosta.aisha.application.category.CategoryBalanceReportService;
+import dev.ccosta.aisha.application.category.CategoryService;
+import dev.ccosta.aisha.domain.entry.EntryExportRow;
+import dev.ccosta.aisha.domain.entry.EntryFilter;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerExportServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 1, 31);
+
+    @Mock
+    private EntryRepository entryRepository;
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private AccountBalanceReportService accountBalanceReportService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private CategoryBalanceReportService categoryBalanceReportService;
+
+    @InjectMocks
+    private LedgerExportService ledgerExportService;
+
+    @Test
+    void shouldStreamFilteredEntriesAsCsvAndCloseTheCursor() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(entryRepository.streamExportRows(new EntryFilter(START, END, 7L, null))).thenReturn(Stream.of(
+            new EntryExportRow(2L, LocalDate.of(2026, 1, 10), LocalDate.of(2026, 1, 9), "Mercado, feira", "Conta", "Alimentação", null, new BigDecimal("-35.90")),
+            new EntryExportRow(1L, LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 5), "Salário", "Conta", "Renda", "Pagamento \"janeiro\"", new BigDecimal("5000.00"))
+        ).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        ledgerExportService.exportEntries(START, END, 7L, null, ExportFormat.CSV, output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "id,settlement_date,movement_date,description,account,category,notes,amount\r\n"
+                + "2,2026-01-10,2026-01-09,\"Mercado, feira\",Conta,Alimentação,,-35.90\r\n"
+                + "1,2026-01-05,2026-01-05,Salário,Conta,Renda,\"Pagamento \"\"janeiro\"\"\",5000.00\r\n"
+        );
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldWriteEntriesAsXlsxWorkbookWithTypedCells() throws Exception {
+        when(entryRepository.streamExportRows(new EntryFilter(START, END, null, null))).thenReturn(Stream.of(
+            new EntryExportRow(1L, LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 5), "Aluguel & condomínio", "Conta", "Moradia", null, new BigDecimal("-1500.00"))
+        ));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        ledgerExportService.exportEntries(START, END, null, null, ExportFormat.XLSX, output);
+
+        Map<String, String> parts = unzip(output.toByteArray());
+        assertThat(parts).containsKeys("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml", "xl/styles.xml");
+        assertThat(parts.get("xl/workbook.xml")).contains("<sheet name=\"entries\"");
+        assertThat(parts.get("xl/worksheets/sheet1.xml"))
+            .contains("<c r=\"A1\" t=\"inlineStr\"><is><t xml:space=\"preserve\">id</t></is></c>")
+            .contains("<c r=\"A2\"><v>1</v></c>")
+            .contains("<c r=\"B2\" s=\"1\"><v>46027</v></c>")
+            .contains("<t xml:space=\"preserve\">Aluguel &amp; condomínio</t>")
+            .contains("<c r=\"H2\" s=\"2\"><v>-1500.00</v></c>")
+            .doesNotContain("G2")
+            .endsWith("</sheetData></worksheet>");
+    }
+
+    @Test
+    void shouldWriteAccountBalancesAsJsonWithOneColumnPerBucket() throws Exception {
+        when(accountService.listAllOrdered()).thenReturn(List.of());
+        when(accountBalanceReportService.buildReport(List.of(), START, END)).thenReturn(new AccountBalanceReport(
+            START,
+            END,
+            AccountBalanceGranularity.DAY,
+            List.of(new AccountBalanceBucket(START, START), new AccountBalanceBucket(END, END)),
+            List.of(new AccountBalanceRow(1L, "Conta", null, new BigDecimal("10.00"), List.of(new BigDecimal("12.50"), new BigDecimal("7.25"))))
+        ));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        ledgerExportService.exportAccountBalances(START, END, ExportFormat.JSON, output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "[{\"account\":\"Conta\",\"description\":null,\"previous_balance\":10.00,\"2026-01-01\":12.50,\"2026-01-31\":7.25}]"
+        );
+    }
+
+    @Test
+    void shouldRejectInvertedRangeBeforeOpeningTheCursor() {
+        assertThatThrownBy(() -> ledgerExportService.exportEntries(END, START, null, null, ExportFormat.CSV, new ByteArrayOutputStream()))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(entryRepository);
+    }
+
+    private static Map<String, String> unzip(byte[] content) throws Exception {
+        Map<String, String> parts = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(content), StandardCharsets.UTF_8)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                parts.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,100 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.ccosta.aisha.application.entry.EntryService;
+import dev.ccosta.aisha.domain.entry.Entry;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpoint;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointRepository;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointScope;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:hsqldb:mem:checkpoint-writers;hsqldb.tx=mvcc")
+class BalanceCheckpointConcurrencyTest {
+
+    @Autowired
+    private EntryService entryService;
+
+    @Autowired
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @Autowired
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Autowired
+    private DailyRollupRepository dailyRollupRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldKeepCheckpointsConsistentWhenTwoBackdatedWritersOverlap() throws Exception {
+        Long accountId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM accounts", Long.class);
+        Long categoryId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM categories", Long.class);
+        CyclicBarrier bothWritten = new CyclicBarrier(2);
+
+        try (ExecutorService writers = Executors.newFixedThreadPool(2)) {
+            Future<?> first = writers.submit(() -> write(accountId, categoryId, LocalDate.of(2015, 3, 10), "125.00", bothWritten));
+            Future<?> second = writers.submit(() -> write(accountId, categoryId, LocalDate.of(2016, 7, 22), "-40.00", bothWritten));
+            first.get(30, TimeUnit.SECONDS);
+            second.get(30, TimeUnit.SECONDS);
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (balanceCheckpointRepository.findEarliestInvalidation().isPresent() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(balanceCheckpointRepository.findEarliestInvalidation()).isEmpty();
+
+        LocalDate earliestSettlementDate = dailyRollupRepository.findEarliestSettlementDate().orElseThrow();
+        assertThat(earliestSettlementDate).isEqualTo(LocalDate.of(2015, 3, 10));
+        LocalDate latestCheckpointDate = balanceCheckpointRepository.findLatestCheckpointDate().orElseThrow();
+        for (LocalDate checkpointDate = earliestSettlementDate.withDayOfMonth(1);
+            !checkpointDate.isAfter(latestCheckpointDate);
+            checkpointDate = checkpointDate.plusMonths(1)) {
+            List<BalanceCheckpoint> ledger = balanceCheckpointRepository.listByCheckpointDateAndScope(
+                checkpointDate,
+                BalanceCheckpointScope.LEDGER
+            );
+            assertThat(ledger).hasSize(1);
+            assertThat(ledger.getFirst().getBalance())
+                .as("ledger checkpoint %s", checkpointDate)
+                .isEqualByComparingTo(dailyRollupRepository.sumSignedAmount(earliestSettlementDate, checkpointDate));
+        }
+        assertThat(balanceCheckpointService.balanceBefore(LocalDate.of(2016, 8, 1)))
+            .isEqualByComparingTo("85.00");
+    }
+
+    private void write(Long accountId, Long categoryId, LocalDate settlementDate, String amount, CyclicBarrier bothWritten) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Entry entry = new Entry();
+            entry.setMovementDate(settlementDate);
+            entry.setSettlementDate(settlementDate);
+            entry.setDescription("Backdated " + settlementDate);
+            entry.setAmount(new BigDecimal(amount));
+            entryService.create(entry, accountId, categoryId, null);
+            try {
+                bothWritten.await(10, TimeUnit.SECONDS);
+            } catch (Exception exception) {
+                throw new IllegalStateException("Writers did not overlap", exception);
+            }
+        });
+    }
+}
@@ -0,0 +1,165 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.ccosta.aisha.domain.entry.EntryGroupTotal;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpoint;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointInvalidation;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointRepository;
+import dev.ccosta.aisha.domain.ledger.BalanceCheckpointScope;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceCheckpointServiceTest {
+
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Mock
+    private DailyRollupRepository dailyRollupRepository;
+
+    @InjectMocks
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @Test
+    void shouldResolveLedgerBalanceFromCheckpointAndPartialMonth() {
+        LocalDate checkpointDate = LocalDate.of(2026, 3, 1);
+        when(balanceCheckpointRepository.findLatestCheckpointDateOnOrBefore(LocalDate.of(2026, 3, 15)))
+            .thenReturn(Optional.of(checkpointDate));
+        when(balanceCheckpointRepository.listByCheckpointDateAndScope(checkpointDate, BalanceCheckpointScope.LEDGER))
+            .thenReturn(List.of(newCheckpoint(checkpointDate, BalanceCheckpointScope.LEDGER, null, "1000.00")));
+        when(dailyRollupRepository.sumSignedAmount(checkpointDate, LocalDate.of(2026, 3, 15))).thenReturn(new BigDecimal("-250.00"));
+
+        BigDecimal balance = balanceCheckpointService.balanceBefore(LocalDate.of(2026, 3, 15));
+
+        assertThat(balance).isEqualByComparingTo("750.00");
+    }
+
+    @Test
+    void shouldSkipRollupSumWhenDateIsOnCheckpoint() {
+        LocalDate checkpointDate = LocalDate.of(2026, 3, 1);
+        when(balanceCheckpointRepository.findLatestCheckpointDateOnOrBefore(checkpointDate)).thenReturn(Optional.of(checkpointDate));
+        when(balanceCheckpointRepository.listByCheckpointDateAndScope(checkpointDate, BalanceCheckpointScope.ACCOUNT))
+            .thenReturn(List.of(
+                newCheckpoint(checkpointDate, BalanceCheckpointScope.ACCOUNT, 1L, "300.00"),
+                newCheckpoint(checkpointDate, BalanceCheckpointScope.ACCOUNT, 2L, "-20.00")
+            ));
+
+        Map<Long, BigDecimal> balances = balanceCheckpointService.balancesByAccountBefore(checkpointDate);
+
+        assertThat(balances).containsOnlyKeys(1L, 2L);
+        assertThat(balances.get(1L)).isEqualByComparingTo("300.00");
+        verify(dailyRollupRepository, never()).sumSignedAmountByAccount(any(), any());
+    }
+
+    @Test
+    void shouldReturnZeroWhenThereIsNoCheckpointBeforeDate() {
+        when(balanceCheckpointRepository.findLatestCheckpointDateOnOrBefore(LocalDate.of(2024, 5, 1))).thenReturn(Optional.empty());
+
+        assertThat(balanceCheckpointService.balanceBefore(LocalDate.of(2024, 5, 1))).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void shouldRebuildMonthlyCheckpointsUpToLatestSettlementMonth() {
+        LocalDate january = LocalDate.of(2026, 1, 1);
+        LocalDate february = LocalDate.of(2026, 2, 1);
+        when(dailyRollupRepository.findLatestSettlementDate()).thenReturn(Optional.of(LocalDate.of(2026, 2, 20)));
+        when(balanceCheckpointRepository.findLatestCheckpointDate()).thenReturn(Optional.empty());
+        when(dailyRollupRepository.findEarliestSettlementDate()).thenReturn(Optional.of(LocalDate.of(2026, 1, 12)));
+        when(dailyRollupRepository.sumSignedAmount(january, february)).thenReturn(new BigDecimal("80.00"));
+        when(dailyRollupRepository.sumSignedAmountByAccount(january, february)).thenReturn(List.of(
+            new EntryGroupTotal(1L, new BigDecimal("80.00"))
+        ));
+        when(dailyRollupRepository.sumSignedAmountByCategory(january, february)).thenReturn(List.of(
+            new EntryGroupTotal(5L, new BigDecimal("100.00")),
+            new EntryGroupTotal(6L, new BigDecimal("-20.00"))
+        ));
+
+        balanceCheckpointService.rebuild();
+
+        verify(balanceCheckpointRepository).deleteAll();
+        ArgumentCaptor<Collection<BalanceCheckpoint>> checkpointsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(balanceCheckpointRepository).saveAll(checkpointsCaptor.capture());
+        List<BalanceCheckpoint> checkpoints = List.copyOf(checkpointsCaptor.getValue());
+        assertThat(checkpoints).hasSize(5);
+        assertThat(checkpoints.getFirst().getCheckpointDate()).isEqualTo(january);
+        assertThat(checkpoints.getFirst().getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(checkpoints.subList(1, 5)).allSatisfy(checkpoint -> assertThat(checkpoint.getCheckpointDate()).isEqualTo(february));
+        assertThat(checkpoints.get(1).getScope()).isEqualTo(BalanceCheckpointScope.LEDGER);
+        assertThat(checkpoints.get(1).getBalance()).isEqualByComparingTo("80.00");
+    }
+
+    @Test
+    void shouldOnlyRecordInvalidationInsideTheWriteTransaction() {
+        balanceCheckpointService.invalidateAfter(LocalDate.of(2015, 3, 18));
+
+        verify(balanceCheckpointRepository).addInvalidation(LocalDate.of(2015, 3, 18));
+        verify(balanceCheckpointRepository, never()).deleteByCheckpointDateAfter(any());
+        verify(balanceCheckpointRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void shouldReadFromCheckpointBeforePendingInvalidation() {
+        LocalDate january = LocalDate.of(2026, 1, 1);
+        when(balanceCheckpointRepository.findEarliestInvalidation()).thenReturn(Optional.of(LocalDate.of(2026, 1, 20)));
+        when(balanceCheckpointRepository.findLatestCheckpointDateOnOrBefore(LocalDate.of(2026, 1, 20))).thenReturn(Optional.of(january));
+        when(balanceCheckpointRepository.listByCheckpointDateAndScope(january, BalanceCheckpointScope.LEDGER))
+            .thenReturn(List.of(newCheckpoint(january, BalanceCheckpointScope.LEDGER, null, "1000.00")));
+        when(dailyRollupRepository.sumSignedAmount(january, LocalDate.of(2026, 3, 15))).thenReturn(new BigDecimal("-250.00"));
+
+        assertThat(balanceCheckpointService.balanceBefore(LocalDate.of(2026, 3, 15))).isEqualByComparingTo("750.00");
+    }
+
+    @Test
+    void shouldRefreshCheckpointsAfterEarliestInvalidationAndClearOnlyThoseRead() {
+        LocalDate march = LocalDate.of(2026, 3, 1);
+        List<BalanceCheckpointInvalidation> invalidations = List.of(
+            newInvalidation(LocalDate.of(2026, 3, 18)),
+            newInvalidation(LocalDate.of(2026, 2, 4))
+        );
+        when(balanceCheckpointRepository.listInvalidations()).thenReturn(invalidations);
+        when(dailyRollupRepository.findLatestSettlementDate()).thenReturn(Optional.of(LocalDate.of(2026, 3, 18)));
+        when(balanceCheckpointRepository.findLatestCheckpointDate()).thenReturn(Optional.of(march));
+
+        balanceCheckpointService.refresh();
+
+        InOrder inOrder = inOrder(balanceCheckpointRepository);
+        inOrder.verify(balanceCheckpointRepository).lockRefresh();
+        inOrder.verify(balanceCheckpointRepository).deleteByCheckpointDateAfter(LocalDate.of(2026, 2, 4));
+        inOrder.verify(balanceCheckpointRepository).deleteInvalidations(invalidations);
+        verify(balanceCheckpointRepository, never()).saveAll(any());
+    }
+
+    private BalanceCheckpointInvalidation newInvalidation(LocalDate settlementDate) {
+        BalanceCheckpointInvalidation invalidation = new BalanceCheckpointInvalidation();
+        invalidation.setSettlementDate(settlementDate);
+        return invalidation;
+    }
+
+    private BalanceCheckpoint newCheckpoint(LocalDate checkpointDate, BalanceCheckpointScope scope, Long scopeId, String balance) {
+        BalanceCheckpoint checkpoint = new BalanceCheckpoint();
+        checkpoint.setCheckpointDate(checkpointDate);
+        checkpoint.setScope(scope);
+        checkpoint.setScopeId(scopeId);
+        checkpoint.setBalance(new BigDecimal(balance));
+        return checkpoint;
+    }
+}
@@ -0,0 +1,83 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.ccosta.aisha.domain.entry.EntryLedgerRow;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceIndexTest {
+
+    private static final LocalDate JAN_10 = LocalDate.of(2026, 1, 10);
+    private static final LocalDate MAR_20 = LocalDate.of(2026, 3, 20);
+
+    @Mock
+    private EntryRepository entryRepository;
+
+    @InjectMocks
+    private BalanceIndex balanceIndex;
+
+    @Test
+    void shouldAnswerBalancesBeforeDateAfterLoading() {
+        assertThat(balanceIndex.balanceBefore(MAR_20)).isEmpty();
+
+        when(entryRepository.streamLedgerRows()).thenReturn(Stream.of(
+            new EntryLedgerRow(JAN_10.toEpochDay(), 1L, 10L, 500000),
+            new EntryLedgerRow(JAN_10.toEpochDay(), 2L, 11L, -12050),
+            new EntryLedgerRow(MAR_20.toEpochDay(), 1L, 11L, -4000)
+        ));
+        balanceIndex.load();
+
+        assertThat(balanceIndex.balanceBefore(JAN_10).orElseThrow()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(balanceIndex.balanceBefore(MAR_20).orElseThrow()).isEqualByComparingTo("4879.50");
+        assertThat(balanceIndex.balanceBefore(MAR_20.plusDays(1)).orElseThrow()).isEqualByComparingTo("4839.50");
+        assertThat(balanceIndex.accountBalanceBefore(1L, MAR_20.plusDays(1)).orElseThrow()).isEqualByComparingTo("4960.00");
+        assertThat(balanceIndex.accountBalanceBefore(3L, MAR_20).orElseThrow()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void shouldMoveBalancesWhenEntriesChange() {
+        when(entryRepository.streamLedgerRows()).thenReturn(Stream.of(new EntryLedgerRow(MAR_20.toEpochDay(), 1L, 10L, 500000)));
+        balanceIndex.load();
+
+        balanceIndex.onLedgerChanged(new LedgerChangedEvent(
+            List.of(new LedgerContribution(MAR_20, 1L, 10L, new BigDecimal("5000.00"))),
+            List.of(
+                new LedgerContribution(JAN_10.minusYears(3), 2L, 10L, new BigDecimal("5000.00")),
+                new LedgerContribution(MAR_20.plusYears(2), 1L, 10L, new BigDecimal("-12.34"))
+            )
+        ));
+
+        Map<Long, BigDecimal> balances = balanceIndex.balancesByAccountBefore(MAR_20.plusDays(1)).orElseThrow();
+        assertThat(balances.get(1L)).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(balances.get(2L)).isEqualByComparingTo("5000.00");
+        assertThat(balanceIndex.balanceBefore(MAR_20.plusYears(3)).orElseThrow()).isEqualByComparingTo("4987.66");
+    }
+
+    @Test
+    void shouldLoadFromRestoredColumnsWithoutReadingEntries() {
+        LedgerColumns columns = LedgerColumns.builder()
+            .add(JAN_10.toEpochDay(), 1L, 10L, 500000)
+            .add(MAR_20.toEpochDay(), 2L, 11L, -12050)
+            .build();
+
+        balanceIndex.load(() -> Optional.of(columns));
+
+        assertThat(balanceIndex.balanceBefore(MAR_20.plusDays(1)).orElseThrow()).isEqualByComparingTo("4879.50");
+        assertThat(balanceIndex.accountBalanceBefore(2L, MAR_20).orElseThrow()).isEqualByComparingTo(BigDecimal.ZERO);
+        verifyNoInteractions(entryRepository);
+    }
+}
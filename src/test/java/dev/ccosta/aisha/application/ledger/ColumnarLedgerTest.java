@@ -0,0 +1,158 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.ccosta.aisha.domain.entry.EntryLedgerRow;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.ledger.LedgerJournalRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarLedgerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private EntryRepository entryRepository;
+
+    @Mock
+    private LedgerJournalRepository ledgerJournalRepository;
+
+    private final CountDownLatch reloaded = new CountDownLatch(1);
+
+    private ColumnarLedger columnarLedger;
+
+    @BeforeEach
+    void setUp() {
+        columnarLedger = new ColumnarLedger(entryRepository, ledgerJournalRepository, new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                try {
+                    return action.doInTransaction(new SimpleTransactionStatus());
+                } finally {
+                    reloaded.countDown();
+                }
+            }
+        });
+    }
+
+    @Test
+    void shouldIgnoreChangesUntilLoadedAndApplyThemAfterwards() {
+        columnarLedger.onLedgerChanged(LedgerChangedEvent.imported(List.of()));
+        assertThat(columnarLedger.columns()).isEmpty();
+
+        when(entryRepository.streamLedgerRows()).thenReturn(Stream.of(new EntryLedgerRow(DAY.toEpochDay(), 1L, 2L, -4000)));
+        columnarLedger.load();
+        columnarLedger.onLedgerChanged(new LedgerChangedEvent(
+            List.of(new LedgerContribution(DAY, 1L, 2L, new BigDecimal("-40.00"))),
+            List.of(new LedgerContribution(DAY.plusDays(1), 1L, 2L, new BigDecimal("-45.00")))
+        ));
+
+        LedgerColumns columns = columnarLedger.columns().orElseThrow();
+        assertThat(columns.size()).isEqualTo(1);
+        assertThat(columns.signedCentsBefore(DAY.plusDays(1))).isZero();
+        assertThat(columns.signedCentsBetween(DAY, DAY.plusDays(1))).isEqualTo(-4500);
+    }
+
+    @Test
+    void shouldReloadWhenEntriesChangeWhileLoading() {
+        when(entryRepository.streamLedgerRows())
+            .thenAnswer(invocation -> {
+                columnarLedger.onLedgerChanged(new LedgerChangedEvent(
+                    List.of(),
+                    List.of(new LedgerContribution(DAY, 1L, 2L, new BigDecimal("10.00")))
+                ));
+                return Stream.of(new EntryLedgerRow(DAY.toEpochDay(), 1L, 2L, 500));
+            })
+            .thenReturn(Stream.of(
+                new EntryLedgerRow(DAY.toEpochDay(), 1L, 2L, 500),
+                new EntryLedgerRow(DAY.toEpochDay(), 1L, 2L, 1000)
+            ));
+
+        columnarLedger.load();
+
+        verify(entryRepository, times(2)).streamLedgerRows();
+        assertThat(columnarLedger.columns().orElseThrow().signedCentsBetween(DAY, DAY)).isEqualTo(1500);
+    }
+
+    @Test
+    void shouldReloadFromDatabaseWhenChangeDoesNotMatchTheColumns() throws InterruptedException {
+        when(entryRepository.streamLedgerRows())
+            .thenReturn(Stream.of(new EntryLedgerRow(DAY.toEpochDay(), 1L, 2L, 500)))
+            .thenReturn(Stream.of(new EntryLedgerRow(DAY.toEpochDay(), 1L, 2L, 800)));
+        columnarLedger.load();
+
+        columnarLedger.onLedgerChanged(new LedgerChangedEvent(
+            List.of(new LedgerContribution(DAY, 1L, 2L, new BigDecimal("7.00"))),
+            List.of()
+        ));
+
+        assertThat(reloaded.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(columnarLedger.columns().orElseThrow().signedCentsBetween(DAY, DAY)).isEqualTo(800);
+    }
+
+    @Test
+    void shouldApplyJournaledChangesInPositionOrder() {
+        when(ledgerJournalRepository.findPosition()).thenReturn(7L);
+        when(entryRepository.streamLedgerRows()).thenReturn(Stream.of(new EntryLedgerRow(DAY.toEpochDay(), 1L, 2L, 500)));
+        columnarLedger.load();
+        LedgerChangedEvent seventh = added("0.50");
+        LedgerChangedEvent eighth = added("1.00");
+        LedgerChangedEvent ninth = added("2.00");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            columnarLedger.recordJournalPosition(seventh, 7);
+            columnarLedger.recordJournalPosition(ninth, 9);
+            columnarLedger.recordJournalPosition(eighth, 8);
+            columnarLedger.onLedgerChanged(seventh);
+            columnarLedger.onLedgerChanged(ninth);
+            assertThat(columnarLedger.snapshot().orElseThrow().journalPosition()).isEqualTo(7);
+            assertThat(columnarLedger.snapshot().orElseThrow().columns().size()).isEqualTo(1);
+
+            columnarLedger.onLedgerChanged(eighth);
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        LedgerSnapshot snapshot = columnarLedger.snapshot().orElseThrow();
+        assertThat(snapshot.journalPosition()).isEqualTo(9);
+        assertThat(snapshot.columns().signedCentsBetween(DAY, DAY)).isEqualTo(800);
+    }
+
+    @Test
+    void shouldNotSnapshotColumnsChangedOutsideTheJournal() {
+        when(entryRepository.streamLedgerRows()).thenReturn(Stream.of(new EntryLedgerRow(DAY.toEpochDay(), 1L, 2L, 500)));
+        columnarLedger.load();
+        assertThat(columnarLedger.snapshot()).isPresent();
+
+        columnarLedger.onLedgerChanged(added("1.00"));
+
+        assertThat(columnarLedger.snapshot()).isEmpty();
+        assertThat(columnarLedger.columns().orElseThrow().size()).isEqualTo(2);
+    }
+
+    private static LedgerChangedEvent added(String amount) {
+        return new LedgerChangedEvent(List.of(), List.of(new LedgerContribution(DAY, 1L, 2L, new BigDecimal(amount))));
+    }
+}
@@ -0,0 +1,32 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DayFenwickTreeTest {
+
+    @Test
+    void shouldMatchRunningSumsWhileGrowingInBothDirections() {
+        long originDay = 20000;
+        long[] points = new long[4000];
+        DayFenwickTree tree = new DayFenwickTree(originDay);
+        Random random = new Random(7);
+
+        for (int step = 0; step < 2000; step++) {
+            int offset = random.nextInt(points.length);
+            long amountCents = random.nextLong(-100000, 100000);
+            points[offset] += amountCents;
+            tree.add(originDay - 2000 + offset, amountCents);
+        }
+
+        long runningSum = 0;
+        for (int offset = 0; offset < points.length; offset++) {
+            assertThat(tree.sumBefore(originDay - 2000 + offset)).isEqualTo(runningSum);
+            runningSum += points[offset];
+        }
+        assertThat(tree.sumBefore(originDay + 100000)).isEqualTo(runningSum);
+        assertThat(tree.sumBefore(Long.MIN_VALUE / 2)).isZero();
+    }
+}
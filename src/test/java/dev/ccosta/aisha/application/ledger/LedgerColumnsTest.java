@@ -0,0 +1,158 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.ccosta.aisha.domain.entry.SettlementPeriod;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class LedgerColumnsTest {
+
+    private static final LocalDate JAN_10 = LocalDate.of(2026, 1, 10);
+    private static final LocalDate FEB_05 = LocalDate.of(2026, 2, 5);
+    private static final LocalDate MAR_20 = LocalDate.of(2026, 3, 20);
+
+    private final LedgerColumns columns = LedgerColumns.builder()
+        .add(JAN_10.toEpochDay(), 1L, 10L, 500000)
+        .add(JAN_10.toEpochDay(), 2L, 11L, -12050)
+        .add(FEB_05.toEpochDay(), 1L, 11L, -4000)
+        .add(MAR_20.toEpochDay(), 2L, 10L, 1500)
+        .build();
+
+    @Test
+    void shouldAnswerRangeSumsFromPrefixColumns() {
+        assertThat(columns.signedCentsBefore(JAN_10)).isZero();
+        assertThat(columns.signedCentsBefore(FEB_05)).isEqualTo(487950);
+        assertThat(columns.signedCentsBetween(JAN_10, MAR_20)).isEqualTo(485450);
+        assertThat(columns.revenueCentsBetween(JAN_10.plusDays(1), MAR_20)).isEqualTo(1500);
+        assertThat(columns.expenseCentsBetween(JAN_10, FEB_05)).isEqualTo(16050);
+        assertThat(columns.expenseCentsBetween(FEB_05.plusDays(1), MAR_20.minusDays(1))).isZero();
+    }
+
+    @Test
+    void shouldGroupTotalsAndBucketsByDimension() {
+        Map<Long, BigDecimal> accountTotals = columns.totalsBefore(LedgerDimension.ACCOUNT, MAR_20);
+        BucketIndex months = BucketIndex.of(SettlementPeriod.MONTH, JAN_10, MAR_20);
+        Map<Long, MoneySeries> categoryBuckets = columns.bucketTotals(LedgerDimension.CATEGORY, FEB_05, MAR_20, months);
+
+        assertThat(accountTotals.get(1L)).isEqualByComparingTo("4960.00");
+        assertThat(accountTotals.get(2L)).isEqualByComparingTo("-120.50");
+        assertThat(categoryBuckets).containsOnlyKeys(10L, 11L);
+        assertThat(categoryBuckets.get(11L).toBigDecimal(1)).isEqualByComparingTo("-40.00");
+        assertThat(categoryBuckets.get(10L).toBigDecimal(2)).isEqualByComparingTo("15.00");
+        assertThat(categoryBuckets.get(10L).toBigDecimal(0)).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void shouldReplaceUpdatedEntryAndKeepRowsInSettlementOrder() {
+        LedgerColumns updated = columns.withChanges(
+            List.of(new LedgerContribution(JAN_10, 2L, 11L, new BigDecimal("-120.50"))),
+            List.of(
+                new LedgerContribution(MAR_20.plusDays(1), 3L, 12L, new BigDecimal("-20.00")),
+                new LedgerContribution(FEB_05, 2L, 11L, new BigDecimal("-120.50"))
+            )
+        );
+
+        List<String> rows = new ArrayList<>();
+        updated.forEachRow(JAN_10, MAR_20.plusDays(1), (epochDay, accountIndex, categoryIndex, amountCents) -> rows.add(
+            LocalDate.ofEpochDay(epochDay) + "/" + updated.accountId(accountIndex) + "/" + updated.categoryId(categoryIndex) + "/" + amountCents
+        ));
+        assertThat(rows).containsExactly(
+            "2026-01-10/1/10/500000",
+            "2026-02-05/1/11/-4000",
+            "2026-02-05/2/11/-12050",
+            "2026-03-20/2/10/1500",
+            "2026-03-21/3/12/-2000"
+        );
+        assertThat(updated.signedCentsBefore(FEB_05)).isEqualTo(500000);
+        assertThat(columns.signedCentsBefore(FEB_05)).isEqualTo(487950);
+    }
+
+    @Test
+    void shouldAnswerFromAppendedRowsAndTombstonesLikeCompactedColumns() {
+        LedgerColumns updated = columns.withChanges(
+            List.of(
+                new LedgerContribution(FEB_05, 1L, 11L, new BigDecimal("-40.00")),
+                new LedgerContribution(JAN_10, 1L, 10L, new BigDecimal("5000.00"))
+            ),
+            List.of(
+                new LedgerContribution(FEB_05, 3L, 12L, new BigDecimal("75.00")),
+                new LedgerContribution(JAN_10, 2L, 10L, new BigDecimal("-9.99"))
+            )
+        ).withChanges(
+            List.of(new LedgerContribution(FEB_05, 3L, 12L, new BigDecimal("75.00"))),
+            List.of(new LedgerContribution(MAR_20, 3L, 12L, new BigDecimal("-1.00")))
+        );
+        LedgerColumns compacted = updated.compacted();
+        BucketIndex months = BucketIndex.of(SettlementPeriod.MONTH, JAN_10, MAR_20);
+
+        assertThat(compacted).isNotSameAs(updated);
+        assertThat(updated.size()).isEqualTo(4).isEqualTo(compacted.size());
+        assertThat(updated.signedCentsBefore(MAR_20)).isEqualTo(compacted.signedCentsBefore(MAR_20)).isEqualTo(-13049);
+        assertThat(updated.revenueCentsBetween(JAN_10, MAR_20)).isEqualTo(compacted.revenueCentsBetween(JAN_10, MAR_20));
+        assertThat(updated.expenseCentsBetween(JAN_10, MAR_20)).isEqualTo(compacted.expenseCentsBetween(JAN_10, MAR_20));
+        assertThat(updated.totalsBefore(LedgerDimension.ACCOUNT, MAR_20.plusDays(1)))
+            .isEqualTo(compacted.totalsBefore(LedgerDimension.ACCOUNT, MAR_20.plusDays(1)));
+        assertThat(updated.bucketTotals(LedgerDimension.CATEGORY, JAN_10, MAR_20, months).get(12L).toBigDecimal(2))
+            .isEqualByComparingTo(compacted.bucketTotals(LedgerDimension.CATEGORY, JAN_10, MAR_20, months).get(12L).toBigDecimal(2))
+            .isEqualByComparingTo("-1.00");
+        assertThat(rows(updated)).isEqualTo(rows(compacted)).containsExactly(
+            "2026-01-10/2/11/-12050",
+            "2026-01-10/2/10/-999",
+            "2026-03-20/2/10/1500",
+            "2026-03-20/3/12/-100"
+        );
+
+        List<String> segmentRows = new ArrayList<>();
+        updated.forEachRow(0, updated.firstRowFrom(MAR_20.plusDays(1)), (epochDay, accountIndex, categoryIndex, amountCents) ->
+            segmentRows.add(LocalDate.ofEpochDay(epochDay) + "/" + amountCents));
+        updated.forEachAppendedRow(JAN_10, MAR_20, (epochDay, accountIndex, categoryIndex, amountCents) ->
+            segmentRows.add(LocalDate.ofEpochDay(epochDay) + "/" + amountCents));
+        assertThat(segmentRows).containsExactly("2026-01-10/-12050", "2026-03-20/1500", "2026-01-10/-999", "2026-03-20/-100");
+    }
+
+    @Test
+    void shouldCompactOnceAppendedRowsReachTheThreshold() {
+        LedgerColumns updated = columns;
+        for (int change = 0; change < 5000; change++) {
+            updated = updated.withChanges(
+                List.of(),
+                List.of(new LedgerContribution(JAN_10.plusDays(change % 90), 1L, 10L, new BigDecimal("0.01")))
+            );
+        }
+
+        assertThat(updated.size()).isEqualTo(5004);
+        assertThat(updated.signedCentsBetween(JAN_10, JAN_10.plusDays(89))).isEqualTo(485450 + 5000);
+        assertThat(updated.compacted()).isNotSameAs(updated);
+        assertThat(columns.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldRejectRemovalOfUnknownEntry() {
+        assertThatThrownBy(() -> columns.withChanges(
+            List.of(new LedgerContribution(FEB_05, 1L, 11L, new BigDecimal("-40.01"))),
+            List.of()
+        )).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRejectRowsOutOfSettlementOrder() {
+        LedgerColumns.Builder builder = LedgerColumns.builder().add(FEB_05.toEpochDay(), 1L, 10L, 100);
+
+        assertThatThrownBy(() -> builder.add(JAN_10.toEpochDay(), 1L, 10L, 100))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> rows(LedgerColumns columns) {
+        List<String> rows = new ArrayList<>();
+        columns.forEachRow(JAN_10, MAR_20, (epochDay, accountIndex, categoryIndex, amountCents) -> rows.add(
+            LocalDate.ofEpochDay(epochDay) + "/" + columns.accountId(accountIndex) + "/" + columns.categoryId(categoryIndex) + "/" + amountCents
+        ));
+        return rows;
+    }
+}
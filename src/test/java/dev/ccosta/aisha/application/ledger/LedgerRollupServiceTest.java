@@ -0,0 +1,156 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.ccosta.aisha.domain.entry.EntryLedgerRow;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.ledger.DailyRollup;
+import dev.ccosta.aisha.domain.ledger.DailyRollupRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerRollupServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private DailyRollupRepository dailyRollupRepository;
+
+    @Mock
+    private EntryRepository entryRepository;
+
+    @Mock
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @InjectMocks
+    private LedgerRollupService ledgerRollupService;
+
+    @Test
+    void shouldAddDeltaForFirstEntryOfTheDay() {
+        ledgerRollupService.onLedgerChanged(new LedgerChangedEvent(
+            List.of(),
+            List.of(new LedgerContribution(DAY, 1L, 2L, new BigDecimal("-40.00")))
+        ));
+
+        ArgumentCaptor<DailyRollup> deltaCaptor = ArgumentCaptor.forClass(DailyRollup.class);
+        verify(dailyRollupRepository).addDelta(deltaCaptor.capture());
+        DailyRollup delta = deltaCaptor.getValue();
+        assertThat(delta.getSettlementDate()).isEqualTo(DAY);
+        assertThat(delta.getSignedAmount()).isEqualByComparingTo("-40.00");
+        assertThat(delta.getRevenueAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(delta.getExpenseAmount()).isEqualByComparingTo("40.00");
+        assertThat(delta.getEntryCount()).isEqualTo(1);
+        verify(dailyRollupRepository, never()).deleteEmpty(any(), any(), any());
+    }
+
+    @Test
+    void shouldMoveAmountsBetweenRollupsOnUpdate() {
+        ledgerRollupService.onLedgerChanged(new LedgerChangedEvent(
+            List.of(new LedgerContribution(DAY, 1L, 2L, new BigDecimal("60.00"))),
+            List.of(new LedgerContribution(DAY.plusDays(1), 1L, 2L, new BigDecimal("60.00")))
+        ));
+
+        ArgumentCaptor<DailyRollup> deltaCaptor = ArgumentCaptor.forClass(DailyRollup.class);
+        verify(dailyRollupRepository, times(2)).addDelta(deltaCaptor.capture());
+        DailyRollup removed = deltaCaptor.getAllValues().get(0);
+        assertThat(removed.getSettlementDate()).isEqualTo(DAY);
+        assertThat(removed.getSignedAmount()).isEqualByComparingTo("-60.00");
+        assertThat(removed.getRevenueAmount()).isEqualByComparingTo("-60.00");
+        assertThat(removed.getEntryCount()).isEqualTo(-1);
+        DailyRollup added = deltaCaptor.getAllValues().get(1);
+        assertThat(added.getSettlementDate()).isEqualTo(DAY.plusDays(1));
+        assertThat(added.getSignedAmount()).isEqualByComparingTo("60.00");
+        assertThat(added.getRevenueAmount()).isEqualByComparingTo("60.00");
+        assertThat(added.getEntryCount()).isEqualTo(1);
+        verify(dailyRollupRepository).deleteEmpty(DAY, 1L, 2L);
+        verify(dailyRollupRepository, never()).deleteEmpty(DAY.plusDays(1), 1L, 2L);
+        verify(balanceCheckpointService).invalidateAfter(DAY);
+    }
+
+    @Test
+    void shouldDeleteRollupWhenLastEntryIsRemoved() {
+        ledgerRollupService.onLedgerChanged(new LedgerChangedEvent(
+            List.of(new LedgerContribution(DAY, 1L, 2L, new BigDecimal("-40.00"))),
+            List.of()
+        ));
+
+        InOrder inOrder = inOrder(dailyRollupRepository);
+        inOrder.verify(dailyRollupRepository).addDelta(any(DailyRollup.class));
+        inOrder.verify(dailyRollupRepository).deleteEmpty(DAY, 1L, 2L);
+    }
+
+    @Test
+    void shouldSkipRollupWhenContributionsCancelOut() {
+        ledgerRollupService.onLedgerChanged(new LedgerChangedEvent(
+            List.of(new LedgerContribution(DAY, 1L, 2L, new BigDecimal("-40.00"))),
+            List.of(new LedgerContribution(DAY, 1L, 2L, new BigDecimal("-40.00")))
+        ));
+
+        verify(dailyRollupRepository, never()).addDelta(any());
+        verify(dailyRollupRepository, never()).deleteEmpty(any(), any(), any());
+    }
+
+    @Test
+    void shouldApplyImportedContributionsOncePerRollup() {
+        ledgerRollupService.onLedgerChanged(new LedgerChangedEvent(
+            List.of(),
+            List.of(
+                new LedgerContribution(DAY, 1L, 2L, new BigDecimal("-40.00")),
+                new LedgerContribution(DAY, 1L, 2L, new BigDecimal("100.00")),
+                new LedgerContribution(DAY, 1L, 2L, new BigDecimal("-10.00"))
+            )
+        ));
+
+        ArgumentCaptor<DailyRollup> deltaCaptor = ArgumentCaptor.forClass(DailyRollup.class);
+        verify(dailyRollupRepository).addDelta(deltaCaptor.capture());
+        DailyRollup delta = deltaCaptor.getValue();
+        assertThat(delta.getSignedAmount()).isEqualByComparingTo("50.00");
+        assertThat(delta.getRevenueAmount()).isEqualByComparingTo("100.00");
+        assertThat(delta.getExpenseAmount()).isEqualByComparingTo("50.00");
+        assertThat(delta.getEntryCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRebuildRollupsFromStreamedLedgerRows() {
+        when(entryRepository.streamLedgerRows()).thenReturn(Stream.of(
+            new EntryLedgerRow(DAY.toEpochDay(), 1L, 2L, 10000),
+            new EntryLedgerRow(DAY.toEpochDay(), 1L, 2L, -3000),
+            new EntryLedgerRow(DAY.toEpochDay(), 1L, 3L, -1250),
+            new EntryLedgerRow(DAY.plusDays(1).toEpochDay(), 1L, 2L, 500)
+        ));
+
+        ledgerRollupService.rebuild();
+
+        verify(dailyRollupRepository).deleteAll();
+        ArgumentCaptor<Collection<DailyRollup>> rollupsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(dailyRollupRepository).saveAll(rollupsCaptor.capture());
+        List<DailyRollup> rollups = List.copyOf(rollupsCaptor.getValue());
+        assertThat(rollups).hasSize(3);
+        assertThat(rollups.get(0).getSettlementDate()).isEqualTo(DAY);
+        assertThat(rollups.get(0).getSignedAmount()).isEqualByComparingTo("70.00");
+        assertThat(rollups.get(0).getRevenueAmount()).isEqualByComparingTo("100.00");
+        assertThat(rollups.get(0).getExpenseAmount()).isEqualByComparingTo("30.00");
+        assertThat(rollups.get(0).getEntryCount()).isEqualTo(2);
+        assertThat(rollups.get(1).getCategoryId()).isEqualTo(3L);
+        assertThat(rollups.get(1).getExpenseAmount()).isEqualByComparingTo("12.50");
+        assertThat(rollups.get(2).getSettlementDate()).isEqualTo(DAY.plusDays(1));
+        verify(balanceCheckpointService).rebuild();
+    }
+}
@@ -0,0 +1,60 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LedgerSnapshotFileTest {
+
+    private static final LocalDate JAN_10 = LocalDate.of(2026, 1, 10);
+    private static final LocalDate FEB_05 = LocalDate.of(2026, 2, 5);
+
+    @TempDir
+    private Path directory;
+
+    private final LedgerColumns columns = LedgerColumns.builder()
+        .add(JAN_10.toEpochDay(), 1L, 10L, 500000)
+        .add(JAN_10.toEpochDay(), 2L, 11L, -12050)
+        .add(FEB_05.toEpochDay(), 1L, 11L, -4000)
+        .build();
+
+    @Test
+    void shouldRoundTripColumnsAndJournalPosition() throws IOException {
+        Path path = directory.resolve("nested/ledger.snapshot");
+
+        LedgerSnapshotFile.write(path, new LedgerSnapshot(columns, 150));
+        LedgerSnapshot snapshot = LedgerSnapshotFile.read(path).orElseThrow();
+
+        assertThat(snapshot.journalPosition()).isEqualTo(150);
+        assertThat(snapshot.columns().size()).isEqualTo(3);
+        assertThat(snapshot.columns().signedCentsBefore(FEB_05)).isEqualTo(487950);
+        assertThat(snapshot.columns().expenseCentsBetween(JAN_10, FEB_05)).isEqualTo(16050);
+        assertThat(snapshot.columns().accountId(1)).isEqualTo(2L);
+        assertThat(snapshot.columns().categoryId(1)).isEqualTo(11L);
+        assertThat(Files.exists(directory.resolve("nested/ledger.snapshot.tmp"))).isFalse();
+    }
+
+    @Test
+    void shouldReturnEmptyWhenFileIsMissing() throws IOException {
+        assertThat(LedgerSnapshotFile.read(directory.resolve("missing.snapshot"))).isEmpty();
+    }
+
+    @Test
+    void shouldRejectCorruptedPayload() throws IOException {
+        Path path = directory.resolve("ledger.snapshot");
+        LedgerSnapshotFile.write(path, new LedgerSnapshot(columns, 0));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> LedgerSnapshotFile.read(path))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("checksum");
+    }
+}
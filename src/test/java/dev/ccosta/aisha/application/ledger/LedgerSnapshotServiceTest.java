@@ -0,0 +1,228 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.ccosta.aisha.domain.entry.EntryDayChecksum;
+import dev.ccosta.aisha.domain.entry.EntryLedgerRow;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.ledger.LedgerJournalEntry;
+import dev.ccosta.aisha.domain.ledger.LedgerJournalRepository;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerSnapshotServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private EntryRepository entryRepository;
+
+    @Mock
+    private LedgerJournalRepository ledgerJournalRepository;
+
+    @TempDir
+    private Path directory;
+
+    private ColumnarLedger columnarLedger;
+    private LedgerSnapshotService ledgerSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        columnarLedger = new ColumnarLedger(entryRepository, ledgerJournalRepository, TransactionOperations.withoutTransaction());
+        ledgerSnapshotService = new LedgerSnapshotService(
+            columnarLedger,
+            ledgerJournalRepository,
+            entryRepository,
+            new LedgerSnapshotProperties(true, directory.resolve("ledger.snapshot"), Duration.ofMinutes(15), 3)
+        );
+    }
+
+    @Test
+    void shouldWriteSnapshotAndTrimJournal() throws IOException {
+        when(ledgerJournalRepository.findPosition()).thenReturn(250L);
+        when(entryRepository.streamLedgerRows()).thenReturn(Stream.of(
+            new EntryLedgerRow(DAY.toEpochDay(), 1L, 2L, -4000),
+            new EntryLedgerRow(DAY.plusDays(1).toEpochDay(), 1L, 2L, 9000)
+        ));
+        columnarLedger.load();
+
+        ledgerSnapshotService.save();
+
+        LedgerSnapshot snapshot = LedgerSnapshotFile.read(directory.resolve("ledger.snapshot")).orElseThrow();
+        assertThat(snapshot.journalPosition()).isEqualTo(250);
+        assertThat(snapshot.columns().signedCentsBetween(DAY, DAY.plusDays(1))).isEqualTo(5000);
+        verify(ledgerJournalRepository).deleteUpTo(250L);
+    }
+
+    @Test
+    void shouldRestoreSnapshotAndReplayJournalChanges() throws IOException {
+        writeSnapshot();
+        when(ledgerJournalRepository.listAfter(250L)).thenReturn(List.of(
+            journalEntry(251, DAY, "-40.00", true),
+            journalEntry(251, DAY.plusDays(2), "-45.00", false),
+            journalEntry(252, DAY.plusDays(3), "12.00", false),
+            journalEntry(253, DAY.plusDays(3), "12.00", true),
+            journalEntry(254, DAY.plusDays(4), "7.50", false)
+        ));
+        when(entryRepository.count()).thenReturn(3L);
+        when(entryRepository.listDayChecksums(Set.of(DAY, DAY.plusDays(2), DAY.plusDays(3), DAY.plusDays(4)))).thenReturn(List.of(
+            new EntryDayChecksum(DAY.plusDays(2), 1, new BigDecimal("-45.00"), 1, 2),
+            new EntryDayChecksum(DAY.plusDays(4), 1, new BigDecimal("7.50"), 1, 2)
+        ));
+
+        assertThat(ledgerSnapshotService.restore()).isTrue();
+        assertThat(columnarLedger.snapshot().orElseThrow().journalPosition()).isEqualTo(254);
+
+        LedgerColumns columns = columnarLedger.columns().orElseThrow();
+        assertThat(columns.size()).isEqualTo(3);
+        assertThat(columns.signedCentsBefore(DAY.plusDays(1))).isZero();
+        assertThat(columns.signedCentsBetween(DAY, DAY.plusDays(4))).isEqualTo(9000 - 4500 + 750);
+        assertThat(columns.expenseCentsBetween(DAY, DAY.plusDays(4))).isEqualTo(4500);
+    }
+
+    @Test
+    void shouldRefuseSnapshotWhenEntriesWereAddedOutsideTheJournal() throws IOException {
+        writeSnapshot();
+        when(ledgerJournalRepository.listAfter(250L)).thenReturn(List.of());
+        when(entryRepository.count()).thenReturn(3L);
+
+        assertThat(ledgerSnapshotService.restore()).isFalse();
+        assertThat(columnarLedger.columns()).isEmpty();
+        verify(entryRepository, never()).listDayChecksums(any());
+    }
+
+    @Test
+    void shouldRefuseSnapshotWhenJournaledDayWasEditedOutsideTheJournal() throws IOException {
+        writeSnapshot();
+        when(ledgerJournalRepository.listAfter(250L)).thenReturn(List.of(journalEntry(251, DAY.plusDays(2), "-45.00", false)));
+        when(entryRepository.count()).thenReturn(3L);
+        when(entryRepository.listDayChecksums(Set.of(DAY.plusDays(2)))).thenReturn(List.of(
+            new EntryDayChecksum(DAY.plusDays(2), 1, new BigDecimal("-46.00"), 1, 2)
+        ));
+
+        assertThat(ledgerSnapshotService.restore()).isFalse();
+        assertThat(columnarLedger.columns()).isEmpty();
+    }
+
+    @Test
+    void shouldJournalRemovedAndAddedContributions() {
+        when(ledgerJournalRepository.advancePosition()).thenReturn(12L);
+
+        ledgerSnapshotService.onLedgerChanged(new LedgerChangedEvent(
+            List.of(new LedgerContribution(DAY, 1L, 2L, new BigDecimal("-40.00"))),
+            List.of(new LedgerContribution(DAY.plusDays(1), 1L, 3L, new BigDecimal("-45.00")))
+        ));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<LedgerJournalEntry>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(ledgerJournalRepository).saveAll(saved.capture());
+        List<LedgerJournalEntry> entries = new ArrayList<>(saved.getValue());
+        assertThat(entries).extracting(LedgerJournalEntry::isRemoved).containsExactly(true, false);
+        assertThat(entries).extracting(LedgerJournalEntry::getJournalPosition).containsOnly(12L);
+        assertThat(entries.get(1).getCategoryId()).isEqualTo(3L);
+        assertThat(entries.get(1).getAmount()).isEqualByComparingTo("-45.00");
+        verify(ledgerJournalRepository, never()).deleteUpTo(anyLong());
+    }
+
+    @Test
+    void shouldTakeJournalPositionsOnlyWhenTheTransactionCommits() {
+        when(ledgerJournalRepository.advancePosition()).thenReturn(12L, 13L);
+        LedgerContribution contribution = new LedgerContribution(DAY, 1L, 2L, new BigDecimal("-40.00"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ledgerSnapshotService.onLedgerChanged(new LedgerChangedEvent(List.of(), List.of(contribution)));
+            ledgerSnapshotService.onLedgerChanged(new LedgerChangedEvent(List.of(contribution), List.of()));
+            verify(ledgerJournalRepository, never()).advancePosition();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<LedgerJournalEntry>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(ledgerJournalRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(LedgerJournalEntry::getJournalPosition).containsExactly(12L, 13L);
+        assertThat(saved.getValue()).extracting(LedgerJournalEntry::isRemoved).containsExactly(false, true);
+    }
+
+    @Test
+    void shouldSkipSaveWhenJournalPositionIsUnchanged() throws IOException {
+        writeSnapshot();
+        when(ledgerJournalRepository.listAfter(250L)).thenReturn(List.of());
+        when(entryRepository.count()).thenReturn(2L);
+        assertThat(ledgerSnapshotService.restore()).isTrue();
+        assertThat(ledgerSnapshotService.restoredColumns()).isPresent();
+
+        ledgerSnapshotService.save();
+
+        verify(ledgerJournalRepository, never()).deleteUpTo(anyLong());
+    }
+
+    @Test
+    void shouldMakeSaveDueOnceEnoughJournalRowsWereWritten() throws InterruptedException {
+        when(ledgerJournalRepository.advancePosition()).thenReturn(12L, 13L);
+        LedgerContribution contribution = new LedgerContribution(DAY, 1L, 2L, new BigDecimal("-40.00"));
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                ledgerSnapshotService.awaitSaveDue();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        ledgerSnapshotService.onLedgerChanged(new LedgerChangedEvent(List.of(), List.of(contribution)));
+        assertThat(waiter.join(Duration.ofMillis(200))).isFalse();
+        ledgerSnapshotService.onLedgerChanged(new LedgerChangedEvent(List.of(contribution), List.of(contribution)));
+
+        assertThat(waiter.join(Duration.ofSeconds(5))).isTrue();
+        verify(ledgerJournalRepository, times(2)).saveAll(any());
+    }
+
+    private void writeSnapshot() throws IOException {
+        LedgerColumns columns = LedgerColumns.builder()
+            .add(DAY.toEpochDay(), 1L, 2L, -4000)
+            .add(DAY.plusDays(1).toEpochDay(), 1L, 2L, 9000)
+            .build();
+        LedgerSnapshotFile.write(directory.resolve("ledger.snapshot"), new LedgerSnapshot(columns, 250));
+    }
+
+    private LedgerJournalEntry journalEntry(long position, LocalDate settlementDate, String amount, boolean removed) {
+        LedgerJournalEntry entry = new LedgerJournalEntry();
+        entry.setSettlementDate(settlementDate);
+        entry.setAccountId(1L);
+        entry.setCategoryId(2L);
+        entry.setAmount(new BigDecimal(amount));
+        entry.setRemoved(removed);
+        entry.setJournalPosition(position);
+        return entry;
+    }
+}
@@ -0,0 +1,55 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class MoneyAccumulatorTest {
+
+    @Test
+    void shouldSumAmountsInCents() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+
+        accumulator.add(new BigDecimal("10.25"));
+        accumulator.add(new BigDecimal("-3.5"));
+        accumulator.add(199);
+
+        assertThat(accumulator.toBigDecimal()).isEqualTo(new BigDecimal("8.74"));
+        assertThat(accumulator.signum()).isPositive();
+    }
+
+    @Test
+    void shouldFallBackToBigDecimalWhenCentsOverflow() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+
+        accumulator.add(Long.MAX_VALUE);
+        accumulator.add(1);
+        accumulator.subtract(Long.MIN_VALUE);
+
+        BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE, 2)
+            .add(new BigDecimal("0.01"))
+            .subtract(BigDecimal.valueOf(Long.MIN_VALUE, 2));
+        assertThat(accumulator.toBigDecimal()).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void shouldKeepAmountsThatDoNotFitInCents() {
+        MoneyAccumulator accumulator = MoneyAccumulator.of(new BigDecimal("0.005"));
+
+        accumulator.add(new BigDecimal("1.00"));
+
+        assertThat(accumulator.toBigDecimal()).isEqualByComparingTo("1.005");
+    }
+
+    @Test
+    void shouldAddAbsoluteValuesAndCompare() {
+        MoneyAccumulator total = new MoneyAccumulator();
+
+        total.addAbsolute(MoneyAccumulator.of(new BigDecimal("-80.00")));
+        total.addAbsolute(MoneyAccumulator.of(new BigDecimal("20.00")));
+
+        assertThat(total.toBigDecimal()).isEqualByComparingTo("100.00");
+        assertThat(total.compareTo(MoneyAccumulator.of(new BigDecimal("99.99")))).isPositive();
+    }
+}
@@ -0,0 +1,53 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.ccosta.aisha.domain.entry.SettlementPeriod;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class MoneySeriesTest {
+
+    @Test
+    void shouldAccumulateCentsPerBucketAndTrackLastTouchedBucket() {
+        MoneySeries series = new MoneySeries(4);
+
+        series.add(0, 1025);
+        series.add(2, new BigDecimal("-3.5"));
+        series.add(2, 0);
+
+        assertThat(series.toBigDecimal(0)).isEqualTo(new BigDecimal("10.25"));
+        assertThat(series.toBigDecimal(1)).isEqualTo(BigDecimal.ZERO);
+        assertThat(series.toBigDecimal(2)).isEqualTo(new BigDecimal("-3.50"));
+        assertThat(series.lastTouchedIndex()).isEqualTo(2);
+        assertThat(series.sumAbsolute().toBigDecimal()).isEqualByComparingTo("13.75");
+    }
+
+    @Test
+    void shouldFallBackToBigDecimalWhenBucketOverflows() {
+        MoneySeries series = new MoneySeries(2);
+        MoneySeries other = new MoneySeries(2);
+        series.add(1, Long.MAX_VALUE);
+        other.add(1, 1);
+
+        series.addAll(other);
+
+        assertThat(series.toBigDecimal(1)).isEqualByComparingTo(BigDecimal.valueOf(Long.MAX_VALUE, 2).add(new BigDecimal("0.01")));
+        assertThat(series.signum(1)).isPositive();
+    }
+
+    @Test
+    void shouldMapDatesToDenseBucketSlots() {
+        BucketIndex months = BucketIndex.of(SettlementPeriod.MONTH, LocalDate.of(2025, 11, 20), LocalDate.of(2026, 2, 3));
+        BucketIndex days = BucketIndex.of(SettlementPeriod.DAY, LocalDate.of(2026, 2, 27), LocalDate.of(2026, 3, 2));
+
+        assertThat(months.size()).isEqualTo(4);
+        assertThat(months.indexOf(LocalDate.of(2026, 1, 31))).isEqualTo(2);
+        assertThat(months.indexOf(LocalDate.of(2026, 3, 1))).isEqualTo(-1);
+        assertThat(months.bucketStart(1)).isEqualTo(LocalDate.of(2025, 12, 1));
+        assertThat(days.size()).isEqualTo(4);
+        assertThat(days.indexOfEpochDay(LocalDate.of(2026, 3, 1).toEpochDay())).isEqualTo(2);
+        assertThat(days.bucketStart(3)).isEqualTo(LocalDate.of(2026, 3, 2));
+    }
+}
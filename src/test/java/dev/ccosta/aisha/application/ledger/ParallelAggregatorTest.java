@@ -0,0 +1,64 @@
+package dev.ccosta.aisha.application.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.ccosta.aisha.domain.entry.SettlementPeriod;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ParallelAggregatorTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+    @Test
+    void shouldMergeSegmentsInSettlementOrder() {
+        try (ParallelAggregator aggregator = new ParallelAggregator(new ParallelAggregationProperties(10, 4))) {
+            List<Integer> rows = aggregator.aggregate(0, 1000, (fromRow, toRow) -> {
+                List<Integer> segment = new ArrayList<>();
+                IntStream.range(fromRow, toRow).forEach(segment::add);
+                return segment;
+            }, (earlier, later) -> {
+                earlier.addAll(later);
+                return earlier;
+            });
+
+            assertThat(rows).isEqualTo(IntStream.range(0, 1000).boxed().toList());
+        }
+    }
+
+    @Test
+    void shouldMatchSequentialTotalsAboveThreshold() {
+        Random random = new Random(42);
+        LedgerColumns.Builder builder = LedgerColumns.builder();
+        for (int day = 0; day < 2000; day++) {
+            for (int entry = random.nextInt(6); entry > 0; entry--) {
+                long cents = random.nextInt(500000) - 400000;
+                builder.add(FIRST_DAY.toEpochDay() + day, random.nextInt(5), random.nextInt(30), cents);
+            }
+        }
+        LedgerColumns columns = builder.build();
+        LocalDate startDate = FIRST_DAY.plusDays(400);
+        LocalDate endDate = FIRST_DAY.plusDays(1900);
+        BucketIndex months = BucketIndex.of(SettlementPeriod.MONTH, startDate, endDate);
+
+        try (ParallelAggregator aggregator = new ParallelAggregator(new ParallelAggregationProperties(1, 4))) {
+            assertThat(columns.totalsBefore(LedgerDimension.CATEGORY, startDate, aggregator))
+                .isEqualTo(columns.totalsBefore(LedgerDimension.CATEGORY, startDate));
+
+            Map<Long, MoneySeries> sequential = columns.bucketTotals(LedgerDimension.CATEGORY, startDate, endDate, months);
+            Map<Long, MoneySeries> parallel = columns.bucketTotals(LedgerDimension.CATEGORY, startDate, endDate, months, aggregator);
+            assertThat(parallel).containsOnlyKeys(sequential.keySet());
+            sequential.forEach((categoryId, series) -> {
+                assertThat(parallel.get(categoryId).lastTouchedIndex()).isEqualTo(series.lastTouchedIndex());
+                for (int bucket = 0; bucket < months.size(); bucket++) {
+                    assertThat(parallel.get(categoryId).toBigDecimal(bucket)).isEqualTo(series.toBigDecimal(bucket));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package dev.ccosta.aisha.application.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvStatementReaderTest {
+
+    private final CsvStatementReader reader = new CsvStatementReader();
+
+    @Test
+    void shouldReadCommaSeparatedStatementWithQuotedValues() throws IOException {
+        List<StatementLine> lines = read("""
+            date,description,amount,category,notes
+            2026-03-01,"Mercado, bairro",-120.50,Alimentação,
+            2026-03-05,Salário,5000.00,,"Pagamento ""março\"""
+            """);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).settlementDate()).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(lines.get(0).movementDate()).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(lines.get(0).description()).isEqualTo("Mercado, bairro");
+        assertThat(lines.get(0).amount()).isEqualByComparingTo("-120.50");
+        assertThat(lines.get(0).categoryTitle()).isEqualTo("Alimentação");
+        assertThat(lines.get(0).notes()).isNull();
+        assertThat(lines.get(1).categoryTitle()).isNull();
+        assertThat(lines.get(1).notes()).isEqualTo("Pagamento \"março\"");
+        assertThat(lines.get(1).lineNumber()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReadSemicolonSeparatedStatementWithBrazilianFormats() throws IOException {
+        List<StatementLine> lines = read("""
+            Movement Date;Settlement Date;Description;Amount;Account
+            28/02/2026;02/03/2026;Aluguel;-1.850,00;Conta Corrente
+            """);
+
+        assertThat(lines).singleElement().satisfies(line -> {
+            assertThat(line.movementDate()).isEqualTo(LocalDate.of(2026, 2, 28));
+            assertThat(line.settlementDate()).isEqualTo(LocalDate.of(2026, 3, 2));
+            assertThat(line.amount()).isEqualByComparingTo("-1850.00");
+            assertThat(line.accountTitle()).isEqualTo("Conta Corrente");
+        });
+    }
+
+    @Test
+    void shouldRejectMissingRequiredColumns() {
+        assertThatThrownBy(() -> read("date,description\n2026-03-01,Mercado\n"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("amount");
+    }
+
+    @Test
+    void shouldReportLineOfInvalidAmount() {
+        assertThatThrownBy(() -> read("date,description,amount\n2026-03-01,Mercado,-1.5\n2026-03-02,Feira,abc\n"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Line 3");
+    }
+
+    private List<StatementLine> read(String csv) throws IOException {
+        List<StatementLine> lines = new ArrayList<>();
+        reader.read(new StringReader(csv), lines::add);
+        return lines;
+    }
+}
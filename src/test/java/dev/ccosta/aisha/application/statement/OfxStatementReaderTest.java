@@ -0,0 +1,85 @@
+package dev.ccosta.aisha.application.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OfxStatementReaderTest {
+
+    private final OfxStatementReader reader = new OfxStatementReader();
+
+    @Test
+    void shouldReadSgmlTransactionsWithoutClosingTags() throws IOException {
+        List<StatementLine> lines = read("""
+            OFXHEADER:100
+            DATA:OFXSGML
+            VERSION:102
+
+            <OFX>
+            <BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+            <STMTTRN>
+            <TRNTYPE>DEBIT
+            <DTPOSTED>20260305120000[-3:BRT]
+            <TRNAMT>-49.90
+            <FITID>0001
+            <NAME>PADARIA &amp; CAFE
+            <MEMO>Compra no débito
+            </STMTTRN>
+            <STMTTRN>
+            <TRNTYPE>CREDIT
+            <DTPOSTED>20260306
+            <DTUSER>20260304
+            <TRNAMT>1500.00
+            <MEMO>TED recebida
+            </STMTTRN>
+            </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1>
+            </OFX>
+            """);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).description()).isEqualTo("PADARIA & CAFE");
+        assertThat(lines.get(0).notes()).isEqualTo("Compra no débito");
+        assertThat(lines.get(0).settlementDate()).isEqualTo(LocalDate.of(2026, 3, 5));
+        assertThat(lines.get(0).amount()).isEqualByComparingTo("-49.90");
+        assertThat(lines.get(0).lineNumber()).isEqualTo(7);
+        assertThat(lines.get(1).description()).isEqualTo("TED recebida");
+        assertThat(lines.get(1).notes()).isNull();
+        assertThat(lines.get(1).movementDate()).isEqualTo(LocalDate.of(2026, 3, 4));
+        assertThat(lines.get(1).settlementDate()).isEqualTo(LocalDate.of(2026, 3, 6));
+    }
+
+    @Test
+    void shouldReadXmlTransactions() throws IOException {
+        List<StatementLine> lines = read("""
+            <?xml version="1.0" encoding="UTF-8"?>
+            <?OFX OFXHEADER="200" VERSION="220"?>
+            <OFX><BANKTRANLIST>
+            <STMTTRN><DTPOSTED>20260301</DTPOSTED><TRNAMT>-10.00</TRNAMT><NAME>Ônibus</NAME></STMTTRN>
+            </BANKTRANLIST></OFX>
+            """);
+
+        assertThat(lines).singleElement().satisfies(line -> {
+            assertThat(line.description()).isEqualTo("Ônibus");
+            assertThat(line.amount()).isEqualByComparingTo("-10.00");
+        });
+    }
+
+    @Test
+    void shouldRejectTransactionWithoutAmount() {
+        assertThatThrownBy(() -> read("<OFX><STMTTRN><DTPOSTED>20260301<NAME>Sem valor</STMTTRN></OFX>"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("TRNAMT");
+    }
+
+    private List<StatementLine> read(String ofx) throws IOException {
+        List<StatementLine> lines = new ArrayList<>();
+        reader.read(new StringReader(ofx), lines::add);
+        return lines;
+    }
+}
@@ -0,0 +1,171 @@
+package dev.ccosta.aisha.application.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.ccosta.aisha.application.account.AccountService;
+import dev.ccosta.aisha.application.category.CategoryResolution;
+import dev.ccosta.aisha.application.category.CategoryService;
+import dev.ccosta.aisha.domain.account.Account;
+import dev.ccosta.aisha.domain.category.Category;
+import dev.ccosta.aisha.domain.entry.EntryDraft;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StatementImportServiceTest {
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private StatementChunkWriter chunkWriter;
+
+    private StatementImportService statementImportService;
+
+    @BeforeEach
+    void setUp() {
+        statementImportService = new StatementImportService(
+            accountService,
+            categoryService,
+            chunkWriter,
+            new StatementImportProperties(2)
+        );
+    }
+
+    @Test
+    void shouldWriteEntriesInChunksResolvingTitlesInMemory() {
+        Account checking = newAccount(1L, "Conta Corrente");
+        Account savings = newAccount(2L, "Poupança");
+        when(accountService.findById(1L)).thenReturn(checking);
+        when(accountService.listAllOrdered()).thenReturn(List.of(checking, savings));
+        when(categoryService.listAllOrdered()).thenReturn(List.of(newCategory(10L, "Alimentação")));
+        when(categoryService.resolveByTitle("Lazer")).thenReturn(new CategoryResolution(newCategory(11L, "Lazer"), true));
+
+        StatementImportResult result = statementImportService.importStatement(csv("""
+            date,description,amount,category,account
+            2026-03-01,Mercado,-10.00,alimentação,
+            2026-03-02,Cinema,-30.00,Lazer,poupança
+            2026-03-03,Feira,-20.00,Alimentação,
+            2026-03-04,Show,-80.00,lazer,
+            2026-03-05,Padaria,-5.00,Alimentação,
+            """), StatementFormat.CSV, 1L, null);
+
+        assertThat(result).isEqualTo(new StatementImportResult(5, 3, 1));
+        verify(categoryService, times(1)).resolveByTitle("Lazer");
+        verify(accountService, never()).findById(2L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EntryDraft>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+        verify(chunkWriter, times(3)).write(chunkCaptor.capture());
+        assertThat(chunkCaptor.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        EntryDraft cinema = chunkCaptor.getAllValues().get(0).get(1);
+        assertThat(cinema.accountId()).isEqualTo(2L);
+        assertThat(cinema.categoryId()).isEqualTo(11L);
+        assertThat(chunkCaptor.getAllValues().get(1).get(1).categoryId()).isEqualTo(11L);
+    }
+
+    @Test
+    void shouldNotCountCategoriesCreatedElsewhereDuringTheImport() {
+        when(accountService.findById(1L)).thenReturn(newAccount(1L, "Conta Corrente"));
+        when(accountService.listAllOrdered()).thenReturn(List.of());
+        when(categoryService.listAllOrdered()).thenReturn(List.of());
+        when(categoryService.resolveByTitle("Lazer")).thenReturn(new CategoryResolution(newCategory(11L, "Lazer"), false));
+
+        StatementImportResult result = statementImportService.importStatement(csv("""
+            date,description,amount,category
+            2026-03-02,Cinema,-30.00,Lazer
+            """), StatementFormat.CSV, 1L, null);
+
+        assertThat(result.createdCategories()).isZero();
+        assertThat(result.importedEntries()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldUseDefaultCategoryForOfxTransactions() {
+        when(accountService.findById(1L)).thenReturn(newAccount(1L, "Conta Corrente"));
+        when(categoryService.findById(10L)).thenReturn(newCategory(10L, "Sem categoria"));
+
+        StatementImportResult result = statementImportService.importStatement(csv("""
+            <OFX><STMTTRN><DTPOSTED>20260301<TRNAMT>-10.00<NAME>Mercado</STMTTRN></OFX>
+            """), StatementFormat.OFX, 1L, 10L);
+
+        assertThat(result.importedEntries()).isEqualTo(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EntryDraft>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+        verify(chunkWriter).write(chunkCaptor.capture());
+        assertThat(chunkCaptor.getValue()).singleElement().satisfies(draft -> {
+            assertThat(draft.accountId()).isEqualTo(1L);
+            assertThat(draft.categoryId()).isEqualTo(10L);
+        });
+    }
+
+    @Test
+    void shouldReportEntriesAlreadyWrittenWhenALineFails() {
+        when(accountService.findById(1L)).thenReturn(newAccount(1L, "Conta Corrente"));
+        when(categoryService.findById(10L)).thenReturn(newCategory(10L, "Outros"));
+
+        assertThatThrownBy(() -> statementImportService.importStatement(csv("""
+            date,description,amount,account
+            2026-03-01,Mercado,-10.00,
+            2026-03-02,Feira,-20.00,
+            2026-03-03,Cinema,-30.00,Conta inexistente
+            """), StatementFormat.CSV, 1L, 10L))
+            .isInstanceOfSatisfying(StatementImportException.class, ex -> {
+                assertThat(ex.getImportedEntries()).isEqualTo(2);
+                assertThat(ex.getMessage()).contains("Line 4").contains("Conta inexistente");
+            });
+        verify(chunkWriter, times(1)).write(anyList());
+    }
+
+    @Test
+    void shouldRequireAccount() {
+        assertThatThrownBy(() -> statementImportService.importStatement(csv("date,description,amount\n"), StatementFormat.CSV, null, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Account is required");
+    }
+
+    private InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Account newAccount(Long id, String title) {
+        Account account = new Account();
+        account.setTitle(title);
+        setId(Account.class, account, id);
+        return account;
+    }
+
+    private Category newCategory(Long id, String title) {
+        Category category = new Category();
+        category.setTitle(title);
+        setId(Category.class, category, id);
+        return category;
+    }
+
+    private void setId(Class<?> type, Object target, Long id) {
+        try {
+            var idField = type.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(target, id);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
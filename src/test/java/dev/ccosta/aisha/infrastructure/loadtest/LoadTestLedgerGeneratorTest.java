@@ -0,0 +1,70 @@
+package dev.ccosta.aisha.infrastructure.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.ccosta.aisha.infrastructure.loadtest.LoadTestLedgerGenerator.PlannedCategory;
+import dev.ccosta.aisha.infrastructure.loadtest.LoadTestLedgerGenerator.PlannedEntry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LoadTestLedgerGeneratorTest {
+
+    private static final LocalDate END_DATE = LocalDate.of(2025, 12, 31);
+
+    @Test
+    void shouldPlanCategoryTreeWithParentsBeforeChildren() {
+        LoadTestLedgerGenerator generator = new LoadTestLedgerGenerator(newProperties(7L, 10));
+
+        List<PlannedCategory> categories = generator.categories();
+
+        assertThat(categories).hasSize(2 + 2 * 3 + 2 * 3 * 3);
+        assertThat(categories.getFirst()).isEqualTo(new PlannedCategory("Load test category 1", -1));
+        for (int index = 0; index < categories.size(); index++) {
+            assertThat(categories.get(index).parentIndex()).isLessThan(index);
+        }
+        assertThat(categories).extracting(PlannedCategory::title).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldGenerateSameLedgerForSameSeed() {
+        List<PlannedEntry> first = generate(newProperties(7L, 10));
+        List<PlannedEntry> second = generate(newProperties(7L, 10));
+        List<PlannedEntry> otherSeed = generate(newProperties(8L, 10));
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(otherSeed);
+    }
+
+    @Test
+    void shouldGenerateEntriesOnLeafCategoriesWithinRange() {
+        LoadTestLedgerGenerator generator = new LoadTestLedgerGenerator(newProperties(7L, 10));
+        List<PlannedEntry> entries = generate(newProperties(7L, 10));
+
+        assertThat(entries).hasSizeBetween(365 * 5, 365 * 15 + 1);
+        assertThat(entries).allSatisfy(entry -> {
+            assertThat(entry.movementDate()).isBetween(generator.firstDay(END_DATE), END_DATE);
+            assertThat(entry.settlementDate()).isBetween(entry.movementDate(), entry.movementDate().plusDays(3));
+            assertThat(entry.categoryIndex()).isGreaterThanOrEqualTo(2 + 2 * 3);
+            assertThat(entry.amountCents()).isNotZero();
+        });
+    }
+
+    @Test
+    void shouldRejectEmptyLedgerShape() {
+        assertThatThrownBy(() -> new LoadTestLedgerProperties(1L, 0, 2, 3, 3, 10, 1, END_DATE, 100))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<PlannedEntry> generate(LoadTestLedgerProperties properties) {
+        List<PlannedEntry> entries = new ArrayList<>();
+        new LoadTestLedgerGenerator(properties).generateEntries(END_DATE, entries::add);
+        return entries;
+    }
+
+    private LoadTestLedgerProperties newProperties(long seed, int entriesPerDay) {
+        return new LoadTestLedgerProperties(seed, 4, 2, 3, 3, entriesPerDay, 1, END_DATE, 100);
+    }
+}
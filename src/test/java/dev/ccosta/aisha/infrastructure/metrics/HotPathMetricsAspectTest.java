@@ -0,0 +1,113 @@
+package dev.ccosta.aisha.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import dev.ccosta.aisha.application.account.AccountBalanceReportService;
+import dev.ccosta.aisha.application.ledger.BalanceCheckpointService;
+import dev.ccosta.aisha.application.ledger.BalanceIndex;
+import dev.ccosta.aisha.application.ledger.ColumnarLedger;
+import dev.ccosta.aisha.domain.entry.EntryRepository;
+import dev.ccosta.aisha.domain.entry.SettlementPeriod;
+import dev.ccosta.aisha.domain.ledger.LedgerJournalRepository;
+import dev.ccosta.aisha.infrastructure.persistence.ledger.DailyRollupRepositoryAdapter;
+import dev.ccosta.aisha.infrastructure.persistence.ledger.JpaDailyRollupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+class HotPathMetricsAspectTest {
+
+    @Mock
+    private EntryRepository entryRepository;
+
+    @Mock
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @Mock
+    private JpaDailyRollupRepository jpaDailyRollupRepository;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private LedgerJournalRepository ledgerJournalRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldTimeReportServiceAndRecordBucketsProduced() {
+        when(balanceCheckpointService.balancesByAccountBefore(LocalDate.of(2026, 1, 1))).thenReturn(Map.of());
+        when(entryRepository.sumAmountByAccountAndPeriod(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), SettlementPeriod.MONTH))
+            .thenReturn(List.of());
+        AccountBalanceReportService service = instrument(new AccountBalanceReportService(
+            entryRepository,
+            balanceCheckpointService,
+            new BalanceIndex(entryRepository),
+            new ColumnarLedger(entryRepository, ledgerJournalRepository, TransactionOperations.withoutTransaction())
+        ));
+
+        service.buildReport(List.of(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+
+        assertThat(meterRegistry.get(HotPathMetricsAspect.SERVICE_TIMER)
+            .tag("class", "AccountBalanceReportService")
+            .tag("method", "buildReport")
+            .tag("outcome", "success")
+            .timer()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(HotPathMetricsAspect.BUCKETS_PRODUCED)
+            .tag("method", "buildReport")
+            .summary()
+            .totalAmount()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldTimeRepositoryCallsAndRecordRowsFetched() {
+        when(jpaDailyRollupRepository.findMinSettlementDate()).thenReturn(LocalDate.of(2026, 1, 5));
+        DailyRollupRepositoryAdapter repository = instrument(new DailyRollupRepositoryAdapter(jpaDailyRollupRepository, entityManagerFactory));
+
+        repository.findEarliestSettlementDate();
+        repository.findEarliestSettlementDate();
+
+        assertThat(meterRegistry.get(HotPathMetricsAspect.REPOSITORY_TIMER)
+            .tag("class", "DailyRollupRepositoryAdapter")
+            .tag("method", "findEarliestSettlementDate")
+            .timer()
+            .count()).isEqualTo(2);
+        assertThat(meterRegistry.get(HotPathMetricsAspect.ROWS_FETCHED)
+            .tag("method", "findEarliestSettlementDate")
+            .summary()
+            .totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldTagFailedCallsWithExceptionOutcome() {
+        when(jpaDailyRollupRepository.findMinSettlementDate()).thenThrow(new IllegalStateException("boom"));
+        DailyRollupRepositoryAdapter repository = instrument(new DailyRollupRepositoryAdapter(jpaDailyRollupRepository, entityManagerFactory));
+
+        assertThatThrownBy(repository::findEarliestSettlementDate).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get(HotPathMetricsAspect.REPOSITORY_TIMER)
+            .tag("outcome", "IllegalStateException")
+            .timer()
+            .count()).isEqualTo(1);
+        assertThat(meterRegistry.find(HotPathMetricsAspect.ROWS_FETCHED).summary()).isNull();
+    }
+
+    private <T> T instrument(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new HotPathMetricsAspect(meterRegistry));
+        return factory.getProxy();
+    }
+}
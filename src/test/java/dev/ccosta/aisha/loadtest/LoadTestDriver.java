@@ -0,0 +1,249 @@
+package dev.ccosta.aisha.loadtest;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class LoadTestDriver {
+
+    private static final Pattern NEXT_CURSOR = Pattern.compile("/entries/fragments/rows\\?cursor=([^&\"]+)");
+    private static final Pattern CATEGORY_ID = Pattern.compile("\"categoryId\":(\\d+)");
+    private static final Pattern ACCOUNT_ID = Pattern.compile("name=\"ids\" value=\"(\\d+)\"");
+    private static final String[] PRESETS = {"SET_WEEK", "SET_MONTH", "SET_YEAR"};
+
+    private final String baseUrl;
+    private final int sessions;
+    private final int iterations;
+    private final int warmupIterations;
+    private final long seed;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    private LoadTestDriver(Map<String, String> options) {
+        this.baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        this.sessions = Integer.parseInt(options.getOrDefault("sessions", "8"));
+        this.iterations = Integer.parseInt(options.getOrDefault("iterations", "25"));
+        this.warmupIterations = Integer.parseInt(options.getOrDefault("warmup", "3"));
+        this.seed = Long.parseLong(options.getOrDefault("seed", "42"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = option.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(option.substring(0, separator), option.substring(separator + 1));
+        }
+        new LoadTestDriver(options).run();
+    }
+
+    private void run() throws Exception {
+        System.out.printf(
+            "Replaying %d sessions x %d iterations (%d warm-up) against %s%n",
+            sessions,
+            iterations,
+            warmupIterations,
+            baseUrl
+        );
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(sessions)) {
+            List<Future<?>> futures = new ArrayList<>(sessions);
+            for (int session = 0; session < sessions; session++) {
+                SplittableRandom random = new SplittableRandom(seed + session);
+                futures.add(executor.submit(() -> {
+                    runSession(random);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        report(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private void runSession(SplittableRandom random) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        for (int iteration = 0; iteration < warmupIterations + iterations; iteration++) {
+            Session session = new Session(client, random, iteration >= warmupIterations);
+            session.changeDateFilter();
+            session.loadDashboard();
+            session.browseEntries();
+            session.refreshListings();
+        }
+    }
+
+    private void report(Duration elapsed) {
+        System.out.printf("%nCompleted in %.1f s%n%n", elapsed.toMillis() / 1000.0);
+        System.out.printf(
+            "%-44s %8s %7s %9s %9s %9s %9s%n",
+            "endpoint",
+            "requests",
+            "errors",
+            "p50 ms",
+            "p95 ms",
+            "p99 ms",
+            "max ms"
+        );
+        for (Map.Entry<String, EndpointStats> endpoint : new TreeMap<>(stats).entrySet()) {
+            long[] latencies = endpoint.getValue().sortedLatencies();
+            System.out.printf(
+                "%-44s %8d %7d %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint.getKey(),
+                latencies.length,
+                endpoint.getValue().errors(),
+                percentile(latencies, 50),
+                percentile(latencies, 95),
+                percentile(latencies, 99),
+                latencies.length == 0 ? 0.0 : latencies[latencies.length - 1] / 1_000_000.0
+            );
+        }
+    }
+
+    private static double percentile(long[] sortedLatencies, int percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+        return sortedLatencies[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    private final class Session {
+
+        private final HttpClient client;
+        private final SplittableRandom random;
+        private final boolean measured;
+
+        private Session(HttpClient client, SplittableRandom random, boolean measured) {
+            this.client = client;
+            this.random = random;
+            this.measured = measured;
+        }
+
+        private void changeDateFilter() throws Exception {
+            post("POST /date-filter", "/date-filter", "action=" + PRESETS[random.nextInt(PRESETS.length)] + "&redirectTo=/dashboard");
+            int stepsBack = random.nextInt(4);
+            for (int step = 0; step < stepsBack; step++) {
+                post("POST /date-filter", "/date-filter", "action=GO_PREVIOUS&redirectTo=/dashboard");
+            }
+        }
+
+        private void loadDashboard() throws Exception {
+            get("GET /dashboard", "/dashboard");
+            String overview = get("GET /api/dashboard/all", "/api/dashboard/all");
+            List<String> categoryIds = matches(CATEGORY_ID, overview);
+            if (!categoryIds.isEmpty()) {
+                String parentCategoryId = categoryIds.get(random.nextInt(categoryIds.size()));
+                get("GET /api/dashboard/expenses-by-category", "/api/dashboard/expenses-by-category?parentCategoryId=" + parentCategoryId);
+                get("GET /api/dashboard/category-totals", "/api/dashboard/category-totals?parentCategoryId=" + parentCategoryId);
+            }
+        }
+
+        private void browseEntries() throws Exception {
+            String page = get("GET /entries", "/entries");
+            String rows = page;
+            for (int scroll = random.nextInt(3); scroll > 0; scroll--) {
+                Matcher cursor = NEXT_CURSOR.matcher(rows);
+                if (!cursor.find()) {
+                    break;
+                }
+                rows = get("GET /entries/fragments/rows", "/entries/fragments/rows?cursor=" + cursor.group(1));
+            }
+
+            String accounts = get("GET /accounts/fragments/table", "/accounts/fragments/table");
+            List<String> accountIds = matches(ACCOUNT_ID, accounts);
+            String filter = accountIds.isEmpty() ? "" : "?accountId=" + accountIds.get(random.nextInt(accountIds.size()));
+            get("GET /entries/fragments/table", "/entries/fragments/table" + filter);
+        }
+
+        private void refreshListings() throws Exception {
+            get("GET /accounts", "/accounts");
+            get("GET /categories", "/categories");
+            get("GET /categories/fragments/table", "/categories/fragments/table?subcategories=" + random.nextBoolean());
+        }
+
+        private String get(String endpoint, String path) throws Exception {
+            return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+        }
+
+        private void post(String endpoint, String path, String form) throws Exception {
+            send(
+                endpoint,
+                HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form))
+            );
+        }
+
+        private String send(String endpoint, HttpRequest.Builder request) throws Exception {
+            long startedAt = System.nanoTime();
+            HttpResponse<String> response = client.send(
+                request.timeout(Duration.ofSeconds(60)).build(),
+                HttpResponse.BodyHandlers.ofString()
+            );
+            long elapsed = System.nanoTime() - startedAt;
+            if (measured) {
+                stats.computeIfAbsent(endpoint, ignored -> new EndpointStats())
+                    .record(elapsed, response.statusCode() >= 400);
+            }
+            return response.body();
+        }
+
+        private List<String> matches(Pattern pattern, String body) {
+            List<String> values = new ArrayList<>();
+            Matcher matcher = pattern.matcher(body);
+            while (matcher.find()) {
+                values.add(matcher.group(1));
+            }
+            return values;
+        }
+    }
+
+    private static final class EndpointStats {
+
+        private long[] latencies = new long[64];
+        private int count;
+        private int errors;
+
+        synchronized void record(long latencyNanos, boolean error) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        synchronized int errors() {
+            return errors;
+        }
+    }
+}
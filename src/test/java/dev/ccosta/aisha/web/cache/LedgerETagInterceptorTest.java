@@ -0,0 +1,107 @@
+package dev.ccosta.aisha.web.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.ccosta.aisha.application.ledger.LedgerVersion;
+import dev.ccosta.aisha.web.timefilter.DateFilterAction;
+import dev.ccosta.aisha.web.timefilter.DateFilterSessionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+class LedgerETagInterceptorTest {
+
+    private final LedgerVersion ledgerVersion = new LedgerVersion();
+    private final DateFilterSessionService dateFilterSessionService = new DateFilterSessionService();
+    private final LedgerETagInterceptor interceptor = new LedgerETagInterceptor(ledgerVersion, dateFilterSessionService);
+    private final MockHttpSession session = new MockHttpSession();
+
+    @Test
+    void shouldTagResponsesWithLedgerVersion() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(get("/api/dashboard/all", null), response, null);
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("W/\"" + ledgerVersion.snapshot().epoch() + "-0-");
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache");
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWithoutRunningHandler() {
+        String eTag = eTagOf(get("/entries/fragments/table", "accountId=1"));
+
+        MockHttpServletRequest revalidation = get("/entries/fragments/table", "accountId=1");
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(revalidation, response, null)).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void shouldNotAnswerNotModifiedFromIfModifiedSinceAlone() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(get("/entries/fragments/table", "accountId=1"), first, null);
+
+        MockHttpServletRequest otherFilter = get("/entries/fragments/table", "accountId=2");
+        otherFilter.addHeader(HttpHeaders.IF_MODIFIED_SINCE, first.getHeader(HttpHeaders.LAST_MODIFIED));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(otherFilter, response, null)).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldChangeTagWhenLedgerChanges() {
+        String before = eTagOf(get("/api/dashboard/summary", null));
+
+        ledgerVersion.bumpAfterCommit();
+
+        MockHttpServletRequest revalidation = get("/api/dashboard/summary", null);
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, before);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(revalidation, response, null)).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(before);
+    }
+
+    @Test
+    void shouldNotMatchTagsIssuedBeforeRestart() {
+        String beforeRestart = eTagOf(get("/api/dashboard/summary", null));
+        LedgerETagInterceptor restarted = new LedgerETagInterceptor(new LedgerVersion(), dateFilterSessionService);
+
+        MockHttpServletRequest revalidation = get("/api/dashboard/summary", null);
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, beforeRestart);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(restarted.preHandle(revalidation, response, null)).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldChangeTagWhenDateFilterOrParametersChange() {
+        String month = eTagOf(get("/categories/fragments/table", "subcategories=false"));
+        String withSubcategories = eTagOf(get("/categories/fragments/table", "subcategories=true"));
+
+        dateFilterSessionService.applyAction(session, DateFilterAction.GO_PREVIOUS, null, null);
+        String previousMonth = eTagOf(get("/categories/fragments/table", "subcategories=false"));
+
+        assertThat(month).isNotEqualTo(withSubcategories).isNotEqualTo(previousMonth);
+    }
+
+    private String eTagOf(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+
+    private MockHttpServletRequest get(String uri, String queryString) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setQueryString(queryString);
+        request.setSession(session);
+        return request;
+    }
+}